@@ -32,10 +32,13 @@ public class SimpleEdgeHandler implements EdgeHandler {
 		try {
 			var oldConfig = this.getEdgeConfig(edge.getId());
 			var diff = EdgeConfigDiff.diff(newConfig, oldConfig);
-			if (!diff.isDifferent()) {
+			if (diff.isDifferent()) {
+				this.log.info("Edge [" + edge.getId() + "]. Update config: " + diff.toString());
+
+			} else if (newConfig.getVersion() == oldConfig.getVersion()) {
 				return;
 			}
-			this.log.info("Edge [" + edge.getId() + "]. Update config: " + diff.toString());
+			// Otherwise only Channels, Factories or the version changed
 
 		} catch (OpenemsNamedException e) {
 			this.log.warn("Edge [" + edge.getId() + "]. Update config (unable to compoare old and new EdgeConfig): "
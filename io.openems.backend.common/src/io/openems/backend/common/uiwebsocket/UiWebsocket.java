@@ -46,7 +46,10 @@ public interface UiWebsocket {
 	public void sendBroadcast(String edgeId, JsonrpcNotification notification) throws OpenemsNamedException;
 
 	/**
-	 * Sends the subscribed Channels to the UI session.
+	 * Sends the subscribed Channels to the UI sessions.
+	 *
+	 * <p>
+	 * Sending may happen asynchronously; updates for the same Edge can be merged.
 	 * 
 	 * @param edgeId    the Edge-ID
 	 * @param edgeCache the {@link EdgeCache} for the Edge-ID
@@ -0,0 +1,391 @@
+package io.openems.backend.core.timedatamanager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.ThrowingBiFunction;
+import io.openems.common.function.ThrowingSupplier;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Caches results of historic queries.
+ *
+ * <ul>
+ * <li>Periods that are closed, i.e. that ended at least {@link #CLOSED_DELAY}
+ * ago, are kept; only the still open tail of the requested range is queried
+ * again
+ * <li>Closed periods are dropped after {@link #MAX_AGE} and on
+ * {@link #invalidate(String)}, e.g. when an Edge resends historic data, or
+ * {@link #invalidate(String, long)} when data for a closed period arrives late
+ * <li>The number of cached values (periods times channels) is limited; least
+ * recently used entries are evicted first
+ * <li>Concurrent requests for the same key wait for one query instead of
+ * querying in parallel
+ * </ul>
+ */
+public class TimedataCache {
+
+	/** Periods that ended before now minus this delay are considered closed. */
+	protected static final Duration CLOSED_DELAY = Duration.ofMinutes(10);
+
+	/** Closed periods are queried again after this duration. */
+	protected static final Duration MAX_AGE = Duration.ofHours(1);
+
+	/** Default max number of cached values. */
+	protected static final int DEFAULT_MAX_SIZE = 500_000;
+
+	private static enum Kind {
+		DATA, ENERGY, ENERGY_PER_PERIOD;
+	}
+
+	private static record Key(Kind kind, String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate,
+			Set<ChannelAddress> channels, long resolutionValue, ChronoUnit resolutionUnit) {
+	}
+
+	private static class Entry {
+		private long created;
+		private int size = 0;
+
+		/** The closed periods, i.e. all periods before {@link #closedUntil}. */
+		private SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> periods = null;
+		private ZonedDateTime closedUntil = null;
+
+		/** The energy values; only set if the queried range is closed. */
+		private SortedMap<ChannelAddress, JsonElement> energy = null;
+	}
+
+	private final Clock clock;
+	private final int maxSize;
+
+	/** Guarded by itself. */
+	private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true /* access-order */);
+	private int totalSize = 0;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder partialHits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	public TimedataCache() {
+		this(Clock.systemDefaultZone(), DEFAULT_MAX_SIZE);
+	}
+
+	protected TimedataCache(Clock clock, int maxSize) {
+		this.clock = clock;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Gets the result of queryHistoricData from cache; queries only the open
+	 * periods.
+	 *
+	 * @param edgeId     the Edge-ID
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels
+	 * @param resolution the {@link Resolution}
+	 * @param query      queries the given range
+	 * @return the result; null if the query returned null
+	 * @throws OpenemsNamedException on error
+	 */
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> getData(String edgeId,
+			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution,
+			ThrowingBiFunction<ZonedDateTime, ZonedDateTime, SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>, OpenemsNamedException> query)
+			throws OpenemsNamedException {
+		return this.getPeriods(Kind.DATA, edgeId, fromDate, toDate, channels, resolution, query);
+	}
+
+	/**
+	 * Gets the result of queryHistoricEnergyPerPeriod from cache; queries only the
+	 * open periods.
+	 *
+	 * @param edgeId     the Edge-ID
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels
+	 * @param resolution the {@link Resolution}
+	 * @param query      queries the given range
+	 * @return the result; null if the query returned null
+	 * @throws OpenemsNamedException on error
+	 */
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> getEnergyPerPeriod(String edgeId,
+			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution,
+			ThrowingBiFunction<ZonedDateTime, ZonedDateTime, SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>, OpenemsNamedException> query)
+			throws OpenemsNamedException {
+		return this.getPeriods(Kind.ENERGY_PER_PERIOD, edgeId, fromDate, toDate, channels, resolution, query);
+	}
+
+	/**
+	 * Gets the result of queryHistoricEnergy from cache. Only results for a closed
+	 * range are cached.
+	 *
+	 * @param edgeId   the Edge-ID
+	 * @param fromDate the From-Date
+	 * @param toDate   the To-Date
+	 * @param channels the Channels
+	 * @param query    queries the range
+	 * @return the result; null if the query returned null
+	 * @throws OpenemsNamedException on error
+	 */
+	public SortedMap<ChannelAddress, JsonElement> getEnergy(String edgeId, ZonedDateTime fromDate,
+			ZonedDateTime toDate, Set<ChannelAddress> channels,
+			ThrowingSupplier<SortedMap<ChannelAddress, JsonElement>, OpenemsNamedException> query)
+			throws OpenemsNamedException {
+		if (toDate.isAfter(this.closedBoundary())) {
+			this.misses.increment();
+			return query.get();
+		}
+
+		var key = new Key(Kind.ENERGY, edgeId, fromDate, toDate, Set.copyOf(channels), 0, null);
+		var entry = this.getOrCreateEntry(key);
+		synchronized (entry) {
+			try {
+				if (entry.energy != null && !this.isExpired(entry)) {
+					this.hits.increment();
+					return new TreeMap<>(entry.energy);
+				}
+				this.misses.increment();
+				var result = query.get();
+				if (result == null) {
+					return null;
+				}
+				entry.created = this.clock.millis();
+				entry.energy = new TreeMap<>(result);
+				this.updateSize(key, entry, result.size());
+				return result;
+
+			} finally {
+				this.removeIfEmpty(key, entry);
+			}
+		}
+	}
+
+	private SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> getPeriods(Kind kind, String edgeId,
+			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution,
+			ThrowingBiFunction<ZonedDateTime, ZonedDateTime, SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>, OpenemsNamedException> query)
+			throws OpenemsNamedException {
+		var key = new Key(kind, edgeId, fromDate, toDate, Set.copyOf(channels), resolution.getValue(),
+				resolution.getUnit());
+		var entry = this.getOrCreateEntry(key);
+		synchronized (entry) {
+			try {
+				return this.queryPeriods(entry, key, fromDate, toDate, resolution, query);
+
+			} finally {
+				this.removeIfEmpty(key, entry);
+			}
+		}
+	}
+
+	private SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryPeriods(Entry entry, Key key,
+			ZonedDateTime fromDate, ZonedDateTime toDate, Resolution resolution,
+			ThrowingBiFunction<ZonedDateTime, ZonedDateTime, SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>, OpenemsNamedException> query)
+			throws OpenemsNamedException {
+		final SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> result;
+		if (entry.periods != null && !this.isExpired(entry)) {
+			if (!entry.closedUntil.isBefore(toDate)) {
+				// Full hit
+				this.hits.increment();
+				return deepCopy(entry.periods);
+			}
+
+			// Partial hit: query only the open tail
+			this.partialHits.increment();
+			var tailFrom = entry.closedUntil;
+			if (key.kind() == Kind.ENERGY_PER_PERIOD && tailFrom.isAfter(fromDate)) {
+				// Energy per period is calculated as difference to the previous period, i.e.
+				// the first period of a query is missing
+				tailFrom = tailFrom.minus(resolution.getValue(), resolution.getUnit());
+			}
+			var tail = query.apply(tailFrom, toDate);
+			if (tail == null) {
+				return null;
+			}
+			result = deepCopy(entry.periods);
+			result.putAll(tail.tailMap(entry.closedUntil));
+
+		} else {
+			// Miss
+			this.misses.increment();
+			result = query.apply(fromDate, toDate);
+			if (result == null) {
+				return null;
+			}
+			entry.created = this.clock.millis();
+		}
+
+		// Keep closed periods
+		var boundary = this.closedBoundary();
+		var closedUntil = fromDate;
+		var periods = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		var size = 0;
+		for (var period : result.entrySet()) {
+			var end = period.getKey().plus(resolution.getValue(), resolution.getUnit());
+			if (end.isAfter(boundary)) {
+				break;
+			}
+			periods.put(period.getKey(), new TreeMap<>(period.getValue()));
+			size += Math.max(1, period.getValue().size());
+			closedUntil = end;
+		}
+		entry.periods = periods;
+		entry.closedUntil = closedUntil;
+		this.updateSize(key, entry, size);
+		return result;
+	}
+
+	/**
+	 * Removes all cached results of the given Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 */
+	public void invalidate(String edgeId) {
+		synchronized (this.entries) {
+			this.removeIf(e -> edgeId.equals(e.getKey().edgeId()));
+		}
+	}
+
+	/**
+	 * Removes the cached results of the given Edge that might contain data at the
+	 * given timestamp, e.g. if data for an already closed period was written late.
+	 *
+	 * @param edgeId    the Edge-ID
+	 * @param timestamp the oldest written timestamp in epoch milliseconds
+	 */
+	public void invalidate(String edgeId, long timestamp) {
+		if (timestamp >= this.closedBoundary().toInstant().toEpochMilli()) {
+			// Only open periods are affected; they are not cached
+			return;
+		}
+		synchronized (this.entries) {
+			this.removeIf(e -> edgeId.equals(e.getKey().edgeId()) //
+					&& e.getKey().toDate().toInstant().toEpochMilli() > timestamp);
+		}
+	}
+
+	/**
+	 * Removes all cached results.
+	 */
+	public void clear() {
+		synchronized (this.entries) {
+			this.entries.clear();
+			this.totalSize = 0;
+		}
+	}
+
+	private Entry getOrCreateEntry(Key key) {
+		synchronized (this.entries) {
+			return this.entries.computeIfAbsent(key, k -> new Entry());
+		}
+	}
+
+	private void removeIfEmpty(Key key, Entry entry) {
+		if (entry.size > 0) {
+			return;
+		}
+		synchronized (this.entries) {
+			this.entries.remove(key, entry);
+		}
+	}
+
+	private void updateSize(Key key, Entry entry, int size) {
+		synchronized (this.entries) {
+			if (this.entries.get(key) != entry) {
+				// Entry was evicted or invalidated in the meantime
+				return;
+			}
+			this.totalSize += size - entry.size;
+			entry.size = size;
+
+			// Evict least recently used entries
+			var iterator = this.entries.entrySet().iterator();
+			while (this.totalSize > this.maxSize && iterator.hasNext()) {
+				var eldest = iterator.next();
+				if (eldest.getValue() == entry) {
+					continue;
+				}
+				this.totalSize -= eldest.getValue().size;
+				iterator.remove();
+				this.evictions.increment();
+			}
+		}
+	}
+
+	private void removeIf(Predicate<Map.Entry<Key, Entry>> filter) {
+		for (Iterator<Map.Entry<Key, Entry>> iterator = this.entries.entrySet().iterator(); iterator.hasNext();) {
+			var entry = iterator.next();
+			if (filter.test(entry)) {
+				this.totalSize -= entry.getValue().size;
+				iterator.remove();
+			}
+		}
+	}
+
+	private boolean isExpired(Entry entry) {
+		return this.clock.millis() - entry.created > MAX_AGE.toMillis();
+	}
+
+	private ZonedDateTime closedBoundary() {
+		return ZonedDateTime.now(this.clock).minus(CLOSED_DELAY);
+	}
+
+	private static SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> deepCopy(
+			SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> periods) {
+		var result = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		periods.forEach((time, values) -> result.put(time, new TreeMap<>(values)));
+		return result;
+	}
+
+	/**
+	 * Returns a DebugLog String.
+	 *
+	 * @return debug log
+	 */
+	public String debugLog() {
+		synchronized (this.entries) {
+			return "Cache Entries:" + this.entries.size() //
+					+ "|Size:" + this.totalSize + "/" + this.maxSize //
+					+ "|Hits:" + this.hits.sum() //
+					+ "|PartialHits:" + this.partialHits.sum() //
+					+ "|Misses:" + this.misses.sum();
+		}
+	}
+
+	/**
+	 * Returns a DebugMetrics map.
+	 *
+	 * @return metrics
+	 */
+	public Map<String, JsonElement> debugMetrics() {
+		final int entries;
+		final int size;
+		synchronized (this.entries) {
+			entries = this.entries.size();
+			size = this.totalSize;
+		}
+		return Map.of(//
+				"Entries", new JsonPrimitive(entries), //
+				"Size", new JsonPrimitive(size), //
+				"Hits", new JsonPrimitive(this.hits.sum()), //
+				"PartialHits", new JsonPrimitive(this.partialHits.sum()), //
+				"Misses", new JsonPrimitive(this.misses.sum()), //
+				"Evictions", new JsonPrimitive(this.evictions.sum()) //
+		);
+	}
+
+}
@@ -4,7 +4,9 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.concurrent.atomic.AtomicReference;
@@ -25,6 +27,7 @@ import com.google.common.collect.ImmutableSortedSet;
 import com.google.gson.JsonElement;
 
 import io.openems.backend.common.component.AbstractOpenemsBackendComponent;
+import io.openems.backend.common.debugcycle.DebugLoggable;
 import io.openems.backend.common.timedata.InternalTimedataException;
 import io.openems.backend.common.timedata.Timedata;
 import io.openems.backend.common.timedata.TimedataManager;
@@ -44,10 +47,12 @@ import io.openems.common.types.ChannelAddress;
 		name = "Core.TimedataManager", //
 		immediate = true //
 )
-public class TimedataManagerImpl extends AbstractOpenemsBackendComponent implements TimedataManager {
+public class TimedataManagerImpl extends AbstractOpenemsBackendComponent implements TimedataManager, DebugLoggable {
 
 	private final Logger log = LoggerFactory.getLogger(TimedataManagerImpl.class);
 
+	private final TimedataCache cache = new TimedataCache();
+
 	private List<String> _configTimedataIds;
 	private final List<Timedata> _rawTimedatas = new ArrayList<>();
 	private final AtomicReference<ImmutableSortedSet<Timedata>> timedatas = new AtomicReference<>(
@@ -74,6 +79,9 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	private void updateSortedTimedatas() {
 		// TODO add JUnit test
 		synchronized (this._rawTimedatas) {
+			// Results of a different Timedata might be cached
+			this.cache.clear();
+
 			this.timedatas.set(ImmutableSortedSet.copyOf((t1, t2) -> {
 				var idxT1 = this._configTimedataIds.indexOf(t1.id());
 				var idxT2 = this._configTimedataIds.indexOf(t2.id());
@@ -129,7 +137,8 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException {
-		final var value = this.firstOf(t -> t.queryHistoricData(edgeId, fromDate, toDate, channels, resolution));
+		final var value = this.cache.getData(edgeId, fromDate, toDate, channels, resolution,
+				(from, to) -> this.firstOf(t -> t.queryHistoricData(edgeId, from, to, channels, resolution)));
 		if (value != null) {
 			return value;
 		}
@@ -149,7 +158,8 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	@Override
 	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(String edgeId, ZonedDateTime fromDate,
 			ZonedDateTime toDate, Set<ChannelAddress> channels) throws OpenemsNamedException {
-		final var value = this.firstOf(t -> t.queryHistoricEnergy(edgeId, fromDate, toDate, channels));
+		final var value = this.cache.getEnergy(edgeId, fromDate, toDate, channels,
+				() -> this.firstOf(t -> t.queryHistoricEnergy(edgeId, fromDate, toDate, channels)));
 		if (value != null) {
 			return value;
 		}
@@ -170,8 +180,9 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException {
-		final var value = this
-				.firstOf(t -> t.queryHistoricEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution));
+		final var value = this.cache.getEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution,
+				(from, to) -> this.firstOf(//
+						t -> t.queryHistoricEnergyPerPeriod(edgeId, from, to, channels, resolution)));
 		if (value != null) {
 			return value;
 		}
@@ -221,16 +232,35 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	@Override
 	public void write(String edgeId, AggregatedDataNotification data) {
 		this.write(edgeId, data, Timedata::write);
+		this.invalidateCache(edgeId, data);
 	}
 
 	@Override
 	public void write(String edgeId, TimestampedDataNotification data) {
 		this.write(edgeId, data, Timedata::write);
+		this.invalidateCache(edgeId, data);
 	}
 
 	@Override
 	public void write(String edgeId, ResendDataNotification data) {
 		this.write(edgeId, data, Timedata::write);
+		// Cached closed periods might be outdated now
+		this.cache.invalidate(edgeId);
+	}
+
+	/**
+	 * Invalidates cached closed periods of the Edge if the data is older than
+	 * {@link TimedataCache#CLOSED_DELAY}, e.g. data that was buffered on the Edge
+	 * during a connection loss.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @param data   the written data
+	 */
+	private void invalidateCache(String edgeId, AbstractDataNotification data) {
+		var timestamps = data.getData().rowKeySet();
+		if (!timestamps.isEmpty()) {
+			this.cache.invalidate(edgeId, timestamps.first());
+		}
 	}
 
 	private <T extends AbstractDataNotification> void write(//
@@ -247,4 +277,18 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 		}
 	}
 
+	@Override
+	public String debugLog() {
+		return "[" + this.getName() + "] " + this.cache.debugLog();
+	}
+
+	@Override
+	public Map<String, JsonElement> debugMetrics() {
+		final var metrics = new HashMap<String, JsonElement>();
+		this.cache.debugMetrics().forEach((key, value) -> {
+			metrics.put("timedataManager/Cache/" + key, value);
+		});
+		return metrics;
+	}
+
 }
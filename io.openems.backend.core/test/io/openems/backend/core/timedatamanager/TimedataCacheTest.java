@@ -0,0 +1,199 @@
+package io.openems.backend.core.timedatamanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.ThrowingBiFunction;
+import io.openems.common.test.TimeLeapClock;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+
+public class TimedataCacheTest {
+
+	private static final String EDGE_ID = "edge0";
+	private static final ChannelAddress SUM_ESS_SOC = new ChannelAddress("_sum", "EssSoc");
+	private static final Resolution RESOLUTION = new Resolution(1, ChronoUnit.HOURS);
+
+	private static class Query {
+		private final List<ZonedDateTime> calls = new ArrayList<>();
+
+		private SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> apply(ZonedDateTime from,
+				ZonedDateTime to) {
+			this.calls.add(from);
+			var result = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+			for (var time = from; time.isBefore(to); time = time.plusHours(1)) {
+				var values = new TreeMap<ChannelAddress, JsonElement>();
+				values.put(SUM_ESS_SOC, new JsonPrimitive(time.getHour()));
+				result.put(time, values);
+			}
+			return result;
+		}
+	}
+
+	@Test
+	public void testData() throws OpenemsNamedException {
+		var clock = new TimeLeapClock(Instant.parse("2023-01-01T00:00:00.00Z"));
+		var sut = new TimedataCache(clock, 1_000);
+		var from = ZonedDateTime.now(clock).truncatedTo(ChronoUnit.DAYS);
+		var to = from.plusDays(1);
+		clock.leap(12 * 60 + 30, ChronoUnit.MINUTES); // 12:30
+		var query = new Query();
+
+		// Miss
+		var result = sut.getData(EDGE_ID, from, to, Set.of(SUM_ESS_SOC), RESOLUTION, query::apply);
+		assertEquals(24, result.size());
+		assertEquals(List.of(from), query.calls);
+
+		// Partial hit: periods until 11:00 are closed; 12:00 is still open
+		result = sut.getData(EDGE_ID, from, to, Set.of(SUM_ESS_SOC), RESOLUTION, query::apply);
+		assertEquals(24, result.size());
+		assertEquals(from.plusHours(12), query.calls.get(1));
+		assertEquals(new JsonPrimitive(5), result.get(from.plusHours(5)).get(SUM_ESS_SOC));
+
+		// Modifying the result does not modify the cache
+		result.get(from).put(SUM_ESS_SOC, new JsonPrimitive(-1));
+
+		// Full hit after the day is closed
+		var yesterday = from.minusDays(1);
+		sut.getData(EDGE_ID, yesterday, from, Set.of(SUM_ESS_SOC), RESOLUTION, query::apply);
+		result = sut.getData(EDGE_ID, yesterday, from, Set.of(SUM_ESS_SOC), RESOLUTION, query::apply);
+		assertEquals(3, query.calls.size());
+		assertEquals(24, result.size());
+
+		var metrics = sut.debugMetrics();
+		assertEquals(new JsonPrimitive(1L), metrics.get("Hits"));
+		assertEquals(new JsonPrimitive(1L), metrics.get("PartialHits"));
+		assertEquals(new JsonPrimitive(2L), metrics.get("Misses"));
+		assertEquals(new JsonPrimitive(12 + 24), metrics.get("Size"));
+
+		// Invalidate
+		sut.invalidate(EDGE_ID);
+		result = sut.getData(EDGE_ID, from, to, Set.of(SUM_ESS_SOC), RESOLUTION, query::apply);
+		assertEquals(from, query.calls.get(3));
+		assertEquals(new JsonPrimitive(0), result.get(from).get(SUM_ESS_SOC));
+	}
+
+	@Test
+	public void testEnergyPerPeriod() throws OpenemsNamedException {
+		var clock = new TimeLeapClock(Instant.parse("2023-01-01T00:00:00.00Z"));
+		var sut = new TimedataCache(clock, 1_000);
+		var from = ZonedDateTime.now(clock).truncatedTo(ChronoUnit.DAYS);
+		var to = from.plusDays(1);
+		clock.leap(12 * 60 + 30, ChronoUnit.MINUTES); // 12:30
+		var query = new Query();
+
+		// Like 'difference()': the first period of every query is missing
+		ThrowingBiFunction<ZonedDateTime, ZonedDateTime, SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>, OpenemsNamedException> difference = (
+				f, t) -> {
+			var result = query.apply(f, t);
+			result.remove(f);
+			return result;
+		};
+
+		var result = sut.getEnergyPerPeriod(EDGE_ID, from, to, Set.of(SUM_ESS_SOC), RESOLUTION, difference);
+		assertEquals(23, result.size());
+
+		// Partial hit: the period at the cache boundary is still there
+		result = sut.getEnergyPerPeriod(EDGE_ID, from, to, Set.of(SUM_ESS_SOC), RESOLUTION, difference);
+		assertEquals(from.plusHours(11), query.calls.get(1));
+		assertEquals(23, result.size());
+		assertEquals(new JsonPrimitive(12), result.get(from.plusHours(12)).get(SUM_ESS_SOC));
+	}
+
+	@Test
+	public void testInvalidateLateData() throws OpenemsNamedException {
+		var clock = new TimeLeapClock(Instant.parse("2023-01-01T00:00:00.00Z"));
+		var sut = new TimedataCache(clock, 1_000);
+		var today = ZonedDateTime.now(clock).truncatedTo(ChronoUnit.DAYS);
+		var yesterday = today.minusDays(1);
+		clock.leap(12, ChronoUnit.HOURS);
+		var query = new Query();
+
+		sut.getData(EDGE_ID, yesterday, today, Set.of(SUM_ESS_SOC), RESOLUTION, query::apply);
+		sut.getData(EDGE_ID, yesterday, today, Set.of(SUM_ESS_SOC), RESOLUTION, query::apply);
+		assertEquals(1, query.calls.size());
+
+		// Current data and data for other ranges keep the cache
+		sut.invalidate(EDGE_ID, clock.millis());
+		sut.invalidate(EDGE_ID, today.plusHours(1).toInstant().toEpochMilli());
+		sut.invalidate("edge1", yesterday.toInstant().toEpochMilli());
+		sut.getData(EDGE_ID, yesterday, today, Set.of(SUM_ESS_SOC), RESOLUTION, query::apply);
+		assertEquals(1, query.calls.size());
+
+		// Late data for a closed period
+		sut.invalidate(EDGE_ID, yesterday.plusHours(23).toInstant().toEpochMilli());
+		sut.getData(EDGE_ID, yesterday, today, Set.of(SUM_ESS_SOC), RESOLUTION, query::apply);
+		assertEquals(2, query.calls.size());
+	}
+
+	@Test
+	public void testEviction() throws OpenemsNamedException {
+		var clock = new TimeLeapClock(Instant.parse("2023-01-01T00:00:00.00Z"));
+		var sut = new TimedataCache(clock, 50);
+		var from = ZonedDateTime.now(clock).truncatedTo(ChronoUnit.DAYS).minusDays(3);
+		var query = new Query();
+
+		sut.getData(EDGE_ID, from, from.plusDays(1), Set.of(SUM_ESS_SOC), RESOLUTION, query::apply);
+		sut.getData(EDGE_ID, from.plusDays(1), from.plusDays(2), Set.of(SUM_ESS_SOC), RESOLUTION, query::apply);
+		sut.getData(EDGE_ID, from.plusDays(2), from.plusDays(3), Set.of(SUM_ESS_SOC), RESOLUTION, query::apply);
+
+		var metrics = sut.debugMetrics();
+		assertEquals(new JsonPrimitive(2), metrics.get("Entries"));
+		assertEquals(new JsonPrimitive(1L), metrics.get("Evictions"));
+
+		// Least recently used entry was evicted
+		sut.getData(EDGE_ID, from, from.plusDays(1), Set.of(SUM_ESS_SOC), RESOLUTION, query::apply);
+		assertEquals(4, query.calls.size());
+	}
+
+	@Test
+	public void testEnergy() throws OpenemsNamedException {
+		var clock = new TimeLeapClock(Instant.parse("2023-01-01T00:00:00.00Z"));
+		var sut = new TimedataCache(clock, 1_000);
+		var today = ZonedDateTime.now(clock).truncatedTo(ChronoUnit.DAYS);
+		clock.leap(1, ChronoUnit.HOURS);
+		var calls = new ArrayList<ZonedDateTime>();
+
+		// Open range is never cached
+		for (var i = 0; i < 2; i++) {
+			sut.getEnergy(EDGE_ID, today, today.plusDays(1), Set.of(SUM_ESS_SOC), () -> {
+				calls.add(today);
+				return new TreeMap<>();
+			});
+		}
+		assertEquals(2, calls.size());
+
+		// Closed range
+		var yesterday = today.minusDays(1);
+		for (var i = 0; i < 2; i++) {
+			var result = sut.getEnergy(EDGE_ID, yesterday, today, Set.of(SUM_ESS_SOC), () -> {
+				calls.add(yesterday);
+				var values = new TreeMap<ChannelAddress, JsonElement>();
+				values.put(SUM_ESS_SOC, new JsonPrimitive(100));
+				return values;
+			});
+			assertEquals(new JsonPrimitive(100), result.get(SUM_ESS_SOC));
+		}
+		assertEquals(3, calls.size());
+
+		// Null result is not cached
+		assertNull(sut.getEnergy(EDGE_ID, yesterday.minusDays(1), yesterday, Set.of(SUM_ESS_SOC), () -> null));
+		assertEquals(new JsonPrimitive(1), sut.debugMetrics().get("Entries"));
+	}
+
+}
@@ -4,6 +4,7 @@ import org.osgi.service.metatype.annotations.AttributeDefinition;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
 import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
+import io.openems.common.websocket.AbstractWebsocketServer.ExecutionMode;
 
 @ObjectClassDefinition(//
 		name = "Edge.Websocket", //
@@ -19,6 +20,15 @@ import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	DebugMode debugMode() default DebugMode.OFF;
 
+	@AttributeDefinition(name = "Execution Mode", description = "SHARED_POOL: all handlers share the fixed-size thread pool; ELASTIC: threads are created on demand, concurrency is limited per handler type and notifications of one Edge are handled in order")
+	ExecutionMode executionMode() default ExecutionMode.SHARED_POOL;
+
+	@AttributeDefinition(name = "Request Concurrency", description = "ELASTIC Execution Mode: max number of concurrently handled JSON-RPC Requests")
+	int requestConcurrency() default 10;
+
+	@AttributeDefinition(name = "Notification Concurrency", description = "ELASTIC Execution Mode: max number of concurrently handled JSON-RPC Notifications")
+	int notificationConcurrency() default 10;
+
 	String webconsole_configurationFactory_nameHint() default "Edge Websocket";
 
 }
@@ -111,7 +111,8 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent
 	private synchronized void startServer() {
 		if (this.server == null) {
 			this.server = new WebsocketServer(this, this.getName(), this.config.port(), this.config.poolSize(),
-					this.config.debugMode());
+					this.config.debugMode(), this.config.executionMode(), this.config.requestConcurrency(),
+					this.config.notificationConcurrency());
 			this.server.start();
 		}
 	}
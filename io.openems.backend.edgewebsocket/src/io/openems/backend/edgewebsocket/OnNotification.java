@@ -1,9 +1,12 @@
 package io.openems.backend.edgewebsocket;
 
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.framing.CloseFrame;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,16 +21,31 @@ import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.notification.AbstractDataNotification;
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
+import io.openems.common.jsonrpc.notification.EdgeConfigPatchNotification;
 import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
 import io.openems.common.jsonrpc.notification.LogMessageNotification;
 import io.openems.common.jsonrpc.notification.ResendDataNotification;
 import io.openems.common.jsonrpc.notification.SystemLogNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.types.EdgeConfig;
 import io.openems.common.types.SemanticVersion;
 import io.openems.common.utils.JsonUtils;
 
 public class OnNotification implements io.openems.common.websocket.OnNotification {
 
+	/**
+	 * The JSON-RPC methods handled by
+	 * {@link #run(WebSocket, JsonrpcNotification)}.
+	 */
+	protected static final Set<String> METHODS = Set.of(//
+			EdgeConfigNotification.METHOD, //
+			EdgeConfigPatchNotification.METHOD, //
+			TimestampedDataNotification.METHOD, //
+			AggregatedDataNotification.METHOD, //
+			ResendDataNotification.METHOD, //
+			SystemLogNotification.METHOD, //
+			LogMessageNotification.METHOD);
+
 	private final Logger log = LoggerFactory.getLogger(OnNotification.class);
 	private final EdgeWebsocketImpl parent;
 
@@ -55,7 +73,9 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 		// Handle notification
 		switch (notification.getMethod()) {
 		case EdgeConfigNotification.METHOD ->
-			this.handleEdgeConfigNotification(EdgeConfigNotification.from(notification), wsData);
+			this.handleEdgeConfigNotification(EdgeConfigNotification.from(notification), ws, wsData);
+		case EdgeConfigPatchNotification.METHOD ->
+			this.handleEdgeConfigPatchNotification(EdgeConfigPatchNotification.from(notification), ws, wsData);
 		case TimestampedDataNotification.METHOD ->
 			this.handleDataNotification(TimestampedDataNotification.from(notification), wsData);
 		case AggregatedDataNotification.METHOD ->
@@ -74,29 +94,103 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 	 * Handles EdgeConfigNotification.
 	 *
 	 * @param message the EdgeConfigNotification
+	 * @param ws      the {@link WebSocket}
 	 * @param wsData  the WebSocket attachment
 	 * @throws OpenemsException on error
 	 */
-	private void handleEdgeConfigNotification(EdgeConfigNotification message, WsData wsData) throws OpenemsException {
+	private void handleEdgeConfigNotification(EdgeConfigNotification message, WebSocket ws, WsData wsData)
+			throws OpenemsException {
 		var edgeId = wsData.assertEdgeId(message);
+		// Store and forward EdgeConfigs of one connection in the order of their
+		// versions
+		synchronized (wsData) {
+			final Optional<EdgeConfig> config;
+			try {
+				config = wsData.setEdgeConfig(message.getConfig());
+			} catch (OpenemsNamedException e) {
+				this.closeOnInvalidPatch(edgeId, ws, e);
+				return;
+			}
+			if (config.isEmpty()) {
+				// Outdated
+				return;
+			}
+			this.setConfig(edgeId, config.get());
+			if (config.get() == message.getConfig()) {
+				this.forwardToUi(edgeId, message);
+			} else {
+				// Pending EdgeConfigPatches were applied
+				this.forwardToUi(edgeId, new EdgeConfigNotification(config.get()));
+			}
+		}
+	}
 
+	/**
+	 * Handles EdgeConfigPatchNotification.
+	 *
+	 * <p>
+	 * Applies the patch to the latest EdgeConfig of this connection and forwards
+	 * only the patch to the UI. Patches that are received before the version they
+	 * apply to are applied later. If the patch does not fit the latest EdgeConfig,
+	 * the connection is closed; the Edge sends the full EdgeConfig on reconnect.
+	 *
+	 * @param message the EdgeConfigPatchNotification
+	 * @param ws      the {@link WebSocket}
+	 * @param wsData  the WebSocket attachment
+	 * @throws OpenemsException on error
+	 */
+	private void handleEdgeConfigPatchNotification(EdgeConfigPatchNotification message, WebSocket ws,
+			WsData wsData) throws OpenemsException {
+		var edgeId = wsData.assertEdgeId(message);
+		// Store and forward EdgeConfigs of one connection in the order of their
+		// versions
+		synchronized (wsData) {
+			final Optional<EdgeConfig> config;
+			try {
+				config = wsData.applyEdgeConfigPatch(message.getPatch());
+			} catch (OpenemsNamedException e) {
+				this.closeOnInvalidPatch(edgeId, ws, e);
+				return;
+			}
+			if (config.isEmpty()) {
+				// Outdated or waiting for a previous version
+				return;
+			}
+			this.setConfig(edgeId, config.get());
+			if (config.get().getVersion() == message.getPatch().getVersion()) {
+				this.forwardToUi(edgeId, message);
+			} else {
+				// Pending EdgeConfigPatches were applied
+				this.forwardToUi(edgeId, new EdgeConfigNotification(config.get()));
+			}
+		}
+	}
+
+	private void closeOnInvalidPatch(String edgeId, WebSocket ws, OpenemsNamedException e) {
+		this.parent.logWarn(this.log, edgeId, "Unable to apply EdgeConfigPatch: " + e.getMessage());
+		ws.close(CloseFrame.PROTOCOL_ERROR, e.getMessage());
+	}
+
+	private void setConfig(String edgeId, EdgeConfig config) throws OpenemsException {
 		// save config in metadata
 		var edge = this.parent.metadata.getEdgeOrError(edgeId);
 		EventBuilder.from(this.parent.eventAdmin, Events.ON_SET_CONFIG) //
 				.addArg(Events.OnSetConfig.EDGE, edge) //
-				.addArg(Events.OnSetConfig.CONFIG, message.getConfig()) //
+				.addArg(Events.OnSetConfig.CONFIG, config) //
 				.send(); //
+	}
 
-		// forward
+	private void forwardToUi(String edgeId, JsonrpcNotification message) {
 		try {
 			if (this.parent.uiWebsocket != null) {
 				this.parent.uiWebsocket.sendBroadcast(edgeId, new EdgeRpcNotification(edgeId, message));
 			}
 		} catch (OpenemsNamedException e) {
-			this.parent.logWarn(this.log, edgeId, "Unable to forward EdgeConfigNotification to UI: " + e.getMessage());
+			this.parent.logWarn(this.log, edgeId,
+					"Unable to forward " + message.getMethod() + " to UI: " + e.getMessage());
 		} catch (NullPointerException e) {
 			this.parent.logWarn(this.log, edgeId,
-					"Unable to forward EdgeConfigNotification to UI: NullPointerException");
+					"Unable to forward " + message.getMethod() + " to UI: NullPointerException");
 			e.printStackTrace();
 		}
 	}
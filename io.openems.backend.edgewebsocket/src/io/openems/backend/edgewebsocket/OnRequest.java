@@ -1,5 +1,6 @@
 package io.openems.backend.edgewebsocket;
 
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import org.java_websocket.WebSocket;
@@ -16,6 +17,11 @@ import io.openems.common.jsonrpc.request.AppCenterRequest;
 
 public class OnRequest implements io.openems.common.websocket.OnRequest {
 
+	/**
+	 * The JSON-RPC methods handled by {@link #run(WebSocket, JsonrpcRequest)}.
+	 */
+	protected static final Set<String> METHODS = Set.of(AppCenterRequest.METHOD);
+
 	private final Logger log = LoggerFactory.getLogger(OnRequest.class);
 	private final EdgeWebsocketImpl parent;
 
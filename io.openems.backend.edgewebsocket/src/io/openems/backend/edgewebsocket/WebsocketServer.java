@@ -1,5 +1,6 @@
 package io.openems.backend.edgewebsocket;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -12,8 +13,12 @@ import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.framing.CloseFrame;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.handshake.ServerHandshakeBuilder;
 import org.slf4j.Logger;
 
 import com.google.gson.JsonElement;
@@ -24,12 +29,20 @@ import io.openems.common.jsonrpc.base.JsonrpcMessage;
 import io.openems.common.jsonrpc.notification.SystemLogNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.EdgeConfigPatch;
 import io.openems.common.types.SystemLog;
 import io.openems.common.utils.JsonUtils;
 import io.openems.common.websocket.AbstractWebsocketServer;
+import io.openems.common.websocket.BinaryUplink;
+import io.openems.common.websocket.OnNotificationHandler;
+import io.openems.common.websocket.OnRequestHandler;
 
 public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 
+	private static final Set<String> QUEUE_WAIT_METHODS = Stream
+			.concat(OnRequest.METHODS.stream(), OnNotification.METHODS.stream()) //
+			.collect(Collectors.toUnmodifiableSet());
+
 	private final EdgeWebsocketImpl parent;
 	private final OnOpen onOpen;
 	private final OnRequest onRequest;
@@ -37,8 +50,11 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 	private final OnError onError;
 	private final OnClose onClose;
 
-	public WebsocketServer(EdgeWebsocketImpl parent, String name, int port, int poolSize, DebugMode debugMode) {
-		super(name, port, poolSize, debugMode);
+	public WebsocketServer(EdgeWebsocketImpl parent, String name, int port, int poolSize, DebugMode debugMode,
+			ExecutionMode executionMode, int requestConcurrency, int notificationConcurrency) {
+		super(name, port, poolSize, debugMode, executionMode, Map.of(//
+				OnRequestHandler.class, requestConcurrency, //
+				OnNotificationHandler.class, notificationConcurrency));
 		this.parent = parent;
 		this.onOpen = new OnOpen(parent);
 		this.onRequest = new OnRequest(parent);
@@ -64,6 +80,11 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 				ws -> ws.getAttachment() != null && ((WsData) ws.getAttachment()).getEdgeId().equals(edgeIdOpt));
 	}
 
+	@Override
+	protected Set<String> getQueueWaitMethods() {
+		return QUEUE_WAIT_METHODS;
+	}
+
 	@Override
 	protected OnOpen getOnOpen() {
 		return this.onOpen;
@@ -130,6 +151,32 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 		throw new OpenemsException("EdgeWs. handleNonJsonrpcMessage", lastException);
 	}
 
+	@Override
+	protected void onHandshake(ClientHandshake request, ServerHandshakeBuilder response) {
+		// Accept binary uplink if requested by Edge
+		if (BinaryUplink.isSupported(request.getFieldValue(BinaryUplink.HEADER))) {
+			response.put(BinaryUplink.HEADER, BinaryUplink.VERSION);
+		}
+		// Accept EdgeConfigPatches if requested by Edge
+		if (EdgeConfigPatch.isSupported(request.getFieldValue(EdgeConfigPatch.HEADER))) {
+			response.put(EdgeConfigPatch.HEADER, EdgeConfigPatch.VERSION);
+		}
+	}
+
+	@Override
+	protected JsonrpcMessage handleBinaryMessage(WebSocket ws, ByteBuffer binaryMessage)
+			throws OpenemsNamedException {
+		WsData wsData = ws.getAttachment();
+		try {
+			return wsData.binaryUplinkDecoder.decode(binaryMessage);
+
+		} catch (OpenemsException e) {
+			// Dictionary is out of sync; Edge resets it on reconnect
+			ws.close(CloseFrame.PROTOCOL_ERROR, e.getMessage());
+			throw e;
+		}
+	}
+
 	@Override
 	protected void logInfo(Logger log, String message) {
 		this.parent.logInfo(log, message);
@@ -1,6 +1,7 @@
 package io.openems.backend.edgewebsocket;
 
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -10,7 +11,10 @@ import io.openems.backend.common.edgewebsocket.EdgeCache;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.types.EdgeConfig;
+import io.openems.common.types.EdgeConfigPatch;
 import io.openems.common.utils.StringUtils;
+import io.openems.common.websocket.BinaryUplinkDecoder;
 
 public class WsData extends io.openems.common.websocket.WsData {
 
@@ -22,6 +26,23 @@ public class WsData extends io.openems.common.websocket.WsData {
 
 	private final CompletableFuture<Void> isAuthenticated = new CompletableFuture<>();
 	public final EdgeCache edgeCache = new EdgeCache();
+	public final BinaryUplinkDecoder binaryUplinkDecoder = new BinaryUplinkDecoder();
+
+	/** Max number of {@link EdgeConfigPatch}es that wait for a previous version. */
+	protected static final int MAX_PENDING_PATCHES = 100;
+
+	/**
+	 * The latest {@link EdgeConfig} received on this connection; used to apply
+	 * {@link EdgeConfigPatch}es.
+	 */
+	private EdgeConfig edgeConfig = null;
+
+	/**
+	 * {@link EdgeConfigPatch}es that were received before the version they apply
+	 * to, by their previous version. Notifications are possibly handled in
+	 * parallel, i.e. not in the order they were sent.
+	 */
+	private final TreeMap<Long, EdgeConfigPatch> pendingPatches = new TreeMap<>();
 
 	/**
 	 * Asserts that the Edge-ID is available (i.e. properly authenticated).
@@ -69,6 +90,64 @@ public class WsData extends io.openems.common.websocket.WsData {
 		return this.edgeId;
 	}
 
+	/**
+	 * Sets a full {@link EdgeConfig} and applies pending {@link EdgeConfigPatch}es
+	 * to it.
+	 *
+	 * @param edgeConfig the {@link EdgeConfig}
+	 * @return the latest {@link EdgeConfig}; empty if the given
+	 *         {@link EdgeConfig} is older than the latest one
+	 * @throws OpenemsNamedException if a pending patch does not fit
+	 */
+	public synchronized Optional<EdgeConfig> setEdgeConfig(EdgeConfig edgeConfig) throws OpenemsNamedException {
+		// Version zero: Edge without versioned EdgeConfigs
+		if (this.edgeConfig != null && edgeConfig.getVersion() != 0
+				&& edgeConfig.getVersion() <= this.edgeConfig.getVersion()) {
+			return Optional.empty();
+		}
+		this.edgeConfig = edgeConfig;
+		this.pendingPatches.headMap(edgeConfig.getVersion()).clear();
+		return Optional.of(this.applyPendingPatches());
+	}
+
+	/**
+	 * Applies an {@link EdgeConfigPatch} to the latest {@link EdgeConfig}.
+	 *
+	 * <p>
+	 * Patches that were received before the version they apply to are kept until
+	 * that version is available.
+	 *
+	 * @param patch the {@link EdgeConfigPatch}
+	 * @return the latest {@link EdgeConfig}; empty if the patch is outdated or is
+	 *         waiting for a previous version
+	 * @throws OpenemsNamedException if the patch does not fit the latest version
+	 */
+	public synchronized Optional<EdgeConfig> applyEdgeConfigPatch(EdgeConfigPatch patch)
+			throws OpenemsNamedException {
+		if (this.edgeConfig != null && patch.getVersion() <= this.edgeConfig.getVersion()) {
+			// Outdated
+			return Optional.empty();
+		}
+		if (this.edgeConfig == null || patch.getPreviousVersion() > this.edgeConfig.getVersion()) {
+			// Wait for previous version
+			if (this.pendingPatches.size() >= MAX_PENDING_PATCHES) {
+				throw new OpenemsException("Too many pending EdgeConfigPatches");
+			}
+			this.pendingPatches.put(patch.getPreviousVersion(), patch);
+			return Optional.empty();
+		}
+		this.edgeConfig = patch.applyTo(this.edgeConfig);
+		return Optional.of(this.applyPendingPatches());
+	}
+
+	private EdgeConfig applyPendingPatches() throws OpenemsNamedException {
+		EdgeConfigPatch patch;
+		while ((patch = this.pendingPatches.remove(this.edgeConfig.getVersion())) != null) {
+			this.edgeConfig = patch.applyTo(this.edgeConfig);
+		}
+		return this.edgeConfig;
+	}
+
 	@Override
 	public String toString() {
 		return "EdgeWebsocket.WsData [" //
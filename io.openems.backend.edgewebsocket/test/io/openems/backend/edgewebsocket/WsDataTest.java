@@ -0,0 +1,66 @@
+package io.openems.backend.edgewebsocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.types.EdgeConfig;
+import io.openems.common.types.EdgeConfigPatch;
+import io.openems.common.utils.JsonUtils;
+
+public class WsDataTest {
+
+	private static EdgeConfig config(long version, int components) {
+		var builder = EdgeConfig.ActualEdgeConfig.create();
+		for (var i = 0; i < components; i++) {
+			builder.addComponent("foo" + i, new EdgeConfig.Component("foo" + i, "", "Component.Foo",
+					JsonUtils.buildJsonObject().build()));
+		}
+		return builder.buildEdgeConfig(version);
+	}
+
+	@Test
+	public void testInOrder() throws OpenemsNamedException {
+		var sut = new WsData();
+		assertEquals(1, sut.setEdgeConfig(config(1, 1)).get().getVersion());
+		var result = sut.applyEdgeConfigPatch(EdgeConfigPatch.diff(config(1, 1), config(2, 2)));
+		assertEquals(2, result.get().getVersion());
+		assertTrue(result.get().getComponent("foo1").isPresent());
+
+		// Outdated
+		assertFalse(sut.applyEdgeConfigPatch(EdgeConfigPatch.diff(config(1, 1), config(2, 2))).isPresent());
+		assertFalse(sut.setEdgeConfig(config(1, 1)).isPresent());
+	}
+
+	@Test
+	public void testReordered() throws OpenemsNamedException {
+		var sut = new WsData();
+
+		// Patches before the full EdgeConfig
+		assertFalse(sut.applyEdgeConfigPatch(EdgeConfigPatch.diff(config(2, 2), config(3, 3))).isPresent());
+		assertFalse(sut.applyEdgeConfigPatch(EdgeConfigPatch.diff(config(1, 1), config(2, 2))).isPresent());
+
+		var result = sut.setEdgeConfig(config(1, 1));
+		assertEquals(3, result.get().getVersion());
+		assertTrue(result.get().getComponent("foo2").isPresent());
+
+		// Patch before a newer full EdgeConfig; pending patch is outdated then
+		assertFalse(sut.applyEdgeConfigPatch(EdgeConfigPatch.diff(config(4, 4), config(5, 5))).isPresent());
+		assertFalse(sut.applyEdgeConfigPatch(EdgeConfigPatch.diff(config(5, 5), config(6, 6))).isPresent());
+		result = sut.setEdgeConfig(config(5, 5));
+		assertEquals(6, result.get().getVersion());
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testMismatch() throws OpenemsNamedException {
+		var sut = new WsData();
+		sut.setEdgeConfig(config(2, 2));
+		// Skips version 2
+		sut.applyEdgeConfigPatch(EdgeConfigPatch.diff(config(1, 1), config(3, 3)));
+	}
+
+}
@@ -2,10 +2,10 @@ package io.openems.backend.metadata.odoo;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.openems.backend.common.metadata.Edge;
 import io.openems.backend.metadata.odoo.Field.EdgeDevice;
@@ -13,6 +13,14 @@ import io.openems.backend.metadata.odoo.postgres.PgUtils;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.SemanticVersion;
 
+/**
+ * Caches the Edges of Odoo/Postgres.
+ *
+ * <p>
+ * Lookups are lock-free, because they happen for every incoming Edge message
+ * and UI request. Updates are synchronized among each other only; they never
+ * block lookups.
+ */
 public class EdgeCache {
 
 	public static final int EXPECTED_CACHE_SIZE = 1_000;
@@ -22,19 +30,19 @@ public class EdgeCache {
 	/**
 	 * Map Edge-ID (String) to Edge. Initialized with expected cache size.
 	 */
-	private final Map<String, MyEdge> edgeIdToEdge = new HashMap<>(EXPECTED_CACHE_SIZE);
+	private final ConcurrentHashMap<String, MyEdge> edgeIdToEdge = new ConcurrentHashMap<>(EXPECTED_CACHE_SIZE);
 
 	/**
 	 * Map Odoo-ID (Integer) to Edge-ID (String). Initialized with expected cache
 	 * size.
 	 */
-	private final Map<Integer, String> odooIdToEdgeId = new HashMap<>(EXPECTED_CACHE_SIZE);
+	private final ConcurrentHashMap<Integer, String> odooIdToEdgeId = new ConcurrentHashMap<>(EXPECTED_CACHE_SIZE);
 
 	/**
 	 * Map Apikey (String) to Edge-ID (String). Initialized with expected cache
 	 * size.
 	 */
-	private final Map<String, String> apikeyToEdgeId = new HashMap<>(EXPECTED_CACHE_SIZE);
+	private final ConcurrentHashMap<String, String> apikeyToEdgeId = new ConcurrentHashMap<>(EXPECTED_CACHE_SIZE);
 
 	public EdgeCache(MetadataOdoo parent) {
 		this.parent = parent;
@@ -48,7 +56,7 @@ public class EdgeCache {
 	 * @throws SQLException     on error
 	 * @throws OpenemsException on error
 	 */
-	public synchronized MyEdge addOrUpdate(ResultSet rs) throws SQLException, OpenemsException {
+	public MyEdge addOrUpdate(ResultSet rs) throws SQLException, OpenemsException {
 		// simple fields
 		var edgeId = PgUtils.getAsString(rs, EdgeDevice.NAME);
 		var odooId = PgUtils.getAsInt(rs, EdgeDevice.ID);
@@ -60,10 +68,28 @@ public class EdgeCache {
 		var producttype = PgUtils.getAsStringOrElse(rs, EdgeDevice.PRODUCTTYPE, "");
 		var lastmessage = PgUtils.getAsDateOrElse(rs, EdgeDevice.LASTMESSAGE, null);
 
+		return this.addOrUpdate(odooId, edgeId, apikey, comment, version, producttype, lastmessage);
+	}
+
+	/**
+	 * Adds a Edge or Updates an existing Edge.
+	 *
+	 * @param odooId      the Odoo-ID
+	 * @param edgeId      the Edge-ID
+	 * @param apikey      the Apikey
+	 * @param comment     the comment
+	 * @param version     the OpenEMS version
+	 * @param producttype the producttype
+	 * @param lastmessage the time of the last message; possibly null
+	 * @return the new or updated Edge instance
+	 */
+	protected synchronized MyEdge addOrUpdate(int odooId, String edgeId, String apikey, String comment,
+			String version, String producttype, ZonedDateTime lastmessage) {
 		var edge = this.edgeIdToEdge.get(edgeId);
 		if (edge == null) {
 			// This is new -> create instance of Edge
 			edge = new MyEdge(this.parent, odooId, edgeId, apikey, comment, version, producttype, lastmessage);
+			// Put Edge first: a lookup via Odoo-ID or Apikey always finds it
 			this.edgeIdToEdge.put(edgeId, edge);
 			this.odooIdToEdgeId.put(odooId, edgeId);
 			this.apikeyToEdgeId.put(apikey, edgeId);
@@ -84,7 +110,7 @@ public class EdgeCache {
 	 * @param edgeId the Edge-ID
 	 * @return the Edge, or null
 	 */
-	public synchronized MyEdge getEdgeFromEdgeId(String edgeId) {
+	public MyEdge getEdgeFromEdgeId(String edgeId) {
 		return this.edgeIdToEdge.get(edgeId);
 	}
 
@@ -94,7 +120,7 @@ public class EdgeCache {
 	 * @param odooId the Odoo-ID
 	 * @return the Edge, or null
 	 */
-	public synchronized MyEdge getEdgeFromOdooId(int odooId) {
+	public MyEdge getEdgeFromOdooId(int odooId) {
 		var edgeId = this.odooIdToEdgeId.get(odooId);
 		if (edgeId == null) {
 			return null;
@@ -108,7 +134,7 @@ public class EdgeCache {
 	 * @param apikey the Apikey
 	 * @return the Edge, or null
 	 */
-	public synchronized MyEdge getEdgeForApikey(String apikey) {
+	public MyEdge getEdgeForApikey(String apikey) {
 		var edgeId = this.apikeyToEdgeId.get(apikey);
 		if (edgeId == null) {
 			return null;
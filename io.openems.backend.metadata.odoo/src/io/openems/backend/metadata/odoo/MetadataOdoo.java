@@ -4,6 +4,7 @@ import java.sql.SQLException;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
@@ -33,7 +34,9 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 
+import io.openems.backend.common.debugcycle.DebugLoggable;
 import io.openems.backend.common.metadata.AbstractMetadata;
 import io.openems.backend.common.metadata.AlertingSetting;
 import io.openems.backend.common.metadata.AppCenterMetadata;
@@ -72,7 +75,7 @@ import io.openems.common.utils.ThreadPoolUtils;
 		Edge.Events.ALL_EVENTS //
 })
 public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata, AppCenterMetadata.EdgeData,
-		AppCenterMetadata.UiData, Metadata, Mailer, EventHandler {
+		AppCenterMetadata.UiData, Metadata, Mailer, EventHandler, DebugLoggable {
 
 	private static final int EXECUTOR_MIN_THREADS = 1;
 	private static final int EXECUTOR_MAX_THREADS = 50;
@@ -573,4 +576,23 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 		);
 	}
 
+	@Override
+	public String debugLog() {
+		if (this.postgresHandler == null) {
+			return null;
+		}
+		return "[" + this.getName() + "] " + this.postgresHandler.getPeriodicWriteWorker().debugLog();
+	}
+
+	@Override
+	public Map<String, JsonElement> debugMetrics() {
+		final var metrics = new HashMap<String, JsonElement>();
+		if (this.postgresHandler != null) {
+			this.postgresHandler.getPeriodicWriteWorker().debugMetrics().forEach((key, value) -> {
+				metrics.put("metadata/PeriodicWrite/" + key, new JsonPrimitive(value));
+			});
+		}
+		return metrics;
+	}
+
 }
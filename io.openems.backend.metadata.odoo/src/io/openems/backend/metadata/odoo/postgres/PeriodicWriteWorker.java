@@ -1,15 +1,19 @@
 package io.openems.backend.metadata.odoo.postgres;
 
 import java.sql.SQLException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
@@ -19,12 +23,17 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import io.openems.backend.common.metadata.Edge;
 import io.openems.backend.metadata.odoo.MyEdge;
+import io.openems.backend.metadata.odoo.postgres.PgEdgeHandler.EdgeUpdate;
 import io.openems.common.channel.Level;
 import io.openems.common.utils.ThreadPoolUtils;
 
 /**
- * This worker combines writes to lastMessage and lastUpdate fields, to avoid
- * DDOSing Odoo/Postgres by writing too often.
+ * This worker combines writes to lastMessage, OpenemsIsConnected and Sum-State
+ * fields, to avoid DDOSing Odoo/Postgres by writing too often.
+ *
+ * <p>
+ * Updates are coalesced per Edge in memory - only the latest value of each
+ * field is kept - and written in one statement per interval.
  */
 public class PeriodicWriteWorker {
 
@@ -75,36 +84,33 @@ public class PeriodicWriteWorker {
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
 	}
 
-	private final LinkedBlockingQueue<Integer> lastMessageOdooIds = new LinkedBlockingQueue<>();
-	private final LinkedBlockingQueue<Integer> isOnlineOdooIds = new LinkedBlockingQueue<>();
-	private final LinkedBlockingQueue<Integer> isOfflineOdooIds = new LinkedBlockingQueue<>();
-	private final LinkedBlockingQueue<Integer> sumStateOk = new LinkedBlockingQueue<>();
-	private final LinkedBlockingQueue<Integer> sumStateInfo = new LinkedBlockingQueue<>();
-	private final LinkedBlockingQueue<Integer> sumStateWarning = new LinkedBlockingQueue<>();
-	private final LinkedBlockingQueue<Integer> sumStateFault = new LinkedBlockingQueue<>();
+	/**
+	 * Pending {@link EdgeUpdate}s, coalesced per Odoo-ID.
+	 */
+	private final ConcurrentHashMap<Integer, EdgeUpdate> pending = new ConcurrentHashMap<>();
+
+	private final AtomicInteger lastBatchSize = new AtomicInteger();
+	private final AtomicLong lastFlushDuration = new AtomicLong();
 
 	private final Consumer<PgEdgeHandler> task = edge -> {
 		if (PeriodicWriteWorker.DEBUG_MODE) {
-			this.debugLog();
+			this.logTimeSinceLastRun();
 		}
 
+		var updates = this.drain();
+		var start = System.nanoTime();
 		try {
-			// Last Message
-			edge.updateLastMessage(drainToSet(this.lastMessageOdooIds));
-
-			// Online/Offline
-			edge.updateOpenemsIsConnected(drainToSet(this.isOfflineOdooIds), false);
-			edge.updateOpenemsIsConnected(drainToSet(this.isOnlineOdooIds), true);
-
-			// Sum-State
-			edge.updateSumState(drainToSet(this.sumStateOk), Level.OK);
-			edge.updateSumState(drainToSet(this.sumStateInfo), Level.INFO);
-			edge.updateSumState(drainToSet(this.sumStateWarning), Level.WARNING);
-			edge.updateSumState(drainToSet(this.sumStateFault), Level.FAULT);
+			edge.updateEdges(updates);
 
 		} catch (SQLException e) {
 			this.log.error("Unable to execute WriteWorker task: " + e.getMessage());
+			// Keep updates for next run; newer updates take precedence
+			for (var update : updates) {
+				this.pending.merge(update.odooId(), update, (newer, failed) -> failed.merge(newer));
+			}
 		}
+		this.lastBatchSize.set(updates.size());
+		this.lastFlushDuration.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
 	};
 
 	/**
@@ -113,7 +119,7 @@ public class PeriodicWriteWorker {
 	 * @param edge the {@link MyEdge}.
 	 */
 	public void onLastMessage(MyEdge edge) {
-		this.lastMessageOdooIds.add(edge.getOdooId());
+		this.add(new EdgeUpdate(edge.getOdooId(), Instant.now(), null, null));
 	}
 
 	/**
@@ -123,12 +129,7 @@ public class PeriodicWriteWorker {
 	 * @param isOnline true if online, false if offline
 	 */
 	public void onSetOnline(MyEdge edge, boolean isOnline) {
-		var odooId = edge.getOdooId();
-		if (isOnline) {
-			this.isOnlineOdooIds.add(odooId);
-		} else {
-			this.isOfflineOdooIds.add(odooId);
-		}
+		this.add(new EdgeUpdate(edge.getOdooId(), null, isOnline, null));
 	}
 
 	/**
@@ -138,42 +139,59 @@ public class PeriodicWriteWorker {
 	 * @param sumState Sum-State {@link Level}
 	 */
 	public void onSetSumState(MyEdge edge, Level sumState) {
-		var odooId = edge.getOdooId();
-		switch (sumState) {
-		case OK:
-			this.sumStateOk.add(odooId);
-			break;
-		case INFO:
-			this.sumStateInfo.add(odooId);
-			break;
-		case WARNING:
-			this.sumStateWarning.add(odooId);
-			break;
-		case FAULT:
-			this.sumStateFault.add(odooId);
-			break;
-		}
+		this.add(new EdgeUpdate(edge.getOdooId(), null, null, sumState));
+	}
+
+	private void add(EdgeUpdate update) {
+		this.pending.merge(update.odooId(), update, EdgeUpdate::merge);
 	}
 
 	/**
-	 * Moves all entries of a {@link LinkedBlockingQueue} to a Set and clears the
-	 * queue. This is thread-safe.
+	 * Removes all pending {@link EdgeUpdate}s. This is thread-safe.
 	 * 
-	 * @param queue the {@link LinkedBlockingQueue}
-	 * @return the {@link Set}
+	 * @return the {@link EdgeUpdate}s, one per Edge
 	 */
-	protected static Set<Integer> drainToSet(LinkedBlockingQueue<Integer> queue) {
-		Set<Integer> result = new HashSet<>(queue.size());
-		queue.drainTo(result);
+	protected List<EdgeUpdate> drain() {
+		var result = new ArrayList<EdgeUpdate>(this.pending.size());
+		for (var odooId : this.pending.keySet()) {
+			var update = this.pending.remove(odooId);
+			if (update != null) {
+				result.add(update);
+			}
+		}
 		return result;
 	}
 
+	/**
+	 * Gets a debug log of the write-behind buffer.
+	 * 
+	 * @return the debug log
+	 */
+	public String debugLog() {
+		return "PeriodicWrite Pending: " + this.pending.size() //
+				+ ", Last Batch: " + this.lastBatchSize.get() //
+				+ " in " + this.lastFlushDuration.get() + "ms";
+	}
+
+	/**
+	 * Gets debug metrics of the write-behind buffer.
+	 * 
+	 * @return the debug metrics
+	 */
+	public Map<String, Number> debugMetrics() {
+		return Map.<String, Number>of(//
+				"Pending", this.pending.size(), //
+				"BatchSize", this.lastBatchSize.get(), //
+				"FlushDuration", this.lastFlushDuration.get() //
+		);
+	}
+
 	/*
 	 * From here required for DEBUG_MODE
 	 */
 	private LocalDateTime lastExecute = null;
 
-	private synchronized void debugLog() {
+	private synchronized void logTimeSinceLastRun() {
 		var now = LocalDateTime.now();
 		if (this.lastExecute != null) {
 			this.parent.logInfo(this.log, "PeriodicWriteWorker. " //
@@ -3,10 +3,10 @@ package io.openems.backend.metadata.odoo.postgres;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Collection;
 
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -191,83 +191,96 @@ public final class PgEdgeHandler {
 	}
 
 	/**
-	 * Updates the OpenemsIsConnected field for multiple Edge-IDs.
-	 * 
-	 * @param odooIds     the Odoo-IDs
-	 * @param isConnected true if online; false if offline
-	 * @throws SQLException on error
+	 * Pending update of the LastMessage, OpenemsIsConnected and Sum-State fields
+	 * of one Edge. Fields that are null are not updated.
+	 *
+	 * @param odooId      the Odoo-ID
+	 * @param lastMessage the timestamp of the last message; or null
+	 * @param isConnected true if online; false if offline; or null
+	 * @param sumState    the Sum-State {@link Level}; or null
 	 */
-	public void updateOpenemsIsConnected(Set<Integer> odooIds, boolean isConnected) throws SQLException {
-		if (odooIds.isEmpty()) {
-			return;
-		}
+	public static record EdgeUpdate(int odooId, Instant lastMessage, Boolean isConnected, Level sumState) {
 
-		try (var con = this.dataSource.getConnection(); //
-				var st = con.createStatement()) {
-			st.executeUpdate(new StringBuilder() //
-					.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-					.append(" SET ").append(Field.EdgeDevice.OPENEMS_IS_CONNECTED.id()).append(" = ")
-					.append(isConnected ? "TRUE" : "FALSE") //
-					.append(" WHERE id IN (") //
-					.append(odooIds.stream() //
-							.map(String::valueOf) //
-							.collect(Collectors.joining(","))) //
-					.append(")") //
-					.toString());
+		/**
+		 * Combines this {@link EdgeUpdate} with a newer one for the same Edge.
+		 *
+		 * @param newer the newer {@link EdgeUpdate}
+		 * @return an {@link EdgeUpdate} with the latest value of each field
+		 */
+		public EdgeUpdate merge(EdgeUpdate newer) {
+			return new EdgeUpdate(this.odooId, //
+					newer.lastMessage != null ? newer.lastMessage : this.lastMessage, //
+					newer.isConnected != null ? newer.isConnected : this.isConnected, //
+					newer.sumState != null ? newer.sumState : this.sumState);
 		}
 	}
 
 	/**
-	 * Updates the LastMessage field for multiple Edge-IDs.
+	 * Updates the LastMessage, OpenemsIsConnected and Sum-State fields for
+	 * multiple Edges in one statement.
 	 * 
-	 * @param odooIds the Odoo-IDs
-	 * @throws OpenemsNamedException on error
-	 * @throws SQLException          on error
+	 * @param updates the {@link EdgeUpdate}s; at most one per Edge
+	 * @throws SQLException on error
 	 */
-	public void updateLastMessage(Set<Integer> odooIds) throws SQLException {
-		if (odooIds.isEmpty()) {
+	public void updateEdges(Collection<EdgeUpdate> updates) throws SQLException {
+		if (updates.isEmpty()) {
 			return;
 		}
 
 		try (var con = this.dataSource.getConnection(); //
 				var st = con.createStatement()) {
-			st.executeUpdate(new StringBuilder() //
-					.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-					.append(" SET ").append(Field.EdgeDevice.LASTMESSAGE.id()).append(" = (now() at time zone 'UTC')") //
-					.append(" WHERE id IN (") //
-					.append(odooIds.stream() //
-							.map(String::valueOf) //
-							.collect(Collectors.joining(","))) //
-					.append(")") //
-					.toString());
+			st.executeUpdate(buildUpdateEdgesQuery(updates));
 		}
 	}
 
 	/**
-	 * Updates the Sum-State field for multiple Edge-IDs.
-	 * 
-	 * @param odooIds the Odoo-IDs
-	 * @param level   the Sum-State {@link Level}
-	 * @throws OpenemsNamedException on error
-	 * @throws SQLException          on error
+	 * UPDATE {edge.device} AS d SET {field} = COALESCE(v.{field}, d.{field}) FROM
+	 * (VALUES (...), ...) AS v WHERE d.id = v.id;.
+	 *
+	 * @param updates the {@link EdgeUpdate}s
+	 * @return the query
 	 */
-	public void updateSumState(Set<Integer> odooIds, Level level) throws SQLException {
-		if (odooIds.isEmpty()) {
-			return;
-		}
-
-		try (var con = this.dataSource.getConnection(); //
-				var st = con.createStatement()) {
-			st.executeUpdate(new StringBuilder() //
-					.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-					.append(" SET ").append(Field.EdgeDevice.OPENEMS_SUM_STATE.id()).append(" = '")
-					.append(level.getName().toLowerCase()) //
-					.append("' WHERE id IN (") //
-					.append(odooIds.stream() //
-							.map(String::valueOf) //
-							.collect(Collectors.joining(","))) //
-					.append(")") //
-					.toString());
+	protected static String buildUpdateEdgesQuery(Collection<EdgeUpdate> updates) {
+		var lastMessage = Field.EdgeDevice.LASTMESSAGE.id();
+		var isConnected = Field.EdgeDevice.OPENEMS_IS_CONNECTED.id();
+		var sumState = Field.EdgeDevice.OPENEMS_SUM_STATE.id();
+		var b = new StringBuilder(200 + updates.size() * 50) //
+				.append("UPDATE ").append(EdgeDevice.ODOO_TABLE).append(" AS d SET ") //
+				.append(lastMessage).append(" = COALESCE(v.").append(lastMessage).append("::timestamp, d.")
+				.append(lastMessage).append("), ") //
+				.append(isConnected).append(" = COALESCE(v.").append(isConnected).append("::boolean, d.")
+				.append(isConnected).append("), ") //
+				.append(sumState).append(" = COALESCE(v.").append(sumState).append(", d.").append(sumState)
+				.append(") FROM (VALUES ");
+		var first = true;
+		for (var update : updates) {
+			if (!first) {
+				b.append(",");
+			}
+			first = false;
+			b.append("(").append(update.odooId()).append(",");
+			if (update.lastMessage() == null) {
+				b.append("NULL");
+			} else {
+				// Odoo stores timestamps in UTC without time zone
+				b.append("'").append(LocalDateTime.ofInstant(update.lastMessage(), ZoneOffset.UTC)).append("'");
+			}
+			b.append(",");
+			if (update.isConnected() == null) {
+				b.append("NULL");
+			} else {
+				b.append(update.isConnected() ? "TRUE" : "FALSE");
+			}
+			b.append(",");
+			if (update.sumState() == null) {
+				b.append("NULL");
+			} else {
+				b.append("'").append(update.sumState().getName().toLowerCase()).append("'");
+			}
+			b.append(")");
 		}
+		return b.append(") AS v(id, ").append(lastMessage).append(", ").append(isConnected).append(", ")
+				.append(sumState).append(") WHERE d.id = v.id") //
+				.toString();
 	}
 }
\ No newline at end of file
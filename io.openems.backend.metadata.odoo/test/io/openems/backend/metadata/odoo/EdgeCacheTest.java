@@ -0,0 +1,118 @@
+package io.openems.backend.metadata.odoo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+public class EdgeCacheTest {
+
+	private static MyEdge addEdge(EdgeCache cache, int i) {
+		return cache.addOrUpdate(i, "edge" + i, "apikey" + i, "", "", "", null);
+	}
+
+	@Test
+	public void testLookup() {
+		var cache = new EdgeCache(null);
+		var edge0 = addEdge(cache, 0);
+		var edge1 = addEdge(cache, 1);
+
+		assertSame(edge0, cache.getEdgeFromEdgeId("edge0"));
+		assertSame(edge1, cache.getEdgeFromOdooId(1));
+		assertSame(edge1, cache.getEdgeForApikey("apikey1"));
+		assertNull(cache.getEdgeFromEdgeId("edge2"));
+		assertNull(cache.getEdgeFromOdooId(2));
+		assertNull(cache.getEdgeForApikey("apikey2"));
+		assertEquals(2, cache.getAllEdges().size());
+	}
+
+	@Test
+	public void testIterateWhileAdding() throws InterruptedException {
+		var cache = new EdgeCache(null);
+		var writer = new Thread(() -> {
+			for (var i = 0; i < 10_000; i++) {
+				addEdge(cache, i);
+			}
+		});
+		writer.start();
+		while (writer.isAlive()) {
+			// Must not throw ConcurrentModificationException
+			cache.getAllEdges().forEach(edge -> edge.getId());
+		}
+		writer.join();
+		assertEquals(10_000, cache.getAllEdges().size());
+	}
+
+	@Test
+	@Ignore
+	public void benchmark() throws InterruptedException {
+		final var edges = 10_000;
+		final var readers = Runtime.getRuntime().availableProcessors();
+		final var durationMillis = 2_000;
+
+		var cache = new EdgeCache(null);
+		var synchronizedCache = new HashMap<String, MyEdge>();
+		for (var i = 0; i < edges; i++) {
+			synchronizedCache.put("edge" + i, addEdge(cache, i));
+		}
+
+		var cacheLookups = this.measure(readers, durationMillis, edges, edgeId -> cache.getEdgeFromEdgeId(edgeId));
+		var synchronizedLookups = this.measure(readers, durationMillis, edges, edgeId -> {
+			synchronized (synchronizedCache) {
+				return synchronizedCache.get(edgeId);
+			}
+		});
+
+		System.out.println("Readers: " + readers);
+		System.out.println("Synchronized: " + synchronizedLookups * 1000 / durationMillis + " lookups/s");
+		System.out.println("EdgeCache:    " + cacheLookups * 1000 / durationMillis + " lookups/s");
+	}
+
+	private long measure(int readers, int durationMillis, int edges, Function<String, MyEdge> lookup)
+			throws InterruptedException {
+		var edgeIds = new String[edges];
+		for (var i = 0; i < edges; i++) {
+			edgeIds[i] = "edge" + i;
+		}
+		var running = new AtomicBoolean(true);
+		var start = new CountDownLatch(1);
+		var lookups = new LongAdder();
+		var threads = new ArrayList<Thread>();
+		for (var r = 0; r < readers; r++) {
+			final var offset = r;
+			var thread = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				var count = 0L;
+				var i = offset;
+				while (running.get()) {
+					lookup.apply(edgeIds[i++ % edges]);
+					count++;
+				}
+				lookups.add(count);
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		Thread.sleep(durationMillis);
+		running.set(false);
+		for (var thread : threads) {
+			thread.join();
+		}
+		return lookups.sum();
+	}
+
+}
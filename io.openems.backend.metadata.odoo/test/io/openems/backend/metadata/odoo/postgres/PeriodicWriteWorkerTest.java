@@ -1,24 +1,64 @@
 package io.openems.backend.metadata.odoo.postgres;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
-import java.util.concurrent.LinkedBlockingQueue;
+import java.time.Instant;
+import java.util.List;
 
 import org.junit.Test;
 
+import io.openems.backend.metadata.odoo.MyEdge;
+import io.openems.backend.metadata.odoo.postgres.PgEdgeHandler.EdgeUpdate;
+import io.openems.common.channel.Level;
+
 public class PeriodicWriteWorkerTest {
 
+	private static MyEdge edge(int odooId) {
+		return new MyEdge(null, odooId, "edge" + odooId, "apikey" + odooId, "", "", "", null);
+	}
+
+	@Test
+	public void testCoalesce() {
+		var sut = new PeriodicWriteWorker(null);
+		var edge1 = edge(1);
+		var edge2 = edge(2);
+		sut.onSetOnline(edge1, true);
+		sut.onLastMessage(edge1);
+		sut.onSetSumState(edge1, Level.FAULT);
+		sut.onLastMessage(edge1);
+		sut.onSetSumState(edge1, Level.OK);
+		sut.onSetOnline(edge2, true);
+		sut.onSetOnline(edge2, false);
+
+		var updates = sut.drain();
+		assertEquals(2, updates.size());
+		for (var update : updates) {
+			if (update.odooId() == 1) {
+				assertTrue(update.lastMessage() != null);
+				assertEquals(true, update.isConnected());
+				assertEquals(Level.OK, update.sumState());
+			} else {
+				assertNull(update.lastMessage());
+				assertEquals(false, update.isConnected());
+				assertNull(update.sumState());
+			}
+		}
+		assertEquals(0, sut.drain().size());
+	}
+
 	@Test
-	public void testDrainToSet() {
-		final LinkedBlockingQueue<Integer> queue = new LinkedBlockingQueue<>();
-		queue.add(1);
-		queue.add(2);
-		queue.add(3);
-		queue.add(2);
-		queue.add(4);
-		var set = PeriodicWriteWorker.drainToSet(queue);
-		assertEquals(4, set.size());
-		assertEquals(0, queue.size());
+	public void testBuildUpdateEdgesQuery() {
+		var query = PgEdgeHandler.buildUpdateEdgesQuery(List.of(//
+				new EdgeUpdate(1, Instant.parse("2024-01-02T03:04:05Z"), true, Level.WARNING), //
+				new EdgeUpdate(2, null, null, null)));
+		assertEquals("UPDATE openems_device AS d SET " //
+				+ "lastmessage = COALESCE(v.lastmessage::timestamp, d.lastmessage), " //
+				+ "openems_is_connected = COALESCE(v.openems_is_connected::boolean, d.openems_is_connected), " //
+				+ "openems_sum_state_level = COALESCE(v.openems_sum_state_level, d.openems_sum_state_level) " //
+				+ "FROM (VALUES (1,'2024-01-02T03:04:05',TRUE,'warning'),(2,NULL,NULL,NULL)) " //
+				+ "AS v(id, lastmessage, openems_is_connected, openems_sum_state_level) WHERE d.id = v.id", query);
 	}
 
 }
@@ -6,6 +6,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -27,7 +28,6 @@ import com.google.common.collect.Multimap;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
 import com.influxdb.client.domain.WritePrecision;
-import com.influxdb.client.write.Point;
 
 import io.openems.backend.common.component.AbstractOpenemsBackendComponent;
 import io.openems.backend.common.debugcycle.DebugLoggable;
@@ -46,6 +46,7 @@ import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.utils.StringUtils;
 import io.openems.shared.influxdb.InfluxConnector;
+import io.openems.shared.influxdb.LineProtocolEncoder;
 
 @Designate(ocd = Config.class, factory = true)
 @Component(//
@@ -58,6 +59,8 @@ import io.openems.shared.influxdb.InfluxConnector;
 })
 public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements Timedata, EventHandler, DebugLoggable {
 
+	private static final int MAX_CACHED_FIELDS = 100_000;
+
 	private final Logger log = LoggerFactory.getLogger(TimedataInfluxDb.class);
 	private final FieldTypeConflictHandler fieldTypeConflictHandler;
 
@@ -71,6 +74,9 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 	// edgeId, channelIds which are timestamped channels
 	private final Multimap<Integer, String> timestampedChannelsForEdge = HashMultimap.create();
 
+	// Channel-Address, result of isAllowed()
+	private final ConcurrentHashMap<String, Boolean> allowedFields = new ConcurrentHashMap<>();
+
 	public TimedataInfluxDb() {
 		super("Timedata.InfluxDB");
 		this.fieldTypeConflictHandler = new FieldTypeConflictHandler(this);
@@ -197,6 +203,10 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 			return;
 		}
 
+		// this builds the InfluxDB records ("points") for all timestamps
+		final var encoder = new LineProtocolEncoder(this.config.measurement());
+		final var tag = String.valueOf(influxEdgeId);
+
 		for (var dataEntry : dataEntries) {
 			var channelEntries = dataEntry.getValue().entrySet();
 			if (channelEntries.isEmpty()) {
@@ -211,22 +221,19 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 				continue;
 			}
 
-			// this builds an InfluxDB record ("point") for a given timestamp
-			var point = Point //
-					.measurement(this.config.measurement()) //
-					.addTag(OpenemsOEM.INFLUXDB_TAG, String.valueOf(influxEdgeId)) //
-					.time(timestamp, WritePrecision.MS);
+			encoder.reset(timestamp, WritePrecision.MS) //
+					.addTag(OpenemsOEM.INFLUXDB_TAG, tag);
 			for (var channelEntry : channelEntries) {
 				if (!shouldWriteValue.apply(influxEdgeId, channelEntry.getKey())) {
 					continue;
 				}
 				this.addValue(//
-						point, //
+						encoder, //
 						channelEntry.getKey(), //
 						channelEntry.getValue());
 			}
 
-			this.influxConnector.write(point);
+			this.influxConnector.write(encoder);
 		}
 	}
 
@@ -275,13 +282,13 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 	/**
 	 * Adds the value in the correct data format for InfluxDB.
 	 *
-	 * @param builder the Influx PointBuilder
+	 * @param builder the {@link LineProtocolEncoder}
 	 * @param field   the field name
 	 * @param element the value
 	 */
-	private void addValue(Point builder, String field, JsonElement element) {
+	private void addValue(LineProtocolEncoder builder, String field, JsonElement element) {
 		if (element == null || element.isJsonNull() //
-				|| !isAllowed(field) // Channel-Address is not allowed/blacklisted
+				|| !this.isAllowedCached(field) // Channel-Address is not allowed/blacklisted
 				// already handled by special case handling
 				|| this.specialCaseFieldHandling(builder, field, element)) {
 			return;
@@ -353,12 +360,12 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 	 * E.g. to avoid errors like "field type conflict: input field XYZ on
 	 * measurement "data" is type integer, already exists as type string"
 	 *
-	 * @param builder the InfluxDB Builder
+	 * @param builder the {@link LineProtocolEncoder}
 	 * @param field   the fieldName, i.e. the ChannelAddress
 	 * @param value   the value, guaranteed to be not-null and not JsonNull.
 	 * @return true if field was handled; false otherwise
 	 */
-	private boolean specialCaseFieldHandling(Point builder, String field, JsonElement value) {
+	private boolean specialCaseFieldHandling(LineProtocolEncoder builder, String field, JsonElement value) {
 		var handler = this.fieldTypeConflictHandler.getHandler(field);
 		if (handler == null) {
 			// no special handling exists for this field
@@ -438,6 +445,28 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 		return true;
 	}
 
+	/**
+	 * Same as {@link #isAllowed(String)}, but caches the result per
+	 * Channel-Address.
+	 *
+	 * @param channelAddress the Channel-Address
+	 * @return true if the Channel-Address is allowed
+	 */
+	private boolean isAllowedCached(String channelAddress) {
+		if (channelAddress == null) {
+			return false;
+		}
+		var result = this.allowedFields.get(channelAddress);
+		if (result != null) {
+			return result;
+		}
+		result = isAllowed(channelAddress);
+		if (this.allowedFields.size() < MAX_CACHED_FIELDS) {
+			this.allowedFields.put(channelAddress, result);
+		}
+		return result;
+	}
+
 	@Override
 	public String debugLog() {
 		return "[" + this.getName() + "] " + this.config.id() + " " + this.influxConnector.debugLog();
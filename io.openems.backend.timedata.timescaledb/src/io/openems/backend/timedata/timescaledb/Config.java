@@ -33,6 +33,9 @@ public @interface Config {
 	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the number of threads dedicated to handle the tasks")
 	int poolSize() default 10;
 
+	@AttributeDefinition(name = "Rollup Timezone", description = "The timezone the daily rollups are aligned to")
+	String rollupTimezone() default "Europe/Berlin";
+
 	String webconsole_configurationFactory_nameHint() default "Timedata.TimescaleDB";
 
 }
@@ -2,11 +2,10 @@ package io.openems.backend.timedata.timescaledb;
 
 import java.sql.SQLException;
 import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -18,8 +17,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 
 import io.openems.backend.common.component.AbstractOpenemsBackendComponent;
+import io.openems.backend.common.debugcycle.DebugLoggable;
 import io.openems.backend.common.metadata.Metadata;
 import io.openems.backend.common.timedata.Timedata;
 import io.openems.backend.timedata.timescaledb.internal.read.TimescaledbReadHandler;
@@ -30,7 +31,6 @@ import io.openems.common.jsonrpc.notification.ResendDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
-import io.openems.common.utils.ThreadPoolUtils;
 
 @Designate(ocd = Config.class, factory = false)
 @Component(//
@@ -38,7 +38,7 @@ import io.openems.common.utils.ThreadPoolUtils;
 		configurationPolicy = ConfigurationPolicy.REQUIRE, //
 		immediate = true //
 )
-public class TimedataTimescaleDb extends AbstractOpenemsBackendComponent implements Timedata {
+public class TimedataTimescaleDb extends AbstractOpenemsBackendComponent implements Timedata, DebugLoggable {
 
 	private final Logger log = LoggerFactory.getLogger(TimedataTimescaleDb.class);
 
@@ -46,8 +46,6 @@ public class TimedataTimescaleDb extends AbstractOpenemsBackendComponent impleme
 	private final TimescaledbWriteHandler timescaledbWriteHandler;
 	private final TimescaledbReadHandler timescaledbReadHandler;
 
-	private final ScheduledExecutorService debugLogExecutor = Executors.newSingleThreadScheduledExecutor();
-
 	@Activate
 	public TimedataTimescaleDb(@Reference Metadata metadata, Config config) throws SQLException {
 		super("Timedata.TimescaleDB");
@@ -65,14 +63,6 @@ public class TimedataTimescaleDb extends AbstractOpenemsBackendComponent impleme
 				// Schema is initialized
 				schema -> this.timescaledbReadHandler.setSchema(schema) //
 		);
-
-		this.debugLogExecutor.scheduleWithFixedDelay(() -> {
-			// Debug-Log
-			this.log.info(new StringBuilder("[TimescaleDB] [monitor] ") //
-					.append(this.timescaledbWriteHandler.debugLog()) //
-					.toString());
-		}, 10, 10, TimeUnit.SECONDS);
-
 	}
 
 	@Deactivate
@@ -80,7 +70,6 @@ public class TimedataTimescaleDb extends AbstractOpenemsBackendComponent impleme
 		this.logInfo(this.log, "Deactivate");
 		this.timescaledbWriteHandler.deactivate();
 		this.timescaledbReadHandler.deactivate();
-		ThreadPoolUtils.shutdownAndAwaitTermination(this.debugLogExecutor, 0);
 	}
 
 	@Override
@@ -124,4 +113,20 @@ public class TimedataTimescaleDb extends AbstractOpenemsBackendComponent impleme
 		return this.config.id();
 	}
 
+	@Override
+	public String debugLog() {
+		return new StringBuilder("[TimescaleDB] [monitor] ") //
+				.append(this.timescaledbWriteHandler.debugLog()) //
+				.toString();
+	}
+
+	@Override
+	public Map<String, JsonElement> debugMetrics() {
+		final var metrics = new HashMap<String, JsonElement>();
+		this.timescaledbWriteHandler.debugMetrics().forEach((key, value) -> {
+			metrics.put(this.config.id() + "/Write/" + key, new JsonPrimitive(value));
+		});
+		return metrics;
+	}
+
 }
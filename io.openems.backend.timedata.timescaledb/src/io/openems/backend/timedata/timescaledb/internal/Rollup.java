@@ -0,0 +1,113 @@
+package io.openems.backend.timedata.timescaledb.internal;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+import io.openems.common.timedata.Resolution;
+
+/**
+ * The continuous aggregates ('rollups') that are maintained per {@link Type}
+ * and {@link Priority}.
+ *
+ * <p>
+ * The 5-minute rollup is aggregated from the raw table; every coarser rollup
+ * is aggregated hierarchically from the next finer one. Daily buckets are
+ * aligned to the configured rollup timezone.
+ */
+public enum Rollup {
+	FIVE_MINUTES("5m", "5 minutes", 60 * 5), //
+	ONE_HOUR("1h", "1 hour", 60 * 60), //
+	ONE_DAY("1d", "1 day", 60 * 60 * 24), //
+	;
+
+	private final String tableSuffix;
+	public final String bucketInterval;
+	private final int bucketSeconds;
+
+	private Rollup(String tableSuffix, String bucketInterval, int bucketSeconds) {
+		this.tableSuffix = tableSuffix;
+		this.bucketInterval = bucketInterval;
+		this.bucketSeconds = bucketSeconds;
+	}
+
+	public String getTableSuffix() {
+		return this.tableSuffix;
+	}
+
+	/**
+	 * Gets the next finer {@link Rollup} this one is aggregated from.
+	 *
+	 * @return the source Rollup; null if this Rollup is aggregated from the raw
+	 *         table
+	 */
+	public Rollup getSource() {
+		var ordinal = this.ordinal();
+		return ordinal == 0 ? null : Rollup.values()[ordinal - 1];
+	}
+
+	/**
+	 * Finds the coarsest available {@link Rollup} whose buckets fit exactly into
+	 * the buckets of the given {@link Resolution}. Buckets of the
+	 * {@link Resolution} are expected to be aligned in the timezone of the
+	 * From-Date.
+	 *
+	 * @param fromDate     the From-Date
+	 * @param toDate       the To-Date
+	 * @param resolution   the {@link Resolution}
+	 * @param rollupZone   the timezone of the daily rollup
+	 * @param availableSet the available Rollups
+	 * @return the Rollup; {@link #FIVE_MINUTES} as fallback
+	 */
+	public static Rollup forResolution(ZonedDateTime fromDate, ZonedDateTime toDate, Resolution resolution,
+			ZoneId rollupZone, Set<Rollup> availableSet) {
+		var isCalendar = switch (resolution.getUnit()) {
+		case DAYS, WEEKS, MONTHS, YEARS -> true;
+		default -> false;
+		};
+		if (isCalendar && availableSet.contains(ONE_DAY) //
+				&& fromDate.getZone().getRules().equals(rollupZone.getRules())) {
+			return ONE_DAY;
+		}
+		if (availableSet.contains(ONE_HOUR) //
+				&& (isCalendar || resolution.toSeconds() % ONE_HOUR.bucketSeconds == 0) //
+				&& hasFullHourOffset(fromDate) && hasFullHourOffset(toDate)) {
+			return ONE_HOUR;
+		}
+		return FIVE_MINUTES;
+	}
+
+	/**
+	 * Finds the coarsest available {@link Rollup} whose bucket boundaries match
+	 * the given From-Date and To-Date.
+	 *
+	 * @param fromDate     the From-Date
+	 * @param toDate       the To-Date
+	 * @param rollupZone   the timezone of the daily rollup
+	 * @param availableSet the available Rollups
+	 * @return the Rollup; {@link #FIVE_MINUTES} as fallback
+	 */
+	public static Rollup forPeriod(ZonedDateTime fromDate, ZonedDateTime toDate, ZoneId rollupZone,
+			Set<Rollup> availableSet) {
+		if (availableSet.contains(ONE_DAY) //
+				&& isStartOfDay(fromDate, rollupZone) && isStartOfDay(toDate, rollupZone)) {
+			return ONE_DAY;
+		}
+		if (availableSet.contains(ONE_HOUR) //
+				&& fromDate.toEpochSecond() % ONE_HOUR.bucketSeconds == 0 //
+				&& toDate.toEpochSecond() % ONE_HOUR.bucketSeconds == 0) {
+			return ONE_HOUR;
+		}
+		return FIVE_MINUTES;
+	}
+
+	private static boolean hasFullHourOffset(ZonedDateTime date) {
+		return date.getOffset().getTotalSeconds() % ONE_HOUR.bucketSeconds == 0;
+	}
+
+	private static boolean isStartOfDay(ZonedDateTime date, ZoneId zone) {
+		var instant = date.toInstant();
+		return instant.atZone(zone).toLocalDate().atStartOfDay(zone).toInstant().equals(instant);
+	}
+
+}
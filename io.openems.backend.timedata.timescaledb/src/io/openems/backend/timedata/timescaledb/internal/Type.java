@@ -4,15 +4,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.EnumMap;
 import java.util.Map;
-import java.util.function.Consumer;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonPrimitive;
 
-import de.bytefish.pgbulkinsert.row.SimpleRow;
-import de.bytefish.pgbulkinsert.row.SimpleRowWriter;
-import io.openems.backend.timedata.timescaledb.internal.write.Point;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.function.ThrowingBiFunction;
 import io.openems.common.types.OpenemsType;
@@ -35,7 +31,7 @@ public enum Type {
 	public final String[] aggregateFunctions;
 
 	private final Map<Priority, String> rawTableName = new EnumMap<>(Priority.class);
-	private final Map<Priority, String> aggregate5mTableName = new EnumMap<>(Priority.class);
+	private final Map<Rollup, Map<Priority, String>> aggregateTableName = new EnumMap<>(Rollup.class);
 
 	private final ThrowingBiFunction<ResultSet, Integer, JsonElement, SQLException> parseValueFromResultSet;
 	private final ThrowingBiFunction<JsonElement, JsonElement, JsonElement, OpenemsNamedException> subtractFunction;
@@ -69,27 +65,25 @@ public enum Type {
 	 * @return the table name
 	 */
 	public String getAggregate5mTableName(Priority priority) {
-		return this.aggregate5mTableName.computeIfAbsent(priority, t -> this.baseTableName(priority) + "_5m");
-	}
-
-	private String baseTableName(Priority priority) {
-		return this.prefix + "_" + priority.getTableSuffix();
+		return this.getAggregateTableName(Rollup.FIVE_MINUTES, priority);
 	}
 
 	/**
-	 * Fills a PgBulkInsert Row-Writer with data (timestamp, channel_id and value).
+	 * Gets the aggregate table name of the current type, the specified
+	 * {@link Rollup} and the specified priority.
 	 * 
-	 * @param point the {@link Point} holding data
-	 * @return a {@link Consumer} as required by
-	 *         {@link SimpleRowWriter#startRow(Consumer)}
-	 * @throws Exception on error
+	 * @param rollup   the {@link Rollup}
+	 * @param priority the priority of the table
+	 * @return the table name
 	 */
-	public Consumer<SimpleRow> fillRow(Point point) {
-		return row -> {
-			row.setTimeStampTz(0 /* index of 'time' column */, point.timestamp);
-			row.setInteger(1 /* index of 'channel_id' column */, point.channelId);
-			point.addToSimpleRow(row, 2 /* index of 'value' column */);
-		};
+	public String getAggregateTableName(Rollup rollup, Priority priority) {
+		return this.aggregateTableName //
+				.computeIfAbsent(rollup, r -> new EnumMap<>(Priority.class)) //
+				.computeIfAbsent(priority, t -> this.baseTableName(priority) + "_" + rollup.getTableSuffix());
+	}
+
+	private String baseTableName(Priority priority) {
+		return this.prefix + "_" + priority.getTableSuffix();
 	}
 
 	/**
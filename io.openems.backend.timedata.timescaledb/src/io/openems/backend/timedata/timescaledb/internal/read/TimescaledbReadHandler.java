@@ -1,14 +1,19 @@
 package io.openems.backend.timedata.timescaledb.internal.read;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -20,7 +25,10 @@ import com.google.gson.JsonElement;
 import com.zaxxer.hikari.HikariDataSource;
 
 import io.openems.backend.timedata.timescaledb.Config;
+import io.openems.backend.timedata.timescaledb.internal.Priority;
+import io.openems.backend.timedata.timescaledb.internal.Rollup;
 import io.openems.backend.timedata.timescaledb.internal.Schema;
+import io.openems.backend.timedata.timescaledb.internal.Type;
 import io.openems.backend.timedata.timescaledb.internal.Utils;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
@@ -30,10 +38,30 @@ import io.openems.common.types.ChannelAddress;
 
 public class TimescaledbReadHandler {
 
+	/** The names of the continuous aggregates are reloaded after [s]. */
+	private static final long AGGREGATE_TABLES_TTL = 3600;
+
+	/** A failed query for the continuous aggregates is retried after [s]. */
+	private static final long AGGREGATE_TABLES_ERROR_TTL = 60;
+
+	private static record AggregateTables(Set<String> names, long expiresAt) {
+	}
+
 	private final Logger log = LoggerFactory.getLogger(TimescaledbReadHandler.class);
 
 	private final AtomicReference<Schema> schema = new AtomicReference<>();
 
+	/**
+	 * The names of the existing continuous aggregates; loaded on first query and
+	 * reloaded after {@link #AGGREGATE_TABLES_TTL}.
+	 */
+	private final AtomicReference<AggregateTables> aggregateTables = new AtomicReference<>();
+
+	/**
+	 * The timezone the daily {@link Rollup}s are aligned to.
+	 */
+	private final ZoneId rollupZone;
+
 	/**
 	 * A {@link HikariDataSource} used solely for reads.
 	 */
@@ -43,6 +71,7 @@ public class TimescaledbReadHandler {
 		this.dataSource = Utils.getDataSource(//
 				config.host(), config.port(), config.database(), //
 				config.user(), config.password(), config.poolSize());
+		this.rollupZone = ZoneId.of(config.rollupTimezone());
 	}
 
 	/**
@@ -92,19 +121,22 @@ public class TimescaledbReadHandler {
 
 					final var priority = priorityEntry.getKey();
 					final var ids = priorityEntry.getValue();
+					final var rollup = Rollup.forResolution(fromDate, toDate, resolution, this.rollupZone,
+							this.getAvailableRollups(con, type, priority));
 
 					// Build custom SQL for PreparedStatement
 					var sql = "SELECT" //
-							+ "    time_bucket(" //
+							+ "    timescaledb_experimental.time_bucket_ng(" //
 							+ "        ?::interval," // [1] Resolution
-							+ "        data.time)," //
+							+ "        data.time," //
+							+ "        timezone => ?)," // [2] timezone
 							+ "    data.edge_channel_id," //
 							+ "    " + type.defaultAggregateFunction + "(data." + type.defaultAggregateFunction + ") " //
-							+ "FROM " + type.getAggregate5mTableName(priority) + " data " //
+							+ "FROM " + type.getAggregateTableName(rollup, priority) + " data " //
 							+ "WHERE" //
 							+ "    data.edge_channel_id IN (" //
 							+ ids.keySet().stream() //
-									.map(c -> "?") // [2++] Channel-ID
+									.map(c -> "?") // [3++] Channel-ID
 									.collect(Collectors.joining(",")) //
 							+ "    ) AND" //
 							+ "    data.time >= ? AND" // [n-1] FromDate
@@ -119,6 +151,7 @@ public class TimescaledbReadHandler {
 						// https://jdbc.postgresql.org/documentation/query/#using-java-8-date-and-time-classes
 						var i = 1;
 						pst.setString(i++, Utils.toSqlInterval(resolution));
+						pst.setString(i++, fromDate.getZone().getId());
 						for (var id : ids.keySet()) {
 							pst.setInt(i++, id);
 						}
@@ -180,12 +213,14 @@ public class TimescaledbReadHandler {
 
 					final var priority = priorityEntry.getKey();
 					final var ids = priorityEntry.getValue();
+					final var rollup = Rollup.forPeriod(fromDate, toDate, this.rollupZone,
+							this.getAvailableRollups(con, type, priority));
 
 					// Build custom SQL for PreparedStatement
 					var sql = "SELECT" //
 							+ "	   d.edge_channel_id," //
 							+ "    LAST(\"max\", d.time) - FIRST(\"min\", d.time) " //
-							+ "FROM " + type.getAggregate5mTableName(priority) + " d " //
+							+ "FROM " + type.getAggregateTableName(rollup, priority) + " d " //
 							+ "WHERE" //
 							+ "    d.edge_channel_id = ANY (?) AND" // [1] Channel-ID
 							+ "    d.time >= ? AND" // [2] FromDate
@@ -257,6 +292,8 @@ public class TimescaledbReadHandler {
 
 					final var priority = priorityEntry.getKey();
 					final var ids = priorityEntry.getValue();
+					final var rollup = Rollup.forResolution(fromDate, toDate, resolution, this.rollupZone,
+							this.getAvailableRollups(con, type, priority));
 
 					// Build custom SQL for PreparedStatement
 					var sql = "SELECT" //
@@ -266,7 +303,7 @@ public class TimescaledbReadHandler {
 							+ "        timezone => ?)," // [2] timezone
 							+ "    data.edge_channel_id," //
 							+ "    LAST(\"max\", data.time)" //
-							+ "FROM " + type.getAggregate5mTableName(priority) + " data " //
+							+ "FROM " + type.getAggregateTableName(rollup, priority) + " data " //
 							+ "WHERE" //
 							+ "    data.edge_channel_id = ANY (?) AND" // [3] Channel IDs
 							+ "    data.time >= ? AND" // [4] FromDate
@@ -339,6 +376,50 @@ public class TimescaledbReadHandler {
 		return Collections.emptyMap();
 	}
 
+	/**
+	 * Gets the {@link Rollup}s that exist in the database for the given
+	 * {@link Type} and {@link Priority}. {@link Rollup#FIVE_MINUTES} is always
+	 * assumed to exist.
+	 * 
+	 * @param con      the {@link Connection}
+	 * @param type     the {@link Type}
+	 * @param priority the {@link Priority}
+	 * @return the available Rollups
+	 */
+	private Set<Rollup> getAvailableRollups(Connection con, Type type, Priority priority) {
+		var now = System.nanoTime();
+		var tables = this.aggregateTables.get();
+		if (tables == null || now - tables.expiresAt() > 0) {
+			tables = this.queryAggregateTables(con, now);
+			this.aggregateTables.set(tables);
+		}
+		var result = EnumSet.of(Rollup.FIVE_MINUTES);
+		for (var rollup : Rollup.values()) {
+			if (tables.names().contains(type.getAggregateTableName(rollup, priority))) {
+				result.add(rollup);
+			}
+		}
+		return result;
+	}
+
+	private AggregateTables queryAggregateTables(Connection con, long now) {
+		try (var st = con.createStatement()) {
+			var rs = st.executeQuery("SELECT view_name FROM timescaledb_information.continuous_aggregates");
+			var result = new HashSet<String>();
+			while (rs.next()) {
+				result.add(rs.getString(1));
+			}
+			return new AggregateTables(Collections.unmodifiableSet(result),
+					now + TimeUnit.SECONDS.toNanos(AGGREGATE_TABLES_TTL));
+
+		} catch (SQLException e) {
+			// Use only Rollup.FIVE_MINUTES until the next try
+			this.log.warn("Unable to query continuous aggregates: " + e.getMessage());
+			return new AggregateTables(Collections.emptySet(),
+					now + TimeUnit.SECONDS.toNanos(AGGREGATE_TABLES_ERROR_TTL));
+		}
+	}
+
 	/**
 	 * Gets the Schema, never null. Throws an {@link OpenemsException} if the Schema
 	 * has not been loaded yet.
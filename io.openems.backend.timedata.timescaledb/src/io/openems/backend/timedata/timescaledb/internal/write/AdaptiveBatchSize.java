@@ -0,0 +1,62 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+/**
+ * Adapts the number of Points per write to the measured write duration.
+ *
+ * <p>
+ * The batch size grows while full batches are written faster than the target
+ * duration and shrinks when writes get slower than the target. Growth and
+ * shrinkage are limited to factor 2 per write.
+ */
+public class AdaptiveBatchSize {
+
+	private final int min;
+	private final int max;
+	private final long targetDuration;
+
+	private int value;
+
+	/**
+	 * Creates an {@link AdaptiveBatchSize}.
+	 *
+	 * @param min            the min batch size
+	 * @param max            the max batch size
+	 * @param initial        the initial batch size
+	 * @param targetDuration the target duration of a write in [ms]
+	 */
+	public AdaptiveBatchSize(int min, int max, int initial, long targetDuration) {
+		this.min = min;
+		this.max = max;
+		this.targetDuration = targetDuration;
+		this.value = Math.max(min, Math.min(max, initial));
+	}
+
+	/**
+	 * Gets the current batch size.
+	 *
+	 * @return the batch size
+	 */
+	public int get() {
+		return this.value;
+	}
+
+	/**
+	 * Updates the batch size after a successful write.
+	 *
+	 * @param points   the number of written Points
+	 * @param duration the duration of the write in [ms]
+	 */
+	public void onWrite(int points, long duration) {
+		if (duration > this.targetDuration) {
+			// Too slow -> shrink
+			var next = points * this.targetDuration / duration;
+			this.value = (int) Math.max(this.min, Math.max(this.value / 2, Math.min(this.value, next)));
+
+		} else if (points >= this.value) {
+			// Full batch was fast enough -> grow
+			var next = duration <= 0 ? Long.MAX_VALUE : points * this.targetDuration / duration;
+			this.value = (int) Math.min(this.max, Math.min(this.value * 2L, Math.max(this.value, next)));
+		}
+	}
+
+}
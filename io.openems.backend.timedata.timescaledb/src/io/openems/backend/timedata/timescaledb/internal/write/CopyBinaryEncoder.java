@@ -0,0 +1,142 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Encodes rows of (time, edge_channel_id, value) in the binary format of the
+ * PostgreSQL 'COPY ... FROM STDIN (FORMAT BINARY)' command.
+ *
+ * <p>
+ * The internal buffer is reused for every batch, so encoding does not allocate
+ * once the buffer has grown to the size of a batch.
+ *
+ * @see <a href="https://www.postgresql.org/docs/current/sql-copy.html">COPY
+ *      binary format</a>
+ */
+public class CopyBinaryEncoder {
+
+	private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
+	private static final short NUMBER_OF_COLUMNS = 3;
+
+	/** Milliseconds between 1970-01-01 and the PostgreSQL epoch 2000-01-01. */
+	private static final long POSTGRES_EPOCH_OFFSET = 946_684_800_000L;
+
+	private byte[] buffer;
+	private int size = 0;
+
+	public CopyBinaryEncoder(int initialCapacity) {
+		this.buffer = new byte[Math.max(64, initialCapacity)];
+		this.reset();
+	}
+
+	/**
+	 * Clears the buffer and writes the COPY header.
+	 */
+	public void reset() {
+		this.size = 0;
+		this.putBytes(SIGNATURE, SIGNATURE.length);
+		this.putInt(0); // Flags
+		this.putInt(0); // Header extension length
+	}
+
+	/**
+	 * Adds a row for the given {@link Point}.
+	 *
+	 * @param point the {@link Point}
+	 */
+	public void add(Point point) {
+		this.putShort(NUMBER_OF_COLUMNS);
+		// time: TIMESTAMPTZ as microseconds since PostgreSQL epoch
+		this.putInt(8);
+		this.putLong((point.timestamp - POSTGRES_EPOCH_OFFSET) * 1000);
+		// edge_channel_id: INTEGER
+		this.putInt(4);
+		this.putInt(point.channelId);
+		// value
+		point.encodeValue(this);
+	}
+
+	/**
+	 * Adds a BIGINT value.
+	 *
+	 * @param value the value
+	 */
+	public void addBigint(long value) {
+		this.putInt(8);
+		this.putLong(value);
+	}
+
+	/**
+	 * Adds a DOUBLE PRECISION value.
+	 *
+	 * @param value the value
+	 */
+	public void addDouble(double value) {
+		this.putInt(8);
+		this.putLong(Double.doubleToRawLongBits(value));
+	}
+
+	/**
+	 * Adds a TEXT value.
+	 *
+	 * @param value the value
+	 */
+	public void addText(String value) {
+		var bytes = value.getBytes(StandardCharsets.UTF_8);
+		this.putInt(bytes.length);
+		this.putBytes(bytes, bytes.length);
+	}
+
+	/**
+	 * Writes the COPY trailer. Call {@link #reset()} before adding new rows.
+	 */
+	public void finish() {
+		this.putShort((short) -1);
+	}
+
+	/**
+	 * Gets the internal buffer; valid up to {@link #size()}.
+	 *
+	 * @return the buffer
+	 */
+	public byte[] buffer() {
+		return this.buffer;
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	private void ensureCapacity(int additional) {
+		if (this.size + additional > this.buffer.length) {
+			this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.size + additional));
+		}
+	}
+
+	private void putBytes(byte[] bytes, int length) {
+		this.ensureCapacity(length);
+		System.arraycopy(bytes, 0, this.buffer, this.size, length);
+		this.size += length;
+	}
+
+	private void putShort(short value) {
+		this.ensureCapacity(2);
+		this.buffer[this.size++] = (byte) (value >> 8);
+		this.buffer[this.size++] = (byte) value;
+	}
+
+	private void putInt(int value) {
+		this.ensureCapacity(4);
+		this.buffer[this.size++] = (byte) (value >> 24);
+		this.buffer[this.size++] = (byte) (value >> 16);
+		this.buffer[this.size++] = (byte) (value >> 8);
+		this.buffer[this.size++] = (byte) value;
+	}
+
+	private void putLong(long value) {
+		this.putInt((int) (value >> 32));
+		this.putInt((int) value);
+	}
+
+}
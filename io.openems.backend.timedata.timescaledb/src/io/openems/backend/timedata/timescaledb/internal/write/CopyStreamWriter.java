@@ -0,0 +1,107 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.openems.backend.timedata.timescaledb.internal.Priority;
+import io.openems.backend.timedata.timescaledb.internal.Type;
+
+/**
+ * Writes {@link Point}s of one {@link Type} and {@link Priority} via binary
+ * COPY.
+ *
+ * <p>
+ * The writer keeps its own database connection and {@link CopyManager} for its
+ * whole lifetime; it is only reopened after an error. Every batch is sent as
+ * one COPY command, because rows of a COPY only become visible when the
+ * command is finished.
+ *
+ * <p>
+ * This class is not thread-safe; it is used only by its
+ * {@link MergePointsWorker}.
+ */
+public class CopyStreamWriter {
+
+	private final HikariDataSource dataSource;
+	private final String sql;
+	private final CopyBinaryEncoder encoder = new CopyBinaryEncoder(1024 * 1024);
+
+	private Connection connection = null;
+	private CopyManager copyManager = null;
+
+	public CopyStreamWriter(HikariDataSource dataSource, Type type, Priority priority) {
+		this.dataSource = dataSource;
+		this.sql = "COPY " + type.getRawTableName(priority) //
+				+ " (time, edge_channel_id, value) FROM STDIN (FORMAT BINARY)";
+	}
+
+	/**
+	 * Writes the {@link Point}s in one COPY command.
+	 *
+	 * @param points the {@link Point}s
+	 * @throws SQLException on error; the connection is closed then
+	 */
+	public void write(List<? extends Point> points) throws SQLException {
+		this.encoder.reset();
+		for (var point : points) {
+			this.encoder.add(point);
+		}
+		this.encoder.finish();
+
+		CopyIn copyIn = null;
+		try {
+			copyIn = this.getCopyManager().copyIn(this.sql);
+			copyIn.writeToCopy(this.encoder.buffer(), 0, this.encoder.size());
+			copyIn.endCopy();
+
+		} catch (SQLException e) {
+			if (copyIn != null && copyIn.isActive()) {
+				try {
+					copyIn.cancelCopy();
+				} catch (SQLException e1) {
+					// ignore
+				}
+			}
+			this.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Closes the database connection.
+	 */
+	public void close() {
+		this.copyManager = null;
+		if (this.connection != null) {
+			try {
+				this.connection.close();
+			} catch (SQLException e) {
+				// ignore
+			}
+			this.connection = null;
+		}
+	}
+
+	private CopyManager getCopyManager() throws SQLException {
+		if (this.copyManager == null) {
+			var connection = this.dataSource.getConnection();
+			try {
+				connection.setAutoCommit(true);
+				this.copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+				this.connection = connection;
+			} catch (SQLException e) {
+				connection.close();
+				throw e;
+			}
+		}
+		return this.copyManager;
+	}
+
+}
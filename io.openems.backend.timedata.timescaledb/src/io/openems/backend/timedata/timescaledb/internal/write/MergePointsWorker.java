@@ -1,12 +1,16 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
-import java.time.Instant;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -14,76 +18,167 @@ import io.openems.backend.timedata.timescaledb.internal.Priority;
 import io.openems.backend.timedata.timescaledb.internal.Type;
 import io.openems.common.worker.AbstractImmediateWorker;
 
+/**
+ * Merges single {@link Point}s of one {@link Type} and {@link Priority} to
+ * batches and writes them via a {@link CopyStreamWriter}.
+ *
+ * <ul>
+ * <li>The batch size adapts to the write duration, see
+ * {@link AdaptiveBatchSize}
+ * <li>If writing is slower than the incoming Points, the queue fills up and
+ * {@link #offer(Point)} blocks the producer for up to
+ * {@link TimescaledbWriteHandler#MAX_OFFER_WAIT}; only then Points are dropped
+ * <li>A failed batch is retried up to
+ * {@link TimescaledbWriteHandler#MAX_WRITE_ATTEMPTS} times
+ * </ul>
+ */
 public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWorker {
 
-	private final HikariDataSource dataSource;
-	private final ExecutorService executor;
-	private final Type type;
-	private final Priority priority;
-	// TODO queue: delete old entries if full; like an EvictingQueue;
-	// https://github.com/google/guava/issues/3882
+	private final Logger log = LoggerFactory.getLogger(MergePointsWorker.class);
+
+	private final CopyStreamWriter writer;
 	private final BlockingQueue<POINT> queue = new ArrayBlockingQueue<>(TimescaledbWriteHandler.POINTS_QUEUE_SIZE);
-	private long countPoints = 0;
+	private final AdaptiveBatchSize batchSize = new AdaptiveBatchSize(//
+			TimescaledbWriteHandler.MIN_POINTS_PER_WRITE, //
+			TimescaledbWriteHandler.MAX_POINTS_PER_WRITE, //
+			TimescaledbWriteHandler.INITIAL_POINTS_PER_WRITE, //
+			TimescaledbWriteHandler.TARGET_WRITE_DURATION);
+
+	/** The current batch; kept for a retry on error. */
+	private final List<POINT> points = new ArrayList<>();
+
+	private final LongAdder countPoints = new LongAdder();
+	private final LongAdder countDropped = new LongAdder();
+	private final LongAdder countFailedWrites = new LongAdder();
 
-	public MergePointsWorker(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-		this.dataSource = dataSource;
-		this.executor = executor;
-		this.type = type;
-		this.priority = priority;
+	/** Set after an offer timed out; reset after the next successful write. */
+	private volatile boolean isOverloaded = false;
+	private volatile long lastWriteDuration = 0; // [ms]
+	private volatile long lastThroughput = 0; // [points/s]
+	private int writeAttempts = 0;
+
+	public MergePointsWorker(HikariDataSource dataSource, Type type, Priority priority) {
+		this.writer = new CopyStreamWriter(dataSource, type, priority);
 	}
 
-	public BlockingQueue<POINT> getQueue() {
-		return this.queue;
+	/**
+	 * Adds a {@link Point} to the queue.
+	 *
+	 * <p>
+	 * If the queue is full, this method blocks for up to
+	 * {@link TimescaledbWriteHandler#MAX_OFFER_WAIT} seconds. While the writer is
+	 * overloaded, i.e. after a timed out offer until the next successful write,
+	 * Points are dropped immediately.
+	 *
+	 * @param point the {@link Point}
+	 * @return true if the Point was added to the queue; false if it was dropped
+	 */
+	public boolean offer(POINT point) {
+		if (this.queue.offer(point)) {
+			return true;
+		}
+		if (!this.isOverloaded) {
+			try {
+				if (this.queue.offer(point, TimescaledbWriteHandler.MAX_OFFER_WAIT, TimeUnit.SECONDS)) {
+					return true;
+				}
+				this.isOverloaded = true;
+				this.log.warn("Queue is full. Dropping Points until next successful write.");
+
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		this.countDropped.increment();
+		return false;
 	}
 
 	@Override
 	protected void forever() throws InterruptedException {
-		/**
-		 * This task merges single Points to Lists of Points, which are then sent to
-		 * TimescaleDB. This approach improves speed as not every single Point gets sent
-		 * via HTTP individually.
-		 */
-		// Poll and merge Points. Wait max 10 seconds in total.
-		var points = pollAndMergePoints(this.queue);
-
-		if (points.isEmpty()) {
+		if (this.points.isEmpty()) {
+			// Poll and merge Points. Wait max 10 seconds in total.
+			pollAndMergePoints(this.queue, this.points, this.batchSize.get());
+			if (this.points.isEmpty()) {
+				return;
+			}
+		}
+
+		var size = this.points.size();
+		var start = System.nanoTime();
+		try {
+			this.writer.write(this.points);
+
+		} catch (SQLException e) {
+			// 'Expected errors', e.g. PostgreSQL server stopped
+			// -> short error log
+			this.onWriteFailed("Unable to write Points. " + e.getClass().getSimpleName() + ": " + e.getMessage());
+			return;
+
+		} catch (Exception e) {
+			// 'Unexpected errors' -> long stacktrace
+			this.onWriteFailed("Unable to write Points. " + e.getClass().getSimpleName() + ": " + e.getMessage());
+			e.printStackTrace();
 			return;
 		}
 
-		this.countPoints += points.size();
+		var duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		this.batchSize.onWrite(size, duration);
+		this.countPoints.add(size);
+		this.lastWriteDuration = duration;
+		this.lastThroughput = size * 1000L / Math.max(1, duration);
+		this.points.clear();
+		this.writeAttempts = 0;
+		this.isOverloaded = false;
+	}
 
-		// Write points async.
-		this.executor.execute(new WritePointsHandler(this.dataSource, this.type, this.priority, points));
+	private void onWriteFailed(String message) throws InterruptedException {
+		this.countFailedWrites.increment();
+		this.writeAttempts++;
+		if (this.writeAttempts < TimescaledbWriteHandler.MAX_WRITE_ATTEMPTS) {
+			this.log.error(message + " Retrying [" + this.writeAttempts + "/"
+					+ TimescaledbWriteHandler.MAX_WRITE_ATTEMPTS + "]");
+		} else {
+			this.log.error(message + " Dropping [" + this.points.size() + "] Points");
+			this.countDropped.add(this.points.size());
+			this.points.clear();
+			this.writeAttempts = 0;
+		}
+		// Meanwhile the queue is filling up and producers are slowed down
+		Thread.sleep(TimeUnit.SECONDS.toMillis(TimescaledbWriteHandler.WRITE_RETRY_DELAY));
 	}
 
 	/**
 	 * Poll and merge Points. Wait max 10 seconds in total.
-	 * 
-	 * @param <POINT> the type of the Point
-	 * @param queue   the Queue of Points
-	 * @return a list of Points
+	 *
+	 * @param <POINT>   the type of the Point
+	 * @param queue     the Queue of Points
+	 * @param points    the list to add the Points to
+	 * @param maxPoints the max number of Points
 	 * @throws InterruptedException on error
 	 */
-	private static <POINT extends Point> List<Point> pollAndMergePoints(BlockingQueue<POINT> queue)
-			throws InterruptedException {
-		final Instant maxWait = Instant.now().plusSeconds(TimescaledbWriteHandler.MAX_AGGREGATE_WAIT);
-		List<Point> points = new ArrayList<>(TimescaledbWriteHandler.MAX_POINTS_PER_WRITE);
-		for (int i = 0; i < TimescaledbWriteHandler.MAX_POINTS_PER_WRITE; i++) {
-			var point = queue.poll(TimescaledbWriteHandler.MAX_AGGREGATE_WAIT, TimeUnit.SECONDS);
-			if (point == null) {
+	protected static <POINT extends Point> void pollAndMergePoints(BlockingQueue<POINT> queue, List<POINT> points,
+			int maxPoints) throws InterruptedException {
+		final var maxWait = System.nanoTime() + TimeUnit.SECONDS.toNanos(TimescaledbWriteHandler.MAX_AGGREGATE_WAIT);
+		while (points.size() < maxPoints) {
+			// Take all immediately available Points
+			if (queue.drainTo(points, maxPoints - points.size()) > 0) {
+				continue;
+			}
+			var wait = maxWait - System.nanoTime();
+			if (wait <= 0) {
 				break;
 			}
-			points.add(point);
-			if (Instant.now().isAfter(maxWait)) {
+			var point = queue.poll(wait, TimeUnit.NANOSECONDS);
+			if (point == null) {
 				break;
 			}
+			points.add(point);
 		}
-		return points;
 	}
 
 	/**
 	 * Returns a DebugLog String.
-	 * 
+	 *
 	 * @return debug log
 	 */
 	public String debugLog() {
@@ -92,7 +187,30 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 				.append("/") //
 				.append(TimescaledbWriteHandler.POINTS_QUEUE_SIZE) //
 				.append("|Total:") //
-				.append(this.countPoints) //
+				.append(this.countPoints.sum()) //
+				.append("|Dropped:") //
+				.append(this.countDropped.sum()) //
+				.append("|Batch:") //
+				.append(this.batchSize.get()) //
 				.toString();
 	}
+
+	/**
+	 * Returns a DebugMetrics map.
+	 *
+	 * @return metrics
+	 */
+	public Map<String, Number> debugMetrics() {
+		var queueSize = this.queue.size();
+		return Map.<String, Number>of(//
+				"QueueSize", queueSize, //
+				"QueueFill", queueSize * 100 / TimescaledbWriteHandler.POINTS_QUEUE_SIZE, //
+				"Written", this.countPoints.sum(), //
+				"Dropped", this.countDropped.sum(), //
+				"FailedWrites", this.countFailedWrites.sum(), //
+				"BatchSize", this.batchSize.get(), //
+				"WriteDuration", this.lastWriteDuration, //
+				"Throughput", this.lastThroughput //
+		);
+	}
 }
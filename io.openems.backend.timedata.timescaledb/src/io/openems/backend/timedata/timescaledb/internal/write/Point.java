@@ -1,15 +1,12 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
-import java.time.ZonedDateTime;
-
-import de.bytefish.pgbulkinsert.row.SimpleRow;
-
 public abstract class Point {
 
 	public final int channelId;
-	public final ZonedDateTime timestamp;
+	/** Timestamp in epoch milliseconds. */
+	public final long timestamp;
 
-	private Point(int channelId, ZonedDateTime timestamp) {
+	private Point(int channelId, long timestamp) {
 		this.channelId = channelId;
 		this.timestamp = timestamp;
 	}
@@ -18,14 +15,14 @@ public abstract class Point {
 
 		public final long value;
 
-		public IntPoint(int channelId, ZonedDateTime timestamp, long value) {
+		public IntPoint(int channelId, long timestamp, long value) {
 			super(channelId, timestamp);
 			this.value = value;
 		}
 
 		@Override
-		public void addToSimpleRow(SimpleRow row, int column) {
-			row.setLong(column, this.value);
+		public void encodeValue(CopyBinaryEncoder encoder) {
+			encoder.addBigint(this.value);
 		}
 
 		@Override
@@ -38,14 +35,14 @@ public abstract class Point {
 
 		public final double value;
 
-		public FloatPoint(int channelId, ZonedDateTime timestamp, double value) {
+		public FloatPoint(int channelId, long timestamp, double value) {
 			super(channelId, timestamp);
 			this.value = value;
 		}
 
 		@Override
-		public void addToSimpleRow(SimpleRow row, int column) {
-			row.setDouble(column, this.value);
+		public void encodeValue(CopyBinaryEncoder encoder) {
+			encoder.addDouble(this.value);
 		}
 
 		@Override
@@ -58,14 +55,14 @@ public abstract class Point {
 
 		public final String value;
 
-		public StringPoint(int channelId, ZonedDateTime timestamp, String value) {
+		public StringPoint(int channelId, long timestamp, String value) {
 			super(channelId, timestamp);
 			this.value = value;
 		}
 
 		@Override
-		public void addToSimpleRow(SimpleRow row, int column) {
-			row.setText(column, this.value);
+		public void encodeValue(CopyBinaryEncoder encoder) {
+			encoder.addText(this.value);
 		}
 
 		@Override
@@ -75,11 +72,10 @@ public abstract class Point {
 	}
 
 	/**
-	 * Adds the Point to a {@link SimpleRow} for pgBulkInsert.
-	 * 
-	 * @param row    the {@link SimpleRow}
-	 * @param column the index of the column in the SimpleRow
+	 * Adds the value of the Point to a {@link CopyBinaryEncoder}.
+	 *
+	 * @param encoder the {@link CopyBinaryEncoder}
 	 */
-	public abstract void addToSimpleRow(SimpleRow row, int column);
+	public abstract void encodeValue(CopyBinaryEncoder encoder);
 
-}
\ No newline at end of file
+}
@@ -1,10 +1,5 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
-import java.time.Instant;
-import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
-import java.util.concurrent.ExecutorService;
-
 import com.google.gson.JsonElement;
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -38,12 +33,11 @@ public abstract class QueueHandler<T extends Point> {
 	 * @throws OpenemsNamedException on error
 	 */
 	public boolean offer(ChannelRecord channel, long timestamp, JsonElement json) throws OpenemsNamedException {
-		var time = ZonedDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneOffset.UTC);
-		var value = this.dataToPointConverter(channel, time, json);
+		var value = this.dataToPointConverter(channel, timestamp, json);
 		if (value == null) {
 			return false;
 		}
-		return this.mergePointsWorker.getQueue().offer(value);
+		return this.mergePointsWorker.offer(value);
 	}
 
 	public MergePointsWorker<T> getMergePointsWorker() {
@@ -63,7 +57,7 @@ public abstract class QueueHandler<T extends Point> {
 		return sb.toString();
 	}
 
-	protected abstract T dataToPointConverter(ChannelRecord channel, ZonedDateTime time, JsonElement json)
+	protected abstract T dataToPointConverter(ChannelRecord channel, long timestamp, JsonElement json)
 			throws OpenemsNamedException;
 
 	/**
@@ -79,72 +73,70 @@ public abstract class QueueHandler<T extends Point> {
 	 * @param type       the type of the handler
 	 * @param priority   the priority of the handler
 	 * @param dataSource the dataSource to get database connections
-	 * @param executor   the executor to execute writes
 	 * @return the handler
 	 */
-	public static QueueHandler<?> of(Type type, Priority priority, HikariDataSource dataSource,
-			ExecutorService executor) {
+	public static QueueHandler<?> of(Type type, Priority priority, HikariDataSource dataSource) {
 		switch (type) {
 		case INTEGER:
-			return new IntQueueHandler(dataSource, executor, type, priority);
+			return new IntQueueHandler(dataSource, type, priority);
 		case FLOAT:
-			return new FloatQueueHandler(dataSource, executor, type, priority);
+			return new FloatQueueHandler(dataSource, type, priority);
 		case STRING:
-			return new StringQueueHandler(dataSource, executor, type, priority);
+			return new StringQueueHandler(dataSource, type, priority);
 		}
 		return null;
 	}
 
 	public static class IntQueueHandler extends QueueHandler<IntPoint> {
 
-		public IntQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-			super(new MergePointsWorker<IntPoint>(dataSource, executor, type, priority), IntPoint.class);
+		public IntQueueHandler(HikariDataSource dataSource, Type type, Priority priority) {
+			super(new MergePointsWorker<IntPoint>(dataSource, type, priority), IntPoint.class);
 		}
 
 		@Override
-		protected IntPoint dataToPointConverter(ChannelRecord channel, ZonedDateTime time, JsonElement json)
+		protected IntPoint dataToPointConverter(ChannelRecord channel, long timestamp, JsonElement json)
 				throws OpenemsNamedException {
 			Long value = JsonUtils.getAsType(OpenemsType.LONG, json);
 			if (value == null) {
 				return null;
 			}
-			return new IntPoint(channel.id, time, value);
+			return new IntPoint(channel.id, timestamp, value);
 		}
 
 	}
 
 	public static class FloatQueueHandler extends QueueHandler<FloatPoint> {
 
-		public FloatQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-			super(new MergePointsWorker<FloatPoint>(dataSource, executor, type, priority), FloatPoint.class);
+		public FloatQueueHandler(HikariDataSource dataSource, Type type, Priority priority) {
+			super(new MergePointsWorker<FloatPoint>(dataSource, type, priority), FloatPoint.class);
 		}
 
 		@Override
-		protected FloatPoint dataToPointConverter(ChannelRecord channel, ZonedDateTime time, JsonElement json)
+		protected FloatPoint dataToPointConverter(ChannelRecord channel, long timestamp, JsonElement json)
 				throws OpenemsNamedException {
 			Double value = JsonUtils.getAsType(OpenemsType.DOUBLE, json);
 			if (value == null) {
 				return null;
 			}
-			return new FloatPoint(channel.id, time, value);
+			return new FloatPoint(channel.id, timestamp, value);
 		}
 
 	}
 
 	public static class StringQueueHandler extends QueueHandler<StringPoint> {
 
-		public StringQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-			super(new MergePointsWorker<StringPoint>(dataSource, executor, type, priority), StringPoint.class);
+		public StringQueueHandler(HikariDataSource dataSource, Type type, Priority priority) {
+			super(new MergePointsWorker<StringPoint>(dataSource, type, priority), StringPoint.class);
 		}
 
 		@Override
-		protected StringPoint dataToPointConverter(ChannelRecord channel, ZonedDateTime time, JsonElement json)
+		protected StringPoint dataToPointConverter(ChannelRecord channel, long timestamp, JsonElement json)
 				throws OpenemsNamedException {
 			String value = JsonUtils.getAsType(OpenemsType.STRING, json);
 			if (value == null) {
 				return null;
 			}
-			return new StringPoint(channel.id, time, value);
+			return new StringPoint(channel.id, timestamp, value);
 		}
 
 	}
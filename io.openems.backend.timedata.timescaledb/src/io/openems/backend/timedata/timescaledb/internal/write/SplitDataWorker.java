@@ -1,9 +1,11 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
 import java.sql.SQLException;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
@@ -47,6 +49,7 @@ public class SplitDataWorker extends AbstractImmediateWorker {
 			TimescaledbWriteHandler.POINTS_QUEUE_SIZE);
 	private final DoubleKeyMap<Type, Priority, QueueHandler<?>> queueHandler;
 	private final Consumer<Schema> onInitializedSchema;
+	private final LongAdder countDropped = new LongAdder();
 
 	private Schema schema;
 
@@ -67,7 +70,10 @@ public class SplitDataWorker extends AbstractImmediateWorker {
 	 * @param table  the data table
 	 */
 	public void addData(String edgeId, TreeBasedTable<Long, String, JsonElement> table) {
-		this.sourceQueue.offer(new WriteData(edgeId, table));
+		// Never block the caller; backpressure is applied on the typed queues
+		if (!this.sourceQueue.offer(new WriteData(edgeId, table))) {
+			this.countDropped.increment();
+		}
 	}
 
 	@Override
@@ -177,7 +183,21 @@ public class SplitDataWorker extends AbstractImmediateWorker {
 				.append(this.sourceQueue.size()) //
 				.append("/") //
 				.append(TimescaledbWriteHandler.POINTS_QUEUE_SIZE) //
+				.append("|Dropped:") //
+				.append(this.countDropped.sum()) //
 				.toString();
 	}
 
+	/**
+	 * Returns a DebugMetrics map.
+	 *
+	 * @return metrics
+	 */
+	public Map<String, Number> debugMetrics() {
+		return Map.<String, Number>of(//
+				"QueueSize", this.sourceQueue.size(), //
+				"Dropped", this.countDropped.sum() //
+		);
+	}
+
 }
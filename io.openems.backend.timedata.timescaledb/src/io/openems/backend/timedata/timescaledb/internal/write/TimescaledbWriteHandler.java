@@ -2,6 +2,7 @@ package io.openems.backend.timedata.timescaledb.internal.write;
 
 import java.sql.SQLException;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.concurrent.Executor;
@@ -34,8 +35,14 @@ import io.openems.common.worker.AbstractWorker;
 public class TimescaledbWriteHandler {
 
 	public static final int POINTS_QUEUE_SIZE = 1_000_000;
-	public static final int MAX_POINTS_PER_WRITE = 10_000;
+	public static final int MIN_POINTS_PER_WRITE = 1_000;
+	public static final int INITIAL_POINTS_PER_WRITE = 10_000;
+	public static final int MAX_POINTS_PER_WRITE = 100_000;
+	public static final int TARGET_WRITE_DURATION = 1_000; // [ms]
 	public static final int MAX_AGGREGATE_WAIT = 10; // [s]
+	public static final int MAX_OFFER_WAIT = 1; // [s]
+	public static final int MAX_WRITE_ATTEMPTS = 3;
+	public static final int WRITE_RETRY_DELAY = 5; // [s]
 
 	private final Logger log = LoggerFactory.getLogger(TimescaledbWriteHandler.class);
 
@@ -45,7 +52,7 @@ public class TimescaledbWriteHandler {
 	private final HikariDataSource dataSource;
 
 	/**
-	 * A {@link Executor} used solely for writes.
+	 * A {@link Executor} used for asynchronous lookups of Channel-IDs.
 	 */
 	private final ThreadPoolExecutor executor;
 
@@ -62,9 +69,11 @@ public class TimescaledbWriteHandler {
 	public TimescaledbWriteHandler(Config config, Consumer<Schema> onInitializedSchema) throws SQLException {
 		this.isReadOnly = config.isReadOnly();
 
+		// Every typed queue keeps one connection for its CopyStreamWriter
 		this.dataSource = Utils.getDataSource(//
 				config.host(), config.port(), config.database(), //
-				config.user(), config.password(), config.poolSize());
+				config.user(), config.password(), //
+				config.poolSize() + Type.values().length * Priority.values().length);
 
 		this.executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(config.poolSize(),
 				new ThreadFactoryBuilder().setNameFormat("TimescaleDB-%d").build());
@@ -75,7 +84,7 @@ public class TimescaledbWriteHandler {
 		for (var type : Type.values()) {
 			for (var priority : Priority.values()) {
 				this.queueHandler.put(type, priority, //
-						QueueHandler.of(type, priority, this.dataSource, this.executor));
+						QueueHandler.of(type, priority, this.dataSource));
 			}
 		}
 
@@ -154,7 +163,19 @@ public class TimescaledbWriteHandler {
 	 * @return metrics
 	 */
 	public Map<String, Number> debugMetrics() {
-		return ThreadPoolUtils.debugMetrics(this.executor);
+		var result = new HashMap<String, Number>(ThreadPoolUtils.debugMetrics(this.executor));
+		this.splitPointsWorker.debugMetrics().forEach((key, value) -> {
+			result.put("Split/" + key, value);
+		});
+		this.queueHandler.forEach((type, handlers) -> {
+			handlers.forEach((priority, handler) -> {
+				var prefix = type.name() + "/" + priority.name() + "/";
+				handler.getMergePointsWorker().debugMetrics().forEach((key, value) -> {
+					result.put(prefix + key, value);
+				});
+			});
+		});
+		return result;
 	}
 
 	private boolean enableWriteToTimescaledb(String edgeId) {
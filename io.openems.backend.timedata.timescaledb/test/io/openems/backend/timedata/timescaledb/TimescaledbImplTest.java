@@ -28,6 +28,7 @@ public class TimescaledbImplTest {
 				.setDatabase(Credentials.DATABASE) //
 				.setReadOnly(true) //
 				.setPoolSize(10) //
+				.setRollupTimezone("Europe/Berlin") //
 				.build();
 		TimedataTimescaleDb sut = new TimedataTimescaleDb(metadata, config);
 
@@ -0,0 +1,189 @@
+package io.openems.backend.timedata.timescaledb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.openems.backend.timedata.timescaledb.internal.Priority;
+import io.openems.backend.timedata.timescaledb.internal.Rollup;
+import io.openems.backend.timedata.timescaledb.internal.Schema;
+import io.openems.backend.timedata.timescaledb.internal.SchemaGenerator;
+import io.openems.backend.timedata.timescaledb.internal.Type;
+import io.openems.backend.timedata.timescaledb.internal.Utils;
+import io.openems.backend.timedata.timescaledb.internal.read.TimescaledbReadHandler;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Runs the generated schema and the queries against a TimescaleDB server.
+ *
+ * <p>
+ * Requires TimescaleDB 2.9 or later at {@link Credentials}; the user needs
+ * permission to create databases. The test creates and drops its own database.
+ * It is skipped if the server is not reachable.
+ */
+public class TimescaledbRollupTest {
+
+	private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+	private static final int PORT = 5432;
+	private static final String EDGE_ID = "edge0";
+	private static final ChannelAddress ENERGY = new ChannelAddress("_sum", "GridBuyActiveEnergy");
+
+	/** Data starts at this time; one value every 5 minutes. */
+	private static final ZonedDateTime START = ZonedDateTime.of(2023, 3, 25, 0, 0, 0, 0, BERLIN);
+	/** 2023-03-26 has only 23 hours in Europe/Berlin. */
+	private static final ZonedDateTime DST_DAY = ZonedDateTime.of(2023, 3, 26, 0, 0, 0, 0, BERLIN);
+	private static final ZonedDateTime END = ZonedDateTime.of(2023, 3, 28, 0, 0, 0, 0, BERLIN);
+
+	/** Value increases by this per 5 minutes. */
+	private static final int STEP = 10;
+
+	private final String database = "openems_test_" + System.currentTimeMillis();
+
+	private Connection maintenance;
+	private TimescaledbReadHandler sut;
+
+	@Before
+	public void before() throws SQLException {
+		try {
+			this.maintenance = connect(Credentials.DATABASE);
+		} catch (SQLException e) {
+			Assume.assumeNoException("TimescaleDB is not available", e);
+		}
+		try (var st = this.maintenance.createStatement()) {
+			st.execute("CREATE DATABASE " + this.database);
+		}
+
+		try (var con = connect(this.database); var st = con.createStatement()) {
+			st.execute("CREATE EXTENSION IF NOT EXISTS timescaledb");
+			st.execute(SchemaGenerator.generate(BERLIN.getId()));
+
+			// Insert raw data
+			var channelId = 0;
+			try (var pst = con.prepareStatement("" //
+					+ "SELECT _channel_id " //
+					+ "FROM openems_get_or_create_edge_channel_id(?, ?, ?, ?)")) {
+				pst.setString(1, EDGE_ID);
+				pst.setString(2, ENERGY.getComponentId());
+				pst.setString(3, ENERGY.getChannelId());
+				pst.setInt(4, Type.INTEGER.id);
+				var rs = pst.executeQuery();
+				rs.next();
+				channelId = rs.getInt(1);
+			}
+			try (var pst = con.prepareStatement("" //
+					+ "INSERT INTO " + Type.INTEGER.getRawTableName(Priority.LOW) //
+					+ " (time, edge_channel_id, value) " //
+					+ "SELECT t, ?, (EXTRACT(EPOCH FROM t - ?::timestamptz) / 300)::bigint * ? " //
+					+ "FROM generate_series(?::timestamptz, ?::timestamptz - interval '5 minutes', "
+					+ "interval '5 minutes') t")) {
+				var i = 1;
+				pst.setInt(i++, channelId);
+				pst.setObject(i++, START.toOffsetDateTime());
+				pst.setInt(i++, STEP);
+				pst.setObject(i++, START.toOffsetDateTime());
+				pst.setObject(i++, END.toOffsetDateTime());
+				pst.executeUpdate();
+			}
+
+			// Materialize hierarchically
+			for (var rollup : Rollup.values()) {
+				st.execute("CALL refresh_continuous_aggregate('"
+						+ Type.INTEGER.getAggregateTableName(rollup, Priority.LOW) + "', NULL, NULL)");
+			}
+		}
+
+		var config = MyConfig.create() //
+				.setHost(Credentials.HOST) //
+				.setPort(PORT) //
+				.setUser(Credentials.USER) //
+				.setPassword(Credentials.PASSWORD) //
+				.setDatabase(this.database) //
+				.setPoolSize(2) //
+				.setRollupTimezone(BERLIN.getId()) //
+				.build();
+		this.sut = new TimescaledbReadHandler(config);
+		try (var dataSource = Utils.getDataSource(Credentials.HOST, PORT, this.database, Credentials.USER,
+				Credentials.PASSWORD, 1)) {
+			this.sut.setSchema(Schema.initialize(dataSource));
+		}
+	}
+
+	@After
+	public void after() throws SQLException {
+		if (this.sut != null) {
+			this.sut.deactivate();
+		}
+		if (this.maintenance != null) {
+			try (var st = this.maintenance.createStatement()) {
+				st.execute("DROP DATABASE IF EXISTS " + this.database + " WITH (FORCE)");
+			}
+			this.maintenance.close();
+		}
+	}
+
+	@Test
+	public void testHierarchicalAggregates() throws SQLException {
+		var views = new HashSet<String>();
+		try (var con = connect(this.database); var st = con.createStatement()) {
+			var rs = st.executeQuery("SELECT view_name FROM timescaledb_information.continuous_aggregates");
+			while (rs.next()) {
+				views.add(rs.getString(1));
+			}
+		}
+		for (var type : Type.values()) {
+			for (var priority : Priority.values()) {
+				for (var rollup : Rollup.values()) {
+					assertTrue(views.contains(type.getAggregateTableName(rollup, priority)));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testQueryHistoricData() throws OpenemsNamedException {
+		// Hourly rollup; average of the 12 values of the first hour
+		var result = this.sut.queryHistoricData(EDGE_ID, DST_DAY, DST_DAY.plusDays(1), Set.of(ENERGY),
+				new Resolution(1, ChronoUnit.HOURS));
+		var first = 24 * 12;
+		assertEquals(STEP * (first + 5.5), result.get(DST_DAY).get(ENERGY).getAsDouble(), 1);
+		assertEquals(23, result.size());
+	}
+
+	@Test
+	public void testQueryHistoricEnergy() throws OpenemsNamedException {
+		// Daily rollup aligned to Europe/Berlin; last value minus first value of the
+		// 23-hour day
+		var result = this.sut.queryHistoricEnergy(EDGE_ID, DST_DAY, DST_DAY.plusDays(1), Set.of(ENERGY));
+		assertEquals(STEP * (23 * 12 - 1), result.get(ENERGY).getAsLong());
+	}
+
+	@Test
+	public void testQueryHistoricEnergyPerPeriod() throws OpenemsNamedException {
+		// Daily rollup and time_bucket_ng in Europe/Berlin
+		var result = this.sut.queryHistoricEnergyPerPeriod(EDGE_ID, START, END, Set.of(ENERGY),
+				new Resolution(1, ChronoUnit.DAYS));
+		assertEquals(STEP * 23 * 12, result.get(DST_DAY).get(ENERGY).getAsLong());
+		assertEquals(STEP * 24 * 12, result.get(DST_DAY.plusDays(1)).get(ENERGY).getAsLong());
+	}
+
+	private static Connection connect(String database) throws SQLException {
+		return DriverManager.getConnection("jdbc:postgresql://" + Credentials.HOST + ":" + PORT + "/" + database,
+				Credentials.USER, Credentials.PASSWORD);
+	}
+
+}
@@ -0,0 +1,80 @@
+package io.openems.backend.timedata.timescaledb.internal;
+
+import static io.openems.backend.timedata.timescaledb.internal.Rollup.FIVE_MINUTES;
+import static io.openems.backend.timedata.timescaledb.internal.Rollup.ONE_DAY;
+import static io.openems.backend.timedata.timescaledb.internal.Rollup.ONE_HOUR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import io.openems.common.timedata.Resolution;
+
+public class RollupTest {
+
+	private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+	private static final ZoneId KOLKATA = ZoneId.of("Asia/Kolkata");
+	private static final Set<Rollup> ALL = EnumSet.allOf(Rollup.class);
+
+	@Test
+	public void testGetSource() {
+		assertNull(FIVE_MINUTES.getSource());
+		assertEquals(FIVE_MINUTES, ONE_HOUR.getSource());
+		assertEquals(ONE_HOUR, ONE_DAY.getSource());
+	}
+
+	@Test
+	public void testTableName() {
+		assertEquals("data_integer_low_5m", Type.INTEGER.getAggregate5mTableName(Priority.LOW));
+		assertEquals("data_float_high_1h", Type.FLOAT.getAggregateTableName(ONE_HOUR, Priority.HIGH));
+		assertEquals("data_string_low_1d", Type.STRING.getAggregateTableName(ONE_DAY, Priority.LOW));
+	}
+
+	@Test
+	public void testForResolution() {
+		var from = ZonedDateTime.of(2023, 3, 1, 0, 0, 0, 0, BERLIN);
+		var to = from.plusMonths(1);
+
+		assertEquals(FIVE_MINUTES, forResolution(from, to, 5, ChronoUnit.MINUTES, ALL));
+		assertEquals(FIVE_MINUTES, forResolution(from, to, 15, ChronoUnit.MINUTES, ALL));
+		assertEquals(ONE_HOUR, forResolution(from, to, 60, ChronoUnit.MINUTES, ALL));
+		assertEquals(ONE_HOUR, forResolution(from, to, 4, ChronoUnit.HOURS, ALL));
+		assertEquals(ONE_DAY, forResolution(from, to, 1, ChronoUnit.DAYS, ALL));
+		assertEquals(ONE_DAY, forResolution(from, to, 1, ChronoUnit.MONTHS, ALL));
+
+		// Daily rollup is aligned to a different timezone
+		var utcFrom = from.withZoneSameLocal(ZoneId.of("UTC"));
+		assertEquals(ONE_HOUR, forResolution(utcFrom, utcFrom.plusMonths(1), 1, ChronoUnit.DAYS, ALL));
+
+		// Timezone offset is not a full hour
+		var kolkataFrom = from.withZoneSameLocal(KOLKATA);
+		assertEquals(FIVE_MINUTES, forResolution(kolkataFrom, kolkataFrom.plusDays(1), 1, ChronoUnit.HOURS, ALL));
+
+		// Rollups are not available
+		assertEquals(ONE_HOUR, forResolution(from, to, 1, ChronoUnit.DAYS, EnumSet.of(FIVE_MINUTES, ONE_HOUR)));
+		assertEquals(FIVE_MINUTES, forResolution(from, to, 1, ChronoUnit.DAYS, EnumSet.of(FIVE_MINUTES)));
+	}
+
+	@Test
+	public void testForPeriod() {
+		var from = ZonedDateTime.of(2023, 3, 1, 0, 0, 0, 0, BERLIN);
+
+		assertEquals(ONE_DAY, Rollup.forPeriod(from, from.plusDays(1), BERLIN, ALL));
+		assertEquals(ONE_HOUR, Rollup.forPeriod(from, from.plusHours(1), BERLIN, ALL));
+		assertEquals(FIVE_MINUTES, Rollup.forPeriod(from, from.plusMinutes(5), BERLIN, ALL));
+		assertEquals(ONE_HOUR, Rollup.forPeriod(from, from.plusDays(1), ZoneId.of("UTC"), ALL));
+		assertEquals(FIVE_MINUTES, Rollup.forPeriod(from, from.plusDays(1), BERLIN, EnumSet.of(FIVE_MINUTES)));
+	}
+
+	private static Rollup forResolution(ZonedDateTime from, ZonedDateTime to, long value, ChronoUnit unit,
+			Set<Rollup> available) {
+		return Rollup.forResolution(from, to, new Resolution(value, unit), BERLIN, available);
+	}
+
+}
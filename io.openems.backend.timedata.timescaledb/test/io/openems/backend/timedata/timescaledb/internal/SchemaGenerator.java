@@ -8,17 +8,31 @@ public class SchemaGenerator {
 	/**
 	 * Main.
 	 * 
-	 * @param args the arguments
+	 * @param args the arguments; optionally the timezone of the daily rollups
 	 */
 	public static void main(String[] args) {
-		var generator = new SchemaGenerator();
-
-		final var sql = generator.generate();
+		final var sql = generate(args.length > 0 ? args[0] : "Europe/Berlin");
 
 		System.out.println(sql);
 	}
 
-	private final String generate() {
+	/**
+	 * Generates the SQL for the complete schema.
+	 *
+	 * @param rollupTimezone the timezone of the daily rollups
+	 * @return the SQL
+	 */
+	public static String generate(String rollupTimezone) {
+		return new SchemaGenerator(rollupTimezone).build();
+	}
+
+	private final String rollupTimezone;
+
+	private SchemaGenerator(String rollupTimezone) {
+		this.rollupTimezone = rollupTimezone;
+	}
+
+	private final String build() {
 		var sb = new StringBuilder() //
 				.append("/* Create static tables */\n\n") //
 				.append(this.createEdgeTable()) //
@@ -98,7 +112,11 @@ public class SchemaGenerator {
 						// .append(this.alterCompression(type, priority)) //
 						// .append(this.addCompression(type, priority)) //
 						.append(this.createAggregateTable(type, priority)) //
-						.append(this.addContinuousAggregate(type, priority)) //
+						.append(this.addContinuousAggregate(type, priority, Rollup.FIVE_MINUTES)) //
+						.append(this.createRollupTable(type, priority, Rollup.ONE_HOUR)) //
+						.append(this.addContinuousAggregate(type, priority, Rollup.ONE_HOUR)) //
+						.append(this.createRollupTable(type, priority, Rollup.ONE_DAY)) //
+						.append(this.addContinuousAggregate(type, priority, Rollup.ONE_DAY)) //
 				;
 			}
 		}
@@ -156,20 +174,72 @@ public class SchemaGenerator {
 		// TODO set chunk time interval for materialized view to 1 day
 	}
 
-	private String addContinuousAggregate(Type type, Priority priority) {
-		return "SELECT add_continuous_aggregate_policy('" + type.getAggregate5mTableName(priority) + "',\n" //
+	/**
+	 * Creates a hierarchical continuous aggregate on top of the source
+	 * {@link Rollup}. Requires TimescaleDB 2.9 or later.
+	 * 
+	 * @param type     the {@link Type}
+	 * @param priority the {@link Priority}
+	 * @param rollup   the {@link Rollup}
+	 * @return the SQL
+	 */
+	private String createRollupTable(Type type, Priority priority, Rollup rollup) {
+		var bucket = rollup == Rollup.ONE_DAY //
+				? "time_bucket ('" + rollup.bucketInterval + "', time, '" + this.rollupTimezone + "')" //
+				: "time_bucket ('" + rollup.bucketInterval + "', time)";
+		return "CREATE MATERIALIZED VIEW " + type.getAggregateTableName(rollup, priority) //
+				+ "(time, edge_channel_id, " //
+				+ Stream.of(type.aggregateFunctions) //
+						.map(s -> "\"" + s + "\"") //
+						.collect(Collectors.joining(", "))
+				+ ")\n" //
+				+ "  WITH (timescaledb.continuous, timescaledb.materialized_only = false) AS\n" //
+				+ "  SELECT " + bucket + " AS time,\n" //
+				+ "    edge_channel_id,\n" //
+				// avg of 5-minute averages; min of minimums; max of maximums
+				+ "    " + Stream.of(type.aggregateFunctions) //
+						.map(s -> s + "(\"" + s + "\")") //
+						.collect(Collectors.joining(", "))
+				+ "\n" //
+				+ "  FROM " + type.getAggregateTableName(rollup.getSource(), priority) + "\n" //
+				+ "  GROUP BY (1, 2)\n" + "WITH NO DATA;\n\n";
+	}
+
+	private String addContinuousAggregate(Type type, Priority priority, Rollup rollup) {
+		final String endOffset;
+		final String scheduleInterval;
+		final String chunkTimeInterval;
+		switch (rollup) {
+		case FIVE_MINUTES:
+			endOffset = scheduleInterval = (priority == Priority.HIGH ? "10" : "60") + " minutes";
+			chunkTimeInterval = "1 day";
+			break;
+		case ONE_HOUR:
+			endOffset = "1 hour";
+			scheduleInterval = "1 hour";
+			chunkTimeInterval = "7 days";
+			break;
+		case ONE_DAY:
+		default:
+			endOffset = "1 day";
+			scheduleInterval = "6 hours";
+			chunkTimeInterval = "90 days";
+			break;
+		}
+		var tableName = type.getAggregateTableName(rollup, priority);
+		return "SELECT add_continuous_aggregate_policy('" + tableName + "',\n" //
 				+ "  start_offset => NULL,\n" //
 				// + " start_offset => interval '30 days',\n" // TODO switch to 30 days after
-				+ "  end_offset => interval '" + (priority == Priority.HIGH ? "10" : "60") + " minutes',\n" //
-				+ "  schedule_interval => interval '" + (priority == Priority.HIGH ? "10" : "60") + " minutes'\n" //
+				+ "  end_offset => interval '" + endOffset + "',\n" //
+				+ "  schedule_interval => interval '" + scheduleInterval + "'\n" //
 				+ ");\n" //
 
 				+ "SELECT set_chunk_time_interval(\n" //
 				+ "  (\n" //
 				+ "    SELECT format('%I.%I', materialization_hypertable_schema, materialization_hypertable_name) AS materialization_hypertable\n"
 				+ "    FROM timescaledb_information.continuous_aggregates\n" //
-				+ "    WHERE view_name LIKE '" + type.getAggregate5mTableName(priority) + "'\n" //
-				+ "  ), INTERVAL '1 day'\n" //
+				+ "    WHERE view_name LIKE '" + tableName + "'\n" //
+				+ "  ), INTERVAL '" + chunkTimeInterval + "'\n" //
 				+ ");\n" //
 
 				+ "SELECT alter_job(\n" //
@@ -179,7 +249,7 @@ public class SchemaGenerator {
 				+ "    INNER JOIN timescaledb_information.continuous_aggregates ca\n" //
 				+ "    ON j.hypertable_schema = ca.materialization_hypertable_schema\n" //
 				+ "      AND j.hypertable_name = ca.materialization_hypertable_name\n" //
-				+ "    WHERE ca.view_name like '" + type.getAggregate5mTableName(priority) + "'\n" //
+				+ "    WHERE ca.view_name like '" + tableName + "'\n" //
 				+ "  ), next_start => now()\n" //
 				+ ");\n\n";
 	}
@@ -218,7 +288,7 @@ public class SchemaGenerator {
 				CREATE OR REPLACE FUNCTION openems_get_or_create_component_id(
 				  _component text,
 				  OUT _component_id int
-				) LANGUAGE plpgsql AS\
+				) LANGUAGE plpgsql AS
 				$$
 				BEGIN
 				  loop
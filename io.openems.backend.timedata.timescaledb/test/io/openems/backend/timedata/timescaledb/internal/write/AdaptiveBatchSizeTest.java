@@ -0,0 +1,49 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class AdaptiveBatchSizeTest {
+
+	@Test
+	public void test() {
+		var sut = new AdaptiveBatchSize(100, 10_000, 1_000, 1_000);
+		assertEquals(1_000, sut.get());
+
+		// Partial batch -> no change
+		sut.onWrite(500, 10);
+		assertEquals(1_000, sut.get());
+
+		// Full batch, fast -> grow max factor 2
+		sut.onWrite(1_000, 10);
+		assertEquals(2_000, sut.get());
+
+		// Full batch, near target -> grow to estimate
+		sut.onWrite(2_000, 800);
+		assertEquals(2_500, sut.get());
+
+		// Limited by max
+		sut.onWrite(2_500, 0);
+		assertEquals(5_000, sut.get());
+		sut.onWrite(5_000, 0);
+		assertEquals(10_000, sut.get());
+		sut.onWrite(10_000, 0);
+		assertEquals(10_000, sut.get());
+
+		// Slow -> shrink to estimate
+		sut.onWrite(10_000, 1_250);
+		assertEquals(8_000, sut.get());
+
+		// Very slow -> shrink max factor 2
+		sut.onWrite(8_000, 10_000);
+		assertEquals(4_000, sut.get());
+
+		// Limited by min
+		for (var i = 0; i < 10; i++) {
+			sut.onWrite(sut.get(), 100_000);
+		}
+		assertEquals(100, sut.get());
+	}
+
+}
@@ -0,0 +1,86 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import io.openems.backend.timedata.timescaledb.internal.write.Point.FloatPoint;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.IntPoint;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.StringPoint;
+
+public class CopyBinaryEncoderTest {
+
+	private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
+	private static final Instant POSTGRES_EPOCH = Instant.parse("2000-01-01T00:00:00Z");
+
+	@Test
+	public void test() {
+		var time = Instant.parse("2023-05-06T07:08:09.123Z");
+		var sut = new CopyBinaryEncoder(0);
+		sut.add(new IntPoint(17, time.toEpochMilli(), -5L));
+		sut.add(new FloatPoint(18, time.toEpochMilli(), 1.5));
+		sut.add(new StringPoint(19, time.toEpochMilli(), "äb"));
+		sut.finish();
+
+		var buffer = ByteBuffer.wrap(sut.buffer(), 0, sut.size());
+
+		// Header
+		var signature = new byte[SIGNATURE.length];
+		buffer.get(signature);
+		assertArrayEquals(SIGNATURE, signature);
+		assertEquals(0, buffer.getInt()); // Flags
+		assertEquals(0, buffer.getInt()); // Header extension
+
+		var micros = ChronoUnit.MICROS.between(POSTGRES_EPOCH, time);
+
+		// IntPoint
+		assertRowStart(buffer, micros, 17);
+		assertEquals(8, buffer.getInt());
+		assertEquals(-5L, buffer.getLong());
+
+		// FloatPoint
+		assertRowStart(buffer, micros, 18);
+		assertEquals(8, buffer.getInt());
+		assertEquals(1.5, buffer.getDouble(), 0);
+
+		// StringPoint
+		assertRowStart(buffer, micros, 19);
+		assertEquals(3, buffer.getInt());
+		var text = new byte[3];
+		buffer.get(text);
+		assertArrayEquals("äb".getBytes(StandardCharsets.UTF_8), text);
+
+		// Trailer
+		assertEquals(-1, buffer.getShort());
+		assertEquals(0, buffer.remaining());
+	}
+
+	@Test
+	public void testReset() {
+		var sut = new CopyBinaryEncoder(0);
+		sut.finish();
+		var empty = Arrays.copyOf(sut.buffer(), sut.size());
+
+		sut.reset();
+		sut.add(new IntPoint(1, 0, 1));
+		sut.reset();
+		sut.finish();
+		assertArrayEquals(empty, Arrays.copyOf(sut.buffer(), sut.size()));
+	}
+
+	private static void assertRowStart(ByteBuffer buffer, long micros, int channelId) {
+		assertEquals(3, buffer.getShort()); // Number of columns
+		assertEquals(8, buffer.getInt());
+		assertEquals(micros, buffer.getLong());
+		assertEquals(4, buffer.getInt());
+		assertEquals(channelId, buffer.getInt());
+	}
+
+}
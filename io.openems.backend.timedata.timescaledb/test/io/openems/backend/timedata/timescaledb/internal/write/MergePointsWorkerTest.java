@@ -0,0 +1,58 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import org.junit.Test;
+
+import io.openems.backend.timedata.timescaledb.internal.Priority;
+import io.openems.backend.timedata.timescaledb.internal.Type;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.IntPoint;
+
+public class MergePointsWorkerTest {
+
+	@Test
+	public void testPollAndMergePoints() throws InterruptedException {
+		var queue = new ArrayBlockingQueue<IntPoint>(10);
+		for (var i = 0; i < 5; i++) {
+			queue.add(new IntPoint(i, 0, i));
+		}
+
+		var points = new ArrayList<IntPoint>();
+		MergePointsWorker.pollAndMergePoints(queue, points, 3);
+		assertEquals(3, points.size());
+		assertEquals(2, queue.size());
+
+		// Existing points are kept, e.g. for retry
+		MergePointsWorker.pollAndMergePoints(queue, points, 5);
+		assertEquals(5, points.size());
+		assertEquals(4, points.get(4).channelId);
+	}
+
+	@Test
+	public void testOffer() {
+		var sut = new MergePointsWorker<IntPoint>(null, Type.INTEGER, Priority.LOW);
+		for (var i = 0; i < TimescaledbWriteHandler.POINTS_QUEUE_SIZE; i++) {
+			assertTrue(sut.offer(new IntPoint(1, i, i)));
+		}
+		var metrics = sut.debugMetrics();
+		assertEquals(100, metrics.get("QueueFill"));
+		assertEquals(0L, metrics.get("Dropped"));
+
+		// Full -> blocks for MAX_OFFER_WAIT, then drops
+		var start = System.currentTimeMillis();
+		assertFalse(sut.offer(new IntPoint(1, 0, 0)));
+		assertTrue(System.currentTimeMillis() - start >= TimescaledbWriteHandler.MAX_OFFER_WAIT * 1000 - 100);
+
+		// Overloaded -> drops immediately
+		start = System.currentTimeMillis();
+		assertFalse(sut.offer(new IntPoint(1, 0, 0)));
+		assertTrue(System.currentTimeMillis() - start < 500);
+		assertEquals(2L, sut.debugMetrics().get("Dropped"));
+	}
+
+}
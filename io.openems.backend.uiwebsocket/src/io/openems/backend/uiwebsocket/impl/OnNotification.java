@@ -1,5 +1,7 @@
 package io.openems.backend.uiwebsocket.impl;
 
+import java.util.Set;
+
 import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,6 +13,12 @@ import io.openems.common.jsonrpc.notification.LogMessageNotification;
 
 public class OnNotification implements io.openems.common.websocket.OnNotification {
 
+	/**
+	 * The JSON-RPC methods handled by
+	 * {@link #run(WebSocket, JsonrpcNotification)}.
+	 */
+	protected static final Set<String> METHODS = Set.of(LogMessageNotification.METHOD);
+
 	private final Logger log = LoggerFactory.getLogger(OnNotification.class);
 	private final UiWebsocketImpl parent;
 
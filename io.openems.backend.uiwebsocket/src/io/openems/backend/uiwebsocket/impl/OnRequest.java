@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -51,6 +52,28 @@ import io.openems.common.utils.JsonUtils;
 
 public class OnRequest implements io.openems.common.websocket.OnRequest {
 
+	/**
+	 * The JSON-RPC methods handled by {@link #run(WebSocket, JsonrpcRequest)}.
+	 */
+	protected static final Set<String> METHODS = Set.of(//
+			AuthenticateWithTokenRequest.METHOD, //
+			AuthenticateWithPasswordRequest.METHOD, //
+			RegisterUserRequest.METHOD, //
+			LogoutRequest.METHOD, //
+			EdgeRpcRequest.METHOD, //
+			AddEdgeToUserRequest.METHOD, //
+			GetUserInformationRequest.METHOD, //
+			SetUserInformationRequest.METHOD, //
+			GetSetupProtocolRequest.METHOD, //
+			SubmitSetupProtocolRequest.METHOD, //
+			UpdateUserLanguageRequest.METHOD, //
+			GetUserAlertingConfigsRequest.METHOD, //
+			SetUserAlertingConfigsRequest.METHOD, //
+			GetSetupProtocolDataRequest.METHOD, //
+			SubscribeEdgesRequest.METHOD, //
+			GetEdgesRequest.METHOD, //
+			GetEdgeRequest.METHOD);
+
 	private final UiWebsocketImpl parent;
 
 	public OnRequest(UiWebsocketImpl parent) {
@@ -0,0 +1,90 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concurrent index of Edge-ID to the UI sessions that subscribed the Edge.
+ *
+ * <p>
+ * Used to send data of an Edge only to the UI sessions that actually subscribed
+ * it, instead of iterating all connections for every incoming data
+ * notification.
+ *
+ * @param <T> the type of the subscriber, i.e. {@link WsData}
+ */
+public class SubscriptionIndex<T> {
+
+	private final ConcurrentHashMap<String, Set<T>> subscribers = new ConcurrentHashMap<>();
+
+	/**
+	 * Updates the subscribed Edges of a subscriber.
+	 *
+	 * @param subscriber the subscriber
+	 * @param previous   the previously subscribed Edge-IDs
+	 * @param current    the currently subscribed Edge-IDs
+	 */
+	public void update(T subscriber, Set<String> previous, Set<String> current) {
+		for (var edgeId : previous) {
+			if (!current.contains(edgeId)) {
+				this.remove(subscriber, edgeId);
+			}
+		}
+		for (var edgeId : current) {
+			if (!previous.contains(edgeId)) {
+				// Add within compute(); a concurrent remove() might drop an empty Set
+				this.subscribers.compute(edgeId, (e, set) -> {
+					if (set == null) {
+						set = ConcurrentHashMap.newKeySet();
+					}
+					set.add(subscriber);
+					return set;
+				});
+			}
+		}
+	}
+
+	/**
+	 * Removes a subscriber from all given Edges.
+	 *
+	 * @param subscriber the subscriber
+	 * @param edgeIds    the subscribed Edge-IDs
+	 */
+	public void remove(T subscriber, Set<String> edgeIds) {
+		for (var edgeId : edgeIds) {
+			this.remove(subscriber, edgeId);
+		}
+	}
+
+	private void remove(T subscriber, String edgeId) {
+		this.subscribers.computeIfPresent(edgeId, (e, set) -> {
+			set.remove(subscriber);
+			return set.isEmpty() ? null : set;
+		});
+	}
+
+	/**
+	 * Gets the subscribers of an Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return a weakly consistent view of the subscribers; empty if there are none
+	 */
+	public Set<T> getSubscribers(String edgeId) {
+		var result = this.subscribers.get(edgeId);
+		if (result == null) {
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(result);
+	}
+
+	/**
+	 * Gets the number of Edges with at least one subscriber.
+	 *
+	 * @return the number of Edges
+	 */
+	public int size() {
+		return this.subscribers.size();
+	}
+
+}
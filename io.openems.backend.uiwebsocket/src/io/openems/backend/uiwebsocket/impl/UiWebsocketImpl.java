@@ -1,11 +1,13 @@
 package io.openems.backend.uiwebsocket.impl;
 
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -17,6 +19,9 @@ import org.osgi.service.event.EventHandler;
 import org.osgi.service.event.propertytypes.EventTopics;
 import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
@@ -34,9 +39,11 @@ import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.AbstractJsonrpcRequest;
+import io.openems.common.jsonrpc.base.JsonrpcCodec;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.utils.ThreadPoolUtils;
 
 @Designate(ocd = Config.class, factory = false)
 @Component(//
@@ -52,6 +59,10 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 
 	private static final String COMPONENT_ID = "uiwebsocket0";
 
+	private final Logger log = LoggerFactory.getLogger(UiWebsocketImpl.class);
+	private final ScheduledExecutorService pushExecutor = Executors.newSingleThreadScheduledExecutor(
+			new ThreadFactoryBuilder().setNameFormat("UiWebsocket:Push-%d").build());
+
 	protected WebsocketServer server = null;
 
 	@Reference
@@ -79,13 +90,37 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		if (this.metadata.isInitialized()) {
 			this.startServer();
 		}
+
+		this.pushExecutor.scheduleWithFixedDelay(this::pushCurrentData, config.pushInterval(),
+				config.pushInterval(), TimeUnit.MILLISECONDS);
 	}
 
 	@Deactivate
 	private void deactivate() {
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.pushExecutor, 5);
 		this.stopServer();
 	}
 
+	/**
+	 * Pushes merged Current-Data to all UI sessions.
+	 */
+	private void pushCurrentData() {
+		var server = this.server;
+		if (server == null) {
+			return;
+		}
+		try {
+			for (var websocket : server.getConnections()) {
+				WsData wsData = websocket.getAttachment();
+				if (wsData != null) {
+					wsData.pushCurrentData();
+				}
+			}
+		} catch (RuntimeException e) {
+			this.logWarn(this.log, "Unable to push Current-Data: " + e.getMessage());
+		}
+	}
+
 	/**
 	 * Create and start new server.
 	 */
@@ -140,14 +175,18 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		if (this.server == null) {
 			return;
 		}
-		var wsDatas = this.getWsDatasForEdgeId(edgeId);
 		OpenemsNamedException exception = null;
-		for (WsData wsData : wsDatas) {
-			if (!wsData.isEdgeSubscribed(edgeId)) {
+		ByteBuffer payload = null;
+		for (var wsData : this.server.subscriptions.getSubscribers(edgeId)) {
+			if (!this.hasRole(wsData, edgeId)) {
 				continue;
 			}
 			try {
-				wsData.send(notification);
+				if (payload == null) {
+					// Encode only once for all subscribers
+					payload = JsonrpcCodec.encode(notification);
+				}
+				wsData.send(payload);
 			} catch (OpenemsNamedException e) {
 				exception = e;
 			}
@@ -179,37 +218,20 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 	}
 
 	/**
-	 * Gets the WebSocket connection attachments of all connections accessing an
-	 * Edge-ID.
+	 * Does the User of a WebSocket connection have access to an Edge-ID?.
 	 *
+	 * <p>
+	 * This is checked on every broadcast, so that changed Roles are applied
+	 * immediately. Only subscribers of the Edge are checked.
+	 *
+	 * @param wsData the WebSocket attachment
 	 * @param edgeId the Edge-ID
-	 * @return the WsDatas; empty list if there are none
+	 * @return true if the User has a Role for the Edge
 	 */
-	private List<WsData> getWsDatasForEdgeId(String edgeId) {
-		var result = new ArrayList<WsData>();
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData == null) {
-				continue;
-			}
-			// get attachment User-ID
-			var userIdOpt = wsData.getUserId();
-			if (userIdOpt.isPresent()) {
-				var userId = userIdOpt.get();
-				// get User for User-ID
-				var userOpt = this.metadata.getUser(userId);
-				if (userOpt.isPresent()) {
-					var user = userOpt.get();
-					var edgeRoleOpt = user.getRole(edgeId);
-					if (edgeRoleOpt.isPresent()) {
-						// User has access to this Edge-ID
-						result.add(wsData);
-					}
-				}
-			}
-		}
-		return result;
+	private boolean hasRole(WsData wsData, String edgeId) {
+		return wsData.getUser(this.metadata) //
+				.flatMap(user -> user.getRole(edgeId)) //
+				.isPresent();
 	}
 
 	@Override
@@ -226,12 +248,8 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		if (this.server == null) {
 			return;
 		}
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData != null) {
-				wsData.sendSubscribedChannels(edgeId, edgeCache);
-			}
+		for (var wsData : this.server.subscriptions.getSubscribers(edgeId)) {
+			wsData.sendSubscribedChannels(edgeId, edgeCache);
 		}
 	}
 
@@ -275,6 +293,28 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 			metrics.put(this.getId() + "/" + key, new JsonPrimitive(value));
 		});
 
+		// Queue depth of Current-Data push; aggregated over all sessions to keep the
+		// set of metrics fixed
+		var sessions = 0;
+		var total = 0;
+		var max = 0;
+		var dropped = 0L;
+		for (var websocket : this.server.getConnections()) {
+			WsData wsData = websocket.getAttachment();
+			if (wsData == null) {
+				continue;
+			}
+			var pending = wsData.getPendingUpdates();
+			sessions++;
+			total += pending;
+			max = Math.max(max, pending);
+			dropped += wsData.getDroppedUpdates();
+		}
+		metrics.put(this.getId() + "/Sessions", new JsonPrimitive(sessions));
+		metrics.put(this.getId() + "/QueueDepth", new JsonPrimitive(total));
+		metrics.put(this.getId() + "/MaxQueueDepth", new JsonPrimitive(max));
+		metrics.put(this.getId() + "/DroppedUpdates", new JsonPrimitive(dropped));
+
 		return metrics;
 	}
 
@@ -1,5 +1,9 @@
 package io.openems.backend.uiwebsocket.impl;
 
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,9 +15,14 @@ import io.openems.common.websocket.AbstractWebsocketServer;
 
 public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 
+	private static final Set<String> QUEUE_WAIT_METHODS = Stream
+			.concat(OnRequest.METHODS.stream(), OnNotification.METHODS.stream()) //
+			.collect(Collectors.toUnmodifiableSet());
+
 	private final Logger log = LoggerFactory.getLogger(WebsocketServer.class);
 
 	protected final UiWebsocketImpl parent;
+	protected final SubscriptionIndex<WsData> subscriptions = new SubscriptionIndex<>();
 	private final OnOpen onOpen;
 	private final OnRequest onRequest;
 	private final OnNotification onNotification;
@@ -35,6 +44,11 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 		return new WsData(this);
 	}
 
+	@Override
+	protected Set<String> getQueueWaitMethods() {
+		return QUEUE_WAIT_METHODS;
+	}
+
 	@Override
 	protected OnOpen getOnOpen() {
 		return this.onOpen;
@@ -2,7 +2,6 @@ package io.openems.backend.uiwebsocket.impl;
 
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -85,7 +84,14 @@ public class WsData extends io.openems.common.websocket.WsData {
 	private Optional<String> userId = Optional.empty();
 	private Optional<String> token = Optional.empty();
 
-	private Set<String> subscribedEdges = new HashSet<>();
+	private volatile Set<String> subscribedEdges = Set.of();
+
+	/**
+	 * Edges with updated data since the last push. Guarded by itself.
+	 */
+	private final Map<String, EdgeCache> pendingCurrentData = new HashMap<>();
+	private int pendingUpdates = 0;
+	private long droppedUpdates = 0;
 
 	public WsData(WebsocketServer parent) {
 		this.parent = parent;
@@ -98,6 +104,13 @@ public class WsData extends io.openems.common.websocket.WsData {
 		this.unsetToken();
 		this.unsetUserId();
 		this.subscribedChannels.dispose();
+		this.unsubscribeEdges();
+	}
+
+	@Override
+	public void dispose() {
+		this.unsubscribeEdges();
+		super.dispose();
 	}
 
 	public synchronized void setUserId(String userId) {
@@ -195,13 +208,24 @@ public class WsData extends io.openems.common.websocket.WsData {
 	 * 
 	 * @param edgeIds the edges to subscribe
 	 */
-	public void handleSubscribeEdgesRequest(Set<String> edgeIds) {
+	public synchronized void handleSubscribeEdgesRequest(Set<String> edgeIds) {
 		// TODO maybe only add and remove on explicit request
-		this.subscribedEdges = edgeIds;
+		var previous = this.subscribedEdges;
+		this.subscribedEdges = Set.copyOf(edgeIds);
+		this.parent.subscriptions.update(this, previous, this.subscribedEdges);
 	}
 
 	/**
-	 * Sends the subscribed Channels to the UI session.
+	 * Unsubscribes all Edges, e.g. on logout or close.
+	 */
+	private synchronized void unsubscribeEdges() {
+		this.parent.subscriptions.remove(this, this.subscribedEdges);
+		this.subscribedEdges = Set.of();
+	}
+
+	/**
+	 * Marks the subscribed Channels of an Edge for sending to the UI session. The
+	 * values are sent with the next {@link #pushCurrentData()}.
 	 * 
 	 * @param edgeId    the Edge-ID
 	 * @param edgeCache the {@link EdgeCache} for the Edge-ID
@@ -210,19 +234,79 @@ public class WsData extends io.openems.common.websocket.WsData {
 		if (!this.isEdgeSubscribed(edgeId)) {
 			return;
 		}
-		var values = this.subscribedChannels.getChannelValues(edgeId, edgeCache);
-		if (values.isEmpty()) {
-			return;
+		synchronized (this.pendingCurrentData) {
+			this.pendingCurrentData.put(edgeId, edgeCache);
+			this.pendingUpdates++;
+		}
+	}
+
+	/**
+	 * Sends the subscribed Channels of all Edges with updated data to the UI
+	 * session; at most one {@link CurrentDataNotification} per Edge.
+	 *
+	 * <p>
+	 * Values are read from the {@link EdgeCache} at the time of sending, i.e.
+	 * updates since the last push are merged. If the previous frames were not yet
+	 * written to a slow connection, the push is skipped and the updates keep being
+	 * merged.
+	 */
+	public void pushCurrentData() {
+		final Map<String, EdgeCache> pending;
+		synchronized (this.pendingCurrentData) {
+			if (this.pendingCurrentData.isEmpty()) {
+				return;
+			}
+			var ws = this.getWebsocket();
+			if (ws != null && ws.hasBufferedData()) {
+				// Backpressure
+				return;
+			}
+			pending = new HashMap<>(this.pendingCurrentData);
+			this.pendingCurrentData.clear();
+			this.droppedUpdates += this.pendingUpdates - pending.size();
+			this.pendingUpdates = 0;
 		}
-		try {
-			this.send(//
-					new EdgeRpcNotification(edgeId, //
-							new CurrentDataNotification(values)));
-
-		} catch (OpenemsException e) {
-			// Log & stop subscribes
-			this.parent.logWarn(this.log, "Unable to send CurrentDataNotification: " + e.getMessage());
-			this.subscribedChannels.dispose();
+
+		for (var entry : pending.entrySet()) {
+			var edgeId = entry.getKey();
+			var values = this.subscribedChannels.getChannelValues(edgeId, entry.getValue());
+			if (values.isEmpty()) {
+				continue;
+			}
+			try {
+				this.send(//
+						new EdgeRpcNotification(edgeId, //
+								new CurrentDataNotification(values)));
+
+			} catch (OpenemsException e) {
+				// Log & stop subscribes
+				this.parent.logWarn(this.log, "Unable to send CurrentDataNotification: " + e.getMessage());
+				this.subscribedChannels.dispose();
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of updates that are waiting for the next
+	 * {@link #pushCurrentData()}.
+	 *
+	 * @return the number of updates
+	 */
+	public int getPendingUpdates() {
+		synchronized (this.pendingCurrentData) {
+			return this.pendingUpdates;
+		}
+	}
+
+	/**
+	 * Gets the number of updates that were merged into a later update, i.e. not
+	 * sent on their own.
+	 *
+	 * @return the number of updates
+	 */
+	public long getDroppedUpdates() {
+		synchronized (this.pendingCurrentData) {
+			return this.droppedUpdates;
 		}
 	}
 
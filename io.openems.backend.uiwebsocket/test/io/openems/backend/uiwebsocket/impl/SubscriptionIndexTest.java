@@ -0,0 +1,85 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+public class SubscriptionIndexTest {
+
+	@Test
+	public void test() {
+		var sut = new SubscriptionIndex<String>();
+		sut.update("ui0", Set.of(), Set.of("edge0", "edge1"));
+		sut.update("ui1", Set.of(), Set.of("edge1"));
+		assertEquals(Set.of("ui0"), sut.getSubscribers("edge0"));
+		assertEquals(Set.of("ui0", "ui1"), sut.getSubscribers("edge1"));
+		assertTrue(sut.getSubscribers("edge2").isEmpty());
+
+		// Change subscription
+		sut.update("ui0", Set.of("edge0", "edge1"), Set.of("edge2"));
+		assertTrue(sut.getSubscribers("edge0").isEmpty());
+		assertEquals(Set.of("ui1"), sut.getSubscribers("edge1"));
+		assertEquals(Set.of("ui0"), sut.getSubscribers("edge2"));
+		assertEquals(2, sut.size());
+
+		// Close
+		sut.remove("ui0", Set.of("edge2"));
+		sut.remove("ui1", Set.of("edge1"));
+		assertEquals(0, sut.size());
+	}
+
+	/**
+	 * Compares the fan-out latency of iterating all connections with the
+	 * {@link SubscriptionIndex} for a growing number of connections.
+	 */
+	@Test
+	@Ignore
+	public void benchmark() {
+		final var edges = 10_000;
+		final var rounds = 100_000;
+		final var random = new Random(0);
+
+		for (var connections : new int[] { 1_000, 4_000, 16_000 }) {
+			var sessions = new ArrayList<Set<String>>();
+			var sut = new SubscriptionIndex<Integer>();
+			for (var i = 0; i < connections; i++) {
+				var subscribed = Set.of("edge" + random.nextInt(edges));
+				sessions.add(subscribed);
+				sut.update(i, Set.of(), subscribed);
+			}
+
+			var matches = 0L;
+			var start = System.nanoTime();
+			for (var i = 0; i < rounds; i++) {
+				var edgeId = "edge" + i % edges;
+				for (var session : sessions) {
+					if (session.contains(edgeId)) {
+						matches++;
+					}
+				}
+			}
+			var scan = (System.nanoTime() - start) / rounds;
+
+			start = System.nanoTime();
+			for (var i = 0; i < rounds; i++) {
+				var edgeId = "edge" + i % edges;
+				for (var session : sut.getSubscribers(edgeId)) {
+					if (sessions.get(session).contains(edgeId)) {
+						matches--;
+					}
+				}
+			}
+			var index = (System.nanoTime() - start) / rounds;
+
+			System.out.println(String.format("Connections [%6d] Scan [%8d ns] Index [%5d ns] Check [%d]", //
+					connections, scan, index, matches));
+		}
+	}
+
+}
@@ -0,0 +1,101 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.java_websocket.WebSocket;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.openems.backend.common.edgewebsocket.EdgeCache;
+import io.openems.common.jsonrpc.request.SubscribeChannelsRequest;
+import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
+
+public class WsDataTest {
+
+	private final AtomicInteger sentFrames = new AtomicInteger();
+	private final AtomicBoolean hasBufferedData = new AtomicBoolean();
+
+	private WsData sut;
+
+	@Before
+	public void before() {
+		var server = new WebsocketServer(null, "test", 0, 1, DebugMode.OFF);
+		var ws = (WebSocket) Proxy.newProxyInstance(WebSocket.class.getClassLoader(),
+				new Class<?>[] { WebSocket.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+					case "sendFrame":
+						this.sentFrames.incrementAndGet();
+						return null;
+					case "hasBufferedData":
+						return this.hasBufferedData.get();
+					case "isOpen":
+						return true;
+					default:
+						return null;
+					}
+				});
+		this.sut = new WsData(server);
+		this.sut.setWebsocket(ws);
+		this.sut.handleSubscribeEdgesRequest(Set.of("edge0", "edge1"));
+		for (var edgeId : new String[] { "edge0", "edge1" }) {
+			var request = new SubscribeChannelsRequest(1);
+			request.getChannels().add("_sum/State");
+			this.sut.handleSubscribeChannelsRequest(edgeId, request);
+		}
+	}
+
+	@Test
+	public void testMerge() {
+		var cache0 = new EdgeCache();
+		var cache1 = new EdgeCache();
+		this.sut.sendSubscribedChannels("edge0", cache0);
+		this.sut.sendSubscribedChannels("edge0", cache0);
+		this.sut.sendSubscribedChannels("edge0", cache0);
+		this.sut.sendSubscribedChannels("edge1", cache1);
+		assertEquals(4, this.sut.getPendingUpdates());
+
+		// One notification per Edge
+		this.sut.pushCurrentData();
+		assertEquals(2, this.sentFrames.get());
+		assertEquals(0, this.sut.getPendingUpdates());
+		assertEquals(2, this.sut.getDroppedUpdates());
+
+		// Nothing pending
+		this.sut.pushCurrentData();
+		assertEquals(2, this.sentFrames.get());
+	}
+
+	@Test
+	public void testNotSubscribed() {
+		this.sut.sendSubscribedChannels("edge2", new EdgeCache());
+		assertEquals(0, this.sut.getPendingUpdates());
+
+		this.sut.pushCurrentData();
+		assertEquals(0, this.sentFrames.get());
+	}
+
+	@Test
+	public void testBackpressure() {
+		var cache = new EdgeCache();
+		this.hasBufferedData.set(true);
+		this.sut.sendSubscribedChannels("edge0", cache);
+		this.sut.sendSubscribedChannels("edge0", cache);
+
+		// Skipped while the connection has buffered data
+		this.sut.pushCurrentData();
+		assertEquals(0, this.sentFrames.get());
+		assertEquals(2, this.sut.getPendingUpdates());
+
+		this.hasBufferedData.set(false);
+		this.sut.pushCurrentData();
+		assertEquals(1, this.sentFrames.get());
+		assertEquals(0, this.sut.getPendingUpdates());
+		assertEquals(1, this.sut.getDroppedUpdates());
+	}
+
+}
@@ -0,0 +1,224 @@
+package io.openems.common.jsonrpc.base;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import io.openems.common.exceptions.OpenemsError;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.utils.StringUtils;
+
+/**
+ * Streaming (token-level) codec for {@link JsonrpcMessage}s on the websocket.
+ *
+ * <p>
+ * {@link AbstractDataNotification}s are decoded directly from the
+ * {@link JsonReader} into their {@link TreeBasedTable} and encoded directly
+ * from it, without building an intermediate {@link JsonObject} tree. All other
+ * messages are handled like {@link JsonrpcMessage#from(String)} and
+ * {@link JsonrpcMessage#toString()}.
+ *
+ * <p>
+ * Messages are encoded to UTF-8 bytes, i.e. the payload of a websocket text
+ * frame, without creating an intermediate {@link String}.
+ */
+public final class JsonrpcCodec {
+
+	/** Reads/writes one JsonElement with the settings of the given reader/writer. */
+	private static final TypeAdapter<JsonElement> JSON_ELEMENT = new Gson().getAdapter(JsonElement.class);
+
+	/** Initial buffer size per value of an {@link AbstractDataNotification}. */
+	private static final int ESTIMATED_BYTES_PER_VALUE = 32;
+
+	private static final Map<String, Function<TreeBasedTable<Long, String, JsonElement>, AbstractDataNotification>> DATA_NOTIFICATIONS = Map
+			.of(//
+					TimestampedDataNotification.METHOD, TimestampedDataNotification::new, //
+					AggregatedDataNotification.METHOD, AggregatedDataNotification::new, //
+					ResendDataNotification.METHOD, ResendDataNotification::new);
+
+	private JsonrpcCodec() {
+	}
+
+	/**
+	 * Decodes a JSON String to a {@link JsonrpcMessage}.
+	 *
+	 * <p>
+	 * Equivalent to {@link JsonrpcMessage#from(String)}, but returns
+	 * {@link TimestampedDataNotification}, {@link AggregatedDataNotification} and
+	 * {@link ResendDataNotification} directly.
+	 *
+	 * @param json the JSON String
+	 * @return the {@link JsonrpcMessage}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static JsonrpcMessage decode(String json) throws OpenemsNamedException {
+		try (var reader = new JsonReader(new StringReader(json))) {
+			// Same as JsonParser#parseString()
+			reader.setLenient(true);
+			var result = readMessage(reader);
+			if (reader.peek() != JsonToken.END_DOCUMENT) {
+				throw new JsonParseException("Did not consume the entire document.");
+			}
+			return result;
+
+		} catch (IOException | JsonParseException | IllegalStateException | NumberFormatException e) {
+			throw OpenemsError.JSON_PARSE_FAILED.exception(e.getMessage(), StringUtils.toShortString(json, 100));
+		}
+	}
+
+	private static JsonrpcMessage readMessage(JsonReader reader) throws IOException, OpenemsNamedException {
+		var j = new JsonObject();
+		String method = null;
+		AbstractDataNotification dataNotification = null;
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			var name = reader.nextName();
+			switch (name) {
+			case "method" -> {
+				var value = JSON_ELEMENT.read(reader);
+				if (value.isJsonPrimitive()) {
+					method = value.getAsString();
+				}
+				j.add(name, value);
+			}
+			case "params" -> {
+				var factory = method == null ? null : DATA_NOTIFICATIONS.get(method);
+				if (factory != null && reader.peek() == JsonToken.BEGIN_OBJECT) {
+					dataNotification = factory.apply(readData(reader));
+				} else {
+					j.add(name, JSON_ELEMENT.read(reader));
+				}
+			}
+			default -> j.add(name, JSON_ELEMENT.read(reader));
+			}
+		}
+		reader.endObject();
+
+		if (dataNotification == null) {
+			return JsonrpcMessage.from(j);
+		}
+		if (!j.has("id")) {
+			return dataNotification;
+		}
+		// Unexpected Request with data; handle generically
+		j.add("params", dataNotification.getParams());
+		return JsonrpcMessage.from(j);
+	}
+
+	private static TreeBasedTable<Long, String, JsonElement> readData(JsonReader reader) throws IOException {
+		var data = TreeBasedTable.<Long, String, JsonElement>create();
+		reader.beginObject();
+		while (reader.hasNext()) {
+			var timestamp = Long.parseLong(reader.nextName());
+			reader.beginObject();
+			while (reader.hasNext()) {
+				var address = reader.nextName();
+				data.put(timestamp, address, readValue(reader));
+			}
+			reader.endObject();
+		}
+		reader.endObject();
+		return data;
+	}
+
+	private static JsonElement readValue(JsonReader reader) throws IOException {
+		return switch (reader.peek()) {
+		case STRING -> new JsonPrimitive(reader.nextString());
+		case BOOLEAN -> new JsonPrimitive(reader.nextBoolean());
+		case NULL -> {
+			reader.nextNull();
+			yield JsonNull.INSTANCE;
+		}
+		default -> JSON_ELEMENT.read(reader);
+		};
+	}
+
+	/**
+	 * Encodes a {@link JsonrpcMessage} to UTF-8 bytes.
+	 *
+	 * <p>
+	 * The result is the same as {@link JsonrpcMessage#toString()}.
+	 *
+	 * @param message the {@link JsonrpcMessage}
+	 * @return the UTF-8 encoded JSON; wraps the internal buffer, i.e. is not
+	 *         copied
+	 */
+	public static ByteBuffer encode(JsonrpcMessage message) {
+		var out = new Utf8Buffer(message instanceof AbstractDataNotification n //
+				? n.getData().size() * ESTIMATED_BYTES_PER_VALUE + 64 //
+				: 1024);
+		// BufferedWriter avoids per-character calls to the charset encoder
+		try (var writer = new JsonWriter(
+				new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 8192))) {
+			write(writer, message);
+		} catch (IOException e) {
+			// ByteArrayOutputStream does not throw
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteBuffer();
+	}
+
+	/**
+	 * Writes a {@link JsonrpcMessage} to a {@link JsonWriter}.
+	 *
+	 * @param writer  the {@link JsonWriter}
+	 * @param message the {@link JsonrpcMessage}
+	 * @throws IOException on error
+	 */
+	public static void write(JsonWriter writer, JsonrpcMessage message) throws IOException {
+		if (!(message instanceof AbstractDataNotification notification)) {
+			JSON_ELEMENT.write(writer, message.toJsonObject());
+			return;
+		}
+		writer.beginObject();
+		writer.name("jsonrpc").value(JsonrpcMessage.JSONRPC_VERSION);
+		writer.name("method").value(notification.getMethod());
+		writer.name("params").beginObject();
+		for (var row : notification.getData().rowMap().entrySet()) {
+			writer.name(row.getKey().toString()).beginObject();
+			for (var cell : row.getValue().entrySet()) {
+				writer.name(cell.getKey());
+				JSON_ELEMENT.write(writer, cell.getValue());
+			}
+			writer.endObject();
+		}
+		writer.endObject();
+		writer.endObject();
+	}
+
+	private static class Utf8Buffer extends ByteArrayOutputStream {
+
+		private Utf8Buffer(int size) {
+			super(size);
+		}
+
+		private ByteBuffer toByteBuffer() {
+			return ByteBuffer.wrap(this.buf, 0, this.count);
+		}
+	}
+
+}
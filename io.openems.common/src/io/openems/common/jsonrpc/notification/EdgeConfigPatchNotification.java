@@ -0,0 +1,68 @@
+package io.openems.common.jsonrpc.notification;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcNotification;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.types.EdgeConfigPatch;
+
+/**
+ * Represents a JSON-RPC Notification for a change of the OpenEMS Edge
+ * configuration.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "method": "edgeConfigPatch",
+ *   "params": {
+ *     {@link EdgeConfigPatch#toJson()}
+ *   }
+ * }
+ * </pre>
+ */
+public class EdgeConfigPatchNotification extends JsonrpcNotification {
+
+	/**
+	 * Parses a {@link JsonObject} to a {@link EdgeConfigPatchNotification}.
+	 *
+	 * @param j the {@link JsonObject}
+	 * @return the {@link EdgeConfigPatchNotification}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static EdgeConfigPatchNotification from(JsonObject j) throws OpenemsNamedException {
+		return EdgeConfigPatchNotification.from(GenericJsonrpcNotification.from(j));
+	}
+
+	/**
+	 * Parses a {@link JsonrpcNotification} to a
+	 * {@link EdgeConfigPatchNotification}.
+	 *
+	 * @param n the {@link JsonrpcNotification}
+	 * @return the {@link EdgeConfigPatchNotification}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static EdgeConfigPatchNotification from(JsonrpcNotification n) throws OpenemsNamedException {
+		var patch = EdgeConfigPatch.fromJson(n.getParams());
+		return new EdgeConfigPatchNotification(patch);
+	}
+
+	public static final String METHOD = "edgeConfigPatch";
+
+	private final EdgeConfigPatch patch;
+
+	public EdgeConfigPatchNotification(EdgeConfigPatch patch) {
+		super(EdgeConfigPatchNotification.METHOD);
+		this.patch = patch;
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return this.patch.toJson();
+	}
+
+	public EdgeConfigPatch getPatch() {
+		return this.patch;
+	}
+
+}
@@ -33,6 +33,10 @@ public class ResendDataNotification extends AbstractDataNotification {
 	 * @throws OpenemsNamedException on error
 	 */
 	public static ResendDataNotification from(JsonrpcNotification notification) throws OpenemsNamedException {
+		if (notification instanceof ResendDataNotification n) {
+			// e.g. decoded by JsonrpcCodec
+			return n;
+		}
 		return new ResendDataNotification(parseParams(notification.getParams()));
 	}
 
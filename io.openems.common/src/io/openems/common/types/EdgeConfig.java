@@ -1156,7 +1156,17 @@ public class EdgeConfig {
 			 * @return {@link EdgeConfig}
 			 */
 			public EdgeConfig buildEdgeConfig() {
-				return new EdgeConfig(this.build());
+				return this.buildEdgeConfig(0L);
+			}
+
+			/**
+			 * Builds the {@link EdgeConfig} with a version.
+			 * 
+			 * @param version the version; see {@link EdgeConfig#getVersion()}
+			 * @return {@link EdgeConfig}
+			 */
+			public EdgeConfig buildEdgeConfig(long version) {
+				return new EdgeConfig(this.build(), version);
 			}
 		}
 
@@ -1217,17 +1227,36 @@ public class EdgeConfig {
 	 */
 	private volatile JsonObject _json = null;
 
+	private final long version;
+
 	/**
 	 * Build from {@link ActualEdgeConfig} using a {@link Builder}.
 	 * 
-	 * @param actual the {@link ActualEdgeConfig}
+	 * @param actual  the {@link ActualEdgeConfig}
+	 * @param version the version
 	 */
-	private EdgeConfig(ActualEdgeConfig actual) {
+	private EdgeConfig(ActualEdgeConfig actual, long version) {
 		this._actual = actual;
+		this.version = version;
 	}
 
 	private EdgeConfig(JsonObject json) {
 		this._json = json;
+		this.version = JsonUtils.getAsOptionalLong(json, "version").orElse(0L);
+	}
+
+	/**
+	 * Gets the version of this {@link EdgeConfig}.
+	 *
+	 * <p>
+	 * The version is increased by OpenEMS Edge on every change of the
+	 * configuration and is used to apply {@link EdgeConfigPatch}es. Zero if the
+	 * version is unknown, e.g. for configurations of older Edges.
+	 *
+	 * @return the version
+	 */
+	public long getVersion() {
+		return this.version;
 	}
 
 	/**
@@ -1338,6 +1367,7 @@ public class EdgeConfig {
 	 *
 	 * <pre>
 	 * {
+	 *   version?: number,
 	 *   components: { {@link EdgeConfig.Component#toJson()} },
 	 *   factories: {
 	 *     [: string]: {
@@ -1352,6 +1382,7 @@ public class EdgeConfig {
 	public synchronized JsonObject toJson() {
 		if (this._json == null) {
 			this._json = JsonUtils.buildJsonObject() //
+					.onlyIf(this.version > 0, b -> b.addProperty("version", this.version)) //
 					.add("components", this.componentsToJson(JsonFormat.COMPLETE)) //
 					.add("factories", this.factoriesToJson()) //
 					.build();
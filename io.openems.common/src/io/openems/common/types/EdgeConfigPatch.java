@@ -0,0 +1,250 @@
+package io.openems.common.types;
+
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * A patch between two versions of an {@link EdgeConfig}.
+ *
+ * <p>
+ * Components and Factories are patched as a whole: a patch holds the complete
+ * JSON of every created or changed Component/Factory and the IDs of removed
+ * ones. Unchanged Components and Factories are not part of the patch.
+ *
+ * <p>
+ * Support for patches is negotiated in the websocket handshake: the Edge sends
+ * the HTTP header {@value #HEADER}; a Backend that is able to apply patches
+ * answers with the same header and {@value #VERSION}. Otherwise the Edge keeps
+ * sending the full {@link EdgeConfig} on every change.
+ *
+ * <pre>
+ * {
+ *   "previousVersion": number,
+ *   "version": number,
+ *   "components": { [id: string]: {@link EdgeConfig.Component#toJson()} },
+ *   "removedComponents": string[],
+ *   "factories": { [id: string]: {@link EdgeConfig.Factory#toJson()} },
+ *   "removedFactories": string[]
+ * }
+ * </pre>
+ */
+public class EdgeConfigPatch {
+
+	public static final String HEADER = "X-OpenEMS-Edge-Config-Patch";
+	public static final String VERSION = "1";
+
+	/**
+	 * Does the handshake signal support for {@link EdgeConfigPatch}es?.
+	 *
+	 * @param headerValue the value of the {@value #HEADER} HTTP header; possibly
+	 *                    null
+	 * @return true if supported
+	 */
+	public static boolean isSupported(String headerValue) {
+		return VERSION.equals(headerValue);
+	}
+
+	private static class Changes {
+		private final TreeMap<String, JsonElement> updated = new TreeMap<>();
+		private final TreeSet<String> removed = new TreeSet<>();
+
+		private static Changes diff(JsonObject oldJson, JsonObject newJson) {
+			var result = new Changes();
+			for (Entry<String, JsonElement> entry : newJson.entrySet()) {
+				if (!entry.getValue().equals(oldJson.get(entry.getKey()))) {
+					result.updated.put(entry.getKey(), entry.getValue());
+				}
+			}
+			for (String id : oldJson.keySet()) {
+				if (!newJson.has(id)) {
+					result.removed.add(id);
+				}
+			}
+			return result;
+		}
+
+		private static Changes fromJson(JsonObject json, String updatedMember, String removedMember)
+				throws OpenemsNamedException {
+			var result = new Changes();
+			var updated = JsonUtils.getAsOptionalJsonObject(json, updatedMember);
+			if (updated.isPresent()) {
+				for (Entry<String, JsonElement> entry : updated.get().entrySet()) {
+					result.updated.put(entry.getKey(), entry.getValue());
+				}
+			}
+			var removed = JsonUtils.getAsOptionalJsonArray(json, removedMember);
+			if (removed.isPresent()) {
+				for (JsonElement id : removed.get()) {
+					result.removed.add(JsonUtils.getAsString(id));
+				}
+			}
+			return result;
+		}
+
+		private boolean isEmpty() {
+			return this.updated.isEmpty() && this.removed.isEmpty();
+		}
+
+		private JsonObject applyTo(JsonObject json) {
+			if (this.isEmpty()) {
+				return json;
+			}
+			var result = new JsonObject();
+			for (Entry<String, JsonElement> entry : json.entrySet()) {
+				if (!this.removed.contains(entry.getKey())) {
+					result.add(entry.getKey(), entry.getValue());
+				}
+			}
+			for (Entry<String, JsonElement> entry : this.updated.entrySet()) {
+				result.add(entry.getKey(), entry.getValue());
+			}
+			return result;
+		}
+
+		private JsonObject updatedToJson() {
+			var result = new JsonObject();
+			for (Entry<String, JsonElement> entry : this.updated.entrySet()) {
+				result.add(entry.getKey(), entry.getValue());
+			}
+			return result;
+		}
+
+		private JsonArray removedToJson() {
+			var result = new JsonArray();
+			for (String id : this.removed) {
+				result.add(new JsonPrimitive(id));
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Creates the {@link EdgeConfigPatch} between two versions of an
+	 * {@link EdgeConfig}.
+	 *
+	 * @param oldConfig the old {@link EdgeConfig}
+	 * @param newConfig the new {@link EdgeConfig}
+	 * @return the {@link EdgeConfigPatch}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static EdgeConfigPatch diff(EdgeConfig oldConfig, EdgeConfig newConfig) throws OpenemsNamedException {
+		var oldJson = oldConfig.toJson();
+		var newJson = newConfig.toJson();
+		return new EdgeConfigPatch(oldConfig.getVersion(), newConfig.getVersion(), //
+				Changes.diff(JsonUtils.getAsJsonObject(oldJson, "components"),
+						JsonUtils.getAsJsonObject(newJson, "components")), //
+				Changes.diff(JsonUtils.getAsJsonObject(oldJson, "factories"),
+						JsonUtils.getAsJsonObject(newJson, "factories")));
+	}
+
+	/**
+	 * Parses a {@link JsonObject} to an {@link EdgeConfigPatch}.
+	 *
+	 * @param json the {@link JsonObject}
+	 * @return the {@link EdgeConfigPatch}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static EdgeConfigPatch fromJson(JsonObject json) throws OpenemsNamedException {
+		return new EdgeConfigPatch(//
+				JsonUtils.getAsLong(json, "previousVersion"), //
+				JsonUtils.getAsLong(json, "version"), //
+				Changes.fromJson(json, "components", "removedComponents"), //
+				Changes.fromJson(json, "factories", "removedFactories"));
+	}
+
+	private final long previousVersion;
+	private final long version;
+	private final Changes components;
+	private final Changes factories;
+
+	private EdgeConfigPatch(long previousVersion, long version, Changes components, Changes factories) {
+		this.previousVersion = previousVersion;
+		this.version = version;
+		this.components = components;
+		this.factories = factories;
+	}
+
+	/**
+	 * Gets the version of the {@link EdgeConfig} this patch applies to.
+	 *
+	 * @return the previous version
+	 */
+	public long getPreviousVersion() {
+		return this.previousVersion;
+	}
+
+	/**
+	 * Gets the version of the {@link EdgeConfig} after applying this patch.
+	 *
+	 * @return the version
+	 */
+	public long getVersion() {
+		return this.version;
+	}
+
+	/**
+	 * Is this patch empty, i.e. are both versions equal?.
+	 *
+	 * @return true if empty
+	 */
+	public boolean isEmpty() {
+		return this.components.isEmpty() && this.factories.isEmpty();
+	}
+
+	/**
+	 * Applies this patch to an {@link EdgeConfig}.
+	 *
+	 * @param config the {@link EdgeConfig} with version
+	 *               {@link #getPreviousVersion()}
+	 * @return a new {@link EdgeConfig} with version {@link #getVersion()}
+	 * @throws OpenemsNamedException on version mismatch or error
+	 */
+	public EdgeConfig applyTo(EdgeConfig config) throws OpenemsNamedException {
+		if (config.getVersion() != this.previousVersion) {
+			throw new OpenemsException("Unable to apply EdgeConfigPatch [" + this.previousVersion + "->"
+					+ this.version + "] to EdgeConfig version [" + config.getVersion() + "]");
+		}
+		var json = config.toJson();
+		return EdgeConfig.fromJson(JsonUtils.buildJsonObject() //
+				.addProperty("version", this.version) //
+				.add("components", this.components.applyTo(JsonUtils.getAsJsonObject(json, "components"))) //
+				.add("factories", this.factories.applyTo(JsonUtils.getAsJsonObject(json, "factories"))) //
+				.build());
+	}
+
+	/**
+	 * Returns the patch as a JSON Object.
+	 *
+	 * @return patch as a JSON Object
+	 */
+	public JsonObject toJson() {
+		return JsonUtils.buildJsonObject() //
+				.addProperty("previousVersion", this.previousVersion) //
+				.addProperty("version", this.version) //
+				.add("components", this.components.updatedToJson()) //
+				.add("removedComponents", this.components.removedToJson()) //
+				.add("factories", this.factories.updatedToJson()) //
+				.add("removedFactories", this.factories.removedToJson()) //
+				.build();
+	}
+
+	@Override
+	public String toString() {
+		return "EdgeConfigPatch [" + this.previousVersion + "->" + this.version //
+				+ ", components=" + this.components.updated.keySet() //
+				+ ", removedComponents=" + this.components.removed //
+				+ ", factories=" + this.factories.updated.size() //
+				+ ", removedFactories=" + this.factories.removed.size() + "]";
+	}
+
+}
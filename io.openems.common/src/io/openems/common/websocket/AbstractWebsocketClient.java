@@ -2,6 +2,7 @@ package io.openems.common.websocket;
 
 import java.net.Proxy;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -17,6 +18,7 @@ import org.slf4j.LoggerFactory;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.JsonrpcCodec;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
@@ -82,7 +84,7 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 			public void onMessage(String stringMessage) {
 				final JsonrpcMessage message;
 				try {
-					message = JsonrpcMessage.from(stringMessage);
+					message = JsonrpcCodec.decode(stringMessage);
 				} catch (OpenemsNamedException e) {
 					AbstractWebsocketClient.this.handleInternalErrorAsync(e,
 							WebsocketUtils.getWsDataString(AbstractWebsocketClient.this.ws));
@@ -205,7 +207,7 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 	 */
 	public void sendMessageOrError(JsonrpcMessage message) throws OpenemsException {
 		try {
-			this.ws.send(message.toString());
+			WebsocketUtils.sendMessage(this.ws, message);
 		} catch (Exception e) {
 			if (e instanceof WebsocketNotConnectedException) {
 				AbstractWebsocketClient.this.reconnectorWorker.triggerNextRun();
@@ -233,6 +235,28 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 		}
 	}
 
+	/**
+	 * Sends a binary message. Returns true if sending was successful, otherwise
+	 * false. Also logs a warning in that case.
+	 *
+	 * @param message the binary message
+	 * @return true if sending was successful
+	 */
+	public boolean sendMessage(ByteBuffer message) {
+		try {
+			this.ws.send(message);
+			return true;
+
+		} catch (Exception e) {
+			if (e instanceof WebsocketNotConnectedException) {
+				AbstractWebsocketClient.this.reconnectorWorker.triggerNextRun();
+			}
+			this.logWarn(this.log, "Unable to send binary message. " + e.getClass().getSimpleName() + ": "
+					+ message.remaining() + " bytes");
+			return false;
+		}
+	}
+
 	/**
 	 * Sends a JSON-RPC Request and returns a future Response.
 	 *
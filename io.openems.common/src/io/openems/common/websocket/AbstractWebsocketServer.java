@@ -2,20 +2,29 @@ package io.openems.common.websocket;
 
 import java.net.BindException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.drafts.Draft;
+import org.java_websocket.exceptions.InvalidDataException;
 import org.java_websocket.exceptions.WebsocketNotConnectedException;
 import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.handshake.ServerHandshakeBuilder;
 import org.java_websocket.server.WebSocketServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,6 +33,7 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.JsonrpcCodec;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
@@ -48,11 +58,53 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		}
 	}
 
+	public static enum ExecutionMode {
+		/**
+		 * All handlers share one thread pool with a fixed number of threads.
+		 */
+		SHARED_POOL,
+		/**
+		 * Handlers run on an elastic thread pool. The number of concurrently running
+		 * handlers is limited per handler class, e.g. {@link OnRequestHandler}, so
+		 * that slow handlers of one class do not block handlers of another class.
+		 * Notifications of one connection are handled one after another in the order
+		 * they were received.
+		 */
+		ELASTIC;
+	}
+
+	/**
+	 * Queue wait statistics key for JSON-RPC methods that are not in
+	 * {@link #getQueueWaitMethods()}.
+	 */
+	protected static final String QUEUE_WAIT_OTHER = "other";
+
 	/**
 	 * Shared {@link ExecutorService}.
 	 */
 	private final ThreadPoolExecutor executor;
 
+	private final ExecutionMode executionMode;
+	private final int defaultConcurrencyLimit;
+	private final Map<Class<? extends Runnable>, Integer> concurrencyLimits;
+
+	/**
+	 * Per handler class {@link BoundedExecutor}s in {@link ExecutionMode#ELASTIC}.
+	 */
+	private final ConcurrentHashMap<Class<? extends Runnable>, BoundedExecutor> handlerExecutors = new ConcurrentHashMap<>();
+
+	/**
+	 * Per connection {@link BoundedExecutor}s for {@link OnNotificationHandler}s in
+	 * {@link ExecutionMode#ELASTIC}.
+	 */
+	private final ConcurrentHashMap<WebSocket, BoundedExecutor> connectionExecutors = new ConcurrentHashMap<>();
+
+	/**
+	 * Queue wait statistics per JSON-RPC method in {@link #getQueueWaitMethods()},
+	 * {@link #QUEUE_WAIT_OTHER} or handler class, e.g. {@link OnOpenHandler}.
+	 */
+	private final ConcurrentHashMap<String, QueueWait> queueWaits = new ConcurrentHashMap<>();
+
 	private final ConcurrentHashMap<String, AtomicInteger> activeTasks = new ConcurrentHashMap<>(100);
 	private static final Function<String, AtomicInteger> ATOMIC_INTEGER_PROVIDER = (key) -> {
 		return new AtomicInteger(0);
@@ -74,9 +126,37 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	 *                      tasks
 	 */
 	protected AbstractWebsocketServer(String name, int port, int poolSize, DebugMode debugMode) {
+		this(name, port, poolSize, debugMode, ExecutionMode.SHARED_POOL, Map.of());
+	}
+
+	/**
+	 * Construct an {@link AbstractWebsocketServer}.
+	 *
+	 * @param name              to identify this server
+	 * @param port              to listen on
+	 * @param poolSize          number of threads dedicated to handle the tasks; in
+	 *                          {@link ExecutionMode#ELASTIC} the default
+	 *                          concurrency limit per handler class
+	 * @param debugMode         activate a regular debug log about the state of the
+	 *                          tasks
+	 * @param executionMode     the {@link ExecutionMode}
+	 * @param concurrencyLimits in {@link ExecutionMode#ELASTIC}: the maximum number
+	 *                          of concurrently running handlers per handler class,
+	 *                          e.g. {@link OnRequestHandler}
+	 */
+	protected AbstractWebsocketServer(String name, int port, int poolSize, DebugMode debugMode,
+			ExecutionMode executionMode, Map<Class<? extends Runnable>, Integer> concurrencyLimits) {
 		super(name);
-		this.executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(poolSize,
-				new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
+		this.executionMode = executionMode == null ? ExecutionMode.SHARED_POOL : executionMode;
+		this.defaultConcurrencyLimit = poolSize;
+		this.concurrencyLimits = Map.copyOf(concurrencyLimits);
+		var threadFactory = new ThreadFactoryBuilder().setNameFormat(name + "-%d").build();
+		this.executor = switch (this.executionMode) {
+		case SHARED_POOL -> (ThreadPoolExecutor) Executors.newFixedThreadPool(poolSize, threadFactory);
+		// Threads are created on demand; their number is bound by the concurrency
+		// limits
+		case ELASTIC -> (ThreadPoolExecutor) Executors.newCachedThreadPool(threadFactory);
+		};
 
 		this.port = port;
 		this.ws = new WebSocketServer(new InetSocketAddress(port),
@@ -103,47 +183,77 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 				}
 			}
 
+			@Override
+			public ServerHandshakeBuilder onWebsocketHandshakeReceivedAsServer(WebSocket ws, Draft draft,
+					ClientHandshake request) throws InvalidDataException {
+				var response = super.onWebsocketHandshakeReceivedAsServer(ws, draft, request);
+				AbstractWebsocketServer.this.onHandshake(request, response);
+				return response;
+			}
+
 			@Override
 			public void onMessage(WebSocket ws, String stringMessage) {
 				try {
 					JsonrpcMessage message;
 					try {
 						try {
-							message = JsonrpcMessage.from(stringMessage);
+							message = JsonrpcCodec.decode(stringMessage);
 
 						} catch (OpenemsNamedException e) {
 							// handle deprecated non-JSON-RPC messages
 							message = AbstractWebsocketServer.this.handleNonJsonrpcMessage(ws, stringMessage, e);
 						}
-						if (message == null) {
-							// silently ignore 'null'
-							return;
-						}
 					} catch (OpenemsNamedException e) {
 						AbstractWebsocketServer.this.handleInternalErrorAsync(e, WebsocketUtils.getWsDataString(ws));
 						return;
 					}
+					this.handleMessage(ws, message);
 
-					if (message instanceof JsonrpcRequest) {
-						AbstractWebsocketServer.this.execute(new OnRequestHandler(AbstractWebsocketServer.this, ws,
-								(JsonrpcRequest) message, response -> {
-									AbstractWebsocketServer.this.sendMessage(ws, response);
-								}));
-
-					} else if (message instanceof JsonrpcResponse) {
-						AbstractWebsocketServer.this.execute(
-								new OnResponseHandler(AbstractWebsocketServer.this, ws, (JsonrpcResponse) message));
+				} catch (Throwable t) {
+					AbstractWebsocketServer.this.handleInternalErrorSync(t, WebsocketUtils.getWsDataString(ws));
+				}
+			}
 
-					} else if (message instanceof JsonrpcNotification) {
-						AbstractWebsocketServer.this.execute(new OnNotificationHandler(AbstractWebsocketServer.this, ws,
-								(JsonrpcNotification) message));
+			@Override
+			public void onMessage(WebSocket ws, ByteBuffer binaryMessage) {
+				try {
+					JsonrpcMessage message;
+					try {
+						// Decode synchronously to keep the order of frames
+						message = AbstractWebsocketServer.this.handleBinaryMessage(ws, binaryMessage);
+					} catch (OpenemsNamedException e) {
+						AbstractWebsocketServer.this.handleInternalErrorAsync(e, WebsocketUtils.getWsDataString(ws));
+						return;
 					}
+					this.handleMessage(ws, message);
 
 				} catch (Throwable t) {
 					AbstractWebsocketServer.this.handleInternalErrorSync(t, WebsocketUtils.getWsDataString(ws));
 				}
 			}
 
+			private void handleMessage(WebSocket ws, JsonrpcMessage message) {
+				if (message == null) {
+					// silently ignore 'null'
+					return;
+				}
+
+				if (message instanceof JsonrpcRequest request) {
+					AbstractWebsocketServer.this.execute(request.getMethod(),
+							new OnRequestHandler(AbstractWebsocketServer.this, ws, request, response -> {
+								AbstractWebsocketServer.this.sendMessage(ws, response);
+							}));
+
+				} else if (message instanceof JsonrpcResponse response) {
+					AbstractWebsocketServer.this.execute(
+							new OnResponseHandler(AbstractWebsocketServer.this, ws, response));
+
+				} else if (message instanceof JsonrpcNotification notification) {
+					AbstractWebsocketServer.this.executeInOrder(ws, notification.getMethod(),
+							new OnNotificationHandler(AbstractWebsocketServer.this, ws, notification));
+				}
+			}
+
 			@Override
 			public void onError(WebSocket ws, Exception ex) {
 				try {
@@ -161,6 +271,7 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 			@Override
 			public void onClose(WebSocket ws, int code, String reason, boolean remote) {
 				try {
+					AbstractWebsocketServer.this.connectionExecutors.remove(ws);
 					AbstractWebsocketServer.this
 							.execute(new OnCloseHandler(AbstractWebsocketServer.this, ws, code, reason, remote));
 
@@ -219,6 +330,9 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		var b = new StringBuilder("[monitor] ") //
 				.append("Connections: ").append(this.ws.getConnections().size()).append(", ") //
 				.append(ThreadPoolUtils.debugLog(this.executor)); //
+		if (this.executionMode == ExecutionMode.ELASTIC) {
+			b.append(", Queued: ").append(this.getQueuedCount());
+		}
 		if (this.debugMode.isAtLeast(DebugMode.DETAILED) && this.executor.getActiveCount() > 0) {
 			b.append(", Tasks: ");
 			this.activeTasks.forEach((id, count) -> {
@@ -235,15 +349,38 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	/**
 	 * Returns debug metrics of the current websocket state.
 	 * 
+	 * <p>
+	 * Includes the average and maximum time in milliseconds that messages waited
+	 * for execution since the last call, per JSON-RPC method (see
+	 * {@link #getQueueWaitMethods()}) or per handler class, e.g.
+	 * {@link OnOpenHandler}.
+	 * 
 	 * @return the debug metrics
 	 */
 	public Map<String, Number> debugMetrics() {
 		final var metrics = new HashMap<String, Number>();
 		metrics.putAll(ThreadPoolUtils.debugMetrics(this.executor));
 		metrics.put("Connections", this.connections.size());
+		if (this.executionMode == ExecutionMode.ELASTIC) {
+			metrics.put("Queued", this.getQueuedCount());
+		}
+		this.queueWaits.forEach((type, queueWait) -> {
+			queueWait.collect(type, metrics);
+		});
 		return metrics;
 	}
 
+	private int getQueuedCount() {
+		var result = 0;
+		for (var executor : this.handlerExecutors.values()) {
+			result += executor.getQueueSize();
+		}
+		for (var executor : this.connectionExecutors.values()) {
+			result += executor.getQueueSize();
+		}
+		return result;
+	}
+
 	@Override
 	protected OnInternalError getOnInternalError() {
 		return (t, wsDataString) -> {
@@ -268,8 +405,12 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	 * @param message the JSON-RPC Message
 	 */
 	public void sendMessage(WebSocket ws, JsonrpcMessage message) {
+		this.sendMessage(ws, message, JsonrpcCodec.encode(message));
+	}
+
+	private void sendMessage(WebSocket ws, JsonrpcMessage message, ByteBuffer payload) {
 		try {
-			ws.send(message.toString());
+			WebsocketUtils.sendMessage(ws, payload);
 
 		} catch (WebsocketNotConnectedException e) {
 			WsData wsData = ws.getAttachment();
@@ -290,8 +431,14 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	 * @param message the JSON-RPC Message
 	 */
 	public void broadcastMessage(JsonrpcMessage message) {
-		for (WebSocket ws : this.getConnections()) {
-			this.sendMessage(ws, message);
+		var connections = this.getConnections();
+		if (connections.isEmpty()) {
+			return;
+		}
+		// Encode only once
+		var payload = JsonrpcCodec.encode(message);
+		for (WebSocket ws : connections) {
+			this.sendMessage(ws, message, payload);
 		}
 	}
 
@@ -321,8 +468,85 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	 */
 	@Override
 	protected void execute(Runnable command) {
+		this.getHandlerExecutor(command).execute(//
+				this.measureQueueWait(command.getClass().getSimpleName(), this.trackActiveTask(command)));
+	}
+
+	/**
+	 * Execute a {@link Runnable} for a JSON-RPC message and record its queue wait
+	 * time per method.
+	 *
+	 * @param method  the JSON-RPC method
+	 * @param command the {@link Runnable}
+	 */
+	private void execute(String method, Runnable command) {
+		this.getHandlerExecutor(command).execute(//
+				this.measureQueueWait(this.getQueueWaitType(method), this.trackActiveTask(command)));
+	}
+
+	/**
+	 * Execute a {@link Runnable} for a JSON-RPC message after all previously
+	 * submitted {@link Runnable}s of the same connection; see
+	 * {@link ExecutionMode#ELASTIC}.
+	 *
+	 * @param ws      the {@link WebSocket} connection
+	 * @param method  the JSON-RPC method
+	 * @param command the {@link Runnable}
+	 */
+	private void executeInOrder(WebSocket ws, String method, Runnable command) {
+		if (this.executionMode != ExecutionMode.ELASTIC) {
+			this.execute(method, command);
+			return;
+		}
+		var handlerExecutor = this.getHandlerExecutor(command);
+		this.connectionExecutors.computeIfAbsent(ws, key -> new BoundedExecutor(handlerExecutor, 1)) //
+				.execute(this.measureQueueWait(this.getQueueWaitType(method), this.trackActiveTask(command)));
+	}
+
+	/**
+	 * Gets the JSON-RPC methods handled by this server. Queue wait times are
+	 * reported per method for these; all other methods - which are chosen by the
+	 * client - are reported together as {@link #QUEUE_WAIT_OTHER}, so the number
+	 * of statistics stays bounded.
+	 *
+	 * @return the JSON-RPC methods
+	 */
+	protected Set<String> getQueueWaitMethods() {
+		return Set.of();
+	}
+
+	private String getQueueWaitType(String method) {
+		return this.getQueueWaitMethods().contains(method) ? method : QUEUE_WAIT_OTHER;
+	}
+
+	private Executor getHandlerExecutor(Runnable command) {
+		return switch (this.executionMode) {
+		case SHARED_POOL -> this.executor;
+		case ELASTIC -> this.handlerExecutors.computeIfAbsent(command.getClass(),
+				handler -> new BoundedExecutor(this.executor,
+						this.concurrencyLimits.getOrDefault(handler, this.defaultConcurrencyLimit)));
+		};
+	}
+
+	/**
+	 * Wraps a {@link Runnable} to record its queue wait time.
+	 *
+	 * @param type the statistics key; from a bounded set
+	 * @param task the {@link Runnable} to execute
+	 * @return the wrapped {@link Runnable}
+	 */
+	private Runnable measureQueueWait(String type, Runnable task) {
+		final var submitted = System.nanoTime();
+		final var queueWait = this.queueWaits.computeIfAbsent(type, key -> new QueueWait());
+		return () -> {
+			queueWait.add(System.nanoTime() - submitted);
+			task.run();
+		};
+	}
+
+	private Runnable trackActiveTask(Runnable command) {
 		if (this.debugMode.isAtLeast(DebugMode.DETAILED)) {
-			this.executor.execute(() -> {
+			return () -> {
 				String id = AbstractWebsocketServer.getRunnableIdentifier(command);
 				try {
 					this.activeTasks.computeIfAbsent(id, ATOMIC_INTEGER_PROVIDER).incrementAndGet();
@@ -332,9 +556,36 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 				} finally {
 					this.activeTasks.get(id).decrementAndGet();
 				}
-			});
-		} else {
-			this.executor.execute(command);
+			};
+		}
+		return command;
+	}
+
+	/**
+	 * Queue wait times of one message type since the last call to
+	 * {@link #collect(String, Map)}.
+	 */
+	private static class QueueWait {
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder total = new LongAdder();
+		private final AtomicLong max = new AtomicLong();
+
+		private void add(long nanos) {
+			this.count.increment();
+			this.total.add(nanos);
+			this.max.accumulateAndGet(nanos, Math::max);
+		}
+
+		private void collect(String type, Map<String, Number> metrics) {
+			var count = this.count.sumThenReset();
+			var total = this.total.sumThenReset();
+			var max = this.max.getAndSet(0);
+			if (count == 0) {
+				return;
+			}
+			metrics.put("QueueWait/" + type + "/Avg", TimeUnit.NANOSECONDS.toMillis(total / count));
+			metrics.put("QueueWait/" + type + "/Max", TimeUnit.NANOSECONDS.toMillis(max));
 		}
 	}
 
@@ -386,4 +637,31 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		throw new OpenemsException("Unhandled Non-JSON-RPC message", e);
 	}
 
+	/**
+	 * Handle binary messages.
+	 * 
+	 * <p>
+	 * This is called synchronously on the websocket thread, i.e. in the order the
+	 * messages were received.
+	 * 
+	 * @param ws            the {@link WebSocket}
+	 * @param binaryMessage the message
+	 * @return message converted to {@link JsonrpcMessage}; or null
+	 * @throws OpenemsNamedException if conversion is not possible
+	 */
+	protected JsonrpcMessage handleBinaryMessage(WebSocket ws, ByteBuffer binaryMessage)
+			throws OpenemsNamedException {
+		throw new OpenemsException("Unhandled binary message");
+	}
+
+	/**
+	 * Called on an incoming handshake; allows to add HTTP headers to the
+	 * handshake response, e.g. to negotiate protocol features.
+	 * 
+	 * @param request  the {@link ClientHandshake}
+	 * @param response the {@link ServerHandshakeBuilder}
+	 */
+	protected void onHandshake(ClientHandshake request, ServerHandshakeBuilder response) {
+	}
+
 }
@@ -0,0 +1,124 @@
+package io.openems.common.websocket;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import io.openems.common.exceptions.OpenemsException;
+
+/**
+ * Compact binary encoding of
+ * {@link io.openems.common.jsonrpc.notification.TimestampedDataNotification}s
+ * from Edge to Backend.
+ *
+ * <p>
+ * The encoding is negotiated in the websocket handshake: the Edge sends the
+ * HTTP header {@value #HEADER}; a Backend that supports the encoding answers
+ * with the same header and {@value #VERSION}. Otherwise the Edge keeps sending
+ * JSON-RPC.
+ *
+ * <p>
+ * Every binary frame is self-contained and encodes one timestamp:
+ *
+ * <pre>
+ * u8       version
+ * u8       flags; bit 0: reset Channel-Address dictionary and timestamp
+ * varlong  timestamp; zig-zag delta to the timestamp of the previous frame
+ * varint   number of new Channel-Addresses; IDs are assigned sequentially
+ * string[] new Channel-Addresses
+ * varint   number of values
+ * value[]  varint ID delta to previous ID minus one; u8 tag; payload
+ * </pre>
+ *
+ * <p>
+ * Strings are encoded as varint length plus UTF-8 bytes. Values are only sent
+ * if they changed; see {@link BinaryUplinkEncoder}.
+ */
+public final class BinaryUplink {
+
+	public static final String HEADER = "X-OpenEMS-Binary-Uplink";
+	public static final String VERSION = "1";
+
+	protected static final byte VERSION_BYTE = 1;
+	protected static final int FLAG_RESET = 0x01;
+
+	protected static final byte TAG_NULL = 0;
+	protected static final byte TAG_FALSE = 1;
+	protected static final byte TAG_TRUE = 2;
+	protected static final byte TAG_LONG = 3;
+	protected static final byte TAG_FLOAT = 4;
+	protected static final byte TAG_DOUBLE = 5;
+	protected static final byte TAG_STRING = 6;
+	protected static final byte TAG_JSON = 7;
+
+	private BinaryUplink() {
+	}
+
+	/**
+	 * Does the handshake signal support for the binary uplink?.
+	 *
+	 * @param headerValue the value of the {@value #HEADER} HTTP header; possibly
+	 *                    null
+	 * @return true if supported
+	 */
+	public static boolean isSupported(String headerValue) {
+		return VERSION.equals(headerValue);
+	}
+
+	protected static void writeVarLong(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	protected static void writeZigZag(ByteArrayOutputStream out, long value) {
+		writeVarLong(out, (value << 1) ^ (value >> 63));
+	}
+
+	protected static void writeString(ByteArrayOutputStream out, String value) {
+		var bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarLong(out, bytes.length);
+		out.write(bytes, 0, bytes.length);
+	}
+
+	protected static long readVarLong(ByteBuffer in) throws OpenemsException {
+		long result = 0;
+		for (var shift = 0; shift < 64; shift += 7) {
+			if (!in.hasRemaining()) {
+				throw new OpenemsException("Binary uplink frame is truncated");
+			}
+			var b = in.get();
+			result |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new OpenemsException("Binary uplink frame has a malformed varint");
+	}
+
+	protected static int readVarInt(ByteBuffer in) throws OpenemsException {
+		var value = readVarLong(in);
+		if (value < 0 || value > Integer.MAX_VALUE) {
+			throw new OpenemsException("Binary uplink frame has an invalid length [" + value + "]");
+		}
+		return (int) value;
+	}
+
+	protected static long readZigZag(ByteBuffer in) throws OpenemsException {
+		var value = readVarLong(in);
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	protected static String readString(ByteBuffer in) throws OpenemsException {
+		var length = readVarInt(in);
+		if (length > in.remaining()) {
+			throw new OpenemsException("Binary uplink frame is truncated");
+		}
+		var bytes = new byte[length];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,91 @@
+package io.openems.common.websocket;
+
+import static io.openems.common.websocket.BinaryUplink.readString;
+import static io.openems.common.websocket.BinaryUplink.readVarInt;
+import static io.openems.common.websocket.BinaryUplink.readZigZag;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * Decodes {@link BinaryUplink} frames to {@link TimestampedDataNotification}s.
+ *
+ * <p>
+ * Frames of one connection have to be decoded in order, because they build on
+ * the Channel-Address dictionary of previous frames.
+ */
+public class BinaryUplinkDecoder {
+
+	private final List<String> addresses = new ArrayList<>();
+
+	private long lastTimestamp = 0;
+
+	/**
+	 * Decodes a binary frame.
+	 *
+	 * @param frame the frame
+	 * @return the {@link TimestampedDataNotification}
+	 * @throws OpenemsException on malformed frame or unknown Channel-Address ID
+	 */
+	public synchronized TimestampedDataNotification decode(ByteBuffer frame) throws OpenemsException {
+		try {
+			var version = frame.get();
+			if (version != BinaryUplink.VERSION_BYTE) {
+				throw new OpenemsException("Unsupported binary uplink version [" + version + "]");
+			}
+			var flags = frame.get();
+			if ((flags & BinaryUplink.FLAG_RESET) != 0) {
+				this.addresses.clear();
+				this.lastTimestamp = 0;
+			}
+			var timestamp = this.lastTimestamp + readZigZag(frame);
+			this.lastTimestamp = timestamp;
+
+			var newAddresses = readVarInt(frame);
+			for (var i = 0; i < newAddresses; i++) {
+				this.addresses.add(readString(frame));
+			}
+
+			var result = new TimestampedDataNotification();
+			var count = readVarInt(frame);
+			var id = -1;
+			for (var i = 0; i < count; i++) {
+				id += readVarInt(frame) + 1;
+				if (id >= this.addresses.size()) {
+					throw new OpenemsException("Unknown Channel-Address ID [" + id + "] in binary uplink frame");
+				}
+				result.add(timestamp, this.addresses.get(id), readValue(frame));
+			}
+			return result;
+
+		} catch (RuntimeException e) {
+			throw new OpenemsException("Malformed binary uplink frame. " + e.getClass().getSimpleName() + ": "
+					+ e.getMessage());
+		}
+	}
+
+	private static JsonElement readValue(ByteBuffer frame) throws OpenemsException {
+		var tag = frame.get();
+		return switch (tag) {
+		case BinaryUplink.TAG_NULL -> JsonNull.INSTANCE;
+		case BinaryUplink.TAG_FALSE -> new JsonPrimitive(false);
+		case BinaryUplink.TAG_TRUE -> new JsonPrimitive(true);
+		case BinaryUplink.TAG_LONG -> new JsonPrimitive(readZigZag(frame));
+		case BinaryUplink.TAG_FLOAT -> new JsonPrimitive(Float.intBitsToFloat(frame.getInt()));
+		case BinaryUplink.TAG_DOUBLE -> new JsonPrimitive(Double.longBitsToDouble(frame.getLong()));
+		case BinaryUplink.TAG_STRING -> new JsonPrimitive(readString(frame));
+		case BinaryUplink.TAG_JSON -> JsonParser.parseString(readString(frame));
+		default -> throw new OpenemsException("Unknown value tag [" + tag + "] in binary uplink frame");
+		};
+	}
+
+}
@@ -0,0 +1,142 @@
+package io.openems.common.websocket;
+
+import static io.openems.common.websocket.BinaryUplink.writeString;
+import static io.openems.common.websocket.BinaryUplink.writeVarLong;
+import static io.openems.common.websocket.BinaryUplink.writeZigZag;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Encodes timestamped Channel values to {@link BinaryUplink} frames.
+ *
+ * <p>
+ * Keeps the dictionary of Channel-Addresses that were already sent on the
+ * current connection. Call {@link #reset()} whenever the Backend might have
+ * lost that state, i.e. on (re)connect, on a new EdgeConfig or if sending a
+ * frame failed.
+ */
+public class BinaryUplinkEncoder {
+
+	private final Map<String, Integer> ids = new HashMap<>();
+
+	private boolean reset = true;
+	private long lastTimestamp = 0;
+
+	/**
+	 * Resets the dictionary. The next frame starts with a reset flag and
+	 * transmits all used Channel-Addresses again.
+	 */
+	public synchronized void reset() {
+		this.reset = true;
+	}
+
+	/**
+	 * Encodes values of one timestamp to a binary frame.
+	 *
+	 * @param timestamp the timestamp epoch in milliseconds
+	 * @param values    a map of Channel-Address to {@link JsonElement} value
+	 * @return the frame
+	 */
+	public synchronized ByteBuffer encode(long timestamp, Map<String, JsonElement> values) {
+		var out = new ByteArrayOutputStream(16 + values.size() * 4);
+		var flags = 0;
+		if (this.reset) {
+			this.ids.clear();
+			this.lastTimestamp = 0;
+			this.reset = false;
+			flags |= BinaryUplink.FLAG_RESET;
+		}
+		out.write(BinaryUplink.VERSION_BYTE);
+		out.write(flags);
+		writeZigZag(out, timestamp - this.lastTimestamp);
+		this.lastTimestamp = timestamp;
+
+		// Assign IDs; sort by ID to delta-encode them
+		var elements = new JsonElement[values.size()];
+		var sortKeys = new long[values.size()];
+		var newAddresses = new ArrayList<String>();
+		var index = 0;
+		for (var entry : values.entrySet()) {
+			var id = this.ids.get(entry.getKey());
+			if (id == null) {
+				id = this.ids.size();
+				this.ids.put(entry.getKey(), id);
+				newAddresses.add(entry.getKey());
+			}
+			elements[index] = entry.getValue();
+			sortKeys[index] = (long) id << 32 | index;
+			index++;
+		}
+		Arrays.sort(sortKeys);
+
+		writeVarLong(out, newAddresses.size());
+		for (var address : newAddresses) {
+			writeString(out, address);
+		}
+
+		writeVarLong(out, sortKeys.length);
+		var lastId = -1;
+		for (var sortKey : sortKeys) {
+			var id = (int) (sortKey >>> 32);
+			writeVarLong(out, id - lastId - 1);
+			lastId = id;
+			writeValue(out, elements[(int) sortKey]);
+		}
+		return ByteBuffer.wrap(out.toByteArray());
+	}
+
+	private static void writeValue(ByteArrayOutputStream out, JsonElement value) {
+		if (value == null || value.isJsonNull()) {
+			out.write(BinaryUplink.TAG_NULL);
+
+		} else if (value instanceof JsonPrimitive p) {
+			if (p.isBoolean()) {
+				out.write(p.getAsBoolean() ? BinaryUplink.TAG_TRUE : BinaryUplink.TAG_FALSE);
+
+			} else if (p.isNumber()) {
+				var number = p.getAsNumber();
+				if (number instanceof Integer || number instanceof Long || number instanceof Short
+						|| number instanceof Byte) {
+					out.write(BinaryUplink.TAG_LONG);
+					writeZigZag(out, number.longValue());
+
+				} else if (number instanceof Float f) {
+					out.write(BinaryUplink.TAG_FLOAT);
+					writeFixed(out, Float.floatToIntBits(f), 4);
+
+				} else if (number instanceof Double d) {
+					out.write(BinaryUplink.TAG_DOUBLE);
+					writeFixed(out, Double.doubleToLongBits(d), 8);
+
+				} else {
+					// e.g. LazilyParsedNumber: keep exact representation
+					out.write(BinaryUplink.TAG_JSON);
+					writeString(out, p.toString());
+				}
+
+			} else {
+				out.write(BinaryUplink.TAG_STRING);
+				writeString(out, p.getAsString());
+			}
+
+		} else {
+			out.write(BinaryUplink.TAG_JSON);
+			writeString(out, value.toString());
+		}
+	}
+
+	private static void writeFixed(ByteArrayOutputStream out, long bits, int bytes) {
+		for (var i = bytes - 1; i >= 0; i--) {
+			out.write((int) (bits >>> (i * 8)));
+		}
+	}
+
+}
@@ -0,0 +1,105 @@
+package io.openems.common.websocket;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An {@link Executor} that runs at most a given number of tasks at a time on a
+ * delegate {@link Executor}.
+ *
+ * <p>
+ * Tasks above the limit are queued - without blocking a thread - and started in
+ * order of submission as soon as a running task finishes. With a limit of one,
+ * tasks are executed one after another in order of submission.
+ */
+public class BoundedExecutor implements Executor {
+
+	private final Executor delegate;
+	private final int maxConcurrency;
+	private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger active = new AtomicInteger(0);
+
+	/**
+	 * Construct a {@link BoundedExecutor}.
+	 *
+	 * @param delegate       the {@link Executor} that runs the tasks
+	 * @param maxConcurrency the maximum number of tasks running at a time
+	 */
+	public BoundedExecutor(Executor delegate, int maxConcurrency) {
+		if (maxConcurrency < 1) {
+			throw new IllegalArgumentException("Max-Concurrency must be at least 1");
+		}
+		this.delegate = delegate;
+		this.maxConcurrency = maxConcurrency;
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		this.queue.add(command);
+		this.startNext();
+	}
+
+	private void startNext() {
+		while (true) {
+			var active = this.active.get();
+			if (active >= this.maxConcurrency || this.queue.isEmpty()) {
+				// A finishing task re-checks the queue after decrementing 'active'
+				return;
+			}
+			if (!this.active.compareAndSet(active, active + 1)) {
+				continue;
+			}
+			var task = this.queue.poll();
+			if (task == null) {
+				// Taken by a concurrent call
+				this.active.decrementAndGet();
+				continue;
+			}
+			try {
+				this.delegate.execute(() -> {
+					try {
+						task.run();
+					} finally {
+						this.active.decrementAndGet();
+						this.startNext();
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				this.active.decrementAndGet();
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of tasks that are waiting for execution.
+	 *
+	 * @return the number of queued tasks
+	 */
+	public int getQueueSize() {
+		return this.queue.size();
+	}
+
+	/**
+	 * Gets the number of tasks that are currently running or handed over to the
+	 * delegate {@link Executor}.
+	 *
+	 * @return the number of active tasks
+	 */
+	public int getActiveCount() {
+		return this.active.get();
+	}
+
+	/**
+	 * Gets the maximum number of tasks running at a time.
+	 *
+	 * @return the limit
+	 */
+	public int getMaxConcurrency() {
+		return this.maxConcurrency;
+	}
+
+}
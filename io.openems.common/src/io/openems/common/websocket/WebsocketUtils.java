@@ -1,10 +1,17 @@
 package io.openems.common.websocket;
 
+import java.nio.ByteBuffer;
+
 import org.java_websocket.WebSocket;
+import org.java_websocket.exceptions.WebsocketNotConnectedException;
+import org.java_websocket.framing.TextFrame;
 import org.java_websocket.handshake.Handshakedata;
 
 import com.google.gson.JsonObject;
 
+import io.openems.common.jsonrpc.base.JsonrpcCodec;
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+
 public class WebsocketUtils {
 
 	/**
@@ -46,4 +53,37 @@ public class WebsocketUtils {
 		return wsData.toString();
 	}
 
+	/**
+	 * Sends a {@link JsonrpcMessage} as text frame.
+	 *
+	 * <p>
+	 * The message is encoded by {@link JsonrpcCodec} directly into the frame
+	 * payload.
+	 *
+	 * @param ws      the {@link WebSocket}
+	 * @param message the {@link JsonrpcMessage}
+	 * @throws WebsocketNotConnectedException if the {@link WebSocket} is not
+	 *                                        connected
+	 */
+	public static void sendMessage(WebSocket ws, JsonrpcMessage message) throws WebsocketNotConnectedException {
+		sendMessage(ws, JsonrpcCodec.encode(message));
+	}
+
+	/**
+	 * Sends a message that was encoded with {@link JsonrpcCodec#encode} as text
+	 * frame; e.g. to send the same encoded message to multiple WebSockets.
+	 *
+	 * @param ws      the {@link WebSocket}
+	 * @param payload the UTF-8 encoded JSON; it is not modified
+	 * @throws WebsocketNotConnectedException if the {@link WebSocket} is not
+	 *                                        connected
+	 */
+	public static void sendMessage(WebSocket ws, ByteBuffer payload) throws WebsocketNotConnectedException {
+		var frame = new TextFrame();
+		// Framing consumes the buffer
+		frame.setPayload(payload.duplicate());
+		frame.setFin(true);
+		ws.sendFrame(frame);
+	}
+
 }
@@ -1,5 +1,6 @@
 package io.openems.common.websocket;
 
+import java.nio.ByteBuffer;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -10,6 +11,7 @@ import org.java_websocket.exceptions.WebsocketNotConnectedException;
 import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.JsonrpcCodec;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
@@ -90,6 +92,25 @@ public abstract class WsData {
 		this.sendMessage(notification);
 	}
 
+	/**
+	 * Sends a JSON-RPC message that was encoded with
+	 * {@link JsonrpcCodec#encode(JsonrpcMessage)}; e.g. to send the same
+	 * Notification to multiple WebSockets.
+	 *
+	 * @param payload the encoded JSON-RPC message
+	 * @throws OpenemsException on error
+	 */
+	public void send(ByteBuffer payload) throws OpenemsException {
+		if (this.websocket == null) {
+			throw new OpenemsException("There is no Websocket defined for this WsData.");
+		}
+		try {
+			WebsocketUtils.sendMessage(this.websocket, payload);
+		} catch (WebsocketNotConnectedException e) {
+			throw new OpenemsException("Websocket is not connected: " + e.getMessage());
+		}
+	}
+
 	/**
 	 * Sends the JSON-RPC message.
 	 *
@@ -101,7 +122,7 @@ public abstract class WsData {
 			throw new OpenemsException("There is no Websocket defined for this WsData.");
 		}
 		try {
-			this.websocket.send(message.toString());
+			WebsocketUtils.sendMessage(this.websocket, message);
 		} catch (WebsocketNotConnectedException e) {
 			throw new OpenemsException("Websocket is not connected: " + e.getMessage());
 		}
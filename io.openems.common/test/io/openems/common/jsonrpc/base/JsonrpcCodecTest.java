@@ -0,0 +1,141 @@
+package io.openems.common.jsonrpc.base;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.utils.JsonUtils;
+
+public class JsonrpcCodecTest {
+
+	private static TimestampedDataNotification createData(int timestamps, int channels) {
+		var result = new TimestampedDataNotification();
+		for (var t = 0; t < timestamps; t++) {
+			for (var c = 0; c < channels; c++) {
+				var address = "component" + c % 10 + "/Channel" + c;
+				switch (c % 5) {
+				case 0 -> result.add(1_700_000_000_000L + t, address, new JsonPrimitive(c * 1000 + t));
+				case 1 -> result.add(1_700_000_000_000L + t, address, new JsonPrimitive(c + 0.5));
+				case 2 -> result.add(1_700_000_000_000L + t, address, new JsonPrimitive("\"quoted\" ä"));
+				case 3 -> result.add(1_700_000_000_000L + t, address, new JsonPrimitive(t % 2 == 0));
+				case 4 -> result.add(1_700_000_000_000L + t, address, JsonNull.INSTANCE);
+				}
+			}
+		}
+		return result;
+	}
+
+	private static String decodeUtf8(JsonrpcMessage message) {
+		var buffer = JsonrpcCodec.encode(message);
+		return new String(buffer.array(), buffer.position(), buffer.remaining(), StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void testDataNotification() throws OpenemsNamedException {
+		var notification = createData(3, 10);
+		var json = notification.toString();
+		assertEquals(json, decodeUtf8(notification));
+
+		var message = JsonrpcCodec.decode(json);
+		assertTrue(message instanceof TimestampedDataNotification);
+		var decoded = TimestampedDataNotification.from((TimestampedDataNotification) message);
+		assertEquals(notification.getData(), decoded.getData());
+		assertEquals(json, decoded.toString());
+
+		// Same result as the tree parser
+		var generic = (JsonrpcNotification) JsonrpcMessage.from(json);
+		assertEquals(TimestampedDataNotification.from(generic).getData(), decoded.getData());
+	}
+
+	@Test
+	public void testAggregatedDataNotification() throws OpenemsNamedException {
+		var notification = new AggregatedDataNotification();
+		notification.add(1_700_000_000_000L, "_sum/EssSoc", new JsonPrimitive(50));
+		var message = JsonrpcCodec.decode(notification.toString());
+		assertTrue(message instanceof AggregatedDataNotification);
+		assertEquals(notification.getData(), ((AggregatedDataNotification) message).getData());
+	}
+
+	@Test
+	public void testParamsBeforeMethod() throws OpenemsNamedException {
+		var message = JsonrpcCodec
+				.decode("{\"params\":{\"1\":{\"_sum/EssSoc\":50}},\"method\":\"timestampedData\",\"jsonrpc\":\"2.0\"}");
+		assertTrue(message instanceof GenericJsonrpcNotification);
+		assertEquals(50, TimestampedDataNotification.from((JsonrpcNotification) message).getData()
+				.get(1L, "_sum/EssSoc").getAsInt());
+	}
+
+	@Test
+	public void testOtherMessages() throws OpenemsNamedException {
+		var request = new GenericJsonrpcRequest(UUID.randomUUID(), "foo", JsonUtils.buildJsonObject() //
+				.addProperty("bar", 1) //
+				.build(), 60);
+		var message = JsonrpcCodec.decode(request.toString());
+		assertTrue(message instanceof GenericJsonrpcRequest);
+		assertEquals(request.toString(), message.toString());
+		assertEquals(request.toString(), decodeUtf8(request));
+
+		var response = new GenericJsonrpcResponseSuccess(request.getId(), new JsonObject());
+		message = JsonrpcCodec.decode(response.toString());
+		assertTrue(message instanceof JsonrpcResponseSuccess);
+		assertEquals(response.toString(), decodeUtf8(message));
+	}
+
+	@Test(expected = OpenemsNamedException.class)
+	public void testInvalidData() throws OpenemsNamedException {
+		JsonrpcCodec.decode("{\"jsonrpc\":\"2.0\",\"method\":\"timestampedData\",\"params\":{\"x\":{}}}");
+	}
+
+	@Test(expected = OpenemsNamedException.class)
+	public void testTrailingContent() throws OpenemsNamedException {
+		JsonrpcCodec.decode("{\"jsonrpc\":\"2.0\",\"method\":\"foo\",\"params\":{}} {}");
+	}
+
+	@Test
+	@Ignore
+	public void benchmark() throws OpenemsNamedException {
+		final var messages = 200;
+		var json = createData(10, 1_000).toString();
+		var threadMxBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		var threadId = Thread.currentThread().getId();
+
+		for (var round = 0; round < 5; round++) {
+			var bytes = threadMxBean.getThreadAllocatedBytes(threadId);
+			var start = System.nanoTime();
+			for (var i = 0; i < messages; i++) {
+				var message = (JsonrpcNotification) JsonrpcMessage.from(json);
+				TimestampedDataNotification.from(message).toString();
+			}
+			var treeTime = System.nanoTime() - start;
+			var treeBytes = threadMxBean.getThreadAllocatedBytes(threadId) - bytes;
+
+			bytes = threadMxBean.getThreadAllocatedBytes(threadId);
+			start = System.nanoTime();
+			for (var i = 0; i < messages; i++) {
+				var message = (JsonrpcNotification) JsonrpcCodec.decode(json);
+				JsonrpcCodec.encode(TimestampedDataNotification.from(message));
+			}
+			var codecTime = System.nanoTime() - start;
+			var codecBytes = threadMxBean.getThreadAllocatedBytes(threadId) - bytes;
+
+			System.out.println("Tree:  " + messages * 1_000_000_000L / treeTime + " messages/s, " //
+					+ treeBytes / messages / 1024 + " KiB/message");
+			System.out.println("Codec: " + messages * 1_000_000_000L / codecTime + " messages/s, " //
+					+ codecBytes / messages / 1024 + " KiB/message");
+		}
+	}
+
+}
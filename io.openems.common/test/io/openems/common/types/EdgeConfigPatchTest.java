@@ -0,0 +1,85 @@
+package io.openems.common.types;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.utils.JsonUtils;
+
+public class EdgeConfigPatchTest {
+
+	private static EdgeConfig.Component component(String id, String ip) {
+		return new EdgeConfig.Component(id, "", "Component.Foo", JsonUtils.buildJsonObject() //
+				.addProperty("ip", ip) //
+				.build());
+	}
+
+	@Test
+	public void testNotDifferent() throws OpenemsNamedException {
+		var config1 = EdgeConfig.ActualEdgeConfig.create() //
+				.addComponent("foo0", component("foo0", "192.168.1.1")) //
+				.buildEdgeConfig(1);
+		var config2 = EdgeConfig.ActualEdgeConfig.create() //
+				.addComponent("foo0", component("foo0", "192.168.1.1")) //
+				.buildEdgeConfig(2);
+		assertTrue(EdgeConfigPatch.diff(config1, config2).isEmpty());
+	}
+
+	@Test
+	public void testDiffAndApply() throws OpenemsNamedException {
+		var config1 = EdgeConfig.ActualEdgeConfig.create() //
+				.addComponent("foo0", component("foo0", "192.168.1.1")) //
+				.addComponent("foo1", component("foo1", "192.168.1.2")) //
+				.addComponent("foo2", component("foo2", "192.168.1.3")) //
+				.buildEdgeConfig(1);
+		var config2 = EdgeConfig.ActualEdgeConfig.create() //
+				.addComponent("foo0", component("foo0", "192.168.1.1")) //
+				.addComponent("foo1", component("foo1", "192.168.1.20")) //
+				.addComponent("foo3", component("foo3", "192.168.1.4")) //
+				.buildEdgeConfig(2);
+
+		var patch = EdgeConfigPatch.diff(config1, config2);
+		assertFalse(patch.isEmpty());
+		assertEquals(1, patch.getPreviousVersion());
+		assertEquals(2, patch.getVersion());
+
+		// Serialize and parse
+		var json = patch.toJson();
+		assertEquals(2, JsonUtils.getAsJsonObject(json, "components").size());
+		assertEquals("[\"foo2\"]", JsonUtils.getAsJsonArray(json, "removedComponents").toString());
+		patch = EdgeConfigPatch.fromJson(json);
+
+		// Apply to a config parsed from JSON, e.g. in Backend
+		var result = patch.applyTo(EdgeConfig.fromJson(config1.toJson()));
+		assertEquals(2, result.getVersion());
+		assertEquals(config2.toJson(), result.toJson());
+		assertEquals(new JsonPrimitive("192.168.1.20"),
+				result.getComponent("foo1").get().getProperty("ip").get());
+		assertFalse(result.getComponent("foo2").isPresent());
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testVersionMismatch() throws OpenemsNamedException {
+		var config1 = EdgeConfig.ActualEdgeConfig.create().buildEdgeConfig(1);
+		var config2 = EdgeConfig.ActualEdgeConfig.create() //
+				.addComponent("foo0", component("foo0", "192.168.1.1")) //
+				.buildEdgeConfig(2);
+		var patch = EdgeConfigPatch.diff(config1, config2);
+		patch.applyTo(EdgeConfig.ActualEdgeConfig.create().buildEdgeConfig(3));
+	}
+
+	@Test
+	public void testVersionInJson() {
+		var config = EdgeConfig.ActualEdgeConfig.create().buildEdgeConfig(5);
+		assertEquals(5, EdgeConfig.fromJson(config.toJson()).getVersion());
+		assertFalse(EdgeConfig.empty().toJson().has("version"));
+		assertEquals(0, EdgeConfig.fromJson(EdgeConfig.empty().toJson()).getVersion());
+	}
+
+}
@@ -0,0 +1,89 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsException;
+
+public class BinaryUplinkTest {
+
+	private static final long TIMESTAMP = 1_700_000_000_000L;
+
+	@Test
+	public void testIsSupported() {
+		assertTrue(BinaryUplink.isSupported(BinaryUplink.VERSION));
+		assertFalse(BinaryUplink.isSupported(null));
+		assertFalse(BinaryUplink.isSupported("0"));
+	}
+
+	@Test
+	public void testRoundTrip() throws OpenemsException {
+		var encoder = new BinaryUplinkEncoder();
+		var decoder = new BinaryUplinkDecoder();
+
+		Map<String, JsonElement> values = new HashMap<>();
+		values.put("_sum/EssSoc", new JsonPrimitive(55));
+		values.put("_sum/GridActivePower", new JsonPrimitive(-1234L));
+		values.put("meter0/Frequency", new JsonPrimitive(49.98f));
+		values.put("meter0/Voltage", new JsonPrimitive(230.123456789d));
+		values.put("io0/Relay1", new JsonPrimitive(true));
+		values.put("io0/Relay2", new JsonPrimitive(false));
+		values.put("_meta/Version", new JsonPrimitive("2024.1.0"));
+		values.put("ess0/Undefined", JsonNull.INSTANCE);
+		values.put("ess0/Parsed", JsonParser.parseString("12345678901234567890"));
+
+		var first = encoder.encode(TIMESTAMP, values);
+		var firstSize = first.remaining();
+		var data = decoder.decode(first).getData();
+		assertEquals(values, data.row(TIMESTAMP));
+
+		// Second frame only transmits IDs
+		Map<String, JsonElement> changed = new HashMap<>();
+		changed.put("_sum/EssSoc", new JsonPrimitive(56));
+		changed.put("meter0/Voltage", new JsonPrimitive(230.5d));
+		var second = encoder.encode(TIMESTAMP + 1000, changed);
+		assertTrue(second.remaining() < firstSize / 4);
+		data = decoder.decode(second).getData();
+		assertEquals(changed, data.row(TIMESTAMP + 1000));
+
+		// Timestamp going back
+		changed.put("io0/NewChannel", new JsonPrimitive(1));
+		data = decoder.decode(encoder.encode(TIMESTAMP - 5000, changed)).getData();
+		assertEquals(changed, data.row(TIMESTAMP - 5000));
+
+		// Reset: a fresh decoder can join
+		encoder.reset();
+		data = new BinaryUplinkDecoder().decode(encoder.encode(TIMESTAMP + 2000, changed)).getData();
+		assertEquals(changed, data.row(TIMESTAMP + 2000));
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testUnknownId() throws OpenemsException {
+		var encoder = new BinaryUplinkEncoder();
+		var values = Map.<String, JsonElement>of("_sum/EssSoc", new JsonPrimitive(55));
+		encoder.encode(TIMESTAMP, values);
+
+		// Decoder missed the first frame
+		new BinaryUplinkDecoder().decode(encoder.encode(TIMESTAMP + 1000, values));
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testTruncated() throws OpenemsException {
+		var frame = new BinaryUplinkEncoder().encode(TIMESTAMP,
+				Map.<String, JsonElement>of("_sum/EssSoc", new JsonPrimitive(55)));
+		new BinaryUplinkDecoder().decode(ByteBuffer.wrap(frame.array(), 0, frame.remaining() - 2));
+	}
+
+}
@@ -0,0 +1,77 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class BoundedExecutorTest {
+
+	@Test
+	public void testOrder() throws InterruptedException {
+		var pool = Executors.newCachedThreadPool();
+		var sut = new BoundedExecutor(pool, 1);
+		var result = Collections.synchronizedList(new ArrayList<Integer>());
+		var done = new CountDownLatch(1_000);
+		for (var i = 0; i < 1_000; i++) {
+			final var value = i;
+			sut.execute(() -> {
+				result.add(value);
+				done.countDown();
+			});
+		}
+		assertTrue(done.await(10, TimeUnit.SECONDS));
+		for (var i = 0; i < 1_000; i++) {
+			assertEquals(i, (int) result.get(i));
+		}
+		pool.shutdown();
+	}
+
+	@Test
+	public void testMaxConcurrency() throws InterruptedException {
+		var pool = Executors.newCachedThreadPool();
+		var sut = new BoundedExecutor(pool, 3);
+		var running = new AtomicInteger();
+		var maxRunning = new AtomicInteger();
+		var started = new CountDownLatch(3);
+		var release = new CountDownLatch(1);
+		var done = new CountDownLatch(10);
+		for (var i = 0; i < 10; i++) {
+			sut.execute(() -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				running.decrementAndGet();
+				done.countDown();
+			});
+		}
+		assertTrue(started.await(10, TimeUnit.SECONDS));
+		assertEquals(3, maxRunning.get());
+
+		// Tasks above the limit are queued without blocking a thread
+		assertEquals(3, sut.getActiveCount());
+		assertEquals(7, sut.getQueueSize());
+
+		release.countDown();
+		assertTrue(done.await(10, TimeUnit.SECONDS));
+		assertEquals(3, maxRunning.get());
+		pool.shutdown();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidLimit() {
+		new BoundedExecutor(Runnable::run, 0);
+	}
+
+}
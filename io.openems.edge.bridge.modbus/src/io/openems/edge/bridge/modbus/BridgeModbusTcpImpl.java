@@ -1,6 +1,7 @@
 package io.openems.edge.bridge.modbus;
 
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
 
 import org.osgi.service.component.ComponentContext;
@@ -42,9 +43,16 @@ import io.openems.edge.common.event.EdgeEventConstants;
 public class BridgeModbusTcpImpl extends AbstractModbusBridge
 		implements BridgeModbus, BridgeModbusTcp, OpenemsComponent, EventHandler {
 
+	/**
+	 * Max number of parallel Read-Tasks per pipeline window, i.e. allows parallel
+	 * requests to multiple Unit-IDs.
+	 */
+	private static final int MAX_PARALLEL_READS_PER_WINDOW = 8;
+
 	/** The configured IP address. */
 	private InetAddress ipAddress = null;
 	private int port;
+	private int pipelineWindow = 1;
 
 	public BridgeModbusTcpImpl() {
 		super(//
@@ -67,29 +75,52 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 				config.invalidateElementsAfterReadErrors());
 		this.applyConfig(config);
 		this.closeModbusConnection();
+		this.closeModbusPipeline();
 	}
 
 	private void applyConfig(ConfigTcp config) {
 		this.setIpAddress(InetAddressUtils.parseOrNull(config.ip()));
 		this.port = config.port();
+		this.pipelineWindow = Math.max(1, config.pipelineWindow());
+		this.worker.setMaxParallelReads(
+				this.pipelineWindow > 1 ? this.pipelineWindow * MAX_PARALLEL_READS_PER_WINDOW : 1);
 	}
 
 	@Override
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
+		this.closeModbusPipeline();
 	}
 
+	/**
+	 * Closes the Modbus connection.
+	 *
+	 * <p>
+	 * A pipelined connection is kept, because it is shared by parallel requests
+	 * and closes itself on I/O errors. A timeout or exception response of one
+	 * request does not affect the other requests.
+	 */
 	@Override
-	public void closeModbusConnection() {
+	public synchronized void closeModbusConnection() {
 		if (this._connection != null) {
 			this._connection.close();
 			this._connection = null;
 		}
 	}
 
+	private synchronized void closeModbusPipeline() {
+		if (this._pipeline != null) {
+			this._pipeline.close();
+			this._pipeline = null;
+		}
+	}
+
 	@Override
 	public ModbusTransaction getNewModbusTransaction() throws OpenemsException {
+		if (this.pipelineWindow > 1) {
+			return this.getModbusPipeline().newTransaction();
+		}
 		var connection = this.getModbusConnection();
 		var transaction = new ModbusTCPTransaction(connection);
 		transaction.setRetries(AbstractModbusBridge.DEFAULT_RETRIES);
@@ -97,6 +128,15 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	}
 
 	private TCPMasterConnection _connection = null;
+	private ModbusTcpPipeline _pipeline = null;
+
+	private synchronized ModbusTcpPipeline getModbusPipeline() {
+		if (this._pipeline == null) {
+			this._pipeline = new ModbusTcpPipeline(new InetSocketAddress(this.getIpAddress(), this.port),
+					this.pipelineWindow, AbstractModbusBridge.DEFAULT_TIMEOUT);
+		}
+		return this._pipeline;
+	}
 
 	private synchronized TCPMasterConnection getModbusConnection() throws OpenemsException {
 		if (this._connection == null) {
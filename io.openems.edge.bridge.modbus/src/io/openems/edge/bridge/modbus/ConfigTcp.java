@@ -27,6 +27,9 @@ import io.openems.edge.bridge.modbus.api.LogVerbosity;
 	@AttributeDefinition(name = "Port", description = "The port of the Modbus/TCP device.")
 	int port() default Modbus.DEFAULT_PORT;
 
+	@AttributeDefinition(name = "Pipeline window", description = "Max. number of parallel requests per Unit-ID. '1' sends one request at a time; higher values require a device or gateway that handles Modbus/TCP Transaction-IDs.")
+	int pipelineWindow() default 1;
+
 	@AttributeDefinition(name = "Log-Verbosity", description = "The log verbosity.")
 	LogVerbosity logVerbosity() default LogVerbosity.NONE;
 
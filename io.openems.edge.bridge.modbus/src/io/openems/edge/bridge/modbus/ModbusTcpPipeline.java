@@ -0,0 +1,320 @@
+package io.openems.edge.bridge.modbus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.ModbusIOException;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
+
+/**
+ * A Modbus/TCP client that keeps multiple transactions in flight on one TCP
+ * connection.
+ *
+ * <p>
+ * Every request gets a unique MBAP Transaction-ID; responses are matched by
+ * this ID, so they may arrive in any order. The number of requests in flight is
+ * limited per Unit-ID by the configured window, e.g. for a gateway with several
+ * RS485 devices behind it. Each request has its own timeout; late responses are
+ * dropped.
+ *
+ * <p>
+ * The connection is opened on demand and closed on I/O errors; all pending
+ * requests of a closed connection fail.
+ */
+public class ModbusTcpPipeline {
+
+	private static final int MBAP_HEADER_LENGTH = 7;
+	private static final int MAX_PDU_LENGTH = 253;
+
+	private final Logger log = LoggerFactory.getLogger(ModbusTcpPipeline.class);
+
+	private final InetSocketAddress address;
+	private final int window;
+	private final int timeout;
+	private final Map<Integer, Semaphore> windows = new ConcurrentHashMap<>();
+	private final AtomicInteger nextTransactionId = new AtomicInteger();
+
+	private Connection connection = null;
+
+	private record Pending(int unitId, int functionCode, ModbusRequest request,
+			CompletableFuture<ModbusResponse> future) {
+	}
+
+	/**
+	 * One TCP connection with its pending requests and reader thread.
+	 */
+	private class Connection {
+
+		private final SocketChannel channel;
+		private final Map<Integer, Pending> pendings = new ConcurrentHashMap<>();
+		private final Thread reader;
+
+		private volatile boolean isClosed = false;
+
+		private Connection(SocketChannel channel) {
+			this.channel = channel;
+			this.reader = new Thread(this::read, "Modbus:Pipeline-" + ModbusTcpPipeline.this.address);
+			this.reader.setDaemon(true);
+			this.reader.start();
+		}
+
+		private synchronized void write(ByteBuffer frame) throws IOException {
+			while (frame.hasRemaining()) {
+				this.channel.write(frame);
+			}
+		}
+
+		private void read() {
+			var header = ByteBuffer.allocate(MBAP_HEADER_LENGTH);
+			var pdu = ByteBuffer.allocate(MAX_PDU_LENGTH);
+			try {
+				while (!this.isClosed) {
+					header.clear();
+					readFully(this.channel, header);
+					var transactionId = header.getShort(0) & 0xFFFF;
+					var length = header.getShort(4) & 0xFFFF;
+					var unitId = header.get(6) & 0xFF;
+					if (length < 2 || length - 1 > MAX_PDU_LENGTH) {
+						throw new IOException("Invalid MBAP length [" + length + "]");
+					}
+					pdu.clear().limit(length - 1);
+					readFully(this.channel, pdu);
+
+					var pending = this.pendings.remove(transactionId);
+					if (pending == null) {
+						// Response after timeout
+						continue;
+					}
+					if (pending.unitId != unitId) {
+						pending.future.completeExceptionally(new ModbusIOException(
+								"Unexpected Unit-ID. Expected [" + pending.unitId + "] Got [" + unitId + "]"));
+						continue;
+					}
+					complete(pending, pdu.array(), pdu.limit());
+				}
+			} catch (IOException e) {
+				if (!this.isClosed) {
+					ModbusTcpPipeline.this.log.warn("Connection to [" + ModbusTcpPipeline.this.address
+							+ "] failed: " + e.getClass().getSimpleName() + ": " + e.getMessage());
+				}
+			}
+			this.close();
+		}
+
+		private void close() {
+			this.isClosed = true;
+			try {
+				this.channel.close();
+			} catch (IOException e) {
+				// ignore
+			}
+			var exception = new ModbusIOException("Connection to [" + ModbusTcpPipeline.this.address + "] closed");
+			this.pendings.values().forEach(p -> p.future.completeExceptionally(exception));
+			this.pendings.clear();
+		}
+	}
+
+	/**
+	 * Creates a {@link ModbusTcpPipeline}.
+	 *
+	 * @param address the address of the Modbus/TCP device
+	 * @param window  the max number of requests in flight per Unit-ID
+	 * @param timeout the timeout per request in [ms]
+	 */
+	public ModbusTcpPipeline(InetSocketAddress address, int window, int timeout) {
+		this.address = address;
+		this.window = Math.max(1, window);
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Sends a {@link ModbusRequest} without waiting for the response.
+	 *
+	 * <p>
+	 * Blocks while the window of the Unit-ID is full.
+	 *
+	 * @param unitId  the Unit-ID
+	 * @param request the {@link ModbusRequest}
+	 * @return a future {@link ModbusResponse}; completes exceptionally with a
+	 *         {@link ModbusSlaveException} on a Modbus exception response or with a
+	 *         {@link TimeoutException} after the timeout
+	 * @throws InterruptedException while waiting for the window
+	 */
+	public CompletableFuture<ModbusResponse> send(int unitId, ModbusRequest request) throws InterruptedException {
+		var window = this.windows.computeIfAbsent(unitId, u -> new Semaphore(this.window));
+		if (!window.tryAcquire(this.timeout, TimeUnit.MILLISECONDS)) {
+			return CompletableFuture.failedFuture(
+					new TimeoutException("Window for Unit-ID [" + unitId + "] is full after [" + this.timeout + "ms]"));
+		}
+		var future = new CompletableFuture<ModbusResponse>();
+		future.whenComplete((r, e) -> window.release());
+
+		final Connection connection;
+		final int transactionId;
+		final ByteBuffer frame;
+		try {
+			connection = this.getConnection();
+			transactionId = this.nextTransactionId(connection);
+			frame = toFrame(transactionId, unitId, request);
+		} catch (IOException e) {
+			future.completeExceptionally(e);
+			return future;
+		}
+
+		var pending = new Pending(unitId, request.getFunctionCode(), request, future);
+		connection.pendings.put(transactionId, pending);
+		future //
+				.orTimeout(this.timeout, TimeUnit.MILLISECONDS) //
+				.whenComplete((r, e) -> connection.pendings.remove(transactionId, pending));
+		try {
+			connection.write(frame);
+		} catch (IOException e) {
+			future.completeExceptionally(e);
+			connection.close();
+		}
+		return future;
+	}
+
+	/**
+	 * Sends a {@link ModbusRequest} and waits for the response.
+	 *
+	 * @param unitId  the Unit-ID
+	 * @param request the {@link ModbusRequest}
+	 * @return the {@link ModbusResponse}
+	 * @throws ModbusException on error
+	 */
+	public ModbusResponse execute(int unitId, ModbusRequest request) throws ModbusException {
+		try {
+			return this.send(unitId, request).get();
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ModbusIOException("Interrupted");
+
+		} catch (ExecutionException e) {
+			var cause = e.getCause();
+			if (cause instanceof ModbusException me) {
+				throw me;
+			}
+			var result = new ModbusIOException(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+			result.initCause(cause);
+			throw result;
+		}
+	}
+
+	/**
+	 * Creates a {@link ModbusTransaction} that executes its request via this
+	 * {@link ModbusTcpPipeline}.
+	 *
+	 * @return the {@link ModbusTransaction}
+	 */
+	public ModbusTransaction newTransaction() {
+		return new ModbusTransaction() {
+			@Override
+			public void execute() throws ModbusException {
+				this.response = ModbusTcpPipeline.this.execute(this.request.getUnitID(), this.request);
+			}
+		};
+	}
+
+	/**
+	 * Closes the connection; pending requests fail.
+	 */
+	public synchronized void close() {
+		if (this.connection != null) {
+			this.connection.close();
+			this.connection = null;
+		}
+	}
+
+	private synchronized Connection getConnection() throws IOException {
+		if (this.connection == null || this.connection.isClosed) {
+			var channel = SocketChannel.open();
+			try {
+				channel.socket().connect(this.address, this.timeout);
+				channel.socket().setTcpNoDelay(true);
+			} catch (IOException e) {
+				channel.close();
+				throw e;
+			}
+			this.connection = new Connection(channel);
+		}
+		return this.connection;
+	}
+
+	private int nextTransactionId(Connection connection) throws IOException {
+		for (var i = 0; i <= 0xFFFF; i++) {
+			var transactionId = this.nextTransactionId.getAndIncrement() & 0xFFFF;
+			if (!connection.pendings.containsKey(transactionId)) {
+				return transactionId;
+			}
+		}
+		throw new IOException("No free Transaction-ID");
+	}
+
+	private static ByteBuffer toFrame(int transactionId, int unitId, ModbusRequest request) throws IOException {
+		var data = new ByteArrayOutputStream();
+		request.writeData(new DataOutputStream(data));
+		var length = data.size() + 2;
+		return ByteBuffer.allocate(MBAP_HEADER_LENGTH + 1 + data.size()) //
+				.putShort((short) transactionId) //
+				.putShort((short) 0) // Protocol-ID
+				.putShort((short) length) //
+				.put((byte) unitId) //
+				.put((byte) request.getFunctionCode()) //
+				.put(data.toByteArray()) //
+				.flip();
+	}
+
+	private static void complete(Pending pending, byte[] pdu, int length) {
+		var functionCode = pdu[0] & 0xFF;
+		try {
+			if (functionCode == (pending.functionCode | 0x80)) {
+				pending.future.completeExceptionally(new ModbusSlaveException(length > 1 ? pdu[1] & 0xFF : 0));
+				return;
+			}
+			if (functionCode != pending.functionCode) {
+				pending.future.completeExceptionally(new ModbusIOException(
+						"Unexpected Function-Code. Expected [" + pending.functionCode + "] Got [" + functionCode + "]"));
+				return;
+			}
+			var response = pending.request.getResponse();
+			response.setUnitID(pending.unitId);
+			response.readData(new DataInputStream(new ByteArrayInputStream(pdu, 1, length - 1)));
+			pending.future.complete(response);
+
+		} catch (IOException e) {
+			pending.future.completeExceptionally(e);
+		}
+	}
+
+	private static void readFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0) {
+				throw new IOException("Connection closed by peer");
+			}
+		}
+	}
+
+}
@@ -1,5 +1,6 @@
 package io.openems.edge.bridge.modbus.api;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
@@ -9,15 +10,26 @@ import org.osgi.service.event.EventHandler;
 
 import com.ghgande.j2mod.modbus.io.ModbusTransaction;
 
+import io.openems.common.exceptions.OpenemsError;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.session.Role;
+import io.openems.edge.bridge.modbus.api.jsonrpc.GetModbusStatisticsRequest;
+import io.openems.edge.bridge.modbus.api.jsonrpc.GetModbusStatisticsResponse;
+import io.openems.edge.bridge.modbus.api.statistics.ModbusStatistics;
 import io.openems.edge.bridge.modbus.api.worker.ModbusWorker;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.jsonapi.JsonApi;
+import io.openems.edge.common.user.User;
 
 /**
  * Abstract service for connecting to, querying and writing to a Modbus device.
  */
-public abstract class AbstractModbusBridge extends AbstractOpenemsComponent implements BridgeModbus, EventHandler {
+public abstract class AbstractModbusBridge extends AbstractOpenemsComponent
+		implements BridgeModbus, EventHandler, JsonApi {
 
 	/**
 	 * Default Modbus timeout in [ms].
@@ -130,6 +142,7 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 		switch (event.getTopic()) {
 		case EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE:
 			this.worker.onBeforeProcessImage();
+			this.updateStatisticsChannels();
 			break;
 		case EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE:
 			this.worker.onExecuteWrite();
@@ -137,6 +150,37 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 		}
 	}
 
+	private void updateStatisticsChannels() {
+		var cycle = this.worker.getStatistics().onCycle();
+		this._setRequestLatencyP50(cycle.latencyP50());
+		this._setRequestLatencyP95(cycle.latencyP95());
+		this._setRequestLatencyMax(cycle.latencyMax());
+		this._setRequestTimeouts(cycle.timeouts());
+		this._setRequestRetries(cycle.retries());
+		this._setTransferredBytes(cycle.bytes());
+		this._setCycleBudgetUsage(cycle.cycleBudgetUsage());
+	}
+
+	@Override
+	public CompletableFuture<? extends JsonrpcResponseSuccess> handleJsonrpcRequest(User user, JsonrpcRequest request)
+			throws OpenemsNamedException {
+		user.assertRoleIsAtLeast("handleJsonrpcRequest", Role.INSTALLER);
+		return switch (request.getMethod()) {
+		case GetModbusStatisticsRequest.METHOD -> CompletableFuture.completedFuture(
+				new GetModbusStatisticsResponse(request.getId(), this.getStatistics().toJson()));
+		default -> throw OpenemsError.JSONRPC_UNHANDLED_METHOD.exception(request.getMethod());
+		};
+	}
+
+	/**
+	 * Gets the {@link ModbusStatistics} of this Bridge.
+	 *
+	 * @return the {@link ModbusStatistics}
+	 */
+	public ModbusStatistics getStatistics() {
+		return this.worker.getStatistics();
+	}
+
 	@Override
 	public String debugLog() {
 		return switch (this.logVerbosity.get()) {
@@ -7,6 +7,7 @@ import io.openems.common.channel.Level;
 import io.openems.common.channel.Unit;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
@@ -23,7 +24,40 @@ public interface BridgeModbus extends OpenemsComponent {
 		 * can be reduced by this amount, without causing CYCLE_TIME_IS_TOO_SHORT.
 		 */
 		CYCLE_DELAY(Doc.of(OpenemsType.LONG) //
-				.unit(Unit.MILLISECONDS)); //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Median round-trip time of Modbus requests in the last Cycle.
+		 */
+		REQUEST_LATENCY_P50(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * 95th percentile round-trip time of Modbus requests in the last Cycle.
+		 */
+		REQUEST_LATENCY_P95(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Max round-trip time of Modbus requests in the last Cycle.
+		 */
+		REQUEST_LATENCY_MAX(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Number of Modbus requests that timed out since activation.
+		 */
+		REQUEST_TIMEOUTS(Doc.of(OpenemsType.LONG)), //
+		/**
+		 * Number of retried Modbus requests since activation.
+		 */
+		REQUEST_RETRIES(Doc.of(OpenemsType.LONG)), //
+		/**
+		 * Number of bytes of all Modbus requests and responses since activation,
+		 * without the header of the transport layer.
+		 */
+		TRANSFERRED_BYTES(Doc.of(OpenemsType.LONG)), //
+		/**
+		 * Share of the last Cycle that was used for executing Modbus Tasks.
+		 */
+		CYCLE_BUDGET_USAGE(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.PERCENT)); //
 
 		private final Doc doc;
 
@@ -94,6 +128,209 @@ public interface BridgeModbus extends OpenemsComponent {
 		this.getCycleDelayChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#REQUEST_LATENCY_P50}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getRequestLatencyP50Channel() {
+		return this.channel(ChannelId.REQUEST_LATENCY_P50);
+	}
+
+	/**
+	 * Gets the median Request Latency in [ms],
+	 * see {@link ChannelId#REQUEST_LATENCY_P50}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getRequestLatencyP50() {
+		return this.getRequestLatencyP50Channel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#REQUEST_LATENCY_P50} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRequestLatencyP50(Long value) {
+		this.getRequestLatencyP50Channel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#REQUEST_LATENCY_P95}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getRequestLatencyP95Channel() {
+		return this.channel(ChannelId.REQUEST_LATENCY_P95);
+	}
+
+	/**
+	 * Gets the 95th percentile Request Latency in [ms],
+	 * see {@link ChannelId#REQUEST_LATENCY_P95}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getRequestLatencyP95() {
+		return this.getRequestLatencyP95Channel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#REQUEST_LATENCY_P95} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRequestLatencyP95(Long value) {
+		this.getRequestLatencyP95Channel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#REQUEST_LATENCY_MAX}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getRequestLatencyMaxChannel() {
+		return this.channel(ChannelId.REQUEST_LATENCY_MAX);
+	}
+
+	/**
+	 * Gets the max Request Latency in [ms],
+	 * see {@link ChannelId#REQUEST_LATENCY_MAX}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getRequestLatencyMax() {
+		return this.getRequestLatencyMaxChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#REQUEST_LATENCY_MAX} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRequestLatencyMax(Long value) {
+		this.getRequestLatencyMaxChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#REQUEST_TIMEOUTS}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getRequestTimeoutsChannel() {
+		return this.channel(ChannelId.REQUEST_TIMEOUTS);
+	}
+
+	/**
+	 * Gets the number of Request Timeouts,
+	 * see {@link ChannelId#REQUEST_TIMEOUTS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getRequestTimeouts() {
+		return this.getRequestTimeoutsChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#REQUEST_TIMEOUTS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRequestTimeouts(long value) {
+		this.getRequestTimeoutsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#REQUEST_RETRIES}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getRequestRetriesChannel() {
+		return this.channel(ChannelId.REQUEST_RETRIES);
+	}
+
+	/**
+	 * Gets the number of Request Retries,
+	 * see {@link ChannelId#REQUEST_RETRIES}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getRequestRetries() {
+		return this.getRequestRetriesChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#REQUEST_RETRIES} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRequestRetries(long value) {
+		this.getRequestRetriesChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#TRANSFERRED_BYTES}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getTransferredBytesChannel() {
+		return this.channel(ChannelId.TRANSFERRED_BYTES);
+	}
+
+	/**
+	 * Gets the number of Transferred Bytes,
+	 * see {@link ChannelId#TRANSFERRED_BYTES}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getTransferredBytes() {
+		return this.getTransferredBytesChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#TRANSFERRED_BYTES} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setTransferredBytes(long value) {
+		this.getTransferredBytesChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#CYCLE_BUDGET_USAGE}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getCycleBudgetUsageChannel() {
+		return this.channel(ChannelId.CYCLE_BUDGET_USAGE);
+	}
+
+	/**
+	 * Gets the Cycle Budget Usage in [%],
+	 * see {@link ChannelId#CYCLE_BUDGET_USAGE}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getCycleBudgetUsage() {
+		return this.getCycleBudgetUsageChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#CYCLE_BUDGET_USAGE} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setCycleBudgetUsage(Integer value) {
+		this.getCycleBudgetUsageChannel().setNextValue(value);
+	}
+
 	/**
 	 * Adds a Protocol with a source identifier to this Modbus Bridge.
 	 *
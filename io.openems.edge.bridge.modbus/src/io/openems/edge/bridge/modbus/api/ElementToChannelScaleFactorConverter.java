@@ -18,6 +18,16 @@ import io.openems.edge.common.component.OpenemsComponent;
  */
 public class ElementToChannelScaleFactorConverter extends ElementToChannelConverter {
 
+	/** Pre-calculated factors 10^scaleFactor for the common scale factors. */
+	private static final double[] FACTORS = new double[21];
+	private static final int FACTORS_OFFSET = 10;
+
+	static {
+		for (var i = 0; i < FACTORS.length; i++) {
+			FACTORS[i] = Math.pow(10, i - FACTORS_OFFSET);
+		}
+	}
+
 	private static int getValueOrError(OpenemsComponent component, ChannelId channelId)
 			throws InvalidValueException, IllegalArgumentException {
 		var channel = (IntegerReadChannel) component.channel(channelId);
@@ -37,7 +47,7 @@ public class ElementToChannelScaleFactorConverter extends ElementToChannelConver
 						return null;
 					}
 					try {
-						return apply(value, getValueOrError(component, scaleFactorChannel) * -1);
+						return apply(value, factor(getValueOrError(component, scaleFactorChannel)));
 					} catch (InvalidValueException | IllegalArgumentException e) {
 						return null;
 					}
@@ -46,7 +56,7 @@ public class ElementToChannelScaleFactorConverter extends ElementToChannelConver
 				// channel -> element
 				value -> {
 					try {
-						return apply(value, getValueOrError(component, scaleFactorChannel));
+						return apply(value, factor(getValueOrError(component, scaleFactorChannel) * -1));
 					} catch (InvalidValueException | IllegalArgumentException e) {
 						return null;
 					}
@@ -54,16 +64,33 @@ public class ElementToChannelScaleFactorConverter extends ElementToChannelConver
 	}
 
 	public ElementToChannelScaleFactorConverter(int scaleFactor) {
+		this(factor(scaleFactor), factor(scaleFactor * -1));
+	}
+
+	private ElementToChannelScaleFactorConverter(double elementToChannelFactor, double channelToElementFactor) {
 		super(//
 				// element -> channel
-				value -> apply(value, scaleFactor * -1), //
+				value -> apply(value, elementToChannelFactor), //
 
 				// channel -> element
-				value -> apply(value, scaleFactor));
+				value -> apply(value, channelToElementFactor));
+	}
+
+	/**
+	 * Gets the factor 10^scaleFactor.
+	 *
+	 * @param scaleFactor the scale factor
+	 * @return the factor
+	 */
+	private static double factor(int scaleFactor) {
+		var index = scaleFactor + FACTORS_OFFSET;
+		if (index >= 0 && index < FACTORS.length) {
+			return FACTORS[index];
+		}
+		return Math.pow(10, scaleFactor);
 	}
 
-	private static Object apply(Object value, int scaleFactor) {
-		var factor = Math.pow(10, scaleFactor * -1);
+	private static Object apply(Object value, double factor) {
 		if (value == null) {
 			return null;
 		}
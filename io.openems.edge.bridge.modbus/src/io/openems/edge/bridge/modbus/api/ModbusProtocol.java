@@ -6,6 +6,12 @@ import io.openems.edge.common.taskmanager.TasksManager;
 
 public class ModbusProtocol {
 
+	/**
+	 * By default read tasks are not merged; drivers opt in via
+	 * {@link #setGapTolerance(int)}.
+	 */
+	public static final int DEFAULT_GAP_TOLERANCE = -1;
+
 	/**
 	 * The Parent component.
 	 */
@@ -16,6 +22,12 @@ public class ModbusProtocol {
 	 */
 	private final TasksManager<Task> taskManager = new TasksManager<>();
 
+	/**
+	 * Maximum number of unused registers between two read tasks that may still be
+	 * merged into one request; negative to disable merging.
+	 */
+	private int gapTolerance = DEFAULT_GAP_TOLERANCE;
+
 	/**
 	 * Creates a new {@link ModbusProtocol}.
 	 *
@@ -62,6 +74,30 @@ public class ModbusProtocol {
 		this.taskManager.removeTask(task);
 	}
 
+	/**
+	 * Sets the gap tolerance, i.e. the maximum number of unused registers between
+	 * two read tasks of this protocol that may still be merged into one request.
+	 * 
+	 * <p>
+	 * Merging is disabled by default. Use zero to merge only directly adjacent
+	 * tasks; use a positive value only if the device answers reads of unused
+	 * registers without error.
+	 *
+	 * @param gapTolerance the number of registers; negative to disable merging
+	 */
+	public void setGapTolerance(int gapTolerance) {
+		this.gapTolerance = gapTolerance;
+	}
+
+	/**
+	 * Gets the gap tolerance. See {@link #setGapTolerance(int)}.
+	 *
+	 * @return the number of registers; negative if merging is disabled
+	 */
+	public int getGapTolerance() {
+		return this.gapTolerance;
+	}
+
 	/**
 	 * Gets the Read-Tasks Manager.
 	 *
@@ -111,6 +111,15 @@ public abstract non-sealed class AbstractModbusElement<SELF extends AbstractModb
 		} else {
 			value = null;
 		}
+		this.setTypedInputValue(value);
+	}
+
+	/**
+	 * Set the input/read value, that was already converted to the value type.
+	 * 
+	 * @param value the typed value; possibly null
+	 */
+	protected final void setTypedInputValue(T value) {
 		// Log debug message
 		if (this.isDebug) {
 			this.log.info("Element [" + this + "] set value to [" + value + "].");
@@ -24,6 +24,18 @@ public abstract class AbstractMultipleWordsElement<SELF extends AbstractModbusEl
 		return this.commonRegistersToValue(registers, this.wordOrder);
 	}
 
+	/**
+	 * Gets the bits of the {@link Register}s from the given offset, considering
+	 * {@link WordOrder} and {@link java.nio.ByteOrder}.
+	 * 
+	 * @param registers the Registers
+	 * @param offset    the position of the first Register of this Element
+	 * @return the bits, right-aligned
+	 */
+	protected final long registersToBits(Register[] registers, int offset) {
+		return this.registersToBits(registers, offset, this.wordOrder);
+	}
+
 	@Override
 	protected Register[] valueToRaw(T value) {
 		return this.valueToRaw(value, this.wordOrder);
@@ -23,6 +23,18 @@ public abstract class AbstractSingleWordElement<SELF extends ModbusRegisterEleme
 		return this.commonRegistersToValue(registers, WordOrder.MSWLSW /* makes no difference for SingleWord */);
 	}
 
+	/**
+	 * Gets the bits of the {@link Register} at the given offset, considering the
+	 * {@link java.nio.ByteOrder}.
+	 * 
+	 * @param registers the Registers
+	 * @param offset    the position of the Register of this Element
+	 * @return the bits, right-aligned
+	 */
+	protected final int registersToBits(Register[] registers, int offset) {
+		return (int) this.registersToBits(registers, offset, WordOrder.MSWLSW /* makes no difference */);
+	}
+
 	@Override
 	protected Register[] valueToRaw(T value) {
 		return this.valueToRaw(value, WordOrder.MSWLSW /* makes no difference for SingleWord */);
@@ -2,6 +2,8 @@ package io.openems.edge.bridge.modbus.api.element;
 
 import java.nio.ByteBuffer;
 
+import com.ghgande.j2mod.modbus.procimg.Register;
+
 import io.openems.common.types.OpenemsType;
 
 /**
@@ -19,6 +21,11 @@ public class FloatDoublewordElement extends AbstractDoubleWordElement<FloatDoubl
 		return this;
 	}
 
+	@Override
+	protected Float registersToValue(Register[] registers, int offset) {
+		return Float.intBitsToFloat((int) this.registersToBits(registers, offset));
+	}
+
 	@Override
 	protected Float byteBufferToValue(ByteBuffer buff) {
 		return buff.getFloat(0);
@@ -2,6 +2,8 @@ package io.openems.edge.bridge.modbus.api.element;
 
 import java.nio.ByteBuffer;
 
+import com.ghgande.j2mod.modbus.procimg.Register;
+
 import io.openems.common.types.OpenemsType;
 
 /**
@@ -19,6 +21,11 @@ public class FloatQuadruplewordElement extends AbstractQuadrupleWordElement<Floa
 		return this;
 	}
 
+	@Override
+	protected Double registersToValue(Register[] registers, int offset) {
+		return Double.longBitsToDouble(this.registersToBits(registers, offset));
+	}
+
 	@Override
 	protected Double byteBufferToValue(ByteBuffer buff) {
 		return buff.getDouble();
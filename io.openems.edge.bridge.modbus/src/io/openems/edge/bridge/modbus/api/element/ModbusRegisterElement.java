@@ -2,6 +2,7 @@ package io.openems.edge.bridge.modbus.api.element;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 
 import com.ghgande.j2mod.modbus.procimg.Register;
 import com.ghgande.j2mod.modbus.procimg.SimpleRegister;
@@ -81,7 +82,48 @@ public abstract class ModbusRegisterElement<SELF extends AbstractModbusElement<S
 					+ "Got [" + registers.length + "] " //
 					+ "for " + this.toString());
 		}
-		return this.registersToValue(registers);
+		return this.registersToValue(registers, 0);
+	}
+
+	/**
+	 * Set the input/read value from a range of a larger array of
+	 * {@link Register}s, e.g. the full response of a ReadTask.
+	 * 
+	 * <p>
+	 * In contrast to {@link #setInputValue(Object)} this does not require a copy
+	 * of the {@link Register}s of this Element.
+	 * 
+	 * @param registers the Registers
+	 * @param offset    the position of the first Register of this Element
+	 */
+	public final void setInputValue(Register[] registers, int offset) {
+		if (offset < 0 || offset + this.length > registers.length) {
+			throw new IllegalArgumentException("Registers length does not match. " //
+					+ "Expected [" + this.length + "] at offset [" + offset + "] " //
+					+ "Got [" + registers.length + "] " //
+					+ "for " + this.toString());
+		}
+		this.setTypedInputValue(this.registersToValue(registers, offset));
+	}
+
+	/**
+	 * Converts a range of {@link Register}s from j2mod to the expected type.
+	 * 
+	 * <p>
+	 * The registers array is guaranteed to hold `this.length` Registers from
+	 * `offset`. Numeric Elements override this method to decode the value without
+	 * allocating intermediate buffers; by default the Registers are copied and
+	 * passed to {@link #registersToValue(Register[])}.
+	 * 
+	 * @param registers the Registers
+	 * @param offset    the position of the first Register of this Element
+	 * @return the typed/converted value
+	 */
+	protected T registersToValue(Register[] registers, int offset) {
+		if (offset == 0 && registers.length == this.length) {
+			return this.registersToValue(registers);
+		}
+		return this.registersToValue(Arrays.copyOfRange(registers, offset, offset + this.length));
 	}
 
 	/**
@@ -95,6 +137,37 @@ public abstract class ModbusRegisterElement<SELF extends AbstractModbusElement<S
 	 */
 	protected abstract T registersToValue(Register[] registers);
 
+	/**
+	 * Combines the {@link Register}s to the bits of a primitive value of up to 64
+	 * bit, considering {@link WordOrder} and {@link ByteOrder}.
+	 * 
+	 * <p>
+	 * The result is the same as reading a big-endian value from the buffer of
+	 * {@link #commonRegistersToValue(Register[], WordOrder)}, i.e. the bits can be
+	 * converted using {@link Float#intBitsToFloat(int)} or
+	 * {@link Double#longBitsToDouble(long)}.
+	 * 
+	 * @param registers the Registers
+	 * @param offset    the position of the first Register of this Element
+	 * @param wordOrder the {@link WordOrder}
+	 * @return the bits, right-aligned
+	 */
+	protected final long registersToBits(Register[] registers, int offset, WordOrder wordOrder) {
+		var isLittleEndian = this.byteOrder == ByteOrder.LITTLE_ENDIAN;
+		// A little-endian value is read from the reversed byte sequence, i.e. from
+		// words in reverse order with swapped bytes
+		var isInOrder = (wordOrder == WordOrder.MSWLSW) != isLittleEndian;
+		var result = 0L;
+		for (var i = 0; i < this.length; i++) {
+			var word = registers[offset + (isInOrder ? i : this.length - 1 - i)].toUnsignedShort();
+			if (isLittleEndian) {
+				word = Short.reverseBytes((short) word) & 0xFFFF;
+			}
+			result = result << 16 | word;
+		}
+		return result;
+	}
+
 	protected final T commonRegistersToValue(Register[] registers, WordOrder wordOrder) {
 		// fill buffer
 		var buff = this.buildByteBuffer();
@@ -2,6 +2,8 @@ package io.openems.edge.bridge.modbus.api.element;
 
 import java.nio.ByteBuffer;
 
+import com.ghgande.j2mod.modbus.procimg.Register;
+
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.type.TypeUtils;
 
@@ -20,6 +22,11 @@ public class SignedWordElement extends AbstractSingleWordElement<SignedWordEleme
 		return this;
 	}
 
+	@Override
+	protected Short registersToValue(Register[] registers, int offset) {
+		return (short) this.registersToBits(registers, offset);
+	}
+
 	@Override
 	protected Short byteBufferToValue(ByteBuffer buff) {
 		return buff.getShort(0);
@@ -2,6 +2,8 @@ package io.openems.edge.bridge.modbus.api.element;
 
 import java.nio.ByteBuffer;
 
+import com.ghgande.j2mod.modbus.procimg.Register;
+
 import io.openems.common.types.OpenemsType;
 
 /**
@@ -19,6 +21,11 @@ public class UnsignedDoublewordElement extends AbstractDoubleWordElement<Unsigne
 		return this;
 	}
 
+	@Override
+	protected Long registersToValue(Register[] registers, int offset) {
+		return this.registersToBits(registers, offset);
+	}
+
 	@Override
 	protected Long byteBufferToValue(ByteBuffer buff) {
 		return Integer.toUnsignedLong(buff.getInt(0));
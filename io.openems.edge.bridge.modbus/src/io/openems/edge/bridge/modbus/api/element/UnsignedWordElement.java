@@ -2,6 +2,8 @@ package io.openems.edge.bridge.modbus.api.element;
 
 import java.nio.ByteBuffer;
 
+import com.ghgande.j2mod.modbus.procimg.Register;
+
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.type.TypeUtils;
 
@@ -20,6 +22,11 @@ public class UnsignedWordElement extends AbstractSingleWordElement<UnsignedWordE
 		return this;
 	}
 
+	@Override
+	protected Integer registersToValue(Register[] registers, int offset) {
+		return this.registersToBits(registers, offset);
+	}
+
 	@Override
 	protected Integer byteBufferToValue(ByteBuffer buff) {
 		return Short.toUnsignedInt(buff.getShort(0));
@@ -0,0 +1,52 @@
+package io.openems.edge.bridge.modbus.api.jsonrpc;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+
+/**
+ * Represents a JSON-RPC Request for 'getModbusStatistics'.
+ *
+ * <p>
+ * This is sent to a Modbus-Bridge via a 'componentJsonApi' Request.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "method": "getModbusStatistics",
+ *   "params": {}
+ * }
+ * </pre>
+ */
+public class GetModbusStatisticsRequest extends JsonrpcRequest {
+
+	public static final String METHOD = "getModbusStatistics";
+
+	/**
+	 * Create {@link GetModbusStatisticsRequest} from a template
+	 * {@link JsonrpcRequest}.
+	 *
+	 * @param r the template {@link JsonrpcRequest}
+	 * @return the {@link GetModbusStatisticsRequest}
+	 * @throws OpenemsNamedException on parse error
+	 */
+	public static GetModbusStatisticsRequest from(JsonrpcRequest r) throws OpenemsNamedException {
+		return new GetModbusStatisticsRequest(r);
+	}
+
+	public GetModbusStatisticsRequest() {
+		super(METHOD);
+	}
+
+	private GetModbusStatisticsRequest(JsonrpcRequest request) {
+		super(request, METHOD);
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return new JsonObject();
+	}
+
+}
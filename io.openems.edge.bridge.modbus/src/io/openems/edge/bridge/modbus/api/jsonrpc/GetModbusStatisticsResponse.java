@@ -0,0 +1,57 @@
+package io.openems.edge.bridge.modbus.api.jsonrpc;
+
+import java.util.UUID;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.edge.bridge.modbus.api.statistics.ModbusStatistics;
+
+/**
+ * Represents a JSON-RPC Response for 'getModbusStatistics'.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "result": {
+ *     "total": {
+ *       "requests": number,
+ *       "errors": number,
+ *       "timeouts": number,
+ *       "retries": number,
+ *       "bytes": number,
+ *       "latency": {
+ *         "count": number, "avg": number, "p50": number, "p95": number, "max": number
+ *       }
+ *     },
+ *     "cycleBudgetUsage": { "count": number, "avg": number, ... },
+ *     "units": {
+ *       [unitId]: { "requests": number, ..., "latency": {...} }
+ *     },
+ *     "tasks": {
+ *       [Component-ID/Task-Name/Start-Address | "other"]: { "requests": number, ..., "latency": {...} }
+ *     }
+ *   }
+ * }
+ * </pre>
+ *
+ * <p>
+ * Latencies are in [us], 'cycleBudgetUsage' in [%]; see
+ * {@link ModbusStatistics#toJson()}.
+ */
+public class GetModbusStatisticsResponse extends JsonrpcResponseSuccess {
+
+	private final JsonObject statistics;
+
+	public GetModbusStatisticsResponse(UUID id, JsonObject statistics) {
+		super(id);
+		this.statistics = statistics;
+	}
+
+	@Override
+	public JsonObject getResult() {
+		return this.statistics;
+	}
+
+}
@@ -0,0 +1,341 @@
+package io.openems.edge.bridge.modbus.api.statistics;
+
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ghgande.j2mod.modbus.msg.ModbusMessage;
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
+import com.google.gson.JsonObject;
+
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.bridge.modbus.api.BridgeModbus;
+import io.openems.edge.common.cycle.DurationHistogram;
+
+/**
+ * Collects statistics of the Modbus communication of one Bridge.
+ *
+ * <ul>
+ * <li>round-trip latency, errors, timeouts, retries and bytes of all requests,
+ * per Task and per Unit-ID
+ * <li>the share of the Cycle-Time that is used for executing Modbus Tasks
+ * </ul>
+ *
+ * <p>
+ * Statistics per Task and per Unit-ID are cumulated since activation of the
+ * Bridge. Statistics per Task are kept for at most {@value #MAX_TASKS} Tasks;
+ * further Tasks are cumulated as {@value #OTHER_TASKS}. The summary for the
+ * Bridge Channels is reset on every Cycle, see {@link #onCycle()}.
+ */
+public class ModbusStatistics {
+
+	/** Max number of Tasks with separate statistics. */
+	public static final int MAX_TASKS = 256;
+
+	/** Identifier for the statistics of Tasks beyond {@link #MAX_TASKS}. */
+	public static final String OTHER_TASKS = "other";
+
+	/**
+	 * Statistics of a group of Modbus requests.
+	 */
+	public static class Entry {
+
+		private final DurationHistogram latency = new DurationHistogram();
+		private long errors = 0;
+		private long timeouts = 0;
+		private long retries = 0;
+		private long bytes = 0;
+
+		private void record(long latency, int bytes, boolean isError, boolean isTimeout, boolean isRetry) {
+			this.latency.record(latency);
+			this.bytes += bytes;
+			if (isError) {
+				this.errors++;
+			}
+			if (isTimeout) {
+				this.timeouts++;
+			}
+			if (isRetry) {
+				this.retries++;
+			}
+		}
+
+		/**
+		 * Gets the {@link DurationHistogram} of round-trip latencies in [us].
+		 *
+		 * @return the {@link DurationHistogram}
+		 */
+		public DurationHistogram getLatency() {
+			return this.latency;
+		}
+
+		public long getRequests() {
+			return this.latency.getCount();
+		}
+
+		public long getErrors() {
+			return this.errors;
+		}
+
+		public long getTimeouts() {
+			return this.timeouts;
+		}
+
+		public long getRetries() {
+			return this.retries;
+		}
+
+		public long getBytes() {
+			return this.bytes;
+		}
+
+		/**
+		 * Serializes the {@link Entry}.
+		 *
+		 * @return the {@link JsonObject}
+		 */
+		public JsonObject toJson() {
+			return JsonUtils.buildJsonObject() //
+					.addProperty("requests", this.getRequests()) //
+					.addProperty("errors", this.getErrors()) //
+					.addProperty("timeouts", this.getTimeouts()) //
+					.addProperty("retries", this.getRetries()) //
+					.addProperty("bytes", this.getBytes()) //
+					.add("latency", ModbusStatistics.toJson(this.latency)) //
+					.build();
+		}
+	}
+
+	/**
+	 * Summary of the last Cycle for the Channels of {@link BridgeModbus}.
+	 *
+	 * @param latencyP50       the median latency in [ms]; null if there was no
+	 *                         request
+	 * @param latencyP95       the 95th percentile latency in [ms]; null if there
+	 *                         was no request
+	 * @param latencyMax       the max latency in [ms]; null if there was no
+	 *                         request
+	 * @param timeouts         the total number of timeouts
+	 * @param retries          the total number of retries
+	 * @param bytes            the total number of bytes
+	 * @param cycleBudgetUsage the share of the Cycle-Time used for executing Modbus
+	 *                         Tasks in [%]; null for the first Cycle
+	 */
+	public static record CycleSummary(Long latencyP50, Long latencyP95, Long latencyMax, long timeouts,
+			long retries, long bytes, Integer cycleBudgetUsage) {
+	}
+
+	private final Entry total = new Entry();
+	private final DurationHistogram cycleLatency = new DurationHistogram();
+	private final Map<String, Entry> tasks = new HashMap<>();
+	private final Map<Integer, Entry> units = new HashMap<>();
+	/** Values in [%]. */
+	private final DurationHistogram cycleBudgetUsage = new DurationHistogram();
+	private final AtomicLong busyNanos = new AtomicLong();
+
+	private long lastCycleNanos = 0;
+
+	/**
+	 * Records a Modbus request.
+	 *
+	 * @param task      the identifier of the Task, e.g. 'meter0/FC3ReadRegisters/1000'
+	 * @param unitId    the Unit-ID
+	 * @param latency   the round-trip latency in [us]
+	 * @param request   the {@link ModbusRequest}
+	 * @param response  the {@link ModbusResponse}; null on error
+	 * @param exception the {@link Exception}; null on success
+	 * @param isRetry   is this request a retry of a failed request?
+	 */
+	public synchronized void onRequest(String task, int unitId, long latency, ModbusRequest request,
+			ModbusResponse response, Exception exception, boolean isRetry) {
+		var bytes = countBytes(request) + countBytes(response);
+		var isError = exception != null;
+		var isTimeout = isTimeout(exception);
+		this.total.record(latency, bytes, isError, isTimeout, isRetry);
+		this.getOrCreateTask(task).record(latency, bytes, isError, isTimeout, isRetry);
+		this.units.computeIfAbsent(unitId, u -> new Entry()).record(latency, bytes, isError, isTimeout, isRetry);
+		this.cycleLatency.record(latency);
+	}
+
+	private Entry getOrCreateTask(String task) {
+		var entry = this.tasks.get(task);
+		if (entry != null) {
+			return entry;
+		}
+		if (this.tasks.size() >= MAX_TASKS) {
+			task = OTHER_TASKS;
+		}
+		return this.tasks.computeIfAbsent(task, t -> new Entry());
+	}
+
+	/**
+	 * Removes the statistics of all Tasks of a Component, e.g. when its
+	 * {@link io.openems.edge.bridge.modbus.api.ModbusProtocol} is removed.
+	 *
+	 * @param componentId the Component-ID
+	 */
+	public synchronized void removeComponent(String componentId) {
+		var prefix = componentId + "/";
+		this.tasks.keySet().removeIf(task -> task.startsWith(prefix));
+	}
+
+	/**
+	 * Records the duration of the execution of Modbus Tasks.
+	 *
+	 * @param nanos the duration in [ns]
+	 */
+	public void onTasksExecuted(long nanos) {
+		this.busyNanos.addAndGet(nanos);
+	}
+
+	/**
+	 * Finishes a Cycle; called on BEFORE_PROCESS_IMAGE event.
+	 *
+	 * @return the {@link CycleSummary}
+	 */
+	public CycleSummary onCycle() {
+		return this.onCycle(System.nanoTime());
+	}
+
+	protected synchronized CycleSummary onCycle(long nanoTime) {
+		Integer cycleBudgetUsage = null;
+		var busyNanos = this.busyNanos.getAndSet(0);
+		if (this.lastCycleNanos != 0 && nanoTime > this.lastCycleNanos) {
+			cycleBudgetUsage = (int) Math.min(100, busyNanos * 100 / (nanoTime - this.lastCycleNanos));
+			this.cycleBudgetUsage.record(cycleBudgetUsage);
+		}
+		this.lastCycleNanos = nanoTime;
+
+		var hasRequests = this.cycleLatency.getCount() > 0;
+		var result = new CycleSummary(//
+				hasRequests ? toMillis(this.cycleLatency.getPercentile(0.5)) : null, //
+				hasRequests ? toMillis(this.cycleLatency.getPercentile(0.95)) : null, //
+				hasRequests ? toMillis(this.cycleLatency.getMax()) : null, //
+				this.total.getTimeouts(), this.total.getRetries(), this.total.getBytes(), cycleBudgetUsage);
+		this.cycleLatency.clear();
+		return result;
+	}
+
+	public synchronized Entry getTotal() {
+		return this.total;
+	}
+
+	/**
+	 * Gets the statistics of one Task.
+	 *
+	 * @param task the identifier of the Task
+	 * @return the {@link Entry}; null if there was no request
+	 */
+	public synchronized Entry getTask(String task) {
+		return this.tasks.get(task);
+	}
+
+	/**
+	 * Gets the statistics of one Unit-ID.
+	 *
+	 * @param unitId the Unit-ID
+	 * @return the {@link Entry}; null if there was no request
+	 */
+	public synchronized Entry getUnit(int unitId) {
+		return this.units.get(unitId);
+	}
+
+	/**
+	 * Serializes the {@link ModbusStatistics}.
+	 *
+	 * <pre>
+	 * {
+	 *   "total": Entry,
+	 *   "cycleBudgetUsage": Histogram,
+	 *   "units": { [unitId]: Entry },
+	 *   "tasks": { [task]: Entry }
+	 * }
+	 * </pre>
+	 *
+	 * @return the {@link JsonObject}
+	 */
+	public synchronized JsonObject toJson() {
+		var units = new JsonObject();
+		new TreeMap<>(this.units).forEach((unitId, entry) -> units.add(String.valueOf(unitId), entry.toJson()));
+		var tasks = new JsonObject();
+		new TreeMap<>(this.tasks).forEach((task, entry) -> tasks.add(task, entry.toJson()));
+		return JsonUtils.buildJsonObject() //
+				.add("total", this.total.toJson()) //
+				.add("cycleBudgetUsage", toJson(this.cycleBudgetUsage)) //
+				.add("units", units) //
+				.add("tasks", tasks) //
+				.build();
+	}
+
+	/**
+	 * Serializes a {@link DurationHistogram}.
+	 *
+	 * <pre>
+	 * { "count": number, "avg": number, "p50": number, "p95": number, "max": number }
+	 * </pre>
+	 *
+	 * <p>
+	 * 'avg', 'p50', 'p95' and 'max' are missing if nothing was recorded.
+	 */
+	private static JsonObject toJson(DurationHistogram histogram) {
+		var count = histogram.getCount();
+		var result = JsonUtils.buildJsonObject() //
+				.addProperty("count", count);
+		if (count > 0) {
+			result //
+					.addProperty("avg", histogram.getTotal() / count) //
+					.addProperty("p50", histogram.getPercentile(0.5)) //
+					.addProperty("p95", histogram.getPercentile(0.95)) //
+					.addProperty("max", histogram.getMax());
+		}
+		return result.build();
+	}
+
+	/**
+	 * Is the {@link Exception} caused by a timeout?.
+	 *
+	 * <p>
+	 * j2mod wraps the {@link java.net.SocketTimeoutException} of TCP and the
+	 * timeout of the serial port - both {@link InterruptedIOException}s - as cause
+	 * of a {@link com.ghgande.j2mod.modbus.ModbusIOException}.
+	 *
+	 * @param exception the {@link Exception}; possibly null
+	 * @return true for timeouts
+	 */
+	protected static boolean isTimeout(Throwable exception) {
+		for (var e = exception; e != null; e = e.getCause()) {
+			if (e instanceof TimeoutException || e instanceof InterruptedIOException) {
+				return true;
+			}
+			if (e.getCause() == e) {
+				break;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Counts the bytes of a Modbus PDU incl. Unit-ID, without the header of the
+	 * transport layer.
+	 *
+	 * <p>
+	 * Uses the length field of the message, i.e. Unit-ID + Function-Code + data,
+	 * to avoid serializing the message.
+	 */
+	private static int countBytes(ModbusMessage message) {
+		if (message == null) {
+			return 0;
+		}
+		return message.getDataLength();
+	}
+
+	private static long toMillis(long micros) {
+		return TimeUnit.MICROSECONDS.toMillis(micros);
+	}
+
+}
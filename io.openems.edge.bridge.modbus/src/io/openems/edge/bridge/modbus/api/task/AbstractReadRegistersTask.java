@@ -1,7 +1,5 @@
 package io.openems.edge.bridge.modbus.api.task;
 
-import java.util.Arrays;
-
 import com.ghgande.j2mod.modbus.msg.ModbusRequest;
 import com.ghgande.j2mod.modbus.msg.ModbusResponse;
 import com.ghgande.j2mod.modbus.procimg.Register;
@@ -26,7 +24,21 @@ public abstract class AbstractReadRegistersTask<//
 	@Override
 	protected final void handleResponse(ModbusRegisterElement element, int position, Register[] response)
 			throws OpenemsException {
-		element.setInputValue(Arrays.copyOfRange(response, position, position + element.length));
+		element.setInputValue(response, position);
+	}
+
+	/**
+	 * Factory for a {@link ModbusRequest} for the given register range.
+	 * 
+	 * @param startAddress the start address
+	 * @param length       the number of registers
+	 * @return a new {@link ModbusRequest}
+	 */
+	protected abstract REQUEST createModbusRequest(int startAddress, int length);
+
+	@Override
+	protected final REQUEST createModbusRequest() {
+		return this.createModbusRequest(this.startAddress, this.length);
 	}
 
 	@Override
@@ -47,9 +47,7 @@ public abstract class AbstractReadTask<//
 			// On error a log message has already been logged
 
 			try {
-				var result = this.parseResponse(response);
-				validateResponse(result, this.length);
-				this.fillElements(result);
+				this.applyResponse(this.parseResponse(response));
 
 			} catch (OpenemsException e1) {
 				logError(this.log, e1, "Parsing Response failed.");
@@ -58,13 +56,45 @@ public abstract class AbstractReadTask<//
 			return ExecuteState.OK;
 
 		} catch (Exception e) {
-			// Invalidate Elements
-			Stream.of(this.elements).forEach(el -> el.invalidate(bridge));
+			this.invalidate(bridge);
 
 			return ExecuteState.ERROR;
 		}
 	}
 
+	/**
+	 * Validates the converted response values and fills the
+	 * {@link ModbusElement}s.
+	 * 
+	 * @param result the converted {@link ModbusResponse} values
+	 * @throws OpenemsException on error
+	 */
+	protected void applyResponse(T[] result) throws OpenemsException {
+		this.applyResponse(result, 0);
+	}
+
+	/**
+	 * Validates the converted response values from the given offset and fills the
+	 * {@link ModbusElement}s, e.g. from the response of a merged request.
+	 * 
+	 * @param result the converted {@link ModbusResponse} values
+	 * @param offset the position of the first value of this Task
+	 * @throws OpenemsException on error
+	 */
+	protected void applyResponse(T[] result, int offset) throws OpenemsException {
+		validateResponse(result, offset + this.length);
+		this.fillElements(result, offset);
+	}
+
+	/**
+	 * Invalidates the {@link ModbusElement}s after a read error.
+	 * 
+	 * @param bridge the Modbus-Bridge
+	 */
+	protected void invalidate(AbstractModbusBridge bridge) {
+		Stream.of(this.elements).forEach(el -> el.invalidate(bridge));
+	}
+
 	/**
 	 * Verify length of response array.
 	 * 
@@ -84,13 +114,14 @@ public abstract class AbstractReadTask<//
 	 * Fills {@link ModbusElement}s with values from response.
 	 * 
 	 * @param response the response values
+	 * @param offset   the position of the first value of this Task
 	 * @throws OpenemsException on error
 	 */
-	private void fillElements(T[] response) throws OpenemsException {
+	private void fillElements(T[] response, int offset) throws OpenemsException {
 		var errors = new ArrayList<String>();
 
-		this.fillElements(FillElementsPriority.HIGH, errors, response);
-		this.fillElements(FillElementsPriority.DEFAULT, errors, response);
+		this.fillElements(FillElementsPriority.HIGH, errors, response, offset);
+		this.fillElements(FillElementsPriority.DEFAULT, errors, response, offset);
 
 		if (!errors.isEmpty()) {
 			throw new OpenemsException(String.join(", ", errors));
@@ -98,8 +129,8 @@ public abstract class AbstractReadTask<//
 	}
 
 	@SuppressWarnings("unchecked")
-	private void fillElements(FillElementsPriority priority, List<String> errors, T[] response) {
-		var position = 0;
+	private void fillElements(FillElementsPriority priority, List<String> errors, T[] response, int offset) {
+		var position = offset;
 
 		for (var element : this.elements) {
 			// Filter for FillElementsPriority
@@ -20,6 +20,7 @@ import io.openems.edge.bridge.modbus.api.AbstractOpenemsModbusComponent;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.statistics.ModbusStatistics;
 
 /**
  * An abstract Modbus 'AbstractTask' is holding references to one or more Modbus
@@ -38,6 +39,7 @@ public abstract non-sealed class AbstractTask<//
 	private final Logger log = LoggerFactory.getLogger(AbstractTask.class);
 
 	private AbstractOpenemsModbusComponent parent = null; // this is always set by ModbusProtocol.addTask()
+	private String statisticsKey = null;
 
 	public AbstractTask(String name, Class<RESPONSE> responseClazz, int startAddress, ModbusElement... elements) {
 		this.name = name;
@@ -59,6 +61,23 @@ public abstract non-sealed class AbstractTask<//
 		this.length = length;
 	}
 
+	/**
+	 * Constructor for a Task that does not hold {@link ModbusElement}s itself, like
+	 * a {@link MergedReadRegistersTask}.
+	 *
+	 * @param name          the name of the Task
+	 * @param responseClazz the class of the {@link ModbusResponse}
+	 * @param startAddress  the start address
+	 * @param length        the number of registers
+	 */
+	protected AbstractTask(String name, Class<RESPONSE> responseClazz, int startAddress, int length) {
+		this.name = name;
+		this.responseClazz = responseClazz;
+		this.startAddress = startAddress;
+		this.elements = new ModbusElement[0];
+		this.length = length;
+	}
+
 	// Override for Task.getElements()
 	public ModbusElement[] getElements() {
 		return this.elements;
@@ -76,6 +95,7 @@ public abstract non-sealed class AbstractTask<//
 
 	public void setParent(AbstractOpenemsModbusComponent parent) {
 		this.parent = parent;
+		this.statisticsKey = null;
 	}
 
 	public AbstractOpenemsModbusComponent getParent() {
@@ -114,14 +134,50 @@ public abstract non-sealed class AbstractTask<//
 		try {
 			// First try
 			return this.logRequest(TryExecute.FIRST_TRY, bridge, logVerbosity, request,
-					() -> sendRequest(bridge, unitId, this.responseClazz, request));
+					() -> this.sendRequest(bridge, unitId, request, false));
 
 		} catch (Exception e) {
 			// Second try; with new connection
 			bridge.closeModbusConnection();
 			return this.logRequest(TryExecute.SECOND_TRY, bridge, logVerbosity, request,
-					() -> sendRequest(bridge, unitId, this.responseClazz, request));
+					() -> this.sendRequest(bridge, unitId, request, true));
+		}
+	}
+
+	/**
+	 * Sends a {@link ModbusRequest} and records it in the {@link ModbusStatistics}
+	 * of the Bridge.
+	 */
+	private RESPONSE sendRequest(AbstractModbusBridge bridge, int unitId, REQUEST request, boolean isRetry)
+			throws Exception {
+		var start = System.nanoTime();
+		RESPONSE response = null;
+		Exception exception = null;
+		try {
+			response = sendRequest(bridge, unitId, this.responseClazz, request);
+			return response;
+
+		} catch (Exception e) {
+			exception = e;
+			throw e;
+
+		} finally {
+			bridge.getStatistics().onRequest(this.getStatisticsKey(), unitId,
+					TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start), request, response, exception, isRetry);
+		}
+	}
+
+	/**
+	 * Gets the identifier of this Task in the {@link ModbusStatistics}.
+	 *
+	 * @return identifier in the form 'Component-ID/Task-Name/Start-Address'
+	 */
+	public String getStatisticsKey() {
+		var statisticsKey = this.statisticsKey;
+		if (statisticsKey == null) {
+			statisticsKey = this.statisticsKey = this.parent.id() + "/" + this.name + "/" + this.startAddress;
 		}
+		return statisticsKey;
 	}
 
 	private static enum TryExecute {
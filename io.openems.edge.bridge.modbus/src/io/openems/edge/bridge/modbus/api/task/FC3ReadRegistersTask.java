@@ -21,8 +21,8 @@ public class FC3ReadRegistersTask
 	}
 
 	@Override
-	protected ReadMultipleRegistersRequest createModbusRequest() {
-		return new ReadMultipleRegistersRequest(this.startAddress, this.length);
+	protected ReadMultipleRegistersRequest createModbusRequest(int startAddress, int length) {
+		return new ReadMultipleRegistersRequest(startAddress, length);
 	}
 
 	@Override
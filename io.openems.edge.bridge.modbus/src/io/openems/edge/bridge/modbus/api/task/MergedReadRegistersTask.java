@@ -0,0 +1,198 @@
+package io.openems.edge.bridge.modbus.api.task;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ghgande.j2mod.modbus.Modbus;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Reads the registers of multiple {@link AbstractReadRegistersTask}s of one
+ * Component with one single Modbus request.
+ *
+ * <p>
+ * MergedReadRegistersTasks are created by the request planner of the
+ * Modbus-Bridge, not by device drivers. Registers in gaps between the Tasks are
+ * read but ignored.
+ *
+ * <p>
+ * If the device rejects the merged request with an 'illegal address' or
+ * 'illegal data value' exception, the original Tasks are executed one by one
+ * and {@link #isRejected()} is set, so that the planner can fall back to the
+ * original Tasks. The same applies if the merged request fails
+ * {@link #MAX_FAILURES} times in a row, e.g. with a timeout, while the original
+ * Tasks succeed; if they fail as well the device is considered unavailable and
+ * the merged request is kept.
+ *
+ * @param <REQUEST>  the type of the {@link ModbusRequest}
+ * @param <RESPONSE> the type of the {@link ModbusResponse}
+ */
+public class MergedReadRegistersTask<//
+		REQUEST extends ModbusRequest, //
+		RESPONSE extends ModbusResponse> //
+		extends AbstractTask<REQUEST, RESPONSE> implements ReadTask {
+
+	/**
+	 * Number of consecutive failures of the merged request after which the
+	 * original Tasks are tried.
+	 */
+	protected static final int MAX_FAILURES = 3;
+
+	private final Logger log = LoggerFactory.getLogger(MergedReadRegistersTask.class);
+	private final AbstractReadRegistersTask<REQUEST, RESPONSE> template;
+	private final List<AbstractReadRegistersTask<REQUEST, RESPONSE>> tasks;
+	private final ModbusElement[] allElements;
+
+	private volatile boolean isRejected = false;
+	private int failures = 0;
+
+	/**
+	 * Merges the given {@link AbstractReadRegistersTask}s.
+	 *
+	 * <p>
+	 * The Tasks must be of the same type, belong to the same Component, be sorted
+	 * by start address and must not overlap.
+	 *
+	 * @param tasks the {@link AbstractReadRegistersTask}s
+	 * @return the {@link MergedReadRegistersTask}
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static MergedReadRegistersTask<?, ?> from(List<? extends AbstractReadRegistersTask<?, ?>> tasks) {
+		return new MergedReadRegistersTask(tasks);
+	}
+
+	private MergedReadRegistersTask(List<AbstractReadRegistersTask<REQUEST, RESPONSE>> tasks) {
+		super("Merged" + tasks.get(0).name, tasks.get(0).responseClazz, tasks.get(0).startAddress, //
+				tasks.get(tasks.size() - 1).startAddress + tasks.get(tasks.size() - 1).length
+						- tasks.get(0).startAddress);
+		this.template = tasks.get(0);
+		this.tasks = List.copyOf(tasks);
+		this.allElements = this.tasks.stream() //
+				.flatMap(t -> Arrays.stream(t.getElements())) //
+				.toArray(ModbusElement[]::new);
+		this.setParent(this.template.getParent());
+	}
+
+	@Override
+	public ModbusElement[] getElements() {
+		return this.allElements;
+	}
+
+	@Override
+	public Priority getPriority() {
+		return this.template.getPriority();
+	}
+
+	/**
+	 * Gets the original Tasks.
+	 *
+	 * @return a list of {@link AbstractReadRegistersTask}s
+	 */
+	public List<AbstractReadRegistersTask<REQUEST, RESPONSE>> getTasks() {
+		return this.tasks;
+	}
+
+	/**
+	 * Did the device reject the merged request?.
+	 *
+	 * @return true if the original Tasks should be used instead
+	 */
+	public boolean isRejected() {
+		return this.isRejected;
+	}
+
+	@Override
+	public ExecuteState execute(AbstractModbusBridge bridge) {
+		if (this.isRejected) {
+			return this.executeOneByOne(bridge);
+		}
+		try {
+			var response = this.executeRequest(bridge,
+					this.template.createModbusRequest(this.startAddress, this.length));
+			// On error a log message has already been logged
+
+			var result = this.template.parseResponse(response);
+			if (result.length < this.length) {
+				throw new OpenemsException("Received message is too short. " //
+						+ "Expected [" + this.length + "] " //
+						+ "Got [" + result.length + "]");
+			}
+
+			// Distribute registers to the original Tasks
+			var state = ExecuteState.OK;
+			for (var task : this.tasks) {
+				var offset = task.startAddress - this.startAddress;
+				try {
+					task.applyResponse(result, offset);
+
+				} catch (OpenemsException e) {
+					logError(this.log, e, "Parsing Response failed.");
+					task.invalidate(bridge);
+					state = ExecuteState.ERROR;
+				}
+			}
+			this.failures = 0;
+			return state;
+
+		} catch (ModbusSlaveException e) {
+			if (e.isType(Modbus.ILLEGAL_ADDRESS_EXCEPTION) || e.isType(Modbus.ILLEGAL_VALUE_EXCEPTION)) {
+				logInfo(this.log, this.name, "[" + this.getParent().id() + "] rejected by device.",
+						"Falling back to [" + this.tasks.size() + "] separate requests");
+				this.isRejected = true;
+				return this.executeOneByOne(bridge);
+			}
+			return this.handleFailure(bridge);
+
+		} catch (Exception e) {
+			return this.handleFailure(bridge);
+		}
+	}
+
+	private ExecuteState handleFailure(AbstractModbusBridge bridge) {
+		if (++this.failures < MAX_FAILURES) {
+			this.tasks.forEach(t -> t.invalidate(bridge));
+			return ExecuteState.ERROR;
+		}
+
+		// Repeated failures: check if the original Tasks work
+		this.failures = 0;
+		var state = this.executeOneByOne(bridge);
+		if (state == ExecuteState.OK) {
+			logInfo(this.log, this.name, "[" + this.getParent().id() + "] failed " + MAX_FAILURES + " times.",
+					"Falling back to [" + this.tasks.size() + "] separate requests");
+			this.isRejected = true;
+		}
+		return state;
+	}
+
+	private ExecuteState executeOneByOne(AbstractModbusBridge bridge) {
+		var state = ExecuteState.OK;
+		for (var task : this.tasks) {
+			if (task.execute(bridge) == ExecuteState.ERROR) {
+				state = ExecuteState.ERROR;
+			}
+		}
+		return state;
+	}
+
+	@Override
+	protected String payloadToString(REQUEST request) {
+		return "";
+	}
+
+	@Override
+	protected String payloadToString(RESPONSE response) {
+		return this.template.payloadToString(response);
+	}
+
+}
@@ -1,17 +1,30 @@
 package io.openems.edge.bridge.modbus.api.worker;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
 import io.openems.edge.bridge.modbus.api.ModbusComponent;
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.statistics.ModbusStatistics;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.bridge.modbus.api.task.WaitTask;
 import io.openems.edge.bridge.modbus.api.worker.internal.CycleTasks;
 import io.openems.edge.bridge.modbus.api.worker.internal.CycleTasksManager;
 import io.openems.edge.bridge.modbus.api.worker.internal.DefectiveComponents;
@@ -28,6 +41,11 @@ import io.openems.edge.bridge.modbus.api.worker.internal.TasksSupplierImpl;
  * TOPIC_CYCLE_BEFORE_PROCESS_IMAGE event). For this it uses a
  * {@link CycleTasksManager} that internally uses a {@link TasksSupplierImpl}
  * that supplies the tasks for one Cycle ({@link CycleTasks}).
+ *
+ * <p>
+ * If {@link #setMaxParallelReads(int)} is greater than one, multiple Read-Tasks
+ * are executed in parallel. This requires a Bridge that can handle parallel
+ * requests, like a pipelined Modbus/TCP connection.
  */
 public class ModbusWorker extends AbstractImmediateWorker {
 
@@ -38,6 +56,10 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	private final DefectiveComponents defectiveComponents;
 	private final TasksSupplierImpl tasksSupplier;
 	private final CycleTasksManager cycleTasksManager;
+	private final ModbusStatistics statistics = new ModbusStatistics();
+	private final AtomicInteger maxParallelReads = new AtomicInteger(1);
+
+	private ExecutorService executor = null;
 
 	/**
 	 * Constructor for {@link ModbusWorker}.
@@ -66,13 +88,83 @@ public class ModbusWorker extends AbstractImmediateWorker {
 				cycleTimeIsTooShortChannel, cycleDelayChannel, logVerbosity);
 	}
 
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		synchronized (this) {
+			if (this.executor != null) {
+				ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 0);
+				this.executor = null;
+			}
+		}
+	}
+
+	/**
+	 * Sets the max number of Read-Tasks that are executed in parallel.
+	 *
+	 * @param maxParallelReads the max number; '1' executes all Tasks sequentially
+	 */
+	public void setMaxParallelReads(int maxParallelReads) {
+		this.maxParallelReads.set(Math.max(1, maxParallelReads));
+	}
+
 	@Override
 	protected void forever() throws InterruptedException {
 		var task = this.cycleTasksManager.getNextTask();
 
-		// execute the task
-		var result = this.execute.apply(task);
+		if (task instanceof WaitTask) {
+			this.handleResult(task, this.execute.apply(task));
+			return;
+		}
+
+		var start = System.nanoTime();
+		try {
+			var maxParallelReads = this.maxParallelReads.get();
+			if (maxParallelReads > 1 && task instanceof ReadTask) {
+				var tasks = new ArrayList<Task>();
+				tasks.add(task);
+				tasks.addAll(this.cycleTasksManager.getNextReadTasks(maxParallelReads - 1));
+				if (tasks.size() > 1) {
+					this.executeParallel(tasks);
+					return;
+				}
+			}
 
+			// execute the task
+			this.handleResult(task, this.execute.apply(task));
+
+		} finally {
+			this.statistics.onTasksExecuted(System.nanoTime() - start);
+		}
+	}
+
+	private void executeParallel(List<Task> tasks) throws InterruptedException {
+		var executor = this.getExecutor();
+		var futures = tasks.stream() //
+				.map(t -> CompletableFuture.supplyAsync(() -> this.execute.apply(t), executor)) //
+				.toList();
+		for (var i = 0; i < tasks.size(); i++) {
+			ExecuteState result;
+			try {
+				result = futures.get(i).get();
+			} catch (ExecutionException e) {
+				result = ExecuteState.ERROR;
+			}
+			this.handleResult(tasks.get(i), result);
+		}
+	}
+
+	private synchronized ExecutorService getExecutor() {
+		if (this.executor == null) {
+			// Named after the worker thread, i.e. the Bridge-ID
+			this.executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder() //
+					.setNameFormat(Thread.currentThread().getName() + "-%d") //
+					.build());
+		}
+		return this.executor;
+	}
+
+	private void handleResult(Task task, ExecuteState result) {
 		switch (result) {
 		case OK -> {
 			// no exception & at least one sub-task executed
@@ -92,6 +184,15 @@ public class ModbusWorker extends AbstractImmediateWorker {
 
 	}
 
+	/**
+	 * Gets the {@link ModbusStatistics}.
+	 *
+	 * @return the {@link ModbusStatistics}
+	 */
+	public ModbusStatistics getStatistics() {
+		return this.statistics;
+	}
+
 	/**
 	 * Marks the given {@link ModbusComponent} as defective or non-defective.
 	 * 
@@ -137,6 +238,7 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	public void removeProtocol(String sourceId) {
 		this.tasksSupplier.removeProtocol(sourceId);
 		this.defectiveComponents.remove(sourceId); // Cleanup
+		this.statistics.removeComponent(sourceId); // Cleanup
 	}
 
 	/**
@@ -1,5 +1,7 @@
 package io.openems.edge.bridge.modbus.api.worker.internal;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
@@ -7,6 +9,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.WaitTask;
 import io.openems.edge.bridge.modbus.api.worker.ModbusWorker;
@@ -193,6 +196,36 @@ public class CycleTasksManager {
 		return nextTask;
 	}
 
+	/**
+	 * Gets further {@link ReadTask}s of the current Cycle, that can be executed in
+	 * parallel to the {@link ReadTask} returned by {@link #getNextTask()}. This is
+	 * called in a separate Thread by {@link ModbusWorker}.
+	 * 
+	 * @param max the max number of {@link ReadTask}s
+	 * @return a list of {@link ReadTask}s; empty if not in a read state
+	 */
+	public List<ReadTask> getNextReadTasks(int max) {
+		var result = new ArrayList<ReadTask>();
+		var cycleTasks = this.cycleTasks;
+		if (cycleTasks == null) {
+			return result;
+		}
+		switch (this.state) {
+		case READ_BEFORE_WRITE, READ_AFTER_WRITE -> {
+			while (result.size() < max) {
+				var task = cycleTasks.reads().poll();
+				if (task == null) {
+					break;
+				}
+				result.add(task);
+			}
+		}
+		case INITIAL_WAIT, WAIT_FOR_WRITE, WRITE, WAIT_BEFORE_READ, FINISHED -> {
+		}
+		}
+		return result;
+	}
+
 	/**
 	 * Waiting in INITIAL_WAIT or WAIT_BEFORE_READ finished.
 	 */
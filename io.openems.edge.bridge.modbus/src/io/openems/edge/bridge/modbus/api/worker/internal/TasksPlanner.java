@@ -0,0 +1,150 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+
+import io.openems.edge.bridge.modbus.api.ModbusProtocol;
+import io.openems.edge.bridge.modbus.api.task.AbstractReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.MergedReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
+
+/**
+ * Plans the Modbus requests for the {@link Task}s of one
+ * {@link ModbusProtocol}.
+ *
+ * <p>
+ * Read-Register-Tasks of the same type and Priority are merged into one
+ * {@link MergedReadRegistersTask} if the gap between them is within
+ * {@link ModbusProtocol#getGapTolerance()} and the merged request does not
+ * exceed {@link #MAX_REGISTERS}. All other Tasks are kept as they are.
+ *
+ * <p>
+ * The plan is kept until the Tasks of the {@link ModbusProtocol} change. If the
+ * device rejects a {@link MergedReadRegistersTask} or it keeps failing while
+ * the original Tasks succeed, its original Tasks are used again and are not
+ * merged anymore.
+ */
+public class TasksPlanner {
+
+	/**
+	 * Maximum number of registers of one read request (Modbus function codes 3 and
+	 * 4).
+	 */
+	public static final int MAX_REGISTERS = 125;
+
+	private final ModbusProtocol protocol;
+
+	/** Tasks that were rejected by the device as part of a merged request. */
+	private final Set<Task> unmergeable = new HashSet<>();
+
+	private List<Task> tasks = List.of();
+	private int gapTolerance = ModbusProtocol.DEFAULT_GAP_TOLERANCE;
+	private List<Task> plan = List.of();
+	private List<MergedReadRegistersTask<?, ?>> mergedTasks = List.of();
+
+	public TasksPlanner(ModbusProtocol protocol) {
+		this.protocol = protocol;
+	}
+
+	/**
+	 * Gets the planned {@link Task}s.
+	 *
+	 * @return a list of {@link Task}s
+	 */
+	public synchronized List<Task> getTasks() {
+		final List<Task> tasks;
+		var taskManager = this.protocol.getTaskManager();
+		synchronized (taskManager) {
+			// getTasks() is only a view on the list
+			tasks = List.copyOf(taskManager.getTasks());
+		}
+		var gapTolerance = this.protocol.getGapTolerance();
+
+		if (!tasks.equals(this.tasks) || gapTolerance != this.gapTolerance) {
+			// Protocol changed
+			this.tasks = tasks;
+			this.gapTolerance = gapTolerance;
+			this.unmergeable.clear();
+			this.updatePlan();
+
+		} else if (this.mergedTasks.stream().anyMatch(MergedReadRegistersTask::isRejected)) {
+			// Device rejected a merged request
+			this.mergedTasks.stream() //
+					.filter(MergedReadRegistersTask::isRejected) //
+					.forEach(t -> this.unmergeable.addAll(t.getTasks()));
+			this.updatePlan();
+		}
+		return this.plan;
+	}
+
+	private void updatePlan() {
+		this.plan = plan(this.tasks, this.gapTolerance, this.unmergeable);
+		this.mergedTasks = this.plan.stream() //
+				.filter(MergedReadRegistersTask.class::isInstance) //
+				.<MergedReadRegistersTask<?, ?>>map(MergedReadRegistersTask.class::cast) //
+				.toList();
+	}
+
+	/**
+	 * Merges adjacent Read-Register-Tasks.
+	 *
+	 * @param tasks        the {@link Task}s
+	 * @param gapTolerance the maximum gap between two merged Tasks; negative to
+	 *                     disable merging
+	 * @param unmergeable  {@link Task}s that must not be merged
+	 * @return the planned {@link Task}s
+	 */
+	protected static List<Task> plan(List<Task> tasks, int gapTolerance, Set<Task> unmergeable) {
+		if (gapTolerance < 0) {
+			return tasks;
+		}
+
+		// Group by type and Priority; keep all other Tasks as they are
+		var result = new ArrayList<Task>(tasks.size());
+		var groups = new LinkedHashMap<List<Object>, List<AbstractReadRegistersTask<?, ?>>>();
+		for (var task : tasks) {
+			if (task instanceof AbstractReadRegistersTask<?, ?> t && !unmergeable.contains(t)) {
+				groups.computeIfAbsent(List.of(t.getClass(), t.getPriority()), k -> new ArrayList<>()) //
+						.add(t);
+			} else {
+				result.add(task);
+			}
+		}
+
+		for (var group : groups.values()) {
+			group.sort(Comparator.comparingInt(Task::getStartAddress));
+			var merge = new ArrayList<AbstractReadRegistersTask<?, ?>>();
+			for (var task : group) {
+				if (!merge.isEmpty() && !canAppend(merge, task, gapTolerance)) {
+					result.add(toTask(merge));
+					merge = new ArrayList<>();
+				}
+				merge.add(task);
+			}
+			if (!merge.isEmpty()) {
+				result.add(toTask(merge));
+			}
+		}
+		return result;
+	}
+
+	private static boolean canAppend(List<AbstractReadRegistersTask<?, ?>> merge, Task task, int gapTolerance) {
+		var first = merge.get(0);
+		var last = merge.get(merge.size() - 1);
+		var gap = task.getStartAddress() - (last.getStartAddress() + last.getLength());
+		return gap >= 0 && gap <= gapTolerance //
+				&& task.getStartAddress() + task.getLength() - first.getStartAddress() <= MAX_REGISTERS;
+	}
+
+	private static Task toTask(List<AbstractReadRegistersTask<?, ?>> merge) {
+		if (merge.size() == 1) {
+			return merge.get(0);
+		}
+		return MergedReadRegistersTask.from(merge);
+	}
+
+}
@@ -12,7 +12,6 @@ import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.WriteTask;
 import io.openems.edge.common.taskmanager.Priority;
-import io.openems.edge.common.taskmanager.TasksManager;
 import io.openems.edge.common.type.Tuple;
 
 /**
@@ -21,9 +20,9 @@ import io.openems.edge.common.type.Tuple;
 public class TasksSupplierImpl implements TasksSupplier {
 
 	/**
-	 * Source-ID -> TasksManager for {@link Task}s.
+	 * Source-ID -> TasksPlanner for {@link Task}s.
 	 */
-	private final Map<String, TasksManager<Task>> taskManagers = new HashMap<>();
+	private final Map<String, TasksPlanner> tasksPlanners = new HashMap<>();
 
 	/**
 	 * Queue of LOW priority {@link ReadTask}s.
@@ -37,7 +36,7 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 * @param protocol the ModbusProtocol
 	 */
 	public void addProtocol(String sourceId, ModbusProtocol protocol) {
-		this.taskManagers.put(sourceId, protocol.getTaskManager());
+		this.tasksPlanners.put(sourceId, new TasksPlanner(protocol));
 	}
 
 	/**
@@ -46,7 +45,7 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 * @param sourceId Component-ID of the source
 	 */
 	public void removeProtocol(String sourceId) {
-		this.taskManagers.remove(sourceId);
+		this.tasksPlanners.remove(sourceId);
 	}
 
 	@Override
@@ -61,9 +60,9 @@ public class TasksSupplierImpl implements TasksSupplier {
 			}
 		}
 		// All High Priority ReadTasks + all WriteTasks
-		this.taskManagers.forEach((id, taskManager) -> {
+		this.tasksPlanners.forEach((id, tasksPlanner) -> {
 			var list = tasks.computeIfAbsent(id, (ignore) -> new LinkedList<>());
-			taskManager.getTasks().stream() //
+			tasksPlanner.getTasks().stream() //
 					.filter(t -> t instanceof WriteTask || t.getPriority() == Priority.HIGH) //
 					.forEach(list::add);
 		});
@@ -111,9 +110,10 @@ public class TasksSupplierImpl implements TasksSupplier {
 				return null;
 			}
 			// refill the queue
-			this.taskManagers.forEach((id, taskManager) -> {
-				taskManager.getTasks(Priority.LOW).stream() //
+			this.tasksPlanners.forEach((id, tasksPlanner) -> {
+				tasksPlanner.getTasks().stream() //
 						.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
+						.filter(t -> t.getPriority() == Priority.LOW) //
 						.map(t -> new Tuple<String, ReadTask>(id, t)) //
 						.forEach(this.nextLowPriorityTasks::add);
 			});
@@ -123,8 +123,8 @@ public class TasksSupplierImpl implements TasksSupplier {
 
 	@Override
 	public int getTotalNumberOfTasks() {
-		return this.taskManagers.values().stream() //
-				.mapToInt(m -> m.countTasks()) //
+		return this.tasksPlanners.values().stream() //
+				.mapToInt(p -> p.getTasks().size()) //
 				.sum();
 	}
 }
@@ -0,0 +1,139 @@
+package io.openems.edge.bridge.modbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.Modbus;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
+import com.ghgande.j2mod.modbus.msg.ReadInputRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadInputRegistersResponse;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersResponse;
+
+public class ModbusTcpPipelineTest {
+
+	private static final int TIMEOUT = 1000;
+
+	@Test
+	public void testParallelRequests() throws Exception {
+		try (var slave = new PipelinedModbusSlaveSimulator(50)) {
+			var sut = new ModbusTcpPipeline(slave.getAddress(), 4, TIMEOUT);
+			try {
+				var futures = new ArrayList<CompletableFuture<ModbusResponse>>();
+				for (var i = 0; i < 8; i++) {
+					futures.add(sut.send(1, new ReadMultipleRegistersRequest(i * 100, 2)));
+				}
+				var fc4 = sut.send(2, new ReadInputRegistersRequest(500, 1));
+
+				// Responses are mapped to their requests
+				for (var i = 0; i < 8; i++) {
+					var response = (ReadMultipleRegistersResponse) futures.get(i).get();
+					assertEquals(1, response.getUnitID());
+					assertEquals(i * 100, response.getRegisterValue(0));
+					assertEquals(i * 100 + 1, response.getRegisterValue(1));
+				}
+				assertEquals(500, ((ReadInputRegistersResponse) fc4.get()).getRegisterValue(0));
+
+				// Window per Unit-ID
+				assertEquals(4, slave.getMaxInFlight(1));
+				assertEquals(1, slave.getMaxInFlight(2));
+
+			} finally {
+				sut.close();
+			}
+		}
+	}
+
+	@Test
+	public void testExceptionResponse() throws Exception {
+		try (var slave = new PipelinedModbusSlaveSimulator(0)) {
+			var sut = new ModbusTcpPipeline(slave.getAddress(), 2, TIMEOUT);
+			try {
+				sut.execute(1, new ReadMultipleRegistersRequest(PipelinedModbusSlaveSimulator.ILLEGAL_ADDRESS, 1));
+				fail();
+			} catch (ModbusSlaveException e) {
+				assertTrue(e.isType(Modbus.ILLEGAL_ADDRESS_EXCEPTION));
+			}
+
+			// Connection is still usable
+			var response = (ReadMultipleRegistersResponse) sut.execute(1, new ReadMultipleRegistersRequest(7, 1));
+			assertEquals(7, response.getRegisterValue(0));
+			sut.close();
+		}
+	}
+
+	@Test
+	public void testTimeout() throws Exception {
+		try (var slave = new PipelinedModbusSlaveSimulator(0)) {
+			var sut = new ModbusTcpPipeline(slave.getAddress(), 1, 100);
+			try {
+				sut.send(PipelinedModbusSlaveSimulator.SILENT_UNIT_ID, new ReadMultipleRegistersRequest(0, 1)).get();
+				fail();
+			} catch (ExecutionException e) {
+				assertTrue(e.getCause() instanceof TimeoutException);
+			}
+
+			// Window is released after timeout
+			try {
+				sut.send(PipelinedModbusSlaveSimulator.SILENT_UNIT_ID, new ReadMultipleRegistersRequest(0, 1)).get();
+				fail();
+			} catch (ExecutionException e) {
+				assertTrue(e.getCause() instanceof TimeoutException);
+			}
+			assertEquals(2, slave.getRequests());
+
+			// Other Unit-IDs are not affected
+			var response = (ReadMultipleRegistersResponse) sut.execute(1, new ReadMultipleRegistersRequest(3, 1));
+			assertEquals(3, response.getRegisterValue(0));
+			sut.close();
+		}
+	}
+
+	@Test
+	public void testReconnect() throws Exception {
+		try (var slave = new PipelinedModbusSlaveSimulator(0)) {
+			var sut = new ModbusTcpPipeline(slave.getAddress(), 2, TIMEOUT);
+			sut.execute(1, new ReadMultipleRegistersRequest(1, 1));
+			sut.close();
+
+			var response = (ReadMultipleRegistersResponse) sut.execute(1, new ReadMultipleRegistersRequest(2, 1));
+			assertEquals(2, response.getRegisterValue(0));
+			sut.close();
+		}
+	}
+
+	@Ignore
+	@Test
+	public void benchmark() throws Exception {
+		final var latency = 5; // [ms]
+		final var requests = 1000;
+		try (var slave = new PipelinedModbusSlaveSimulator(latency)) {
+			for (var window : new int[] { 1, 2, 4, 8, 16 }) {
+				var sut = new ModbusTcpPipeline(slave.getAddress(), window, TIMEOUT);
+				var start = System.nanoTime();
+				var futures = new ArrayList<CompletableFuture<ModbusResponse>>(requests);
+				for (var i = 0; i < requests; i++) {
+					futures.add(sut.send(1, new ReadMultipleRegistersRequest(i % 1000, 10)));
+				}
+				for (var future : futures) {
+					future.get();
+				}
+				var seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+				System.out.println(String.format("Window [%2d] Latency [%dms] %6.0f reads/s", //
+						window, latency, requests / seconds));
+				sut.close();
+			}
+		}
+	}
+
+}
@@ -10,6 +10,7 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		private String id;
 		private String ip;
 		private int port;
+		private int pipelineWindow = 1;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
 
@@ -31,6 +32,11 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 			return this;
 		}
 
+		public Builder setPipelineWindow(int pipelineWindow) {
+			this.pipelineWindow = pipelineWindow;
+			return this;
+		}
+
 		public Builder setLogVerbosity(LogVerbosity logVerbosity) {
 			this.logVerbosity = logVerbosity;
 			return this;
@@ -72,6 +78,11 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		return this.builder.port;
 	}
 
+	@Override
+	public int pipelineWindow() {
+		return this.builder.pipelineWindow;
+	}
+
 	@Override
 	public LogVerbosity logVerbosity() {
 		return this.builder.logVerbosity;
@@ -0,0 +1,155 @@
+package io.openems.edge.bridge.modbus;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ghgande.j2mod.modbus.Modbus;
+
+/**
+ * A simulated Modbus/TCP slave that handles multiple requests in parallel.
+ *
+ * <p>
+ * Every request is answered after a fixed latency, independently of other
+ * requests, like a gateway with multiple devices. FC3 and FC4 read requests
+ * return the register address as value; addresses from
+ * {@link #ILLEGAL_ADDRESS} are answered with an 'illegal address' exception.
+ * Requests to {@link #SILENT_UNIT_ID} are never answered.
+ */
+public class PipelinedModbusSlaveSimulator implements AutoCloseable {
+
+	public static final int ILLEGAL_ADDRESS = 10000;
+	public static final int SILENT_UNIT_ID = 99;
+
+	private final ServerSocket serverSocket;
+	private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(4);
+	private final int latency;
+	private final Map<Integer, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+	private final Map<Integer, AtomicInteger> maxInFlight = new ConcurrentHashMap<>();
+	private final AtomicInteger requests = new AtomicInteger();
+
+	/**
+	 * Starts a {@link PipelinedModbusSlaveSimulator} on a random port.
+	 *
+	 * @param latency the latency of each response in [ms]
+	 * @throws IOException on error
+	 */
+	public PipelinedModbusSlaveSimulator(int latency) throws IOException {
+		this.latency = latency;
+		this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		var acceptor = new Thread(this::accept, "PipelinedModbusSlaveSimulator");
+		acceptor.setDaemon(true);
+		acceptor.start();
+	}
+
+	public InetSocketAddress getAddress() {
+		return new InetSocketAddress(this.serverSocket.getInetAddress(), this.serverSocket.getLocalPort());
+	}
+
+	/**
+	 * Gets the max number of requests in flight for a Unit-ID.
+	 *
+	 * @param unitId the Unit-ID
+	 * @return the max number
+	 */
+	public int getMaxInFlight(int unitId) {
+		var result = this.maxInFlight.get(unitId);
+		return result == null ? 0 : result.get();
+	}
+
+	public int getRequests() {
+		return this.requests.get();
+	}
+
+	private void accept() {
+		while (!this.serverSocket.isClosed()) {
+			try {
+				var socket = this.serverSocket.accept();
+				socket.setTcpNoDelay(true);
+				var handler = new Thread(() -> this.handle(socket), "PipelinedModbusSlaveSimulator-Connection");
+				handler.setDaemon(true);
+				handler.start();
+			} catch (IOException e) {
+				// closed
+			}
+		}
+	}
+
+	private void handle(Socket socket) {
+		try (socket) {
+			var in = new DataInputStream(socket.getInputStream());
+			var out = new DataOutputStream(socket.getOutputStream());
+			while (true) {
+				var transactionId = in.readUnsignedShort();
+				in.readUnsignedShort(); // Protocol-ID
+				var length = in.readUnsignedShort();
+				var unitId = in.readUnsignedByte();
+				var pdu = new byte[length - 1];
+				in.readFully(pdu);
+				this.requests.incrementAndGet();
+				if (unitId == SILENT_UNIT_ID) {
+					continue;
+				}
+
+				var inFlight = this.inFlight.computeIfAbsent(unitId, u -> new AtomicInteger()).incrementAndGet();
+				this.maxInFlight.computeIfAbsent(unitId, u -> new AtomicInteger()).accumulateAndGet(inFlight,
+						Math::max);
+				this.executor.schedule(() -> {
+					this.inFlight.get(unitId).decrementAndGet();
+					var response = toResponse(pdu);
+					synchronized (out) {
+						try {
+							out.writeShort(transactionId);
+							out.writeShort(0);
+							out.writeShort(response.length + 1);
+							out.writeByte(unitId);
+							out.write(response);
+							out.flush();
+						} catch (IOException e) {
+							// closed
+						}
+					}
+				}, this.latency, TimeUnit.MILLISECONDS);
+			}
+		} catch (IOException e) {
+			// closed
+		}
+	}
+
+	private static byte[] toResponse(byte[] pdu) {
+		var functionCode = pdu[0] & 0xFF;
+		var address = (pdu[1] & 0xFF) << 8 | pdu[2] & 0xFF;
+		var count = (pdu[3] & 0xFF) << 8 | pdu[4] & 0xFF;
+		if (functionCode != 3 && functionCode != 4) {
+			return new byte[] { (byte) (functionCode | 0x80), (byte) Modbus.ILLEGAL_FUNCTION_EXCEPTION };
+		}
+		if (address + count > ILLEGAL_ADDRESS) {
+			return new byte[] { (byte) (functionCode | 0x80), (byte) Modbus.ILLEGAL_ADDRESS_EXCEPTION };
+		}
+		var response = new byte[2 + count * 2];
+		response[0] = (byte) functionCode;
+		response[1] = (byte) (count * 2);
+		for (var i = 0; i < count; i++) {
+			response[2 + i * 2] = (byte) (address + i >> 8);
+			response[3 + i * 2] = (byte) (address + i);
+		}
+		return response;
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.serverSocket.close();
+		this.executor.shutdownNow();
+	}
+
+}
@@ -0,0 +1,122 @@
+package io.openems.edge.bridge.modbus.api.element;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.procimg.Register;
+import com.ghgande.j2mod.modbus.procimg.SimpleRegister;
+
+public class ModbusRegisterElementTest {
+
+	private static final List<Supplier<ModbusRegisterElement<?, ?>>> ELEMENTS = List.of(//
+			() -> new UnsignedWordElement(0), //
+			() -> new SignedWordElement(0), //
+			() -> new UnsignedDoublewordElement(0), //
+			() -> new SignedDoublewordElement(0), //
+			() -> new FloatDoublewordElement(0), //
+			() -> new UnsignedQuadruplewordElement(0), //
+			() -> new SignedQuadruplewordElement(0), //
+			() -> new FloatQuadruplewordElement(0));
+
+	private static Register[] randomRegisters(Random random, int length) {
+		var result = new Register[length];
+		for (var i = 0; i < length; i++) {
+			result[i] = new SimpleRegister(random.nextInt(0x10000));
+		}
+		return result;
+	}
+
+	private static void configure(ModbusRegisterElement<?, ?> element, ByteOrder byteOrder, WordOrder wordOrder) {
+		element.byteOrder(byteOrder);
+		if (element instanceof AbstractMultipleWordsElement<?, ?> e) {
+			e.wordOrder(wordOrder);
+		}
+	}
+
+	@Test
+	public void testRegistersToValue() {
+		var random = new Random(0);
+		for (var supplier : ELEMENTS) {
+			for (var byteOrder : List.of(ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN)) {
+				for (var wordOrder : WordOrder.values()) {
+					var sut = supplier.get();
+					configure(sut, byteOrder, wordOrder);
+					for (var i = 0; i < 100; i++) {
+						var registers = randomRegisters(random, sut.length + 3);
+
+						// Same result as ByteBuffer based decoding
+						var expected = sut.commonRegistersToValue(Arrays.copyOfRange(registers, 2, 2 + sut.length),
+								wordOrder);
+						var message = sut.getClass().getSimpleName() + " " + byteOrder + " " + wordOrder;
+						assertEquals(message, expected, sut.registersToValue(registers, 2));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testSetInputValueWithOffset() {
+		var value = new AtomicReference<Long>();
+		var sut = new SignedDoublewordElement(0) //
+				.wordOrder(WordOrder.LSWMSW) //
+				.onUpdateCallback(value::set);
+		sut.setInputValue(new Register[] { //
+				new SimpleRegister(0xFFFF), //
+				new SimpleRegister(0x1234), //
+				new SimpleRegister(0xABCD), //
+				new SimpleRegister(0xFFFF) //
+		}, 1);
+		assertEquals(Long.valueOf(0xFFFF_FFFF_ABCD_1234L), value.get());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetInputValueWithOffsetTooShort() {
+		new UnsignedQuadruplewordElement(0).setInputValue(new Register[] { //
+				new SimpleRegister(1), new SimpleRegister(2), new SimpleRegister(3), new SimpleRegister(4) //
+		}, 1);
+	}
+
+	@Ignore
+	@Test
+	public void benchmark() {
+		final var iterations = 5_000_000;
+		var random = new Random(0);
+		var registers = randomRegisters(random, 1000);
+		for (var supplier : ELEMENTS) {
+			var sut = supplier.get();
+			var sum = 0L;
+			for (var run = 0; run < 3; run++) {
+				// ByteBuffer based decoding of a copy of the Registers
+				var start = System.nanoTime();
+				for (var i = 0; i < iterations; i++) {
+					var offset = i % (registers.length - sut.length);
+					var copy = Arrays.copyOfRange(registers, offset, offset + sut.length);
+					sum += sut.commonRegistersToValue(copy, WordOrder.MSWLSW).hashCode();
+				}
+				var byteBuffer = (System.nanoTime() - start) / (double) iterations;
+
+				// Decoding directly from the Registers
+				start = System.nanoTime();
+				for (var i = 0; i < iterations; i++) {
+					var offset = i % (registers.length - sut.length);
+					sum += sut.registersToValue(registers, offset).hashCode();
+				}
+				var direct = (System.nanoTime() - start) / (double) iterations;
+
+				System.out.println(String.format("%-30s ByteBuffer [%5.1fns] Direct [%5.1fns] (%d)", //
+						sut.getClass().getSimpleName(), byteBuffer, direct, sum & 1));
+			}
+		}
+	}
+
+}
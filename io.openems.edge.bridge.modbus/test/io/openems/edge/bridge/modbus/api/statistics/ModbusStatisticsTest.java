@@ -0,0 +1,125 @@
+package io.openems.edge.bridge.modbus.api.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.ModbusIOException;
+import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersResponse;
+import com.ghgande.j2mod.modbus.procimg.Register;
+import com.ghgande.j2mod.modbus.procimg.SimpleRegister;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.bridge.modbus.test.DummyModbusBridge;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ModbusStatisticsTest {
+
+	@Test
+	public void testOnRequestAndCycle() {
+		var sut = new ModbusStatistics();
+		var request = new ReadMultipleRegistersRequest(100, 2);
+		var response = new ReadMultipleRegistersResponse(
+				new Register[] { new SimpleRegister(1), new SimpleRegister(2) });
+
+		var timeout = new ModbusIOException("I/O exception");
+		timeout.initCause(new SocketTimeoutException("Read timed out"));
+		sut.onRequest("meter0/FC3/100", 1, 10_000, request, null, timeout, false);
+		sut.onRequest("meter0/FC3/100", 1, 20_000, request, response, null, true);
+		sut.onRequest("meter1/FC3/100", 2, 30_000, request, response, null, false);
+
+		var task = sut.getTask("meter0/FC3/100");
+		assertEquals(2, task.getRequests());
+		assertEquals(1, task.getErrors());
+		assertEquals(1, task.getTimeouts());
+		assertEquals(1, task.getRetries());
+		assertEquals(1, sut.getUnit(2).getRequests());
+		assertEquals(3, sut.getTotal().getRequests());
+		// Request: Unit-ID + FC + 4 bytes; Response: Unit-ID + FC + 1 + 4 bytes
+		assertEquals(3 * 6 + 2 * 7, sut.getTotal().getBytes());
+
+		// First Cycle: no budget usage
+		var cycle = sut.onCycle(TimeUnit.SECONDS.toNanos(1));
+		assertEquals(Long.valueOf(20), cycle.latencyP50());
+		assertEquals(Long.valueOf(30), cycle.latencyMax());
+		assertEquals(1, cycle.timeouts());
+		assertNull(cycle.cycleBudgetUsage());
+
+		// Second Cycle: 250 ms of 1 s busy
+		sut.onTasksExecuted(TimeUnit.MILLISECONDS.toNanos(250));
+		cycle = sut.onCycle(TimeUnit.SECONDS.toNanos(2));
+		assertEquals(Integer.valueOf(25), cycle.cycleBudgetUsage());
+		assertNull(cycle.latencyP50());
+
+		var json = sut.toJson();
+		assertEquals(3, json.getAsJsonObject("total").get("requests").getAsLong());
+		assertTrue(json.getAsJsonObject("units").has("1"));
+		assertTrue(json.getAsJsonObject("tasks").has("meter1/FC3/100"));
+
+		sut.removeComponent("meter0");
+		assertNull(sut.getTask("meter0/FC3/100"));
+		assertEquals(1, sut.getTask("meter1/FC3/100").getRequests());
+	}
+
+	@Test
+	public void testMaxTasks() {
+		var sut = new ModbusStatistics();
+		var request = new ReadMultipleRegistersRequest(100, 1);
+		for (var i = 0; i < ModbusStatistics.MAX_TASKS + 10; i++) {
+			sut.onRequest("meter0/FC3/" + i, 1, 1_000, request, null, null, false);
+		}
+		assertEquals(1, sut.getTask("meter0/FC3/0").getRequests());
+		assertNull(sut.getTask("meter0/FC3/" + ModbusStatistics.MAX_TASKS));
+		assertEquals(10, sut.getTask(ModbusStatistics.OTHER_TASKS).getRequests());
+		assertEquals(ModbusStatistics.MAX_TASKS + 1, sut.toJson().getAsJsonObject("tasks").size());
+	}
+
+	@Test
+	public void testIsTimeout() {
+		assertFalse(ModbusStatistics.isTimeout(null));
+		assertFalse(ModbusStatistics.isTimeout(new ModbusException("Error")));
+		assertTrue(ModbusStatistics.isTimeout(new SocketTimeoutException()));
+		var e = new ModbusIOException("I/O exception");
+		e.initCause(new SocketTimeoutException());
+		assertTrue(ModbusStatistics.isTimeout(e));
+	}
+
+	@Test
+	public void testTask() throws OpenemsException {
+		var bridge = new DummyModbusBridge("modbus0") {
+			@Override
+			public ModbusTransaction getNewModbusTransaction() {
+				return new ModbusTransaction() {
+					@Override
+					public void execute() throws ModbusException {
+						this.response = new ReadMultipleRegistersResponse(new Register[] { new SimpleRegister(1) });
+					}
+				};
+			}
+		};
+		var component = new DummyModbusComponent("device0", bridge, DummyModbusComponent.DEFAULT_UNIT_ID,
+				new io.openems.edge.common.channel.ChannelId[0]);
+		var task = new FC3ReadRegistersTask(100, Priority.HIGH, new UnsignedWordElement(100));
+		component.getModbusProtocol().addTask(task);
+
+		assertEquals(ExecuteState.OK, task.execute(bridge));
+		var entry = bridge.getStatistics().getTask("device0/FC3ReadHoldingRegisters/100");
+		assertEquals(1, entry.getRequests());
+		assertEquals(0, entry.getErrors());
+		assertEquals(1, bridge.getStatistics().getUnit(DummyModbusComponent.DEFAULT_UNIT_ID).getRequests());
+	}
+
+}
@@ -3,6 +3,7 @@ package io.openems.edge.bridge.modbus.api.worker.internal;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.junit.Before;
@@ -177,4 +178,32 @@ public class CycleTasksManagerTest {
 		task = sut.getNextTask();
 		assertTrue(task instanceof WaitTask.Mutex);
 	}
+
+	@Test
+	public void testNextReadTasks() throws OpenemsException, InterruptedException {
+		var cycle = CycleTasks.create() //
+				.reads(RT_L_1, RT_H_1, RT_H_2) //
+				.writes(WT_1) //
+				.build();
+		var sut = new CycleTasksManager(new DummyTasksSupplier(cycle), new DefectiveComponents(),
+				CYCLE_TIME_IS_TOO_SHORT, CYCLE_DELAY);
+
+		// Not in a read state
+		assertEquals(List.of(), sut.getNextReadTasks(2));
+
+		sut.onBeforeProcessImage();
+		var task = sut.getNextTask();
+		assertTrue(task instanceof WaitTask.Delay);
+		assertEquals(List.of(), sut.getNextReadTasks(2));
+		task.execute(null);
+
+		task = sut.getNextTask();
+		assertEquals(RT_L_1, task);
+		assertEquals(List.of(RT_H_1), sut.getNextReadTasks(1));
+		assertEquals(List.of(RT_H_2), sut.getNextReadTasks(2));
+
+		// Reads finished -> wait for write
+		task = sut.getNextTask();
+		assertTrue(task instanceof WaitTask.Mutex);
+	}
 }
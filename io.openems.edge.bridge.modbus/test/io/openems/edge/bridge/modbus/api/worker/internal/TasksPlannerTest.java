@@ -0,0 +1,232 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.Modbus;
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.ModbusIOException;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersResponse;
+import com.ghgande.j2mod.modbus.procimg.Register;
+import com.ghgande.j2mod.modbus.procimg.SimpleRegister;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC4ReadInputRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.MergedReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.bridge.modbus.api.worker.DummyReadTask;
+import io.openems.edge.bridge.modbus.test.DummyModbusBridge;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class TasksPlannerTest {
+
+	@Test
+	public void testPlan() throws OpenemsException {
+		var component = new DummyModbusComponent();
+		var protocol = component.getModbusProtocol();
+		var fc3a = new FC3ReadRegistersTask(0, Priority.HIGH, new UnsignedWordElement(0), new UnsignedWordElement(1));
+		var fc3b = new FC3ReadRegistersTask(2, Priority.HIGH, new UnsignedWordElement(2));
+		var fc3c = new FC3ReadRegistersTask(5, Priority.HIGH, new UnsignedWordElement(5));
+		var fc3Low = new FC3ReadRegistersTask(3, Priority.LOW, new UnsignedWordElement(3));
+		var fc4 = new FC4ReadInputRegistersTask(3, Priority.HIGH, new UnsignedWordElement(3));
+		var dummy = new DummyReadTask("RT", 0, Priority.HIGH);
+		protocol.addTasks(fc3c, fc3Low, fc3b, fc4, fc3a, dummy);
+		var sut = new TasksPlanner(protocol);
+
+		// Merging is disabled by default
+		assertEquals(6, sut.getTasks().size());
+
+		// Adjacent FC3 HIGH are merged
+		protocol.setGapTolerance(0);
+		var tasks = sut.getTasks();
+		assertEquals(5, tasks.size());
+		var merged = (MergedReadRegistersTask<?, ?>) tasks.stream() //
+				.filter(MergedReadRegistersTask.class::isInstance) //
+				.findFirst().get();
+		assertEquals(List.of(fc3a, fc3b), merged.getTasks());
+		assertEquals(0, merged.getStartAddress());
+		assertEquals(3, merged.getLength());
+		assertEquals(Priority.HIGH, merged.getPriority());
+		assertSame(component, merged.getParent());
+		assertEquals(3, merged.getElements().length);
+		assertTrue(tasks.containsAll(List.of(fc3c, fc3Low, fc4, dummy)));
+
+		// Plan is kept
+		assertSame(tasks, sut.getTasks());
+
+		// Gap tolerance
+		protocol.setGapTolerance(2);
+		tasks = sut.getTasks();
+		assertEquals(4, tasks.size());
+		assertFalse(tasks.contains(fc3c));
+
+		// Protocol changed
+		protocol.removeTask(fc3b);
+		tasks = sut.getTasks();
+		assertEquals(5, tasks.size());
+		assertTrue(tasks.containsAll(List.of(fc3a, fc3c)));
+
+		protocol.setGapTolerance(3);
+		assertEquals(4, sut.getTasks().size());
+
+		// Merging disabled
+		protocol.setGapTolerance(-1);
+		assertEquals(5, sut.getTasks().size());
+	}
+
+	@Test
+	public void testMaxRegisters() throws OpenemsException {
+		var component = new DummyModbusComponent();
+		var protocol = component.getModbusProtocol();
+		var t1 = new FC3ReadRegistersTask(0, Priority.HIGH, new DummyRegisterElement(0, 99));
+		var t2 = new FC3ReadRegistersTask(100, Priority.HIGH, new DummyRegisterElement(100, 124));
+		var t3 = new FC3ReadRegistersTask(125, Priority.HIGH, new UnsignedWordElement(125));
+		protocol.addTasks(t1, t2, t3);
+		protocol.setGapTolerance(0);
+
+		var tasks = new TasksPlanner(protocol).getTasks();
+		assertEquals(2, tasks.size());
+		assertEquals(TasksPlanner.MAX_REGISTERS, tasks.get(0).getLength());
+		assertSame(t3, tasks.get(1));
+	}
+
+	/**
+	 * Creates a {@link DummyModbusBridge} that answers FC3 requests with the
+	 * register addresses as values.
+	 *
+	 * @param requests counts the requests
+	 * @param error    gets the exception for a request; null for success
+	 * @return the bridge
+	 */
+	private static DummyModbusBridge createBridge(AtomicInteger requests,
+			Function<ReadMultipleRegistersRequest, ModbusException> error) {
+		return new DummyModbusBridge("modbus0") {
+			@Override
+			public ModbusTransaction getNewModbusTransaction() {
+				return new ModbusTransaction() {
+					@Override
+					public void execute() throws ModbusException {
+						requests.incrementAndGet();
+						var request = (ReadMultipleRegistersRequest) this.request;
+						var exception = error.apply(request);
+						if (exception != null) {
+							throw exception;
+						}
+						var start = request.getReference();
+						var registers = new Register[request.getWordCount()];
+						for (var i = 0; i < registers.length; i++) {
+							registers[i] = new SimpleRegister(start + i);
+						}
+						this.response = new ReadMultipleRegistersResponse(registers);
+					}
+				};
+			}
+
+			@Override
+			public void closeModbusConnection() {
+			}
+		};
+	}
+
+	private static record Setup(TasksPlanner sut, Task t1, Task t2, AtomicReference<Integer> value0,
+			AtomicReference<Integer> value20) {
+	}
+
+	private static Setup setup(DummyModbusBridge bridge) throws OpenemsException {
+		var component = new DummyModbusComponent("device0", bridge, DummyModbusComponent.DEFAULT_UNIT_ID,
+				new io.openems.edge.common.channel.ChannelId[0]);
+		var protocol = component.getModbusProtocol();
+		protocol.setGapTolerance(20);
+		var value0 = new AtomicReference<Integer>();
+		var value20 = new AtomicReference<Integer>();
+		var element0 = new UnsignedWordElement(0);
+		element0.onUpdateCallback(value0::set);
+		var element20 = new UnsignedWordElement(20);
+		element20.onUpdateCallback(value20::set);
+		var t1 = new FC3ReadRegistersTask(0, Priority.HIGH, element0);
+		var t2 = new FC3ReadRegistersTask(20, Priority.HIGH, element20);
+		protocol.addTasks(t1, t2);
+		return new Setup(new TasksPlanner(protocol), t1, t2, value0, value20);
+	}
+
+	@Test
+	public void testRejected() throws OpenemsException {
+		var requests = new AtomicInteger();
+		// Registers 10 to 19 are not available
+		var bridge = createBridge(requests, request -> {
+			var start = request.getReference();
+			var end = start + request.getWordCount();
+			return start < 20 && end > 10 ? new ModbusSlaveException(Modbus.ILLEGAL_ADDRESS_EXCEPTION) : null;
+		});
+		var setup = setup(bridge);
+
+		var tasks = setup.sut.getTasks();
+		assertEquals(1, tasks.size());
+		var merged = (MergedReadRegistersTask<?, ?>) tasks.get(0);
+
+		// Rejected -> fall back to one by one
+		assertEquals(ExecuteState.OK, merged.execute(bridge));
+		assertTrue(merged.isRejected());
+		assertEquals(Integer.valueOf(0), setup.value0.get());
+		assertEquals(Integer.valueOf(20), setup.value20.get());
+		assertEquals(4, requests.get()); // two tries for merged request + two single requests
+
+		// Original Tasks are planned again
+		assertEquals(List.of(setup.t1, setup.t2), setup.sut.getTasks());
+	}
+
+	@Test
+	public void testRepeatedFailures() throws OpenemsException {
+		var requests = new AtomicInteger();
+		// Device times out on long requests
+		var bridge = createBridge(requests,
+				request -> request.getWordCount() > 1 ? new ModbusIOException("Timeout") : null);
+		var setup = setup(bridge);
+		var merged = (MergedReadRegistersTask<?, ?>) setup.sut.getTasks().get(0);
+
+		assertEquals(ExecuteState.ERROR, merged.execute(bridge));
+		assertEquals(ExecuteState.ERROR, merged.execute(bridge));
+		assertFalse(merged.isRejected());
+
+		// Third failure -> original Tasks succeed
+		assertEquals(ExecuteState.OK, merged.execute(bridge));
+		assertTrue(merged.isRejected());
+		assertEquals(Integer.valueOf(20), setup.value20.get());
+		assertEquals(List.of(setup.t1, setup.t2), setup.sut.getTasks());
+	}
+
+	@Test
+	public void testUnavailable() throws OpenemsException {
+		var requests = new AtomicInteger();
+		// Device is not reachable at all
+		var bridge = createBridge(requests, request -> new ModbusIOException("Timeout"));
+		var setup = setup(bridge);
+		var merged = (MergedReadRegistersTask<?, ?>) setup.sut.getTasks().get(0);
+
+		for (var i = 0; i < 6; i++) {
+			assertEquals(ExecuteState.ERROR, merged.execute(bridge));
+		}
+
+		// Merged request is kept
+		assertFalse(merged.isRejected());
+		assertSame(merged, setup.sut.getTasks().get(0));
+	}
+
+}
@@ -3,14 +3,16 @@ package io.openems.edge.common.channel;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAmount;
-import java.util.TreeMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.internal.AbstractReadChannel;
+import io.openems.edge.common.channel.value.Aggregate;
+import io.openems.edge.common.channel.value.PastValues;
 import io.openems.edge.common.channel.value.Value;
+import io.openems.edge.common.channel.value.WindowAggregator;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.type.TypeUtils;
 
@@ -169,10 +171,27 @@ public interface Channel<T> {
 	/**
 	 * Gets the past values for this Channel.
 	 *
-	 * @return a map of recording time and historic value at that time
+	 * @return the {@link PastValues}, sorted by recording time
 	 */
 	// TODO this should be a ZonedDateTime
-	public TreeMap<LocalDateTime, Value<T>> getPastValues();
+	public PastValues<T> getPastValues();
+
+	/**
+	 * Gets the {@link Aggregate} of the values of this Channel within a time
+	 * window, i.e. the value valid at 'from' plus all values recorded before
+	 * 'from' + 'window'.
+	 *
+	 * <p>
+	 * The first call for a window length registers a {@link WindowAggregator}
+	 * that keeps running aggregates in {@link #nextProcessImage()}; further calls
+	 * for aligned windows - e.g. every 5 minutes at 00:00, 00:05,... - are
+	 * answered in O(1) without scanning {@link #getPastValues()}.
+	 *
+	 * @param window the length of the window; must be a divisor of one day
+	 * @param from   the start of the window
+	 * @return the {@link Aggregate}
+	 */
+	public Aggregate getAggregate(Duration window, LocalDateTime from);
 
 	/**
 	 * Add an onUpdate callback. It is called, after the active value was updated by
@@ -1,9 +1,9 @@
 package io.openems.edge.common.channel.internal;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
-import java.util.TreeMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -19,7 +19,10 @@ import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.ChannelId;
 import io.openems.edge.common.channel.WriteChannel;
+import io.openems.edge.common.channel.value.Aggregate;
+import io.openems.edge.common.channel.value.PastValues;
 import io.openems.edge.common.channel.value.Value;
+import io.openems.edge.common.channel.value.WindowAggregator;
 import io.openems.edge.common.component.OpenemsComponent;
 
 public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implements Channel<T> {
@@ -34,7 +37,8 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	private final List<Consumer<Value<T>>> onUpdateCallbacks = new CopyOnWriteArrayList<>();
 	private final List<Consumer<Value<T>>> onSetNextValueCallbacks = new CopyOnWriteArrayList<>();
 	private final List<BiConsumer<Value<T>, Value<T>>> onChangeCallbacks = new CopyOnWriteArrayList<>();
-	private final TreeMap<LocalDateTime, Value<T>> pastValues = new TreeMap<>();
+	private final PastValues<T> pastValues;
+	private final List<WindowAggregator> windowAggregators = new CopyOnWriteArrayList<>();
 
 	/**
 	 * The 'next' value of the Channel. Copied to 'active' in
@@ -51,6 +55,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		this.parent = parent;
 		this.channelId = channelId;
 		this.channelDoc = channelDoc;
+		this.pastValues = new PastValues<>(type);
 
 		// validate Type
 		if (!this.validateType(channelDoc.getType(), type)) {
@@ -133,15 +138,18 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 
 	/**
 	 * Appends a value to `pastValues` and deletes entries that are elder than
-	 * {@link Channel#MAX_AGE_OF_PAST_VALUES}.
+	 * {@link Channel#MAX_AGE_OF_PAST_VALUES}. Also updates the running
+	 * {@link Aggregate}s of all {@link WindowAggregator}s.
 	 * 
 	 * @param value a new {@link Value}
 	 */
 	private void appendPastValue(Value<T> value) {
-		final var compareTime = value.getTimestamp().minus(Channel.MAX_AGE_OF_PAST_VALUES);
-		this.pastValues.put(value.getTimestamp(), value);
-		// changes to sub map are also applied to the backed map
-		this.pastValues.headMap(compareTime).clear();
+		final var timestamp = PastValues.toMillis(value.getTimestamp());
+		final var v = value.get();
+		this.pastValues.add(timestamp, v);
+		for (var windowAggregator : this.windowAggregators) {
+			windowAggregator.add(timestamp, v);
+		}
 	}
 
 	@Override
@@ -297,13 +305,35 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	/**
 	 * Gets the past values for this Channel.
 	 *
-	 * @return a map of recording time and historic value at that time
+	 * @return the {@link PastValues}
 	 */
 	@Override
-	public TreeMap<LocalDateTime, Value<T>> getPastValues() {
+	public PastValues<T> getPastValues() {
 		return this.pastValues;
 	}
 
+	@Override
+	public Aggregate getAggregate(Duration window, LocalDateTime from) {
+		WindowAggregator windowAggregator = null;
+		for (var wa : this.windowAggregators) {
+			if (wa.getWindow().equals(window)) {
+				windowAggregator = wa;
+				break;
+			}
+		}
+		if (windowAggregator == null) {
+			windowAggregator = new WindowAggregator(window, this.pastValues);
+			this.windowAggregators.add(windowAggregator);
+		}
+
+		var result = windowAggregator.getAggregate(from);
+		if (result != null) {
+			return result;
+		}
+		// Not an aligned window or too old -> fallback to past values
+		return this.pastValues.aggregate(from, from.plus(window));
+	}
+
 	/**
 	 * An object that holds information about the source of this Channel, i.e. a
 	 * Modbus Register or REST-Api endpoint address. Defaults to null.
@@ -0,0 +1,131 @@
+package io.openems.edge.common.channel.value;
+
+import java.util.OptionalDouble;
+import java.util.stream.DoubleStream;
+
+import io.openems.common.channel.Unit;
+
+/**
+ * The aggregated values of a Channel within a time window.
+ *
+ * <p>
+ * Numeric values are aggregated as double; BOOLEAN values are mapped to
+ * '1'/'0'. For STRING Channels only the 'count' is meaningful.
+ *
+ * @param count the number of defined values
+ * @param sum   the sum of all values
+ * @param min   the minimum value; {@link Double#NaN} if count is '0'
+ * @param max   the maximum value; {@link Double#NaN} if count is '0'
+ * @param last  the last value; {@link Double#NaN} if count is '0'
+ */
+public record Aggregate(long count, double sum, double min, double max, double last) {
+
+	public static final Aggregate EMPTY = new Aggregate(0, 0, Double.NaN, Double.NaN, Double.NaN);
+
+	/**
+	 * Creates an {@link Aggregate} of one single value.
+	 *
+	 * @param value the value
+	 * @return the {@link Aggregate}
+	 */
+	public static Aggregate of(double value) {
+		return new Aggregate(1, value, value, value, value);
+	}
+
+	/**
+	 * Creates an {@link Aggregate} of a {@link DoubleStream}.
+	 *
+	 * @param stream the {@link DoubleStream}
+	 * @return the {@link Aggregate}
+	 */
+	public static Aggregate of(DoubleStream stream) {
+		var accumulator = new Accumulator();
+		stream.forEach(accumulator::add);
+		return accumulator.toAggregate();
+	}
+
+	/**
+	 * Gets the average value.
+	 *
+	 * @return the average; empty if count is '0'
+	 */
+	public OptionalDouble average() {
+		if (this.count == 0) {
+			return OptionalDouble.empty();
+		}
+		return OptionalDouble.of(this.sum / this.count);
+	}
+
+	/**
+	 * Gets the maximum value.
+	 *
+	 * @return the maximum; empty if count is '0'
+	 */
+	public OptionalDouble maximum() {
+		if (this.count == 0) {
+			return OptionalDouble.empty();
+		}
+		return OptionalDouble.of(this.max);
+	}
+
+	/**
+	 * Applies the aggregate function of a {@link Unit}, i.e. maximum for
+	 * cumulated Units and average for all others. See
+	 * {@link Unit#getChannelAggregateFunction()}.
+	 *
+	 * @param unit the {@link Unit}
+	 * @return the aggregated value; empty if count is '0'
+	 */
+	public OptionalDouble apply(Unit unit) {
+		return unit.isCumulated() ? this.maximum() : this.average();
+	}
+
+	/**
+	 * Mutable helper to build an {@link Aggregate}.
+	 */
+	static class Accumulator {
+
+		private long count = 0;
+		private double sum = 0;
+		private double min = Double.NaN;
+		private double max = Double.NaN;
+		private double last = Double.NaN;
+
+		void add(double value) {
+			if (this.count == 0) {
+				this.min = value;
+				this.max = value;
+			} else {
+				this.min = Math.min(this.min, value);
+				this.max = Math.max(this.max, value);
+			}
+			this.count++;
+			this.sum += value;
+			this.last = value;
+		}
+
+		void copyFrom(Accumulator other) {
+			this.count = other.count;
+			this.sum = other.sum;
+			this.min = other.min;
+			this.max = other.max;
+			this.last = other.last;
+		}
+
+		void clear() {
+			this.count = 0;
+			this.sum = 0;
+			this.min = Double.NaN;
+			this.max = Double.NaN;
+			this.last = Double.NaN;
+		}
+
+		Aggregate toAggregate() {
+			if (this.count == 0) {
+				return EMPTY;
+			}
+			return new Aggregate(this.count, this.sum, this.min, this.max, this.last);
+		}
+	}
+
+}
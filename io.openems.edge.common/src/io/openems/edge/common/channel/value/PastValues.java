@@ -0,0 +1,488 @@
+package io.openems.edge.common.channel.value;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAmount;
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+
+/**
+ * Holds the past values of a {@link Channel} in a time-indexed ring buffer.
+ *
+ * <p>
+ * Timestamps are stored as wall-clock milliseconds (the {@link LocalDateTime}
+ * interpreted as UTC) in a 'long[]'; values are stored in a primitive array
+ * that matches the {@link OpenemsType} of the Channel:
+ * <ul>
+ * <li>SHORT, INTEGER (incl. Enums) -&gt; int[]
+ * <li>LONG -&gt; long[]
+ * <li>FLOAT, DOUBLE -&gt; double[]
+ * <li>BOOLEAN -&gt; boolean[]
+ * <li>STRING -&gt; Object[]
+ * </ul>
+ *
+ * <p>
+ * Entries are sorted by timestamp and addressed by an index from '0' (oldest)
+ * to {@link #size()} - 1 (newest). Use {@link #floorIndex(LocalDateTime)} and
+ * {@link #ceilingIndex(LocalDateTime)} to find a range and then stream the
+ * defined values of that range without boxing, e.g. via
+ * {@link #doubleStream(int, int)}.
+ *
+ * <p>
+ * This class is not thread-safe. Values are appended during the Process-Image
+ * switch of the Cycle and should only be read from within the Cycle.
+ *
+ * @param <T> the type of the value
+ */
+public class PastValues<T> {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final OpenemsType type;
+	private final long maxAgeMillis;
+
+	private long[] timestamps = new long[INITIAL_CAPACITY];
+	private boolean[] defined = new boolean[INITIAL_CAPACITY];
+	private int[] intValues;
+	private long[] longValues;
+	private double[] doubleValues;
+	private boolean[] booleanValues;
+	private Object[] objectValues;
+
+	/** Physical index of the oldest entry. */
+	private int head = 0;
+	private int size = 0;
+
+	public PastValues(OpenemsType type) {
+		this(type, Channel.MAX_AGE_OF_PAST_VALUES);
+	}
+
+	public PastValues(OpenemsType type, TemporalAmount maxAge) {
+		this.type = type;
+		this.maxAgeMillis = Duration.from(maxAge).toMillis();
+		this.allocateValues(INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Converts a {@link LocalDateTime} to the internal timestamp representation.
+	 *
+	 * @param timestamp the {@link LocalDateTime}
+	 * @return the wall-clock milliseconds
+	 */
+	public static long toMillis(LocalDateTime timestamp) {
+		return timestamp.toEpochSecond(ZoneOffset.UTC) * 1000 + timestamp.getNano() / 1_000_000;
+	}
+
+	/**
+	 * Appends a {@link Value} and deletes entries that are elder than the maximum
+	 * age.
+	 *
+	 * @param value the {@link Value}
+	 */
+	public void add(Value<T> value) {
+		this.add(value.getTimestamp(), value.get());
+	}
+
+	/**
+	 * Appends a value and deletes entries that are elder than the maximum age.
+	 *
+	 * <p>
+	 * A value with the same timestamp as the newest entry replaces that entry. If
+	 * the timestamp is before the newest entry - i.e. the system clock was set
+	 * back - all entries at or after the timestamp are dropped first.
+	 *
+	 * @param timestamp the timestamp of the value
+	 * @param value     the value; possibly null
+	 */
+	public void add(LocalDateTime timestamp, T value) {
+		this.add(toMillis(timestamp), value);
+	}
+
+	/**
+	 * Appends a value and deletes entries that are elder than the maximum age.
+	 *
+	 * @param millis the timestamp of the value in wall-clock milliseconds, see
+	 *               {@link #toMillis(LocalDateTime)}
+	 * @param value  the value; possibly null
+	 * @see #add(LocalDateTime, Object)
+	 */
+	public void add(long millis, T value) {
+
+		// Replace entries that are not older than the new one
+		while (this.size > 0 && this.timestamps[this.physicalIndex(this.size - 1)] >= millis) {
+			this.releaseObject(this.physicalIndex(this.size - 1));
+			this.size--;
+		}
+
+		// Remove entries elder than max age
+		var compareMillis = millis - this.maxAgeMillis;
+		while (this.size > 0 && this.timestamps[this.head] < compareMillis) {
+			this.releaseObject(this.head);
+			this.head = (this.head + 1) & (this.timestamps.length - 1);
+			this.size--;
+		}
+
+		if (this.size == this.timestamps.length) {
+			this.resize(this.timestamps.length * 2);
+		} else if (this.size < this.timestamps.length / 4 && this.timestamps.length > INITIAL_CAPACITY) {
+			this.resize(this.timestamps.length / 2);
+		}
+
+		var index = this.physicalIndex(this.size);
+		this.timestamps[index] = millis;
+		this.setValue(index, value);
+		this.size++;
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public void clear() {
+		if (this.objectValues != null) {
+			Arrays.fill(this.objectValues, null);
+		}
+		this.head = 0;
+		this.size = 0;
+	}
+
+	/**
+	 * Gets the number of entries.
+	 *
+	 * @return the number of entries, including undefined values
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Is this {@link PastValues} empty?.
+	 *
+	 * @return true if there are no entries
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Gets the index of the newest entry with a timestamp at or before the given
+	 * timestamp, i.e. the value that was valid at that time.
+	 *
+	 * @param timestamp the timestamp
+	 * @return the index; -1 if there is no such entry
+	 */
+	public int floorIndex(LocalDateTime timestamp) {
+		return this.ceilingIndex(toMillis(timestamp) + 1) - 1;
+	}
+
+	/**
+	 * Gets the index of the oldest entry with a timestamp at or after the given
+	 * timestamp.
+	 *
+	 * @param timestamp the timestamp
+	 * @return the index; {@link #size()} if there is no such entry
+	 */
+	public int ceilingIndex(LocalDateTime timestamp) {
+		return this.ceilingIndex(toMillis(timestamp));
+	}
+
+	private int ceilingIndex(long millis) {
+		var low = 0;
+		var high = this.size;
+		while (low < high) {
+			var mid = (low + high) >>> 1;
+			if (this.timestamps[this.physicalIndex(mid)] < millis) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Gets the timestamp of an entry.
+	 *
+	 * @param index the index
+	 * @return the timestamp in wall-clock milliseconds, see
+	 *         {@link #toMillis(LocalDateTime)}
+	 */
+	public long getTimestamp(int index) {
+		return this.timestamps[this.checkedPhysicalIndex(index)];
+	}
+
+	/**
+	 * Is the value of an entry defined, i.e. not null?.
+	 *
+	 * @param index the index
+	 * @return true if the value is defined
+	 */
+	public boolean isDefined(int index) {
+		return this.defined[this.checkedPhysicalIndex(index)];
+	}
+
+	/**
+	 * Gets the value of an entry as its original type.
+	 *
+	 * @param index the index
+	 * @return the value; possibly null
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		var i = this.checkedPhysicalIndex(index);
+		if (!this.defined[i]) {
+			return null;
+		}
+		return (T) switch (this.type) {
+		case SHORT -> (short) this.intValues[i];
+		case INTEGER -> this.intValues[i];
+		case LONG -> this.longValues[i];
+		case FLOAT -> (float) this.doubleValues[i];
+		case DOUBLE -> this.doubleValues[i];
+		case BOOLEAN -> this.booleanValues[i];
+		case STRING -> this.objectValues[i];
+		};
+	}
+
+	/**
+	 * Gets the defined values within the index range as {@link IntStream}.
+	 *
+	 * @param fromIndex the first index, inclusive
+	 * @param toIndex   the last index, exclusive
+	 * @return the {@link IntStream}
+	 * @throws IllegalArgumentException for STRING Channels
+	 */
+	public IntStream intStream(int fromIndex, int toIndex) throws IllegalArgumentException {
+		return this.definedIndexes(fromIndex, toIndex).map(this::getAsInt);
+	}
+
+	/**
+	 * Gets the defined values recorded at or after the given timestamp as
+	 * {@link IntStream}.
+	 *
+	 * @param from the timestamp, inclusive
+	 * @return the {@link IntStream}
+	 * @throws IllegalArgumentException for STRING Channels
+	 */
+	public IntStream intStream(LocalDateTime from) throws IllegalArgumentException {
+		return this.intStream(this.ceilingIndex(from), this.size);
+	}
+
+	/**
+	 * Gets all defined values as {@link IntStream}, oldest first.
+	 *
+	 * @return the {@link IntStream}
+	 * @throws IllegalArgumentException for STRING Channels
+	 */
+	public IntStream intStream() throws IllegalArgumentException {
+		return this.intStream(0, this.size);
+	}
+
+	/**
+	 * Gets the defined values within the index range as {@link LongStream}.
+	 *
+	 * @param fromIndex the first index, inclusive
+	 * @param toIndex   the last index, exclusive
+	 * @return the {@link LongStream}
+	 * @throws IllegalArgumentException for STRING Channels
+	 */
+	public LongStream longStream(int fromIndex, int toIndex) throws IllegalArgumentException {
+		return this.definedIndexes(fromIndex, toIndex).mapToLong(this::getAsLong);
+	}
+
+	/**
+	 * Gets all defined values as {@link LongStream}, oldest first.
+	 *
+	 * @return the {@link LongStream}
+	 * @throws IllegalArgumentException for STRING Channels
+	 */
+	public LongStream longStream() throws IllegalArgumentException {
+		return this.longStream(0, this.size);
+	}
+
+	/**
+	 * Gets the defined values within the index range as {@link DoubleStream}.
+	 *
+	 * @param fromIndex the first index, inclusive
+	 * @param toIndex   the last index, exclusive
+	 * @return the {@link DoubleStream}
+	 * @throws IllegalArgumentException for STRING Channels
+	 */
+	public DoubleStream doubleStream(int fromIndex, int toIndex) throws IllegalArgumentException {
+		return this.definedIndexes(fromIndex, toIndex).mapToDouble(this::getAsDouble);
+	}
+
+	/**
+	 * Gets the defined values within the index range as {@link Stream} of their
+	 * original type.
+	 *
+	 * @param fromIndex the first index, inclusive
+	 * @param toIndex   the last index, exclusive
+	 * @return the {@link Stream}
+	 */
+	public Stream<T> stream(int fromIndex, int toIndex) {
+		return this.definedIndexes(fromIndex, toIndex).mapToObj(this::get);
+	}
+
+	/**
+	 * Gets all defined values as {@link Stream} of their original type, oldest
+	 * first.
+	 *
+	 * @return the {@link Stream}
+	 */
+	public Stream<T> stream() {
+		return this.stream(0, this.size);
+	}
+
+	/**
+	 * Aggregates the values that were valid within a time range, i.e. the value
+	 * valid at 'from' plus all values recorded before 'to'.
+	 *
+	 * <p>
+	 * This scans the entries; prefer {@link WindowAggregator} for repeated
+	 * queries of aligned windows.
+	 *
+	 * @param from the start of the range, inclusive
+	 * @param to   the end of the range, exclusive
+	 * @return the {@link Aggregate}; STRING values are counted as '0'
+	 */
+	public Aggregate aggregate(LocalDateTime from, LocalDateTime to) {
+		var fromIndex = this.floorIndex(from);
+		var toIndex = this.ceilingIndex(to);
+		if (this.type == OpenemsType.STRING) {
+			return Aggregate.of(this.definedIndexes(fromIndex, toIndex).mapToDouble(index -> 0d));
+		}
+		return Aggregate.of(this.doubleStream(fromIndex, toIndex));
+	}
+
+	private IntStream definedIndexes(int fromIndex, int toIndex) {
+		var from = Math.max(0, fromIndex);
+		var to = Math.min(this.size, toIndex);
+		return IntStream.range(from, to) //
+				.filter(index -> this.defined[this.physicalIndex(index)]);
+	}
+
+	private int getAsInt(int index) {
+		var i = this.physicalIndex(index);
+		return switch (this.type) {
+		case SHORT, INTEGER -> this.intValues[i];
+		case LONG -> (int) this.longValues[i];
+		case FLOAT, DOUBLE -> (int) Math.round(this.doubleValues[i]);
+		case BOOLEAN -> this.booleanValues[i] ? 1 : 0;
+		case STRING -> throw this.notNumeric();
+		};
+	}
+
+	private long getAsLong(int index) {
+		var i = this.physicalIndex(index);
+		return switch (this.type) {
+		case SHORT, INTEGER -> this.intValues[i];
+		case LONG -> this.longValues[i];
+		case FLOAT, DOUBLE -> Math.round(this.doubleValues[i]);
+		case BOOLEAN -> this.booleanValues[i] ? 1L : 0L;
+		case STRING -> throw this.notNumeric();
+		};
+	}
+
+	private double getAsDouble(int index) {
+		var i = this.physicalIndex(index);
+		return switch (this.type) {
+		case SHORT, INTEGER -> this.intValues[i];
+		case LONG -> this.longValues[i];
+		case FLOAT, DOUBLE -> this.doubleValues[i];
+		case BOOLEAN -> this.booleanValues[i] ? 1d : 0d;
+		case STRING -> throw this.notNumeric();
+		};
+	}
+
+	private IllegalArgumentException notNumeric() {
+		return new IllegalArgumentException("Values of type [" + this.type + "] are not numeric");
+	}
+
+	private int physicalIndex(int index) {
+		return (this.head + index) & (this.timestamps.length - 1);
+	}
+
+	private int checkedPhysicalIndex(int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("Index [" + index + "] out of bounds for size [" + this.size + "]");
+		}
+		return this.physicalIndex(index);
+	}
+
+	private void setValue(int index, T value) {
+		this.defined[index] = value != null;
+		if (value == null) {
+			this.releaseObject(index);
+			return;
+		}
+		// Values of a Channel are always converted to its OpenemsType
+		switch (this.type) {
+		case SHORT, INTEGER -> this.intValues[index] = ((Number) value).intValue();
+		case LONG -> this.longValues[index] = ((Number) value).longValue();
+		case FLOAT, DOUBLE -> this.doubleValues[index] = ((Number) value).doubleValue();
+		case BOOLEAN -> this.booleanValues[index] = (Boolean) value;
+		case STRING -> this.objectValues[index] = value;
+		}
+	}
+
+	private void releaseObject(int index) {
+		if (this.objectValues != null) {
+			this.objectValues[index] = null;
+		}
+	}
+
+	private void allocateValues(int capacity) {
+		switch (this.type) {
+		case SHORT, INTEGER -> this.intValues = new int[capacity];
+		case LONG -> this.longValues = new long[capacity];
+		case FLOAT, DOUBLE -> this.doubleValues = new double[capacity];
+		case BOOLEAN -> this.booleanValues = new boolean[capacity];
+		case STRING -> this.objectValues = new Object[capacity];
+		}
+	}
+
+	/**
+	 * Copies all entries to new arrays of the given capacity, oldest first.
+	 *
+	 * @param capacity the new capacity; a power of two
+	 */
+	private void resize(int capacity) {
+		var timestamps = new long[capacity];
+		var defined = new boolean[capacity];
+		var oldCapacity = this.timestamps.length;
+		var first = Math.min(this.size, oldCapacity - this.head);
+		var second = this.size - first;
+
+		System.arraycopy(this.timestamps, this.head, timestamps, 0, first);
+		System.arraycopy(this.timestamps, 0, timestamps, first, second);
+		System.arraycopy(this.defined, this.head, defined, 0, first);
+		System.arraycopy(this.defined, 0, defined, first, second);
+		var oldValues = this.getValuesArray();
+		this.allocateValues(capacity);
+		var newValues = this.getValuesArray();
+		System.arraycopy(oldValues, this.head, newValues, 0, first);
+		System.arraycopy(oldValues, 0, newValues, first, second);
+
+		this.timestamps = timestamps;
+		this.defined = defined;
+		this.head = 0;
+	}
+
+	private Object getValuesArray() {
+		return switch (this.type) {
+		case SHORT, INTEGER -> this.intValues;
+		case LONG -> this.longValues;
+		case FLOAT, DOUBLE -> this.doubleValues;
+		case BOOLEAN -> this.booleanValues;
+		case STRING -> this.objectValues;
+		};
+	}
+
+}
@@ -0,0 +1,168 @@
+package io.openems.edge.common.channel.value;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import io.openems.edge.common.channel.value.Aggregate.Accumulator;
+
+/**
+ * Keeps running {@link Aggregate}s of the values of a Channel for consecutive
+ * time windows of fixed length.
+ *
+ * <p>
+ * Windows are aligned to the wall-clock, i.e. a window of 5 minutes starts at
+ * 00:00, 00:05, 00:10,... The {@link Aggregate} of a window contains the value
+ * that was valid at the start of the window and all values that were recorded
+ * within the window - the same result as querying {@link PastValues} from
+ * {@link PastValues#floorIndex(LocalDateTime)} to
+ * {@link PastValues#ceilingIndex(LocalDateTime)}.
+ *
+ * <p>
+ * Values are added in {@link #add(long, Object)} during the Process-Image
+ * switch. Re-adding a value with the timestamp of the last value - i.e. the
+ * Channel value did not change - is ignored, so adding is O(1) and
+ * allocation-free. Like {@link PastValues} this class is not thread-safe.
+ */
+public class WindowAggregator {
+
+	private final long windowMillis;
+
+	private long lastTimestamp = Long.MIN_VALUE;
+	private boolean lastDefined = false;
+	private double lastValue = 0;
+
+	private long currentWindow = Long.MIN_VALUE;
+	private final Accumulator current = new Accumulator();
+
+	private long finishedWindow = Long.MIN_VALUE;
+	private final Accumulator finished = new Accumulator();
+	private boolean finishedLastDefined = false;
+	private double finishedLastValue = 0;
+
+	/**
+	 * Creates a {@link WindowAggregator} and initializes it with existing
+	 * {@link PastValues}.
+	 *
+	 * @param window     the length of a window; must be a divisor of one day
+	 * @param pastValues the {@link PastValues}
+	 */
+	public WindowAggregator(Duration window, PastValues<?> pastValues) {
+		this.windowMillis = window.toMillis();
+		if (this.windowMillis <= 0 || Duration.ofDays(1).toMillis() % this.windowMillis != 0) {
+			throw new IllegalArgumentException("Window [" + window + "] must be a divisor of one day");
+		}
+		for (var i = 0; i < pastValues.size(); i++) {
+			this.add(pastValues.getTimestamp(i), pastValues.get(i));
+		}
+	}
+
+	public Duration getWindow() {
+		return Duration.ofMillis(this.windowMillis);
+	}
+
+	/**
+	 * Adds a value.
+	 *
+	 * @param timestamp the timestamp in wall-clock milliseconds, see
+	 *                  {@link PastValues#toMillis(LocalDateTime)}
+	 * @param value     the value; possibly null
+	 */
+	public void add(long timestamp, Object value) {
+		if (timestamp == this.lastTimestamp) {
+			// Same Value as in last Cycle
+			return;
+		}
+		if (timestamp < this.lastTimestamp) {
+			// System clock was set back
+			this.reset();
+		}
+
+		var window = Math.floorDiv(timestamp, this.windowMillis);
+		if (window != this.currentWindow) {
+			if (this.currentWindow != Long.MIN_VALUE) {
+				this.finished.copyFrom(this.current);
+				this.finishedWindow = this.currentWindow;
+				this.finishedLastDefined = this.lastDefined;
+				this.finishedLastValue = this.lastValue;
+			}
+			this.current.clear();
+			this.currentWindow = window;
+
+			// Start with the value that was valid at the start of the window
+			if (this.lastDefined && timestamp != window * this.windowMillis) {
+				this.current.add(this.lastValue);
+			}
+		}
+
+		this.lastTimestamp = timestamp;
+		this.lastDefined = value != null;
+		if (value != null) {
+			this.lastValue = toDouble(value);
+			this.current.add(this.lastValue);
+		}
+	}
+
+	/**
+	 * Gets the {@link Aggregate} of the window that starts at the given
+	 * timestamp.
+	 *
+	 * <p>
+	 * The window is expected to be finished, i.e. values that are added later
+	 * are not considered.
+	 *
+	 * @param from the start of the window
+	 * @return the {@link Aggregate}; null if 'from' is not the start of a window
+	 *         or if the window is too old
+	 */
+	public Aggregate getAggregate(LocalDateTime from) {
+		var fromMillis = PastValues.toMillis(from);
+		if (fromMillis % this.windowMillis != 0) {
+			return null;
+		}
+		var window = fromMillis / this.windowMillis;
+
+		if (window == this.currentWindow) {
+			return this.current.toAggregate();
+		}
+		if (window == this.finishedWindow) {
+			return this.finished.toAggregate();
+		}
+		if (window > this.currentWindow) {
+			// No value recorded since; the last value is still valid
+			return this.lastDefined ? Aggregate.of(this.lastValue) : Aggregate.EMPTY;
+		}
+		if (window > this.finishedWindow && this.finishedWindow != Long.MIN_VALUE) {
+			// No value recorded between finished and current window
+			return this.finishedLastDefined ? Aggregate.of(this.finishedLastValue) : Aggregate.EMPTY;
+		}
+		return null;
+	}
+
+	private void reset() {
+		this.lastTimestamp = Long.MIN_VALUE;
+		this.lastDefined = false;
+		this.currentWindow = Long.MIN_VALUE;
+		this.current.clear();
+		this.finishedWindow = Long.MIN_VALUE;
+		this.finished.clear();
+		this.finishedLastDefined = false;
+	}
+
+	/**
+	 * Converts a Channel value to double. BOOLEAN is mapped to '1'/'0'; STRING is
+	 * not supported and mapped to '0'.
+	 *
+	 * @param value the value, not null
+	 * @return the value as double
+	 */
+	private static double toDouble(Object value) {
+		if (value instanceof Number n) {
+			return n.doubleValue();
+		}
+		if (value instanceof Boolean b) {
+			return b ? 1d : 0d;
+		}
+		return 0d;
+	}
+
+}
@@ -2,6 +2,8 @@ package io.openems.edge.common.component;
 
 import java.time.Clock;
 import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.osgi.framework.BundleContext;
 
@@ -263,6 +265,25 @@ public interface ComponentManager extends OpenemsComponent, JsonApi, ClockProvid
 		return component.channel(channelAddress.getChannelId());
 	}
 
+	/**
+	 * Gets all Channels of enabled Components that match the given
+	 * Channel-Address. Component-ID and Channel-ID may be regular expressions,
+	 * e.g. "ess.*" and "Active.*Power".
+	 *
+	 * @param channelAddress the Channel-Address; possibly with regular expressions
+	 * @return a list of matching {@link Channel}s
+	 * @throws PatternSyntaxException on regular expression error
+	 */
+	public default List<Channel<?>> getChannels(ChannelAddress channelAddress) throws PatternSyntaxException {
+		var componentPattern = Pattern.compile(channelAddress.getComponentId());
+		var channelPattern = Pattern.compile(channelAddress.getChannelId());
+		return this.getEnabledComponents().stream() //
+				.filter(component -> componentPattern.matcher(component.id()).matches()) //
+				.flatMap(component -> component.channels().stream()) //
+				.filter(channel -> channelPattern.matcher(channel.channelId().id()).matches()) //
+				.toList();
+	}
+
 	/**
 	 * Gets the complete configuration of this OpenEMS Edge.
 	 *
@@ -0,0 +1,130 @@
+package io.openems.edge.common.cycle;
+
+/**
+ * A compact histogram of durations in [us] with logarithmic buckets.
+ *
+ * <p>
+ * Every power of two is split into four sub-buckets, i.e. percentiles are
+ * accurate to 25 %. Recording is allocation-free and O(1). Count, total and
+ * maximum are tracked exactly.
+ */
+public class DurationHistogram {
+
+	private static final int SUB_BUCKET_BITS = 2;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = 128;
+
+	private final int[] counts = new int[BUCKETS];
+	private long count = 0;
+	private long total = 0;
+	private long max = 0;
+
+	/**
+	 * Records a duration.
+	 *
+	 * @param micros the duration in [us]; negative values are recorded as zero
+	 */
+	public void record(long micros) {
+		if (micros < 0) {
+			micros = 0;
+		}
+		this.counts[getBucket(micros)]++;
+		this.count++;
+		this.total += micros;
+		if (micros > this.max) {
+			this.max = micros;
+		}
+	}
+
+	/**
+	 * Adds all recorded values of another {@link DurationHistogram}.
+	 *
+	 * @param other the other {@link DurationHistogram}
+	 */
+	public void add(DurationHistogram other) {
+		for (var i = 0; i < BUCKETS; i++) {
+			this.counts[i] += other.counts[i];
+		}
+		this.count += other.count;
+		this.total += other.total;
+		if (other.max > this.max) {
+			this.max = other.max;
+		}
+	}
+
+	/**
+	 * Resets the histogram.
+	 */
+	public void clear() {
+		for (var i = 0; i < BUCKETS; i++) {
+			this.counts[i] = 0;
+		}
+		this.count = 0;
+		this.total = 0;
+		this.max = 0;
+	}
+
+	public long getCount() {
+		return this.count;
+	}
+
+	public long getTotal() {
+		return this.total;
+	}
+
+	public long getMax() {
+		return this.max;
+	}
+
+	/**
+	 * Gets the value at the given percentile.
+	 *
+	 * <p>
+	 * Returns the upper bound of the matching bucket, but never more than the
+	 * recorded maximum.
+	 *
+	 * @param percentile the percentile, e.g. 0.99
+	 * @return the duration in [us]; 0 if nothing was recorded
+	 */
+	public long getPercentile(double percentile) {
+		if (this.count == 0) {
+			return 0;
+		}
+		var threshold = (long) Math.ceil(this.count * percentile);
+		if (threshold < 1) {
+			threshold = 1;
+		}
+		long sum = 0;
+		for (var i = 0; i < BUCKETS; i++) {
+			sum += this.counts[i];
+			if (sum >= threshold) {
+				return Math.min(getUpperBound(i), this.max);
+			}
+		}
+		return this.max;
+	}
+
+	protected static int getBucket(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		var exponent = 63 - Long.numberOfLeadingZeros(value);
+		var mantissa = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		var bucket = (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + mantissa;
+		return Math.min(bucket, BUCKETS - 1);
+	}
+
+	protected static long getUpperBound(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		if (bucket == BUCKETS - 1) {
+			return Long.MAX_VALUE;
+		}
+		var exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		var mantissa = bucket % SUB_BUCKETS;
+		var shift = exponent - SUB_BUCKET_BITS;
+		return ((long) (SUB_BUCKETS + mantissa) << shift) + (1L << shift) - 1;
+	}
+
+}
@@ -1,6 +1,7 @@
 package io.openems.edge.common.event;
 
 import io.openems.common.types.EdgeConfig;
+import io.openems.common.types.EdgeConfigPatch;
 
 public final class EdgeEventConstants {
 
@@ -92,8 +93,10 @@ public final class EdgeEventConstants {
 	 * <p>
 	 * Called when the {@link EdgeConfig} was updated, e.g. because configuration
 	 * properties changed or Channels changed. The EdgeConfig object is sent with
-	 * the event - see {@value #TOPIC_CONFIG_UPDATE_KEY}. The event is executed
-	 * synchronously.
+	 * the event - see {@value #TOPIC_CONFIG_UPDATE_KEY}. The
+	 * {@link EdgeConfigPatch} to the previously published EdgeConfig is sent
+	 * with the event if available - see {@value #TOPIC_CONFIG_UPDATE_PATCH_KEY}.
+	 * The event is executed synchronously.
 	 */
 	public static final String TOPIC_CONFIG_UPDATE = TOPIC_CONFIG + "UPDATE";
 
@@ -101,4 +104,10 @@ public final class EdgeEventConstants {
 	 * The key of the {@link EdgeConfig} object in the event attachments map.
 	 */
 	public static final String TOPIC_CONFIG_UPDATE_KEY = "TOPIC_CONFIG_UPDATE_KEY";
+
+	/**
+	 * The key of the {@link EdgeConfigPatch} object in the event attachments map;
+	 * not set for the first published {@link EdgeConfig}.
+	 */
+	public static final String TOPIC_CONFIG_UPDATE_PATCH_KEY = "TOPIC_CONFIG_UPDATE_PATCH_KEY";
 }
@@ -0,0 +1,110 @@
+package io.openems.edge.common.channel.value;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.Test;
+
+import io.openems.common.types.OpenemsType;
+
+public class PastValuesTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+	@Test
+	public void testRangeQueries() {
+		var sut = new PastValues<Integer>(OpenemsType.INTEGER);
+		for (var i = 0; i < 10; i++) {
+			sut.add(START.plusSeconds(i * 10), i == 5 ? null : i);
+		}
+		assertEquals(10, sut.size());
+		assertFalse(sut.isDefined(5));
+		assertNull(sut.get(5));
+		assertEquals(Integer.valueOf(4), sut.get(4));
+
+		// Floor/Ceiling
+		assertEquals(-1, sut.floorIndex(START.minusSeconds(1)));
+		assertEquals(0, sut.floorIndex(START));
+		assertEquals(2, sut.floorIndex(START.plusSeconds(25)));
+		assertEquals(3, sut.ceilingIndex(START.plusSeconds(25)));
+		assertEquals(10, sut.ceilingIndex(START.plusSeconds(91)));
+
+		// Value valid at 'from' plus all values before 'to'; undefined values skipped
+		var from = START.plusSeconds(25);
+		var to = START.plusSeconds(70);
+		assertEquals(2 + 3 + 4 + 6, sut.intStream(sut.floorIndex(from), sut.ceilingIndex(to)).sum());
+		assertEquals(3.75, sut.doubleStream(sut.floorIndex(from), sut.ceilingIndex(to)).average().getAsDouble(),
+				0.001);
+
+		// Since
+		assertEquals(7 + 8 + 9, sut.intStream(START.plusSeconds(70)).sum());
+		assertEquals(0, sut.intStream().findFirst().getAsInt());
+	}
+
+	@Test
+	public void testMaxAgeAndGrow() {
+		var sut = new PastValues<Long>(OpenemsType.LONG, Duration.ofSeconds(100));
+		for (var i = 0L; i < 1_000; i++) {
+			sut.add(START.plusSeconds(i), i);
+		}
+		assertEquals(101, sut.size());
+		assertEquals(899L, sut.longStream().min().getAsLong());
+		assertEquals(999L, sut.longStream().max().getAsLong());
+		assertEquals(PastValues.toMillis(START.plusSeconds(899)), sut.getTimestamp(0));
+	}
+
+	@Test
+	public void testSameAndOlderTimestamp() {
+		var sut = new PastValues<Double>(OpenemsType.DOUBLE);
+		sut.add(START, 1.0);
+		sut.add(START.plusSeconds(1), 2.0);
+		sut.add(START.plusSeconds(2), 3.0);
+
+		// Same timestamp replaces newest entry
+		sut.add(START.plusSeconds(2), 4.0);
+		assertEquals(3, sut.size());
+		assertEquals(4.0, sut.get(2), 0);
+
+		// Clock was set back
+		sut.add(START.plusSeconds(1), 5.0);
+		assertEquals(2, sut.size());
+		assertEquals(6.0, sut.doubleStream(0, sut.size()).sum(), 0);
+	}
+
+	@Test
+	public void testTypes() {
+		var booleans = new PastValues<Boolean>(OpenemsType.BOOLEAN);
+		booleans.add(START, false);
+		booleans.add(START.plusSeconds(1), true);
+		assertEquals(Boolean.TRUE, booleans.get(1));
+		assertEquals(1L, booleans.longStream().sum());
+
+		var shorts = new PastValues<Short>(OpenemsType.SHORT);
+		shorts.add(START, (short) 7);
+		assertEquals(Short.valueOf((short) 7), shorts.get(0));
+
+		var floats = new PastValues<Float>(OpenemsType.FLOAT);
+		floats.add(START, 1.5F);
+		assertEquals(Float.valueOf(1.5F), floats.get(0));
+
+		var strings = new PastValues<String>(OpenemsType.STRING);
+		strings.add(START, "a");
+		strings.add(START.plusSeconds(1), null);
+		strings.add(START.plusSeconds(2), "b");
+		assertEquals("ab", String.join("", strings.stream().toList()));
+		assertTrue(strings.isDefined(2));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testStringNotNumeric() {
+		var sut = new PastValues<String>(OpenemsType.STRING);
+		sut.add(START, "a");
+		sut.intStream().sum();
+	}
+
+}
@@ -0,0 +1,84 @@
+package io.openems.edge.common.channel.value;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.Test;
+
+import io.openems.common.types.OpenemsType;
+
+public class WindowAggregatorTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2020, 1, 1, 0, 0);
+	private static final Duration WINDOW = Duration.ofMinutes(5);
+
+	private static void add(PastValues<Integer> pastValues, WindowAggregator sut, LocalDateTime timestamp,
+			Integer value) {
+		pastValues.add(timestamp, value);
+		sut.add(PastValues.toMillis(timestamp), value);
+	}
+
+	private static void assertSame(PastValues<Integer> pastValues, WindowAggregator sut, LocalDateTime from) {
+		var expected = pastValues.aggregate(from, from.plus(WINDOW));
+		var actual = sut.getAggregate(from);
+		assertEquals(expected.count(), actual.count());
+		assertEquals(expected.sum(), actual.sum(), 0.001);
+		assertEquals(expected.min(), actual.min(), 0.001);
+		assertEquals(expected.max(), actual.max(), 0.001);
+	}
+
+	@Test
+	public void test() {
+		var pastValues = new PastValues<Integer>(OpenemsType.INTEGER, Duration.ofHours(1));
+		var sut = new WindowAggregator(WINDOW, pastValues);
+
+		add(pastValues, sut, START.plusSeconds(10), 10);
+		add(pastValues, sut, START.plusSeconds(20), 20);
+		add(pastValues, sut, START.plusSeconds(20), 20); // same value again
+		add(pastValues, sut, START.plusSeconds(30), null);
+		add(pastValues, sut, START.plusSeconds(40), 40);
+
+		// Current window
+		var aggregate = sut.getAggregate(START);
+		assertEquals(3, aggregate.count());
+		assertEquals(70, aggregate.sum(), 0);
+		assertEquals(10, aggregate.min(), 0);
+		assertEquals(40, aggregate.max(), 0);
+		assertEquals(40, aggregate.last(), 0);
+		assertSame(pastValues, sut, START);
+
+		// Next window starts with the value valid at its start
+		add(pastValues, sut, START.plusMinutes(5).plusSeconds(10), 100);
+		assertSame(pastValues, sut, START);
+		assertSame(pastValues, sut, START.plusMinutes(5));
+		assertEquals(70, sut.getAggregate(START.plusMinutes(5)).average().getAsDouble(), 0);
+
+		// Value exactly at the start of a window
+		add(pastValues, sut, START.plusMinutes(10), 200);
+		assertEquals(1, sut.getAggregate(START.plusMinutes(10)).count());
+		assertSame(pastValues, sut, START.plusMinutes(10));
+
+		// No values within windows
+		add(pastValues, sut, START.plusMinutes(30).plusSeconds(1), null);
+		assertSame(pastValues, sut, START.plusMinutes(20));
+		assertEquals(200, sut.getAggregate(START.plusMinutes(20)).max(), 0);
+		assertEquals(0, sut.getAggregate(START.plusMinutes(40)).count());
+
+		// Unknown
+		assertNull(sut.getAggregate(START));
+		assertNull(sut.getAggregate(START.plusMinutes(1)));
+
+		// Initialize from PastValues
+		var initialized = new WindowAggregator(WINDOW, pastValues);
+		assertEquals(sut.getAggregate(START.plusMinutes(10)), initialized.getAggregate(START.plusMinutes(10)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidWindow() {
+		new WindowAggregator(Duration.ofMinutes(7), new PastValues<Integer>(OpenemsType.INTEGER));
+	}
+
+}
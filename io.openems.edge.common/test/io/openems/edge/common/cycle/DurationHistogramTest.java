@@ -0,0 +1,53 @@
+package io.openems.edge.common.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class DurationHistogramTest {
+
+	@Test
+	public void test() {
+		var sut = new DurationHistogram();
+		assertEquals(0, sut.getPercentile(0.5));
+
+		for (var i = 1; i <= 100; i++) {
+			sut.record(i * 100);
+		}
+		assertEquals(100, sut.getCount());
+		assertEquals(10_000, sut.getMax());
+		assertEquals(505_000, sut.getTotal());
+
+		// max. 25 % error
+		var p50 = sut.getPercentile(0.5);
+		assertTrue(p50 >= 5_000 && p50 <= 6_250);
+		var p99 = sut.getPercentile(0.99);
+		assertTrue(p99 >= 9_900 && p99 <= 10_000);
+
+		for (var value = 0L; value < 1_000_000L; value = value * 3 + 1) {
+			var bucket = DurationHistogram.getBucket(value);
+			assertTrue(DurationHistogram.getUpperBound(bucket) >= value);
+			if (bucket > 0) {
+				assertTrue(DurationHistogram.getUpperBound(bucket - 1) < value);
+			}
+		}
+	}
+
+	@Test
+	public void testAdd() {
+		var sut = new DurationHistogram();
+		sut.record(10);
+		var other = new DurationHistogram();
+		other.record(1_000);
+		sut.add(other);
+		assertEquals(2, sut.getCount());
+		assertEquals(1_010, sut.getTotal());
+		assertEquals(1_000, sut.getMax());
+
+		sut.clear();
+		assertEquals(0, sut.getCount());
+		assertEquals(0, sut.getMax());
+	}
+
+}
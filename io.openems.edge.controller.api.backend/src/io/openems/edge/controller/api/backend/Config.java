@@ -50,6 +50,12 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Resend values Persistence Priority", description = "Resend only Channels with a Persistence Priority greater-or-equals this. Should match with the persistence priority configured in your timedata.")
 	PersistencePriority resendPriority() default PersistencePriority.HIGH;
 
+	@AttributeDefinition(name = "Binary uplink", description = "Send Channel values in a compact binary encoding if supported by OpenEMS Backend.")
+	boolean binaryUplink() default true;
+
+	@AttributeDefinition(name = "Outbox size [MB]", description = "Maximum disk usage for data that could not be sent to OpenEMS Backend. The data is sent after reconnect. '0' disables the outbox.")
+	int outboxMaxSize() default 50;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default false;
 
@@ -8,9 +8,11 @@ import io.openems.common.channel.PersistencePriority;
 import io.openems.common.channel.Unit;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.StringReadChannel;
+import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.jsonapi.JsonApi;
 import io.openems.edge.controller.api.Controller;
@@ -28,6 +30,11 @@ public interface ControllerApiBackend extends Controller, JsonApi, OpenemsCompon
 				// Make sure this is always persisted, as it is required for resending
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
 				.text("Latest timestamp of successfully resent data")), //
+		OUTBOX_DEPTH(Doc.of(OpenemsType.INTEGER) //
+				.text("Number of notifications in the outbox waiting to be sent")), //
+		OUTBOX_LAG(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.SECONDS) //
+				.text("Age of the oldest notification in the outbox")), //
 		;
 
 		private final Doc doc;
@@ -69,6 +76,62 @@ public interface ControllerApiBackend extends Controller, JsonApi, OpenemsCompon
 		return this.channel(ChannelId.LAST_SUCCESSFUL_RESEND);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#OUTBOX_DEPTH}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getOutboxDepthChannel() {
+		return this.channel(ChannelId.OUTBOX_DEPTH);
+	}
+
+	/**
+	 * Gets the Outbox Depth. See {@link ChannelId#OUTBOX_DEPTH}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getOutboxDepth() {
+		return this.getOutboxDepthChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#OUTBOX_DEPTH}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setOutboxDepth(Integer value) {
+		this.getOutboxDepthChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#OUTBOX_LAG}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getOutboxLagChannel() {
+		return this.channel(ChannelId.OUTBOX_LAG);
+	}
+
+	/**
+	 * Gets the Outbox Lag in [s]. See {@link ChannelId#OUTBOX_LAG}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getOutboxLag() {
+		return this.getOutboxLagChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#OUTBOX_LAG}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setOutboxLag(Long value) {
+		this.getOutboxLagChannel().setNextValue(value);
+	}
+
 	/**
 	 * Gets if the edge is currently connected to the backend.
 	 * 
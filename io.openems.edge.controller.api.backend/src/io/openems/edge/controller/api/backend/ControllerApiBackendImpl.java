@@ -1,9 +1,11 @@
 package io.openems.edge.controller.api.backend;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Proxy;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -31,14 +33,18 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import io.openems.common.OpenemsConstants;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
+import io.openems.common.jsonrpc.notification.EdgeConfigPatchNotification;
 import io.openems.common.jsonrpc.notification.SystemLogNotification;
 import io.openems.common.types.EdgeConfig;
+import io.openems.common.types.EdgeConfigPatch;
 import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.websocket.AbstractWebsocketClient;
+import io.openems.common.websocket.BinaryUplink;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -66,6 +72,7 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 		implements ControllerApiBackend, Controller, JsonApi, OpenemsComponent, PaxAppender, EventHandler {
 
 	protected static final String COMPONENT_NAME = "Controller.Api.Backend";
+	protected static final String OUTBOX_PATH = "backend-outbox";
 
 	protected final SendChannelValuesWorker sendChannelValuesWorker = new SendChannelValuesWorker(this);
 	protected final ApiWorker apiWorker = new ApiWorker(this);
@@ -82,6 +89,7 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 	protected Cycle cycle;
 
 	protected WebsocketClient websocket = null;
+	protected volatile Outbox outbox = null;
 	protected Config config;
 	/** Used for SubscribeSystemLogRequests. */
 	private boolean isSystemLogSubscribed = false;
@@ -139,11 +147,28 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 		// create http headers
 		Map<String, String> httpHeaders = new HashMap<>();
 		httpHeaders.put("apikey", config.apikey());
+		if (config.binaryUplink()) {
+			httpHeaders.put(BinaryUplink.HEADER, BinaryUplink.VERSION);
+		}
+		httpHeaders.put(EdgeConfigPatch.HEADER, EdgeConfigPatch.VERSION);
+
+		// Open Outbox for data that could not be sent
+		if (config.outboxMaxSize() > 0) {
+			var directory = Paths.get(OpenemsConstants.getOpenemsDataDir(), OUTBOX_PATH, config.id());
+			try {
+				this.outbox = new Outbox(directory, config.outboxMaxSize() * 1024L * 1024L);
+			} catch (IOException e) {
+				this.logWarn(this.log, "Unable to open Outbox [" + directory + "]: " + e.getMessage());
+			}
+		}
 
 		// Create Websocket instance
 		this.websocket = new WebsocketClient(this, name, uri, httpHeaders, proxy);
 		this.websocket.start();
 
+		// Send data from Outbox at a controlled rate
+		this.scheduleWithFixedDelay(this.sendChannelValuesWorker::drainOutbox, 1, 1, TimeUnit.SECONDS);
+
 		this.resendHistoricDataWorker.setConfig(new ResendHistoricDataWorker.Config(//
 				this.getUnableToSendChannel().address(), //
 				this.getLastSuccessFulResendChannel().address(), //
@@ -163,6 +188,10 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 			this.websocket.stop();
 		}
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
+		if (this.outbox != null) {
+			this.outbox.close();
+			this.outbox = null;
+		}
 	}
 
 	@Override
@@ -222,14 +251,18 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 			break;
 
 		case EdgeEventConstants.TOPIC_CONFIG_UPDATE:
-			// Send new EdgeConfig
-			var config = (EdgeConfig) event.getProperty(EdgeEventConstants.TOPIC_CONFIG_UPDATE_KEY);
-			var message = new EdgeConfigNotification(config);
 			var ws = this.websocket;
 			if (ws == null) {
 				return;
 			}
-			ws.sendMessage(message);
+			// Send EdgeConfigPatch if possible; new EdgeConfig otherwise
+			var patch = (EdgeConfigPatch) event.getProperty(EdgeEventConstants.TOPIC_CONFIG_UPDATE_PATCH_KEY);
+			if (patch != null && ws.isEdgeConfigPatch()) {
+				ws.sendMessage(new EdgeConfigPatchNotification(patch));
+			} else {
+				var config = (EdgeConfig) event.getProperty(EdgeEventConstants.TOPIC_CONFIG_UPDATE_KEY);
+				ws.sendMessage(new EdgeConfigNotification(config));
+			}
 
 			// Trigger sending of all channel values, because a Component might have
 			// disappeared
@@ -7,6 +7,9 @@ import org.slf4j.LoggerFactory;
 import com.google.gson.JsonObject;
 
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
+import io.openems.common.types.EdgeConfigPatch;
+import io.openems.common.utils.JsonUtils;
+import io.openems.common.websocket.BinaryUplink;
 
 public class OnOpen implements io.openems.common.websocket.OnOpen {
 
@@ -19,7 +22,17 @@ public class OnOpen implements io.openems.common.websocket.OnOpen {
 
 	@Override
 	public void run(WebSocket ws, JsonObject handshake) {
-		this.parent.logInfo(this.log, "Connected to OpenEMS Backend");
+		var binaryUplink = BinaryUplink
+				.isSupported(JsonUtils.getAsOptionalString(handshake, BinaryUplink.HEADER.toLowerCase()).orElse(null));
+		var edgeConfigPatch = EdgeConfigPatch.isSupported(
+				JsonUtils.getAsOptionalString(handshake, EdgeConfigPatch.HEADER.toLowerCase()).orElse(null));
+		this.parent.logInfo(this.log, "Connected to OpenEMS Backend" + (binaryUplink ? " [binary uplink]" : "")
+				+ (edgeConfigPatch ? " [config patch]" : ""));
+
+		// Send EdgeConfigPatches if accepted by Backend; the full Config is sent
+		// after every (re)connect
+		WsData wsData = ws.getAttachment();
+		wsData.setEdgeConfigPatch(edgeConfigPatch);
 
 		// Immediately send Config
 		var config = this.parent.componentManager.getEdgeConfig();
@@ -29,6 +42,9 @@ public class OnOpen implements io.openems.common.websocket.OnOpen {
 		// Send all Channel values
 		this.parent.sendChannelValuesWorker.sendValuesOfAllChannelsOnce();
 
+		// Enable binary uplink if accepted by Backend; after resetting the dictionary
+		wsData.setBinaryUplink(binaryUplink);
+
 		// Trigger resending data
 		this.parent.resendHistoricDataWorker.triggerNextRun();
 	}
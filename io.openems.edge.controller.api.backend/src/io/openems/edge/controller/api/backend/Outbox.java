@@ -0,0 +1,316 @@
+package io.openems.edge.controller.api.backend;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.OptionalLong;
+
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+
+/**
+ * Persistent, append-only outbox for notifications that could not be sent to
+ * OpenEMS Backend.
+ *
+ * <p>
+ * Notifications are stored in memory-mapped segment files of fixed size within
+ * a directory. Every segment starts with a header (magic number and read
+ * offset), followed by records:
+ *
+ * <pre>
+ * int    length of the payload; 0 marks the end of written data
+ * long   timestamp of the data in epoch milliseconds
+ * byte[] payload; the JSON-RPC notification as UTF-8 string
+ * </pre>
+ *
+ * <p>
+ * Records are consumed in order with {@link #peek()} and {@link #remove(Record)}.
+ * If the total size would exceed the configured maximum, the oldest segment is
+ * dropped. The state survives a restart of OpenEMS Edge.
+ */
+public class Outbox {
+
+	/**
+	 * A stored notification.
+	 *
+	 * @param segment   the sequence number of the segment
+	 * @param offset    the offset of the record within the segment
+	 * @param timestamp the timestamp of the data in epoch milliseconds
+	 * @param payload   the JSON-RPC notification as string
+	 */
+	public record Record(long segment, int offset, long timestamp, String payload) {
+	}
+
+	private static final int MAGIC = 0x4F454F42; // "OEOB"
+	private static final int HEADER_SIZE = 8;
+	private static final int READ_OFFSET_POSITION = 4;
+	private static final int RECORD_HEADER_SIZE = 12;
+	private static final int MIN_SEGMENT_SIZE = 64 * 1024;
+	private static final int MAX_SEGMENT_SIZE = 8 * 1024 * 1024;
+	private static final String SEGMENT_SUFFIX = ".seg";
+
+	private static class Segment {
+		private final long sequence;
+		private final Path file;
+		private final MappedByteBuffer buffer;
+		private int writeOffset = HEADER_SIZE;
+		private int records = 0;
+
+		private Segment(long sequence, Path file, MappedByteBuffer buffer) {
+			this.sequence = sequence;
+			this.file = file;
+			this.buffer = buffer;
+		}
+
+		private int getReadOffset() {
+			return this.buffer.getInt(READ_OFFSET_POSITION);
+		}
+
+		private void setReadOffset(int offset) {
+			this.buffer.putInt(READ_OFFSET_POSITION, offset);
+		}
+	}
+
+	private final Path directory;
+	private final int segmentSize;
+	private final int maxSegments;
+	private final Deque<Segment> segments = new ArrayDeque<>();
+
+	private int size = 0;
+	private long dropped = 0;
+
+	/**
+	 * Opens the {@link Outbox} in the given directory; recovers unsent records
+	 * from a previous run.
+	 *
+	 * @param directory the directory
+	 * @param maxSize   the maximum disk usage in bytes
+	 * @throws IOException on error
+	 */
+	public Outbox(Path directory, long maxSize) throws IOException {
+		this.directory = directory;
+		this.segmentSize = (int) Math.max(MIN_SEGMENT_SIZE, Math.min(MAX_SEGMENT_SIZE, maxSize / 16));
+		this.maxSegments = (int) Math.max(2, maxSize / this.segmentSize);
+		Files.createDirectories(directory);
+
+		var files = new ArrayList<Path>();
+		try (var stream = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+			stream.forEach(files::add);
+		}
+		files.sort(null);
+		for (var file : files) {
+			final long sequence;
+			try {
+				var name = file.getFileName().toString();
+				sequence = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+			} catch (NumberFormatException e) {
+				continue;
+			}
+			var segment = this.openSegment(sequence, file);
+			if (segment == null) {
+				Files.deleteIfExists(file);
+				continue;
+			}
+			this.segments.add(segment);
+			this.size += segment.records;
+		}
+		this.removeConsumedSegments();
+	}
+
+	/**
+	 * Appends a notification.
+	 *
+	 * @param timestamp    the timestamp of the data in epoch milliseconds
+	 * @param notification the {@link JsonrpcNotification}
+	 * @return true if the notification was stored; false if it is too large
+	 * @throws IOException on error
+	 */
+	public synchronized boolean append(long timestamp, JsonrpcNotification notification) throws IOException {
+		var payload = notification.toString().getBytes(StandardCharsets.UTF_8);
+		var length = RECORD_HEADER_SIZE + payload.length;
+		if (payload.length == 0 || HEADER_SIZE + length > this.segmentSize) {
+			this.dropped++;
+			return false;
+		}
+
+		var segment = this.segments.peekLast();
+		if (segment == null || segment.writeOffset + length > this.segmentSize) {
+			segment = this.createSegment(segment == null ? 0 : segment.sequence + 1);
+		}
+
+		var buffer = segment.buffer;
+		buffer.putLong(segment.writeOffset + 4, timestamp);
+		buffer.put(segment.writeOffset + RECORD_HEADER_SIZE, payload);
+		// Write length last; it marks the record as complete
+		buffer.putInt(segment.writeOffset, payload.length);
+		segment.writeOffset += length;
+		segment.records++;
+		this.size++;
+		return true;
+	}
+
+	/**
+	 * Gets the oldest unsent {@link Record} without removing it.
+	 *
+	 * @return the {@link Record}; null if the outbox is empty
+	 */
+	public synchronized Record peek() {
+		var segment = this.segments.peekFirst();
+		if (segment == null) {
+			return null;
+		}
+		var offset = segment.getReadOffset();
+		if (offset >= segment.writeOffset) {
+			return null;
+		}
+		var buffer = segment.buffer;
+		var payload = new byte[buffer.getInt(offset)];
+		buffer.get(offset + RECORD_HEADER_SIZE, payload);
+		return new Record(segment.sequence, offset, buffer.getLong(offset + 4),
+				new String(payload, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Removes a {@link Record} that was received via {@link #peek()} after it was
+	 * sent successfully.
+	 *
+	 * <p>
+	 * Does nothing if the {@link Record} is not the oldest one anymore, e.g.
+	 * because its segment was dropped in the meantime.
+	 *
+	 * @param record the {@link Record}
+	 */
+	public synchronized void remove(Record record) {
+		var segment = this.segments.peekFirst();
+		if (segment == null || segment.sequence != record.segment || segment.getReadOffset() != record.offset) {
+			return;
+		}
+		segment.setReadOffset(record.offset + RECORD_HEADER_SIZE + segment.buffer.getInt(record.offset));
+		segment.records--;
+		this.size--;
+		this.removeConsumedSegments();
+	}
+
+	/**
+	 * Gets the number of unsent notifications.
+	 *
+	 * @return the number of notifications
+	 */
+	public synchronized int size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets the timestamp of the oldest unsent notification.
+	 *
+	 * @return the timestamp in epoch milliseconds; empty if the outbox is empty
+	 */
+	public synchronized OptionalLong getOldestTimestamp() {
+		var segment = this.segments.peekFirst();
+		if (segment == null || segment.records == 0) {
+			return OptionalLong.empty();
+		}
+		return OptionalLong.of(segment.buffer.getLong(segment.getReadOffset() + 4));
+	}
+
+	/**
+	 * Gets the number of notifications that were dropped because the outbox was
+	 * full.
+	 *
+	 * @return the number of dropped notifications
+	 */
+	public synchronized long getDropped() {
+		return this.dropped;
+	}
+
+	/**
+	 * Flushes all segments to disk. The {@link Outbox} must not be used
+	 * afterwards.
+	 */
+	public synchronized void close() {
+		for (var segment : this.segments) {
+			segment.buffer.force();
+		}
+	}
+
+	private Segment createSegment(long sequence) throws IOException {
+		while (this.segments.size() >= this.maxSegments) {
+			// Outbox is full: drop oldest segment
+			var oldest = this.segments.removeFirst();
+			this.size -= oldest.records;
+			this.dropped += oldest.records;
+			delete(oldest.file);
+		}
+		var previous = this.segments.peekLast();
+		if (previous != null) {
+			previous.buffer.force();
+		}
+
+		var file = this.directory.resolve(String.format("%019d", sequence) + SEGMENT_SUFFIX);
+		var segment = new Segment(sequence, file, this.map(file));
+		segment.buffer.putInt(0, MAGIC);
+		segment.setReadOffset(HEADER_SIZE);
+		this.segments.add(segment);
+		this.removeConsumedSegments();
+		return segment;
+	}
+
+	private Segment openSegment(long sequence, Path file) throws IOException {
+		if (Files.size(file) != this.segmentSize) {
+			// Created with a different maximum size
+			return null;
+		}
+		var segment = new Segment(sequence, file, this.map(file));
+		var buffer = segment.buffer;
+		var readOffset = segment.getReadOffset();
+		if (buffer.getInt(0) != MAGIC || readOffset < HEADER_SIZE || readOffset > this.segmentSize) {
+			return null;
+		}
+
+		// Find end of written data and count unread records
+		var offset = HEADER_SIZE;
+		while (offset + RECORD_HEADER_SIZE <= this.segmentSize) {
+			var length = buffer.getInt(offset);
+			if (length <= 0 || offset + RECORD_HEADER_SIZE + length > this.segmentSize) {
+				break;
+			}
+			if (offset >= readOffset) {
+				segment.records++;
+			}
+			offset += RECORD_HEADER_SIZE + length;
+		}
+		segment.writeOffset = offset;
+		return segment;
+	}
+
+	private MappedByteBuffer map(Path file) throws IOException {
+		try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE)) {
+			return channel.map(MapMode.READ_WRITE, 0, this.segmentSize);
+		}
+	}
+
+	private void removeConsumedSegments() {
+		// Keep the last segment for appending
+		while (this.segments.size() > 1 && this.segments.peekFirst().records == 0) {
+			delete(this.segments.removeFirst().file);
+		}
+	}
+
+	private static void delete(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			// e.g. a mapped file can not be deleted on Windows; it is removed as consumed
+			// segment on next start
+		}
+	}
+
+}
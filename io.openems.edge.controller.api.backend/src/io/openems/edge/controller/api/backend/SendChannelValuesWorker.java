@@ -1,21 +1,20 @@
 package io.openems.edge.controller.api.backend;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collector;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,11 +27,17 @@ import com.google.gson.JsonNull;
 import com.google.gson.JsonPrimitive;
 
 import io.openems.common.channel.AccessMode;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcNotification;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.timedata.DurationUnit;
 import io.openems.common.types.OpenemsType;
 import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.common.websocket.BinaryUplinkEncoder;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.value.Aggregate;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.type.TypeUtils;
 
@@ -44,11 +49,17 @@ import io.openems.edge.common.type.TypeUtils;
  * <p>
  * The logic tries to send changed values once per Cycle and all values once
  * every {@link #SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS}.
+ *
+ * <p>
+ * Notifications that could not be sent are kept in the {@link Outbox} and sent
+ * in batches of {@link #OUTBOX_DRAIN_BATCH_SIZE} per second after reconnect.
  */
 public class SendChannelValuesWorker {
 
 	private static final int AGGREGATION_MINUTES = 5;
+	private static final Duration AGGREGATION_WINDOW = Duration.ofMinutes(AGGREGATION_MINUTES);
 	private static final int SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS = 300; /* 5 minutes */
+	private static final int OUTBOX_DRAIN_BATCH_SIZE = 20;
 
 	private final Logger log = LoggerFactory.getLogger(SendChannelValuesWorker.class);
 
@@ -57,7 +68,16 @@ public class SendChannelValuesWorker {
 			new ArrayBlockingQueue<>(1), //
 			new ThreadFactoryBuilder().setNameFormat(ControllerApiBackendImpl.COMPONENT_NAME + ":SendWorker-%d")
 					.build(), //
-			new ThreadPoolExecutor.DiscardOldestPolicy());
+			(task, executor) -> {
+				if (executor.isShutdown()) {
+					return;
+				}
+				// Discard oldest task; keep aggregated data in the Outbox
+				if (executor.getQueue().poll() instanceof SendAggregatedDataTask discarded) {
+					discarded.appendToOutbox();
+				}
+				executor.execute(task);
+			});
 
 	/**
 	 * If true: next 'send' sends all channel values.
@@ -77,6 +97,11 @@ public class SendChannelValuesWorker {
 
 	private Instant lastSendAggregatedDataTimestamp;
 
+	/**
+	 * Keeps the Channel-Address dictionary for the binary uplink.
+	 */
+	private final BinaryUplinkEncoder binaryUplinkEncoder = new BinaryUplinkEncoder();
+
 	protected SendChannelValuesWorker(ControllerApiBackendImpl parent) {
 		this.parent = parent;
 	}
@@ -87,6 +112,8 @@ public class SendChannelValuesWorker {
 	public synchronized void sendValuesOfAllChannelsOnce() {
 		this.sendValuesOfAllChannels.set(true);
 		this.sendValuesOfAllChannelsAggregated.set(true);
+		// New connection or EdgeConfig: send Channel-Address dictionary again
+		this.binaryUplinkEncoder.reset();
 	}
 
 	/**
@@ -109,6 +136,15 @@ public class SendChannelValuesWorker {
 		final var allValues = this.collectData(enabledComponents);
 		final var aggregatedValues = this.collectAggregatedData(enabledComponents);
 
+		// Update Outbox Channels
+		final var outbox = this.parent.outbox;
+		if (outbox != null) {
+			this.parent._setOutboxDepth(outbox.size());
+			var oldest = outbox.getOldestTimestamp();
+			this.parent._setOutboxLag(
+					oldest.isPresent() ? Math.max(0, now.toEpochMilli() - oldest.getAsLong()) / 1000 : 0L);
+		}
+
 		// Add to send Queue
 		this.executor.execute(new SendTask(this, now, allValues));
 		if (aggregatedValues != null && !aggregatedValues.isEmpty()) {
@@ -180,20 +216,7 @@ public class SendChannelValuesWorker {
 								.isAtLeast(this.parent.config.aggregationPriority()))
 				.forEach(channel -> {
 					try {
-						// This is the highest timestamp before `startTime`. If existing it is used for
-						// the tailMap to make sure we get a Value even for Channels where the value has
-						// not changed within the last 5 minutes.
-						var channelStartTime = Optional.ofNullable(channel.getPastValues().floorKey(startTime))
-								.orElse(startTime);
-
-						var value = channel.getPastValues() //
-								.tailMap(channelStartTime, true) //
-								.entrySet() //
-								.stream() //
-								.filter(e -> e.getKey().isBefore(endTime)) //
-								.filter(e -> e.getValue().isDefined()).map(e -> e.getValue().get()) //
-								.collect(aggregateCollector(channel.channelDoc().getUnit().isCumulated(), //
-										channel.getType()));
+						var value = aggregate(channel.channelDoc().getUnit().isCumulated(), channel, startTime);
 
 						if (!sendAllChannels && value.isJsonNull()) {
 							return;
@@ -207,62 +230,123 @@ public class SendChannelValuesWorker {
 		return table;
 	}
 
-	protected static Collector<Object, ?, JsonElement> aggregateCollector(//
-			final boolean isCumulated, //
-			final OpenemsType type //
-	) {
-		return Collector.of(ArrayList::new, //
-				(a, b) -> a.add(b), //
-				(a, b) -> {
-					b.addAll(a);
-					return b;
-				}, //
-				t -> aggregate(isCumulated, type, t) //
-		);
-	}
-
 	protected static JsonElement aggregate(boolean isCumulated, OpenemsType type, Collection<Object> values)
 			throws IllegalArgumentException {
-		switch (type) {
-		case DOUBLE, FLOAT -> {
-			final var stream = values.stream() //
-					.mapToDouble(item -> TypeUtils.getAsType(OpenemsType.DOUBLE, item));
-			if (isCumulated) {
-				final var maxOpt = stream.max();
-				if (maxOpt.isPresent()) {
-					return new JsonPrimitive(maxOpt.getAsDouble());
-				}
-			} else {
-				final var avgOpt = stream.average();
-				if (avgOpt.isPresent()) {
-					return new JsonPrimitive(avgOpt.getAsDouble());
-				}
-			}
+		return switch (type) {
+		case DOUBLE, FLOAT -> aggregate(isCumulated, type, Aggregate.of(values.stream() //
+				.mapToDouble(item -> TypeUtils.getAsType(OpenemsType.DOUBLE, item))));
+		case BOOLEAN, LONG, INTEGER, SHORT -> aggregate(isCumulated, type, Aggregate.of(values.stream() //
+				.mapToDouble(item -> TypeUtils.<Long>getAsType(OpenemsType.LONG, item))));
+		case STRING -> aggregate(values.stream() //
+				.map(item -> TypeUtils.<String>getAsType(type, item)));
+		};
+	}
+
+	/**
+	 * Aggregates the values of a {@link Channel} within the aggregation window
+	 * starting at 'startTime'.
+	 *
+	 * <p>
+	 * Numeric Channels use the running {@link Aggregate} of the Channel, i.e. the
+	 * values are not scanned again every {@value #AGGREGATION_MINUTES} minutes.
+	 *
+	 * @param isCumulated true for cumulated values; false otherwise
+	 * @param channel     the {@link Channel}
+	 * @param startTime   the start of the aggregation window
+	 * @return the aggregated value; {@link JsonNull} if there are no values
+	 */
+	protected static JsonElement aggregate(boolean isCumulated, Channel<?> channel, LocalDateTime startTime) {
+		final var type = channel.getType();
+		return switch (type) {
+		case DOUBLE, FLOAT, BOOLEAN, LONG, INTEGER, SHORT -> aggregate(isCumulated, type, //
+				channel.getAggregate(AGGREGATION_WINDOW, startTime));
+		case STRING -> {
+			// This is the highest timestamp before `startTime`. If existing it is used as
+			// start index to make sure we get a Value even for Channels where the value has
+			// not changed within the last 5 minutes.
+			final var pastValues = channel.getPastValues();
+			yield aggregate(pastValues
+					.stream(pastValues.floorIndex(startTime),
+							pastValues.ceilingIndex(startTime.plus(AGGREGATION_WINDOW))) //
+					.map(item -> TypeUtils.<String>getAsType(type, item)));
+		}
+		};
+	}
+
+	private static JsonElement aggregate(boolean isCumulated, OpenemsType type, Aggregate aggregate) {
+		final var valueOpt = isCumulated ? aggregate.maximum() : aggregate.average();
+		if (valueOpt.isEmpty()) {
+			return JsonNull.INSTANCE;
 		}
+		return switch (type) {
+		case DOUBLE, FLOAT -> new JsonPrimitive(valueOpt.getAsDouble());
 		// round averages to their type
-		case BOOLEAN, LONG, INTEGER, SHORT -> {
-			final var stream = values.stream() //
-					.mapToLong(item -> TypeUtils.getAsType(OpenemsType.LONG, item));
-			if (isCumulated) {
-				final var maxOpt = stream.max();
-				if (maxOpt.isPresent()) {
-					return new JsonPrimitive(maxOpt.getAsLong());
+		default -> new JsonPrimitive(Math.round(valueOpt.getAsDouble()));
+		};
+	}
+
+	// return first string for now
+	private static JsonElement aggregate(Stream<String> stream) {
+		return stream.findFirst() //
+				.<JsonElement>map(JsonPrimitive::new) //
+				.orElse(JsonNull.INSTANCE);
+	}
+
+	/**
+	 * Sends a batch of notifications from the {@link Outbox} if connected.
+	 *
+	 * <p>
+	 * Called periodically, so that the Outbox is drained at a controlled rate
+	 * after reconnect.
+	 */
+	public void drainOutbox() {
+		final var outbox = this.parent.outbox;
+		final var websocket = this.parent.websocket;
+		if (outbox == null || websocket == null || !websocket.isConnected()) {
+			return;
+		}
+		try {
+			for (var i = 0; i < OUTBOX_DRAIN_BATCH_SIZE; i++) {
+				var record = outbox.peek();
+				if (record == null) {
+					return;
 				}
-			} else {
-				final var avgOpt = stream.average();
-				if (avgOpt.isPresent()) {
-					return new JsonPrimitive(Math.round(avgOpt.getAsDouble()));
+				final JsonrpcNotification message;
+				try {
+					message = GenericJsonrpcNotification.from(record.payload());
+				} catch (OpenemsNamedException e) {
+					this.parent.logWarn(this.log, "Dropping invalid notification from Outbox: " + e.getMessage());
+					outbox.remove(record);
+					continue;
 				}
+				if (!websocket.sendMessage(message)) {
+					return;
+				}
+				outbox.remove(record);
 			}
+		} catch (RuntimeException e) {
+			this.parent.logWarn(this.log, "Unable to drain Outbox: " + e.getMessage());
 		}
-		case STRING -> {
-			// return first string for now
-			for (var item : values) {
-				return new JsonPrimitive(TypeUtils.<String>getAsType(type, item));
-			}
+	}
+
+	/**
+	 * Appends a notification that could not be sent to the {@link Outbox}.
+	 *
+	 * @param timestamp the timestamp of the data in epoch milliseconds
+	 * @param message   the {@link JsonrpcNotification}
+	 * @return true if the notification was stored
+	 */
+	private boolean appendToOutbox(long timestamp, JsonrpcNotification message) {
+		final var outbox = this.parent.outbox;
+		if (outbox == null) {
+			return false;
 		}
+		try {
+			return outbox.append(timestamp, message);
+		} catch (IOException e) {
+			this.parent.logWarn(this.log, "Unable to append to Outbox: " + e.getMessage());
+			return false;
 		}
-		return JsonNull.INSTANCE;
 	}
 
 	/*
@@ -318,10 +402,6 @@ public class SendChannelValuesWorker {
 				}
 			}
 
-			// Create JSON-RPC notification
-			var message = new TimestampedDataNotification();
-			message.add(timestampMillis, sendValuesMap);
-
 			// Debug-Log
 			if (this.parent.parent.config.debugMode()) {
 				this.parent.parent.logInfo(this.parent.log,
@@ -329,7 +409,27 @@ public class SendChannelValuesWorker {
 			}
 
 			// Try to send
-			var wasSent = this.parent.parent.websocket.sendMessage(message);
+			final var websocket = this.parent.parent.websocket;
+			boolean wasSent;
+			if (websocket.isBinaryUplink()) {
+				// Compact binary frame
+				var frame = this.parent.binaryUplinkEncoder.encode(timestampMillis, sendValuesMap);
+				wasSent = websocket.sendMessage(frame);
+				if (!wasSent) {
+					// Backend might have missed new Channel-Addresses
+					this.parent.binaryUplinkEncoder.reset();
+				}
+
+			} else {
+				// Create JSON-RPC notification
+				wasSent = websocket.sendMessage(createMessage(timestampMillis, sendValuesMap));
+			}
+
+			if (!wasSent) {
+				// Keep in Outbox; it is sent after reconnect
+				wasSent = sendValuesMap.isEmpty()
+						|| this.parent.appendToOutbox(timestampMillis, createMessage(timestampMillis, sendValuesMap));
+			}
 
 			if (wasSent) {
 				// Successfully sent: update information for next runs
@@ -342,6 +442,12 @@ public class SendChannelValuesWorker {
 
 		}
 
+		private static TimestampedDataNotification createMessage(long timestamp, Map<String, JsonElement> values) {
+			var message = new TimestampedDataNotification();
+			message.add(timestamp, values);
+			return message;
+		}
+
 	}
 
 	private static final class SendAggregatedDataTask implements Runnable {
@@ -360,15 +466,29 @@ public class SendChannelValuesWorker {
 
 		@Override
 		public void run() {
-			final var message = new AggregatedDataNotification();
-			message.add(this.timestamp.toEpochMilli(), this.allValues);
-
+			final var message = this.createMessage();
 			final var wasSent = this.parent.parent.websocket.sendMessage(message);
+			if (!wasSent) {
+				this.parent.appendToOutbox(this.timestamp.toEpochMilli(), message);
+			}
 
 			// Set the UNABLE_TO_SEND channel
 			this.parent.parent.getUnableToSendChannel().setNextValue(!wasSent);
 		}
 
+		/**
+		 * Keeps the data in the {@link Outbox} instead of sending it.
+		 */
+		private void appendToOutbox() {
+			this.parent.appendToOutbox(this.timestamp.toEpochMilli(), this.createMessage());
+		}
+
+		private AggregatedDataNotification createMessage() {
+			final var message = new AggregatedDataNotification();
+			message.add(this.timestamp.toEpochMilli(), this.allValues);
+			return message;
+		}
+
 	}
 
 }
\ No newline at end of file
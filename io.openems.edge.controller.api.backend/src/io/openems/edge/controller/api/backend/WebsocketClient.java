@@ -10,6 +10,8 @@ import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.openems.common.jsonrpc.notification.EdgeConfigPatchNotification;
+import io.openems.common.types.EdgeConfigPatch;
 import io.openems.common.websocket.AbstractWebsocketClient;
 import io.openems.common.websocket.OnClose;
 
@@ -36,6 +38,11 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 			this.log.error("Disconnected from OpenEMS Backend [" + serverUri.toString() //
 					+ (proxy != AbstractWebsocketClient.NO_PROXY ? " via Proxy" : "") + "]");
 			this.parent.getUnableToSendChannel().setNextValue(true);
+			WsData wsData = ws.getAttachment();
+			if (wsData != null) {
+				wsData.setBinaryUplink(false);
+				wsData.setEdgeConfigPatch(false);
+			}
 		};
 	}
 
@@ -88,6 +95,27 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 		return this.ws.isOpen();
 	}
 
+	/**
+	 * Did the Backend accept the binary uplink for the current connection?.
+	 *
+	 * @return true if values should be sent as binary frames
+	 */
+	public boolean isBinaryUplink() {
+		WsData wsData = this.ws.getAttachment();
+		return wsData != null && wsData.isBinaryUplink();
+	}
+
+	/**
+	 * Did the Backend accept {@link EdgeConfigPatch}es for the current
+	 * connection?.
+	 *
+	 * @return true if {@link EdgeConfigPatchNotification}s should be sent
+	 */
+	public boolean isEdgeConfigPatch() {
+		WsData wsData = this.ws.getAttachment();
+		return wsData != null && wsData.isEdgeConfigPatch();
+	}
+
 	@Override
 	protected void execute(Runnable command) {
 		this.parent.execute(command);
@@ -1,7 +1,36 @@
 package io.openems.edge.controller.api.backend;
 
+import io.openems.common.types.EdgeConfigPatch;
+import io.openems.common.websocket.BinaryUplink;
+
 public class WsData extends io.openems.common.websocket.WsData {
 
+	/**
+	 * Did the Backend accept the {@link BinaryUplink} in the handshake?.
+	 */
+	private volatile boolean binaryUplink = false;
+
+	public void setBinaryUplink(boolean binaryUplink) {
+		this.binaryUplink = binaryUplink;
+	}
+
+	public boolean isBinaryUplink() {
+		return this.binaryUplink;
+	}
+
+	/**
+	 * Did the Backend accept {@link EdgeConfigPatch}es in the handshake?.
+	 */
+	private volatile boolean edgeConfigPatch = false;
+
+	public void setEdgeConfigPatch(boolean edgeConfigPatch) {
+		this.edgeConfigPatch = edgeConfigPatch;
+	}
+
+	public boolean isEdgeConfigPatch() {
+		return this.edgeConfigPatch;
+	}
+
 	@Override
 	public String toString() {
 		return "BackendApi.WsData []";
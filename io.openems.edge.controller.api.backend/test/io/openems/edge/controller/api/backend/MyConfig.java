@@ -19,6 +19,8 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private PersistencePriority persistencePriority;
 		private PersistencePriority aggregationPriority;
 		private PersistencePriority resendPriority;
+		private boolean binaryUplink;
+		private int outboxMaxSize;
 		private boolean debugMode;
 
 		private Builder() {
@@ -74,6 +76,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setBinaryUplink(boolean binaryUplink) {
+			this.binaryUplink = binaryUplink;
+			return this;
+		}
+
+		public Builder setOutboxMaxSize(int outboxMaxSize) {
+			this.outboxMaxSize = outboxMaxSize;
+			return this;
+		}
+
 		public Builder setDebugMode(boolean debugMode) {
 			this.debugMode = debugMode;
 			return this;
@@ -145,6 +157,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.resendPriority;
 	}
 
+	@Override
+	public boolean binaryUplink() {
+		return this.builder.binaryUplink;
+	}
+
+	@Override
+	public int outboxMaxSize() {
+		return this.builder.outboxMaxSize;
+	}
+
 	@Override
 	public boolean debugMode() {
 		return this.builder.debugMode;
@@ -0,0 +1,84 @@
+package io.openems.edge.controller.api.backend;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+public class OutboxTest {
+
+	private static final long MAX_SIZE = 2 * 64 * 1024;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static TimestampedDataNotification message(long timestamp) {
+		var message = new TimestampedDataNotification();
+		message.add(timestamp, "_sum/EssSoc", new JsonPrimitive(timestamp % 100));
+		return message;
+	}
+
+	@Test
+	public void test() throws IOException, OpenemsNamedException {
+		var directory = this.folder.getRoot().toPath();
+		var sut = new Outbox(directory, MAX_SIZE);
+		assertNull(sut.peek());
+		assertFalse(sut.getOldestTimestamp().isPresent());
+
+		for (var i = 0; i < 10; i++) {
+			assertTrue(sut.append(1000 + i, message(1000 + i)));
+		}
+		assertEquals(10, sut.size());
+		assertEquals(1000, sut.getOldestTimestamp().getAsLong());
+
+		var record = sut.peek();
+		assertEquals(1000, record.timestamp());
+		var notification = TimestampedDataNotification.from(GenericJsonrpcNotification.from(record.payload()));
+		assertEquals(message(1000).getData(), notification.getData());
+
+		sut.remove(record);
+		sut.remove(record); // ignored
+		assertEquals(9, sut.size());
+		assertEquals(1001, sut.peek().timestamp());
+		sut.close();
+
+		// Recover after restart
+		sut = new Outbox(directory, MAX_SIZE);
+		assertEquals(9, sut.size());
+		assertEquals(1001, sut.peek().timestamp());
+		while ((record = sut.peek()) != null) {
+			sut.remove(record);
+		}
+		assertEquals(0, sut.size());
+		sut.close();
+	}
+
+	@Test
+	public void testMaxSize() throws IOException {
+		var sut = new Outbox(this.folder.getRoot().toPath(), MAX_SIZE);
+		var count = 0;
+		while (sut.getDropped() == 0) {
+			assertTrue(sut.append(count, message(count)));
+			count++;
+		}
+
+		// Oldest segment was dropped
+		assertEquals(count, sut.size() + sut.getDropped());
+		assertEquals(sut.getDropped(), sut.peek().timestamp());
+		assertTrue(this.folder.getRoot().list().length <= 2);
+		sut.close();
+	}
+
+}
@@ -1,9 +1,10 @@
 package io.openems.edge.controller.api.modbus;
 
-import java.util.List;
+import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -75,16 +76,19 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 			this._setComponentNoModbusApiFault(true);
 			return;
 		}
-		this._components.add((ModbusSlave) component);
+		this._components.put(component.id(), (ModbusSlave) component);
 		this.updateComponents();
 	}
 
 	protected synchronized void removeComponent(OpenemsComponent component) {
-		this._components.remove(component);
+		this._components.remove(component.id(), component);
 		this.updateComponents();
 	}
 
-	private volatile List<ModbusSlave> _components = new CopyOnWriteArrayList<>();
+	/**
+	 * Holds the referenced Components by their Component-ID.
+	 */
+	private final Map<String, ModbusSlave> _components = new ConcurrentHashMap<>();
 
 	public AbstractModbusTcpApi(String implementationName,
 			io.openems.edge.common.channel.ChannelId[] firstInitialChannelIds,
@@ -338,9 +342,20 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 		}
 
 		this.updateCycleValues();
+		this.updateRegisterImage();
 		this.apiWorker.run();
 	}
 
+	/**
+	 * Once every cycle: encode all {@link ModbusRecord}s to a new Register-Image
+	 * that answers the Modbus/TCP requests until the next cycle.
+	 */
+	private synchronized void updateRegisterImage() {
+		var start = System.nanoTime();
+		this.processImage.updateImage(this.records);
+		this._setRegisterImageUpdateTime(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+	}
+
 	@SuppressWarnings("unchecked")
 	/**
 	 * Once every cycle: update the values for each registered
@@ -419,10 +434,7 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 		if (componentId == Meta.SINGLETON_COMPONENT_ID) {
 			return this.config.metaComponent;
 		}
-		return this._components.stream() //
-				.filter(c -> componentId.equals(c.id())) //
-				.findFirst() //
-				.orElse(null);
+		return this._components.get(componentId);
 	}
 
 	protected static class ConfigRecord {
@@ -2,7 +2,9 @@ package io.openems.edge.controller.api.modbus;
 
 import io.openems.common.channel.Debounce;
 import io.openems.common.channel.Level;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -19,7 +21,20 @@ public interface ModbusTcpApi extends OpenemsComponent {
 				.text("A configured Component is not available")), //
 		PROCESS_IMAGE_FAULT(Doc.of(Level.FAULT) //
 				.debounce(50, Debounce.FALSE_VALUES_IN_A_ROW_TO_SET_FALSE) //
-				.text("Invalid Modbus Function call. Only FC3, FC4, FC6 and FC16 are supported"));
+				.text("Invalid Modbus Function call. Only FC3, FC4, FC6 and FC16 are supported")), //
+		REGISTER_IMAGE_FAULT(Doc.of(Level.WARNING) //
+				.text("Unable to encode one or more Modbus Records")), //
+		/**
+		 * Measured duration of encoding all Modbus Records to the Register-Image in
+		 * [us].
+		 *
+		 * <ul>
+		 * <li>Interface: ModbusTcpApi
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		REGISTER_IMAGE_UPDATE_TIME(Doc.of(OpenemsType.LONG) //
+				.text("Duration in [us]"));
 
 		private final Doc doc;
 
@@ -147,4 +162,62 @@ public interface ModbusTcpApi extends OpenemsComponent {
 	public default void _setComponentMissingFault(boolean value) {
 		this.getComponentMissingFaultChannel().setNextValue(value);
 	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#REGISTER_IMAGE_FAULT}.
+	 *
+	 * @return the Channel
+	 */
+	public default StateChannel getRegisterImageFaultChannel() {
+		return this.channel(ChannelId.REGISTER_IMAGE_FAULT);
+	}
+
+	/**
+	 * Gets the Register-Image Fault State. See
+	 * {@link ChannelId#REGISTER_IMAGE_FAULT}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Boolean> getRegisterImageFault() {
+		return this.getRegisterImageFaultChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#REGISTER_IMAGE_FAULT} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRegisterImageFault(boolean value) {
+		this.getRegisterImageFaultChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#REGISTER_IMAGE_UPDATE_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getRegisterImageUpdateTimeChannel() {
+		return this.channel(ChannelId.REGISTER_IMAGE_UPDATE_TIME);
+	}
+
+	/**
+	 * Gets the measured duration of encoding the Register-Image in [us]. See
+	 * {@link ChannelId#REGISTER_IMAGE_UPDATE_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getRegisterImageUpdateTime() {
+		return this.getRegisterImageUpdateTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#REGISTER_IMAGE_UPDATE_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRegisterImageUpdateTime(long value) {
+		this.getRegisterImageUpdateTimeChannel().setNextValue(value);
+	}
 }
@@ -1,5 +1,9 @@
 package io.openems.edge.controller.api.modbus;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SortedMap;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,12 +31,21 @@ public class MyProcessImage implements ProcessImage {
 
 	protected final AbstractModbusTcpApi parent;
 
+	private volatile RegisterImage image = RegisterImage.EMPTY;
+
+	/**
+	 * IDs of disabled Components that were accessed during the last update; used
+	 * to log a warning only once per state change.
+	 */
+	private Set<String> disabledComponents = new HashSet<>();
+	private Set<String> nextDisabledComponents = new HashSet<>();
+
 	protected MyProcessImage(AbstractModbusTcpApi parent) {
 		this.parent = parent;
 	}
 
 	@Override
-	public synchronized InputRegister[] getInputRegisterRange(int offset, int count) throws MyIllegalAddressException {
+	public InputRegister[] getInputRegisterRange(int offset, int count) throws MyIllegalAddressException {
 		try {
 			this.parent.logDebug(this.log, "Reading Input Registers. Address [" + offset + "] Count [" + count + "].");
 			var registers = this.getRegisterRange(offset, count);
@@ -51,7 +64,7 @@ public class MyProcessImage implements ProcessImage {
 	}
 
 	@Override
-	public synchronized Register[] getRegisterRange(int offset, int count) throws MyIllegalAddressException {
+	public Register[] getRegisterRange(int offset, int count) throws MyIllegalAddressException {
 		this.parent.logDebug(this.log, "Reading Registers. Address [" + offset + "] Count [" + count + "].");
 
 		try {
@@ -65,30 +78,25 @@ public class MyProcessImage implements ProcessImage {
 				throw new MyIllegalAddressException(this, "Invalid length: " + length + "; max. 126 registers allowed");
 			}
 
-			var records = this.parent.records.subMap(offset, offset + count);
+			var image = this.image;
+			var values = image.copyValues(offset, count);
 			var result = new Register[count];
-			for (var i = 0; i < count;) {
-				// Get record for modbus address
+			for (var i = 0; i < count; i++) {
 				var ref = i + offset;
-				var record = records.get(ref);
-				if (record == null) {
-					record = new ModbusRecordUint16Reserved(ref);
+				var record = image.getRecord(ref);
+				var index = image.getIndex(ref);
+				if (record == null || ref - index < offset) {
+					// No record or record starts before the requested range
+					result[i] = createRegister(new ModbusRecordUint16Reserved(ref), 0, RegisterImage.UNDEFINED_VALUE);
+					continue;
 				}
 
-				// Get Registers from Record
-				var registers = this.getRecordValueRegisters(record);
-
 				// make sure this Record fits
-				if (result.length < i + registers.length) {
+				if (index == 0 && i + record.getType().getWords() > count) {
 					throw new MyIllegalAddressException(this,
 							"Record for Modbus address [" + ref + "] does not fit in Result.");
 				}
-				for (var j = 0; j < registers.length; j++) {
-					result[i + j] = registers[j];
-				}
-
-				// increase i by word length
-				i += registers.length;
+				result[i] = createRegister(record, index, values[i]);
 			}
 			this.parent._setProcessImageFault(false);
 			return result;
@@ -100,28 +108,26 @@ public class MyProcessImage implements ProcessImage {
 	}
 
 	@Override
-	public synchronized Register getRegister(int ref) throws MyIllegalAddressException {
+	public Register getRegister(int ref) throws MyIllegalAddressException {
 		this.parent.logDebug(this.log, "Get Register. Address [" + ref + "].");
 
 		try {
-			var record = this.parent.records.get(ref);
+			var image = this.image;
+			var record = image.getRecord(ref);
 
 			// make sure the ModbusRecord is available
-			if (record == null) {
+			if (record == null || image.getIndex(ref) != 0) {
 				throw new MyIllegalAddressException(this, "Record for Modbus address [" + ref + "] is not available.");
 			}
 
-			// Get Registers from Record
-			var registers = this.getRecordValueRegisters(record);
-
 			// make sure this Record requires only one Register/Word
-			if (registers.length > 1) {
+			if (record.getType().getWords() > 1) {
 				throw new MyIllegalAddressException(this,
 						"Record for Modbus address [" + ref + "] requires more than one Register.");
 			}
 
 			this.parent._setProcessImageFault(false);
-			return registers[0];
+			return createRegister(record, 0, image.getValue(ref));
 
 		} catch (Exception e) {
 			this.parent._setProcessImageFault(true);
@@ -130,35 +136,70 @@ public class MyProcessImage implements ProcessImage {
 	}
 
 	/**
-	 * Get value as byte-array and convert it to InputRegisters.
+	 * Builds a new {@link RegisterImage} from the current values of all
+	 * {@link ModbusRecord}s and publishes it for the Modbus server threads.
+	 *
+	 * <p>
+	 * Called once per Cycle.
+	 *
+	 * @param records the {@link ModbusRecord}s by their Modbus address
+	 */
+	protected void updateImage(SortedMap<Integer, ModbusRecord> records) {
+		var previous = this.image;
+		var image = RegisterImage.from(records, this::getRecordValue);
+		this.image = image;
+
+		// Swap sets of accessed disabled Components
+		var disabledComponents = this.nextDisabledComponents;
+		this.nextDisabledComponents = this.disabledComponents;
+		this.nextDisabledComponents.clear();
+		this.disabledComponents = disabledComponents;
+
+		if (image.getFaults() > 0 && previous.getFaults() == 0) {
+			this.parent.logWarn(this.log, "Unable to encode [" + image.getFaults() + "] Modbus Records. First: "
+					+ image.getFirstFault());
+		}
+		this.parent._setRegisterImageFault(image.getFaults() > 0);
+	}
+
+	/**
+	 * Gets the current value of a {@link ModbusRecord} as byte-array.
 	 *
 	 * @param record the record
-	 * @return the Register
+	 * @return the value
 	 */
-	private Register[] getRecordValueRegisters(ModbusRecord record) {
-		var result = new MyRegister[record.getType().getWords()];
+	private byte[] getRecordValue(ModbusRecord record) {
 		final OpenemsComponent component;
 		{
 			var cmp = this.parent.getPossiblyDisabledComponent(record.getComponentId());
 			if (cmp != null && !cmp.isEnabled()) {
-				this.parent.logWarn(this.log, "Trying to access disabled Component [" + cmp.id() + "] for " + record);
+				if (this.nextDisabledComponents.add(cmp.id()) && !this.disabledComponents.contains(cmp.id())) {
+					this.parent.logWarn(this.log, "Trying to access disabled Component [" + cmp.id() + "]");
+				}
 				component = null;
 			} else {
 				component = cmp;
 			}
 		}
+		return record.getValue(component);
+	}
 
-		var value = record.getValue(component);
-		for (var j = 0; j < value.length / 2; j++) {
-			result[j] = new MyRegister(j, value[j * 2], value[j * 2 + 1], //
-					/*
-					 * On Set-Value event:
-					 */
-					register -> {
-						record.writeValue(register.getIndex(), register.getByte1(), register.getByte2());
-					});
-		}
-		return result;
+	/**
+	 * Creates a {@link Register} that forwards writes to the {@link ModbusRecord}.
+	 *
+	 * @param record the record
+	 * @param index  the index of the register within the record
+	 * @param value  the pre-encoded value
+	 * @return the Register
+	 */
+	private static Register createRegister(ModbusRecord record, int index, short value) {
+		return new MyRegister(index, (byte) (value >> 8), (byte) value, //
+				/*
+				 * On Set-Value event:
+				 */
+				register -> {
+					record.writeValue(register.getIndex(), register.getByte1(), register.getByte2());
+				});
 	}
 
 	/**********************************************
@@ -167,21 +208,21 @@ public class MyProcessImage implements ProcessImage {
 	 */
 
 	@Override
-	public synchronized InputRegister getInputRegister(int ref) {
+	public InputRegister getInputRegister(int ref) {
 		this.parent.logWarn(this.log, "getInputRegister is not implemented");
 		this.parent._setProcessImageFault(true);
 		return new SimpleInputRegister(0);
 	}
 
 	@Override
-	public synchronized int getInputRegisterCount() {
+	public int getInputRegisterCount() {
 		this.parent.logWarn(this.log, "getInputRegisterCount is not implemented");
 		this.parent._setProcessImageFault(true);
 		return 0;
 	}
 
 	@Override
-	public synchronized DigitalOut[] getDigitalOutRange(int offset, int count) {
+	public DigitalOut[] getDigitalOutRange(int offset, int count) {
 		this.parent.logWarn(this.log, "getDigitalOutRange is not implemented");
 		this.parent._setProcessImageFault(true);
 		var result = new DigitalOut[count];
@@ -192,21 +233,21 @@ public class MyProcessImage implements ProcessImage {
 	}
 
 	@Override
-	public synchronized DigitalOut getDigitalOut(int ref) {
+	public DigitalOut getDigitalOut(int ref) {
 		this.parent.logWarn(this.log, "getDigitalOut is not implemented");
 		this.parent._setProcessImageFault(true);
 		return new SimpleDigitalOut(false);
 	}
 
 	@Override
-	public synchronized int getDigitalOutCount() {
+	public int getDigitalOutCount() {
 		this.parent.logWarn(this.log, "getDigitalOutCount is not implemented");
 		this.parent._setProcessImageFault(true);
 		return 0;
 	}
 
 	@Override
-	public synchronized DigitalIn[] getDigitalInRange(int offset, int count) {
+	public DigitalIn[] getDigitalInRange(int offset, int count) {
 		this.parent.logWarn(this.log, "getDigitalInRange is not implemented");
 		this.parent._setProcessImageFault(true);
 		var result = new DigitalIn[count];
@@ -217,62 +258,62 @@ public class MyProcessImage implements ProcessImage {
 	}
 
 	@Override
-	public synchronized DigitalIn getDigitalIn(int ref) {
+	public DigitalIn getDigitalIn(int ref) {
 		this.parent.logWarn(this.log, "getDigitalInRange is not implemented");
 		this.parent._setProcessImageFault(true);
 		return new SimpleDigitalIn(false);
 	}
 
 	@Override
-	public synchronized int getDigitalInCount() {
+	public int getDigitalInCount() {
 		this.parent.logWarn(this.log, "getDigitalInRange is not implemented");
 		this.parent._setProcessImageFault(true);
 		return 0;
 	}
 
 	@Override
-	public synchronized int getRegisterCount() {
+	public int getRegisterCount() {
 		this.parent.logWarn(this.log, "getRegisterCount is not implemented");
 		this.parent._setProcessImageFault(true);
 		return 0;
 	}
 
 	@Override
-	public synchronized File getFile(int ref) {
+	public File getFile(int ref) {
 		this.parent.logWarn(this.log, "getFile is not implemented");
 		this.parent._setProcessImageFault(true);
 		return null;
 	}
 
 	@Override
-	public synchronized File getFileByNumber(int ref) {
+	public File getFileByNumber(int ref) {
 		this.parent.logWarn(this.log, "getFileByNumber is not implemented");
 		return null;
 	}
 
 	@Override
-	public synchronized int getFileCount() {
+	public int getFileCount() {
 		this.parent.logWarn(this.log, "getFileByNumber is not implemented");
 		this.parent._setProcessImageFault(true);
 		return 0;
 	}
 
 	@Override
-	public synchronized FIFO getFIFO(int ref) {
+	public FIFO getFIFO(int ref) {
 		this.parent.logWarn(this.log, "getFIFO is not implemented");
 		this.parent._setProcessImageFault(true);
 		return null;
 	}
 
 	@Override
-	public synchronized FIFO getFIFOByAddress(int ref) {
+	public FIFO getFIFOByAddress(int ref) {
 		this.parent.logWarn(this.log, "getFIFOByAddress is not implemented");
 		this.parent._setProcessImageFault(true);
 		return null;
 	}
 
 	@Override
-	public synchronized int getFIFOCount() {
+	public int getFIFOCount() {
 		this.parent.logWarn(this.log, "getFIFOCount is not implemented");
 		this.parent._setProcessImageFault(true);
 		return 0;
@@ -0,0 +1,192 @@
+package io.openems.edge.controller.api.modbus;
+
+import java.util.Arrays;
+import java.util.SortedMap;
+import java.util.function.Function;
+
+import io.openems.edge.common.modbusslave.ModbusRecord;
+
+/**
+ * Immutable, pre-encoded image of all Modbus registers.
+ *
+ * <p>
+ * The image is built once per Cycle and then published as a whole. Modbus/TCP
+ * requests are answered from the image without locking and without converting
+ * Channel values on the Modbus server thread.
+ */
+public final class RegisterImage {
+
+	/** Value of registers that are not covered by any {@link ModbusRecord}. */
+	public static final short UNDEFINED_VALUE = (short) 0xFFFF;
+
+	/** An empty image; used before the first Cycle. */
+	public static final RegisterImage EMPTY = new RegisterImage(new short[0], new ModbusRecord[0], new int[0], 0,
+			null);
+
+	private final short[] values;
+	private final ModbusRecord[] records;
+	private final int[] indexes;
+	private final int faults;
+	private final String firstFault;
+
+	private RegisterImage(short[] values, ModbusRecord[] records, int[] indexes, int faults, String firstFault) {
+		this.values = values;
+		this.records = records;
+		this.indexes = indexes;
+		this.faults = faults;
+		this.firstFault = firstFault;
+	}
+
+	/**
+	 * Builds a {@link RegisterImage}.
+	 *
+	 * <p>
+	 * If the encoder fails for a {@link ModbusRecord}, its registers are set to
+	 * {@link #UNDEFINED_VALUE} and the failure is counted in {@link #getFaults()};
+	 * all other records are still encoded.
+	 *
+	 * @param records the {@link ModbusRecord}s by their Modbus address
+	 * @param encoder encodes the current value of a {@link ModbusRecord}
+	 * @return the {@link RegisterImage}
+	 */
+	public static RegisterImage from(SortedMap<Integer, ModbusRecord> records,
+			Function<ModbusRecord, byte[]> encoder) {
+		if (records.isEmpty()) {
+			return EMPTY;
+		}
+		var lastAddress = records.lastKey();
+		var length = lastAddress + records.get(lastAddress).getType().getWords();
+		var values = new short[length];
+		var recordPerAddress = new ModbusRecord[length];
+		var indexes = new int[length];
+		Arrays.fill(values, UNDEFINED_VALUE);
+
+		var faults = 0;
+		String firstFault = null;
+		var nextAddress = 0;
+		for (var entry : records.entrySet()) {
+			int address = entry.getKey();
+			var record = entry.getValue();
+			if (address < nextAddress) {
+				// Overlaps with the previous record
+				continue;
+			}
+			var words = record.getType().getWords();
+			byte[] value;
+			try {
+				value = encoder.apply(record);
+			} catch (Exception e) {
+				value = null;
+				if (faults++ == 0) {
+					firstFault = record + ": " + e.getClass().getSimpleName() + ": " + e.getMessage();
+				}
+			}
+			for (var i = 0; i < words; i++) {
+				var ref = address + i;
+				if (ref >= length) {
+					break;
+				}
+				if (value != null && value.length >= (i + 1) * 2) {
+					values[ref] = (short) ((value[i * 2] & 0xff) << 8 | value[i * 2 + 1] & 0xff);
+				} else {
+					values[ref] = UNDEFINED_VALUE;
+				}
+				recordPerAddress[ref] = record;
+				indexes[ref] = i;
+			}
+			nextAddress = address + words;
+		}
+		return new RegisterImage(values, recordPerAddress, indexes, faults, firstFault);
+	}
+
+	/**
+	 * Gets the number of {@link ModbusRecord}s that could not be encoded.
+	 *
+	 * @return the number of faults
+	 */
+	public int getFaults() {
+		return this.faults;
+	}
+
+	/**
+	 * Gets a description of the first {@link ModbusRecord} that could not be
+	 * encoded.
+	 *
+	 * @return the description; null if there are no faults
+	 */
+	public String getFirstFault() {
+		return this.firstFault;
+	}
+
+	/**
+	 * Gets the number of registers in this image.
+	 *
+	 * @return the length
+	 */
+	public int length() {
+		return this.values.length;
+	}
+
+	/**
+	 * Gets the encoded value at the given Modbus address.
+	 *
+	 * @param ref the Modbus address
+	 * @return the value; {@link #UNDEFINED_VALUE} if there is no record
+	 */
+	public short getValue(int ref) {
+		if (ref < 0 || ref >= this.values.length) {
+			return UNDEFINED_VALUE;
+		}
+		return this.values[ref];
+	}
+
+	/**
+	 * Gets the {@link ModbusRecord} that covers the given Modbus address.
+	 *
+	 * @param ref the Modbus address
+	 * @return the {@link ModbusRecord}; null if there is no record
+	 */
+	public ModbusRecord getRecord(int ref) {
+		if (ref < 0 || ref >= this.records.length) {
+			return null;
+		}
+		return this.records[ref];
+	}
+
+	/**
+	 * Gets the index of the register within its {@link ModbusRecord}, i.e. 0 for
+	 * the first word of a record.
+	 *
+	 * @param ref the Modbus address
+	 * @return the index; 0 if there is no record
+	 */
+	public int getIndex(int ref) {
+		if (ref < 0 || ref >= this.indexes.length) {
+			return 0;
+		}
+		return this.indexes[ref];
+	}
+
+	/**
+	 * Copies a range of encoded values.
+	 *
+	 * @param offset the first Modbus address
+	 * @param count  the number of registers
+	 * @return a copy of the values; {@link #UNDEFINED_VALUE} for addresses outside
+	 *         of the image
+	 */
+	public short[] copyValues(int offset, int count) {
+		var result = new short[count];
+		var from = Math.max(0, offset);
+		var to = Math.min(this.values.length, offset + count);
+		if (from >= to) {
+			Arrays.fill(result, UNDEFINED_VALUE);
+			return result;
+		}
+		Arrays.fill(result, 0, from - offset, UNDEFINED_VALUE);
+		System.arraycopy(this.values, from, result, from - offset, to - from);
+		Arrays.fill(result, to - offset, count, UNDEFINED_VALUE);
+		return result;
+	}
+
+}
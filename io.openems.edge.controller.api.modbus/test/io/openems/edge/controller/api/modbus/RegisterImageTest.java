@@ -0,0 +1,90 @@
+package io.openems.edge.controller.api.modbus;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import io.openems.edge.common.modbusslave.ModbusRecord;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16;
+import io.openems.edge.common.modbusslave.ModbusRecordUint32;
+
+public class RegisterImageTest {
+
+	private static final short UNDEFINED = RegisterImage.UNDEFINED_VALUE;
+
+	@Test
+	public void testFrom() {
+		var records = new TreeMap<Integer, ModbusRecord>();
+		var uint16 = new ModbusRecordUint16(0, "Uint16", (short) 0x1234);
+		var uint32 = new ModbusRecordUint32(0, "Uint32", 0x56789ABC);
+		records.put(0, uint16);
+		records.put(3, uint32);
+		var sut = RegisterImage.from(records, record -> record.getValue(null));
+
+		assertEquals(5, sut.length());
+
+		assertEquals((short) 0x1234, sut.getValue(0));
+		assertSame(uint16, sut.getRecord(0));
+		assertEquals(0, sut.getIndex(0));
+
+		// Gap
+		assertEquals(UNDEFINED, sut.getValue(1));
+		assertNull(sut.getRecord(1));
+
+		// Second word of a record
+		assertEquals((short) 0x9ABC, sut.getValue(4));
+		assertSame(uint32, sut.getRecord(4));
+		assertEquals(1, sut.getIndex(4));
+
+		// Out of range
+		assertEquals(UNDEFINED, sut.getValue(5));
+		assertNull(sut.getRecord(-1));
+	}
+
+	@Test
+	public void testCopyValues() {
+		var records = new TreeMap<Integer, ModbusRecord>();
+		records.put(1, new ModbusRecordUint32(0, "Uint32", 0x00010002));
+		var sut = RegisterImage.from(records, record -> record.getValue(null));
+
+		assertArrayEquals(new short[] { UNDEFINED, 1, 2, UNDEFINED }, sut.copyValues(0, 4));
+		assertArrayEquals(new short[] { 2 }, sut.copyValues(2, 1));
+		assertArrayEquals(new short[] { UNDEFINED, UNDEFINED }, sut.copyValues(10, 2));
+		assertArrayEquals(new short[] { UNDEFINED, UNDEFINED }, RegisterImage.EMPTY.copyValues(0, 2));
+	}
+
+	@Test
+	public void testEncoderFailure() {
+		var records = new TreeMap<Integer, ModbusRecord>();
+		records.put(0, new ModbusRecordUint32(0, "Uint32", 1));
+		var sut = RegisterImage.from(records, record -> new byte[0]);
+
+		assertArrayEquals(new short[] { UNDEFINED, UNDEFINED }, sut.copyValues(0, 2));
+	}
+
+	@Test
+	public void testEncoderException() {
+		var records = new TreeMap<Integer, ModbusRecord>();
+		records.put(0, new ModbusRecordUint16(0, "Uint16", (short) 1));
+		records.put(1, new ModbusRecordUint16(1, "Uint16", (short) 2));
+		records.put(2, new ModbusRecordUint16(2, "Uint16", (short) 3));
+		var sut = RegisterImage.from(records, record -> {
+			if (record.getOffset() == 1) {
+				throw new IllegalArgumentException("Channel is not defined");
+			}
+			return record.getValue(null);
+		});
+
+		assertArrayEquals(new short[] { 1, UNDEFINED, 3 }, sut.copyValues(0, 3));
+		assertEquals(1, sut.getFaults());
+		assertNotNull(sut.getFirstFault());
+		assertEquals(0, RegisterImage.EMPTY.getFaults());
+	}
+
+}
@@ -35,6 +35,15 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Persistence Priority", description = "Send only Channels with a Persistence Priority greater-or-equals this.")
 	PersistencePriority persistencePriority() default PersistencePriority.VERY_LOW;
 
+	@AttributeDefinition(name = "Publish Mode", description = "Publish one message per Channel, per Component or per configured Channel-Group")
+	PublishMode publishMode() default PublishMode.CHANNEL;
+
+	@AttributeDefinition(name = "Channel-Groups", description = "Only for Publish Mode 'GROUP'. Format: 'Group=Component-ID regular expression', e.g. 'ess=ess[0-9]+'")
+	String[] channelGroups() default {};
+
+	@AttributeDefinition(name = "Publish Interval [s]", description = "Minimum interval between two publishes; '0' to publish every Cycle")
+	int publishInterval() default 0;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default false;
 
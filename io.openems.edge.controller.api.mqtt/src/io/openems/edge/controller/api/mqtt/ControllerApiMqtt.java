@@ -2,7 +2,11 @@ package io.openems.edge.controller.api.mqtt;
 
 import org.osgi.service.event.EventHandler;
 
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.LongReadChannel;
+import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.controller.api.Controller;
 
@@ -14,7 +18,27 @@ public interface ControllerApiMqtt extends Controller, OpenemsComponent, EventHa
 	public static final String TOPIC_EDGE_CONFIG = "edgeConfig/";
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
-		;
+		/**
+		 * Duration between collecting the Channel values and finishing the publish in
+		 * [ms].
+		 *
+		 * <ul>
+		 * <li>Interface: ControllerApiMqtt
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		PUBLISH_LATENCY(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Number of collected batches of Channel values that were dropped, because the
+		 * previous publish was still running.
+		 *
+		 * <ul>
+		 * <li>Interface: ControllerApiMqtt
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		DROPPED_BATCHES(Doc.of(OpenemsType.LONG));
 
 		private final Doc doc;
 
@@ -27,4 +51,60 @@ public interface ControllerApiMqtt extends Controller, OpenemsComponent, EventHa
 			return this.doc;
 		}
 	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PUBLISH_LATENCY}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getPublishLatencyChannel() {
+		return this.channel(ChannelId.PUBLISH_LATENCY);
+	}
+
+	/**
+	 * Gets the Publish Latency in [ms]. See {@link ChannelId#PUBLISH_LATENCY}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getPublishLatency() {
+		return this.getPublishLatencyChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#PUBLISH_LATENCY}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPublishLatency(long value) {
+		this.getPublishLatencyChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#DROPPED_BATCHES}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getDroppedBatchesChannel() {
+		return this.channel(ChannelId.DROPPED_BATCHES);
+	}
+
+	/**
+	 * Gets the number of dropped batches. See {@link ChannelId#DROPPED_BATCHES}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getDroppedBatches() {
+		return this.getDroppedBatchesChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#DROPPED_BATCHES}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setDroppedBatches(long value) {
+		this.getDroppedBatchesChannel().setNextValue(value);
+	}
 }
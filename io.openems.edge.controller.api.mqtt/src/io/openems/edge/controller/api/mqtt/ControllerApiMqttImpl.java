@@ -57,6 +57,7 @@ public class ControllerApiMqttImpl extends AbstractOpenemsComponent
 	protected ComponentManager componentManager;
 
 	protected Config config;
+	protected TopicLayout topicLayout;
 
 	private String topicPrefix;
 	private IMqttClient mqttClient = null;
@@ -75,6 +76,7 @@ public class ControllerApiMqttImpl extends AbstractOpenemsComponent
 
 		// Publish MQTT messages under the topic "edge/edge0/..."
 		this.topicPrefix = String.format(ControllerApiMqtt.TOPIC_PREFIX, config.clientId());
+		this.topicLayout = TopicLayout.from(this.topicPrefix, config.publishMode(), config.channelGroups());
 
 		super.activate(context, config.id(), config.alias(), config.enabled());
 		this.mqttConnector.connect(config.uri(), config.clientId(), config.username(), config.password())
@@ -146,12 +148,24 @@ public class ControllerApiMqttImpl extends AbstractOpenemsComponent
 	 * @return true if message was successfully published; false otherwise
 	 */
 	protected boolean publish(String subTopic, MqttMessage message) {
+		return this.publishToTopic(this.topicPrefix + subTopic, message);
+	}
+
+	/**
+	 * Publish a message to a full topic, i.e. including the global MQTT Topic
+	 * prefix.
+	 *
+	 * @param topic   the full MQTT topic
+	 * @param message the message
+	 * @return true if message was successfully published; false otherwise
+	 */
+	protected boolean publishToTopic(String topic, MqttMessage message) {
 		var mqttClient = this.mqttClient;
 		if (mqttClient == null) {
 			return false;
 		}
 		try {
-			mqttClient.publish(this.topicPrefix + subTopic, message);
+			mqttClient.publish(topic, message);
 			return true;
 		} catch (MqttException e) {
 			this.logWarn(this.log, e.getMessage());
@@ -0,0 +1,19 @@
+package io.openems.edge.controller.api.mqtt;
+
+public enum PublishMode {
+	/**
+	 * One message per Channel on 'channel/{Component-ID}/{Channel-ID}'.
+	 */
+	CHANNEL,
+	/**
+	 * One JsonObject message with all changed Channels of a Component on
+	 * 'channel/{Component-ID}'.
+	 */
+	COMPONENT,
+	/**
+	 * One JsonObject message with all changed Channels of a configured group of
+	 * Components on 'channel/{Group}'; Components that are not part of any group
+	 * are published per Component.
+	 */
+	GROUP;
+}
@@ -1,8 +1,15 @@
 package io.openems.edge.controller.api.mqtt;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -11,7 +18,9 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.eclipse.paho.mqttv5.common.MqttMessage;
 import org.eclipse.paho.mqttv5.common.packet.MqttProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,8 +41,14 @@ import io.openems.edge.common.component.OpenemsComponent;
  * asynchronous task.
  *
  * <p>
- * The logic tries to send changed values once per Cycle and all values once
- * every {@link #SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS}.
+ * The logic tries to send changed values once per Cycle (or once per configured
+ * Publish Interval) and all values once every
+ * {@link #SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS}.
+ *
+ * <p>
+ * Depending on the {@link PublishMode}, values are either published as one
+ * message per Channel or as one JsonObject per Component or Channel-Group. In
+ * the latter case only messages with the values of all Channels are retained.
  */
 public class SendChannelValuesWorker {
 
@@ -51,10 +66,24 @@ public class SendChannelValuesWorker {
 	private final Logger log = LoggerFactory.getLogger(SendChannelValuesWorker.class);
 	private final ControllerApiMqttImpl parent;
 
+	/**
+	 * Counts the batches that were dropped, because the previous publish was still
+	 * running.
+	 */
+	private final AtomicLong droppedBatches = new AtomicLong(0);
+
 	private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.SECONDS,
 			new ArrayBlockingQueue<>(1), //
 			new ThreadFactoryBuilder().setNameFormat(ControllerApiMqttImpl.COMPONENT_NAME + ":SendWorker-%d").build(), //
-			new ThreadPoolExecutor.DiscardOldestPolicy());
+			(r, executor) -> {
+				// Like DiscardOldestPolicy; additionally counts the dropped batches
+				if (!executor.isShutdown()) {
+					if (executor.getQueue().poll() != null) {
+						this.droppedBatches.incrementAndGet();
+					}
+					executor.execute(r);
+				}
+			});
 
 	/**
 	 * If true: next 'send' sends all channel values.
@@ -71,6 +100,26 @@ public class SendChannelValuesWorker {
 	 */
 	private Table<String, String, JsonElement> lastAllValues = ImmutableTable.of();
 
+	/**
+	 * Keeps the timestamp of the next collect, if a Publish Interval is configured.
+	 */
+	private Instant nextCollect = Instant.MIN;
+
+	/**
+	 * Reused buffers for batches of Channel values by MQTT topic; only accessed by
+	 * the executor thread.
+	 */
+	private final Map<String, StringBuilder> batches = new LinkedHashMap<>();
+
+	/**
+	 * Reused UTF-8 encoder and buffer for the payload of batches; only accessed by
+	 * the executor thread.
+	 */
+	private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder() //
+			.onMalformedInput(CodingErrorAction.REPLACE) //
+			.onUnmappableCharacter(CodingErrorAction.REPLACE);
+	private ByteBuffer payload = ByteBuffer.allocate(1024);
+
 	protected SendChannelValuesWorker(ControllerApiMqttImpl parent) {
 		this.parent = parent;
 	}
@@ -96,13 +145,21 @@ public class SendChannelValuesWorker {
 	 */
 	public synchronized void collectData() {
 		var now = Instant.now(this.parent.componentManager.getClock());
+		this.parent._setDroppedBatches(this.droppedBatches.get());
+
+		// Wait for Publish Interval
+		if (now.isBefore(this.nextCollect)) {
+			return;
+		}
+		this.nextCollect = now.plusSeconds(this.parent.config.publishInterval());
 
 		// Update the values of all channels
+		final var startNanos = System.nanoTime();
 		final var enabledComponents = this.parent.componentManager.getEnabledComponents();
 		final var allValues = this.collectData(enabledComponents);
 
 		// Add to send Queue
-		this.executor.execute(new SendTask(this, now, allValues));
+		this.executor.execute(new SendTask(this, now, startNanos, allValues));
 	}
 
 	/**
@@ -141,6 +198,55 @@ public class SendChannelValuesWorker {
 		}
 	}
 
+	/**
+	 * Appends a Channel value to a JsonObject that is serialized in the given
+	 * {@link StringBuilder}.
+	 *
+	 * @param batch       the {@link StringBuilder}; empty for a new JsonObject
+	 * @param componentId the Component-ID prefix of the key; null for none
+	 * @param channelId   the Channel-ID
+	 * @param value       the value
+	 */
+	protected static void appendValue(StringBuilder batch, String componentId, String channelId, JsonElement value) {
+		batch.append(batch.length() == 0 ? '{' : ',').append('"');
+		if (componentId != null) {
+			batch.append(componentId).append('/');
+		}
+		batch.append(channelId).append("\":").append(value.toString());
+	}
+
+	/**
+	 * Encodes the given characters to UTF-8 via a reused buffer.
+	 *
+	 * <p>
+	 * The {@link MqttMessage} keeps a reference to its payload, so the result is
+	 * a copy with the exact length. Compared to {@link StringBuilder#toString()}
+	 * followed by {@link String#getBytes(java.nio.charset.Charset)} this avoids the
+	 * intermediate String.
+	 *
+	 * @param value the characters
+	 * @return the UTF-8 bytes
+	 */
+	protected byte[] encode(CharSequence value) {
+		var chars = CharBuffer.wrap(value);
+		this.encoder.reset();
+		this.payload.clear();
+		while (this.encoder.encode(chars, this.payload, true).isOverflow()) {
+			this.growPayload();
+		}
+		while (this.encoder.flush(this.payload).isOverflow()) {
+			this.growPayload();
+		}
+		return Arrays.copyOf(this.payload.array(), this.payload.position());
+	}
+
+	private void growPayload() {
+		var payload = ByteBuffer.allocate(this.payload.capacity() * 2);
+		this.payload.flip();
+		payload.put(this.payload);
+		this.payload = payload;
+	}
+
 	/*
 	 * From here things run asynchronously.
 	 */
@@ -149,12 +255,14 @@ public class SendChannelValuesWorker {
 
 		private final SendChannelValuesWorker parent;
 		private final Instant timestamp;
+		private final long startNanos;
 		private final ImmutableTable<String, String, JsonElement> allValues;
 
-		public SendTask(SendChannelValuesWorker parent, Instant timestamp,
+		public SendTask(SendChannelValuesWorker parent, Instant timestamp, long startNanos,
 				ImmutableTable<String, String, JsonElement> allValues) {
 			this.parent = parent;
 			this.timestamp = timestamp;
+			this.startNanos = startNanos;
 			this.allValues = allValues;
 		}
 
@@ -181,22 +289,16 @@ public class SendChannelValuesWorker {
 			}
 
 			// Send changed values
-			var allSendSuccessful = true;
+			final var topicLayout = this.parent.parent.topicLayout;
 			List<String> sendTopics = new ArrayList<>();
-			for (Entry<String, Map<String, JsonElement>> row : this.allValues.rowMap().entrySet()) {
-				for (Entry<String, JsonElement> column : row.getValue().entrySet()) {
-					if (!Objects.equals(column.getValue(), lastAllValues.get(row.getKey(), column.getKey()))) {
-						var subtopic = row.getKey() + "/" + column.getKey();
-						sendTopics.add(subtopic);
-						if (!this.publish(row.getKey() + "/" + column.getKey(), column.getValue().toString())) {
-							allSendSuccessful = false;
-						}
-					}
-				}
-			}
+			var allSendSuccessful = switch (topicLayout.getMode()) {
+			case CHANNEL -> this.publishChannels(topicLayout, lastAllValues, sendTopics);
+			case COMPONENT, GROUP -> this.publishBatches(topicLayout, lastAllValues, sendTopics);
+			};
 
 			// Update lastUpdate timestamp
-			this.publish(ControllerApiMqtt.TOPIC_CHANNEL_LAST_UPDATE, String.valueOf(this.timestamp));
+			this.publish(topicLayout.getLastUpdateTopic(), String.valueOf(this.timestamp), MQTT_RETAIN);
+			this.parent.parent._setPublishLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.startNanos));
 
 			// Successful?
 			if (allSendSuccessful) {
@@ -215,21 +317,106 @@ public class SendChannelValuesWorker {
 			}
 		}
 
+		/**
+		 * Publishes one message per changed Channel value.
+		 *
+		 * @param topicLayout   the {@link TopicLayout}
+		 * @param lastAllValues the values of the last successful send
+		 * @param sendTopics    collects the sent topics for logging
+		 * @return true if all messages were sent successfully
+		 */
+		private boolean publishChannels(TopicLayout topicLayout, Table<String, String, JsonElement> lastAllValues,
+				List<String> sendTopics) {
+			var allSendSuccessful = true;
+			for (Entry<String, Map<String, JsonElement>> row : this.allValues.rowMap().entrySet()) {
+				for (Entry<String, JsonElement> column : row.getValue().entrySet()) {
+					if (!Objects.equals(column.getValue(), lastAllValues.get(row.getKey(), column.getKey()))) {
+						var topic = topicLayout.getChannelTopic(row.getKey(), column.getKey());
+						sendTopics.add(topic);
+						if (!this.publish(topic, column.getValue().toString(), MQTT_RETAIN)) {
+							allSendSuccessful = false;
+						}
+					}
+				}
+			}
+			return allSendSuccessful;
+		}
+
+		/**
+		 * Publishes one JsonObject message with all changed Channel values per
+		 * Component or Channel-Group.
+		 *
+		 * <p>
+		 * Messages are only retained if they contain the values of all Channels.
+		 * Otherwise a retained message with only some Channels would replace the
+		 * complete one.
+		 *
+		 * @param topicLayout   the {@link TopicLayout}
+		 * @param lastAllValues the values of the last successful send
+		 * @param sendTopics    collects the sent topics for logging
+		 * @return true if all messages were sent successfully
+		 */
+		private boolean publishBatches(TopicLayout topicLayout, Table<String, String, JsonElement> lastAllValues,
+				List<String> sendTopics) {
+			final var batches = this.parent.batches;
+			for (Entry<String, Map<String, JsonElement>> row : this.allValues.rowMap().entrySet()) {
+				var componentId = row.getKey();
+				var batchTopic = topicLayout.getBatchTopic(componentId);
+				StringBuilder batch = null;
+				for (Entry<String, JsonElement> column : row.getValue().entrySet()) {
+					if (Objects.equals(column.getValue(), lastAllValues.get(componentId, column.getKey()))) {
+						continue;
+					}
+					if (batch == null) {
+						batch = batches.computeIfAbsent(batchTopic.topic(), t -> new StringBuilder());
+					}
+					appendValue(batch, batchTopic.withComponentId() ? componentId : null, column.getKey(),
+							column.getValue());
+				}
+			}
+
+			var allSendSuccessful = true;
+			var retain = lastAllValues.isEmpty();
+			for (var entry : batches.entrySet()) {
+				var batch = entry.getValue();
+				if (batch.length() == 0) {
+					continue;
+				}
+				batch.append('}');
+				sendTopics.add(entry.getKey());
+				if (!this.publish(entry.getKey(), this.parent.encode(batch), retain)) {
+					allSendSuccessful = false;
+				}
+				batch.setLength(0);
+			}
+			return allSendSuccessful;
+		}
+
 		/**
 		 * Publish a Channel value message.
 		 *
-		 * @param subTopic the Channel Subtopic
-		 * @param value    the value Json.toString()
+		 * @param topic  the full MQTT topic
+		 * @param value  the value Json.toString()
+		 * @param retain the MQTT retained parameter
+		 * @return true if sent successfully; false otherwise
+		 */
+		private boolean publish(String topic, String value, boolean retain) {
+			return this.publish(topic, value.getBytes(StandardCharsets.UTF_8), retain);
+		}
+
+		/**
+		 * Publish a message.
+		 *
+		 * @param topic   the full MQTT topic
+		 * @param payload the UTF-8 encoded payload
+		 * @param retain  the MQTT retained parameter
 		 * @return true if sent successfully; false otherwise
 		 */
-		private boolean publish(String subTopic, String value) {
-			return this.parent.parent.publish(//
-					/* topic */ ControllerApiMqtt.TOPIC_CHANNEL_PREFIX + subTopic, //
-					/* message */ value.toString(), //
-					MQTT_QOS, MQTT_RETAIN, MQTT_PROPERTIES //
-			);
+		private boolean publish(String topic, byte[] payload, boolean retain) {
+			return this.parent.parent.publishToTopic(topic, //
+					new MqttMessage(payload, MQTT_QOS, retain, MQTT_PROPERTIES));
 		}
 
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,134 @@
+package io.openems.edge.controller.api.mqtt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import io.openems.common.exceptions.OpenemsException;
+
+/**
+ * Maps Channels to MQTT topics according to the configured {@link PublishMode}.
+ *
+ * <p>
+ * Topics are built once per Component and Channel and then reused for every
+ * publish.
+ */
+public class TopicLayout {
+
+	/**
+	 * The MQTT topic of a batch of Channel values.
+	 *
+	 * @param topic           the full MQTT topic
+	 * @param withComponentId true if the JSON keys are prefixed with the
+	 *                        Component-ID, i.e. 'Component-ID/Channel-ID'
+	 */
+	public static record BatchTopic(String topic, boolean withComponentId) {
+	}
+
+	private static record Group(String name, Pattern componentIds) {
+	}
+
+	private final String channelTopicPrefix;
+	private final PublishMode mode;
+	private final List<Group> groups;
+	private final String lastUpdateTopic;
+	private final Map<String, Map<String, String>> channelTopics = new ConcurrentHashMap<>();
+	private final Map<String, BatchTopic> batchTopics = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a {@link TopicLayout}.
+	 *
+	 * @param topicPrefix the global topic prefix, e.g. 'edge/edge0/'
+	 * @param mode        the {@link PublishMode}
+	 * @param groups      the Channel-Groups in the format 'Group=Component-ID
+	 *                    regular expression'; only used in
+	 *                    {@link PublishMode#GROUP}
+	 * @return the {@link TopicLayout}
+	 * @throws OpenemsException on invalid group configuration
+	 */
+	public static TopicLayout from(String topicPrefix, PublishMode mode, String[] groups) throws OpenemsException {
+		var result = new ArrayList<Group>();
+		if (mode == PublishMode.GROUP && groups != null) {
+			for (var group : groups) {
+				if (group == null || group.isBlank()) {
+					continue;
+				}
+				var parts = group.split("=", 2);
+				var name = parts[0].trim();
+				if (parts.length != 2 || name.isEmpty() || name.contains("/") || name.contains("+")
+						|| name.contains("#")) {
+					throw new OpenemsException("Invalid Channel-Group [" + group + "]. "
+							+ "Expected format is 'Group=Component-ID regular expression'");
+				}
+				try {
+					result.add(new Group(name, Pattern.compile(parts[1].trim())));
+				} catch (PatternSyntaxException e) {
+					throw new OpenemsException("Invalid Channel-Group [" + group + "]: " + e.getMessage());
+				}
+			}
+		}
+		return new TopicLayout(topicPrefix, mode, result);
+	}
+
+	private TopicLayout(String topicPrefix, PublishMode mode, List<Group> groups) {
+		this.channelTopicPrefix = topicPrefix + ControllerApiMqtt.TOPIC_CHANNEL_PREFIX;
+		this.mode = mode;
+		this.groups = groups;
+		this.lastUpdateTopic = this.channelTopicPrefix + ControllerApiMqtt.TOPIC_CHANNEL_LAST_UPDATE;
+	}
+
+	/**
+	 * Gets the {@link PublishMode}.
+	 *
+	 * @return the {@link PublishMode}
+	 */
+	public PublishMode getMode() {
+		return this.mode;
+	}
+
+	/**
+	 * Gets the full MQTT topic for the timestamp of the latest update.
+	 *
+	 * @return the topic
+	 */
+	public String getLastUpdateTopic() {
+		return this.lastUpdateTopic;
+	}
+
+	/**
+	 * Gets the full MQTT topic for a single Channel in {@link PublishMode#CHANNEL}.
+	 *
+	 * @param componentId the Component-ID
+	 * @param channelId   the Channel-ID
+	 * @return the topic
+	 */
+	public String getChannelTopic(String componentId, String channelId) {
+		return this.channelTopics //
+				.computeIfAbsent(componentId, c -> new ConcurrentHashMap<>()) //
+				.computeIfAbsent(channelId, c -> this.channelTopicPrefix + componentId + "/" + channelId);
+	}
+
+	/**
+	 * Gets the {@link BatchTopic} for a Component in {@link PublishMode#COMPONENT}
+	 * and {@link PublishMode#GROUP}.
+	 *
+	 * @param componentId the Component-ID
+	 * @return the {@link BatchTopic}
+	 */
+	public BatchTopic getBatchTopic(String componentId) {
+		return this.batchTopics.computeIfAbsent(componentId, this::createBatchTopic);
+	}
+
+	private BatchTopic createBatchTopic(String componentId) {
+		for (var group : this.groups) {
+			if (group.componentIds.matcher(componentId).matches()) {
+				return new BatchTopic(this.channelTopicPrefix + group.name, true);
+			}
+		}
+		return new BatchTopic(this.channelTopicPrefix + componentId, false);
+	}
+
+}
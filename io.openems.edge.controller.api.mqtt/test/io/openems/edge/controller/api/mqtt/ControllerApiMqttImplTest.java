@@ -29,6 +29,9 @@ public class ControllerApiMqttImplTest {
 						.setPassword("guest") //
 						.setUri("ws://localhost:1883") //
 						.setPersistencePriority(PersistencePriority.VERY_LOW) //
+						.setPublishMode(PublishMode.GROUP) //
+						.setChannelGroups("ess=ess[0-9]+") //
+						.setPublishInterval(5) //
 						.setDebugMode(true) //
 						.build());
 	}
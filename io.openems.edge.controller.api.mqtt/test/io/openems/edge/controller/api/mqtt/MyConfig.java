@@ -14,6 +14,9 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private String clientId;
 		private String username;
 		private String password;
+		private PublishMode publishMode = PublishMode.CHANNEL;
+		private String[] channelGroups = {};
+		private int publishInterval = 0;
 
 		private Builder() {
 		}
@@ -48,6 +51,21 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setPublishMode(PublishMode publishMode) {
+			this.publishMode = publishMode;
+			return this;
+		}
+
+		public Builder setChannelGroups(String... channelGroups) {
+			this.channelGroups = channelGroups;
+			return this;
+		}
+
+		public Builder setPublishInterval(int publishInterval) {
+			this.publishInterval = publishInterval;
+			return this;
+		}
+
 		public Builder setDebugMode(boolean debugMode) {
 			this.debugMode = debugMode;
 			return this;
@@ -104,4 +122,19 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.password;
 	}
 
+	@Override
+	public PublishMode publishMode() {
+		return this.builder.publishMode;
+	}
+
+	@Override
+	public String[] channelGroups() {
+		return this.builder.channelGroups;
+	}
+
+	@Override
+	public int publishInterval() {
+		return this.builder.publishInterval;
+	}
+
 }
\ No newline at end of file
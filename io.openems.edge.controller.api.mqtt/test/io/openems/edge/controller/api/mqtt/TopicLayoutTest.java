@@ -0,0 +1,112 @@
+package io.openems.edge.controller.api.mqtt;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsException;
+
+public class TopicLayoutTest {
+
+	private static final String PREFIX = "edge/edge0/";
+
+	@Test
+	public void testChannel() throws OpenemsException {
+		var sut = TopicLayout.from(PREFIX, PublishMode.CHANNEL, new String[0]);
+		assertEquals("edge/edge0/channel/lastUpdate", sut.getLastUpdateTopic());
+
+		var topic = sut.getChannelTopic("_sum", "EssSoc");
+		assertEquals("edge/edge0/channel/_sum/EssSoc", topic);
+		assertSame(topic, sut.getChannelTopic("_sum", "EssSoc"));
+	}
+
+	@Test
+	public void testComponent() throws OpenemsException {
+		var sut = TopicLayout.from(PREFIX, PublishMode.COMPONENT, new String[] { "ess=ess[0-9]+" });
+		var batchTopic = sut.getBatchTopic("ess0");
+		assertEquals("edge/edge0/channel/ess0", batchTopic.topic());
+		assertFalse(batchTopic.withComponentId());
+	}
+
+	@Test
+	public void testGroup() throws OpenemsException {
+		var sut = TopicLayout.from(PREFIX, PublishMode.GROUP, new String[] { "ess=ess[0-9]+", "", "meter=meter.*" });
+
+		var batchTopic = sut.getBatchTopic("ess1");
+		assertEquals("edge/edge0/channel/ess", batchTopic.topic());
+		assertTrue(batchTopic.withComponentId());
+		assertSame(batchTopic, sut.getBatchTopic("ess1"));
+
+		assertEquals("edge/edge0/channel/meter", sut.getBatchTopic("meter0").topic());
+
+		// Not part of any group
+		batchTopic = sut.getBatchTopic("_sum");
+		assertEquals("edge/edge0/channel/_sum", batchTopic.topic());
+		assertFalse(batchTopic.withComponentId());
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testInvalidGroup() throws OpenemsException {
+		TopicLayout.from(PREFIX, PublishMode.GROUP, new String[] { "ess" });
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testInvalidGroupName() throws OpenemsException {
+		TopicLayout.from(PREFIX, PublishMode.GROUP, new String[] { "ess/0=ess0" });
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testInvalidGroupPattern() throws OpenemsException {
+		TopicLayout.from(PREFIX, PublishMode.GROUP, new String[] { "ess=*" });
+	}
+
+	@Test
+	public void testAppendValue() {
+		var batch = new StringBuilder();
+		SendChannelValuesWorker.appendValue(batch, "ess0", "Soc", new JsonPrimitive(50));
+		SendChannelValuesWorker.appendValue(batch, "ess0", "State", new JsonPrimitive("Ok"));
+		batch.append('}');
+
+		var json = JsonParser.parseString(batch.toString()).getAsJsonObject();
+		assertEquals(50, json.get("ess0/Soc").getAsInt());
+		assertEquals("Ok", json.get("ess0/State").getAsString());
+
+		batch.setLength(0);
+		SendChannelValuesWorker.appendValue(batch, null, "Soc", new JsonPrimitive(50));
+		batch.append('}');
+		assertEquals("{\"Soc\":50}", batch.toString());
+	}
+
+	@Test
+	public void testEncode() {
+		var sut = new SendChannelValuesWorker(null);
+		try {
+			assertArrayEquals(new byte[0], sut.encode(""));
+
+			// Grows the reused buffer; multi-byte characters
+			var batch = new StringBuilder();
+			for (var i = 0; i < 1000; i++) {
+				SendChannelValuesWorker.appendValue(batch, "meter" + i, "Name", new JsonPrimitive("Zähler €"));
+			}
+			batch.append('}');
+			assertArrayEquals(batch.toString().getBytes(StandardCharsets.UTF_8), sut.encode(batch));
+
+			batch.setLength(0);
+			SendChannelValuesWorker.appendValue(batch, null, "Soc", new JsonPrimitive(50));
+			batch.append('}');
+			assertArrayEquals("{\"Soc\":50}".getBytes(StandardCharsets.UTF_8), sut.encode(batch));
+		} finally {
+			sut.deactivate();
+		}
+	}
+
+}
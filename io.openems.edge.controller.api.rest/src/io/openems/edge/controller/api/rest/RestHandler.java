@@ -12,8 +12,6 @@ import java.util.StringTokenizer;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
 import org.eclipse.jetty.server.Request;
@@ -52,7 +50,6 @@ import io.openems.common.utils.StringUtils;
 import io.openems.common.utils.UuidUtils;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.component.ComponentManager;
-import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.jsonapi.JsonApi;
 import io.openems.edge.common.user.User;
 import jakarta.servlet.http.HttpServletRequest;
@@ -216,8 +213,7 @@ public class RestHandler extends AbstractHandler {
 			HttpServletResponse response) throws OpenemsNamedException {
 		user.assertRoleIsAtLeast("HTTP GET", Role.GUEST);
 
-		var components = this.parent.getComponentManager().getEnabledComponents();
-		var channels = getChannels(components, channelAddress);
+		var channels = this.parent.getComponentManager().getChannels(channelAddress);
 
 		// Return with error when no matching channel was found
 		if (channels.size() == 0) {
@@ -263,24 +259,6 @@ public class RestHandler extends AbstractHandler {
 		return this.sendOkResponse(baseRequest, response, result);
 	}
 
-	/**
-	 * Gets a list of Channels that match the {@link ChannelAddress}; regular
-	 * expressions are allowed.
-	 * 
-	 * @param components     a list of {@link OpenemsComponent}s
-	 * @param channelAddress the {@link ChannelAddress} of the GET request
-	 * @return a list of matching {@link Channel}s
-	 * @throws PatternSyntaxException on regular expression error
-	 */
-	protected static List<Channel<?>> getChannels(List<OpenemsComponent> components, ChannelAddress channelAddress)
-			throws PatternSyntaxException {
-		return components.stream() //
-				.filter(component -> Pattern.matches(channelAddress.getComponentId(), component.id())) //
-				.flatMap(component -> component.channels().stream()) //
-				.filter(channel -> Pattern.matches(channelAddress.getChannelId(), channel.channelId().id())) //
-				.toList();
-	}
-
 	private void sendErrorResponse(Request baseRequest, HttpServletResponse response, UUID jsonrpcId, Throwable ex) {
 		try {
 			response.setContentType("application/json");
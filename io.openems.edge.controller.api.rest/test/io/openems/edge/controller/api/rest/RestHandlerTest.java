@@ -3,13 +3,12 @@ package io.openems.edge.controller.api.rest;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
-import java.util.List;
 import java.util.regex.PatternSyntaxException;
 
 import org.junit.Test;
 
 import io.openems.common.types.ChannelAddress;
-import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.DummyComponentManager;
 
 public class RestHandlerTest {
 
@@ -18,18 +17,21 @@ public class RestHandlerTest {
 		var foo0 = new DummyComponent("foo0");
 		var bar0 = new DummyComponent("bar0");
 		var dummyComponent = new DummyComponent("dummyComponent");
-		var components = List.<OpenemsComponent>of(foo0, bar0, dummyComponent);
+		var componentManager = new DummyComponentManager() //
+				.addComponent(foo0) //
+				.addComponent(bar0) //
+				.addComponent(dummyComponent);
 
 		{
 			var channelAddress = new ChannelAddress("foo0", "DummyChannel");
-			var result = RestHandler.getChannels(components, channelAddress);
+			var result = componentManager.getChannels(channelAddress);
 			assertEquals(1, result.size());
 			assertEquals(foo0.channel("DummyChannel"), result.get(0));
 		}
 
 		{
 			var channelAddress = new ChannelAddress(".*0", "Dummy.*");
-			var result = RestHandler.getChannels(components, channelAddress);
+			var result = componentManager.getChannels(channelAddress);
 			assertEquals(2, result.size());
 			assertEquals(foo0.channel("DummyChannel"), result.get(0));
 			assertEquals(bar0.channel("DummyChannel"), result.get(1));
@@ -37,13 +39,13 @@ public class RestHandlerTest {
 
 		{
 			var channelAddress = new ChannelAddress(".*0", "DummyXY.*");
-			var result = RestHandler.getChannels(components, channelAddress);
+			var result = componentManager.getChannels(channelAddress);
 			assertEquals(0, result.size());
 		}
 
 		{
 			var channelAddress = new ChannelAddress("dummyComponent", "Dummy.*");
-			var result = RestHandler.getChannels(components, channelAddress);
+			var result = componentManager.getChannels(channelAddress);
 			assertEquals(1, result.size());
 			assertEquals(dummyComponent.channel("DummyChannel"), result.get(0));
 		}
@@ -51,7 +53,7 @@ public class RestHandlerTest {
 		{
 			var channelAddress = new ChannelAddress("*", "");
 			try {
-				RestHandler.getChannels(components, channelAddress);
+				componentManager.getChannels(channelAddress);
 				fail();
 			} catch (PatternSyntaxException e) {
 				// ignore
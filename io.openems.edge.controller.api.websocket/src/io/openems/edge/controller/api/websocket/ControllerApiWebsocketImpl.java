@@ -28,10 +28,13 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
+import io.openems.common.jsonrpc.notification.EdgeConfigPatchNotification;
 import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
 import io.openems.common.jsonrpc.request.SubscribeSystemLogRequest;
 import io.openems.common.types.EdgeConfig;
+import io.openems.common.types.EdgeConfigPatch;
 import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
@@ -203,8 +206,16 @@ public class ControllerApiWebsocketImpl extends AbstractOpenemsComponent
 				// No Connections? It's not required to build the EdgeConfig.
 				return;
 			}
-			var config = (EdgeConfig) event.getProperty(EdgeEventConstants.TOPIC_CONFIG_UPDATE_KEY);
-			var message = new EdgeConfigNotification(config);
+			// Send only the changes if possible; UIs with a different version of the
+			// EdgeConfig query the full EdgeConfig
+			var patch = (EdgeConfigPatch) event.getProperty(EdgeEventConstants.TOPIC_CONFIG_UPDATE_PATCH_KEY);
+			final JsonrpcNotification message;
+			if (patch != null) {
+				message = new EdgeConfigPatchNotification(patch);
+			} else {
+				var config = (EdgeConfig) event.getProperty(EdgeEventConstants.TOPIC_CONFIG_UPDATE_KEY);
+				message = new EdgeConfigNotification(config);
+			}
 			this.server.broadcastMessage(new EdgeRpcNotification(ControllerApiWebsocketImpl.EDGE_ID, message));
 			break;
 
@@ -0,0 +1,194 @@
+package io.openems.edge.core.componentmanager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Index of all Components by their Component-ID, used to resolve
+ * {@link ChannelAddress}es without scanning all Components.
+ *
+ * <ul>
+ * <li>Plain Channel-Addresses (without regular expression) are resolved via
+ * Component-ID and Channel-ID lookups
+ * <li>Patterns are compiled once and cached
+ * <li>Results for Channel-Addresses with regular expressions are cached; they
+ * are resolved again after a Component was added or removed or if a matched
+ * Component added or removed Channels at runtime
+ * </ul>
+ */
+public class ChannelAddressIndex {
+
+	/** Max number of cached Patterns and resolved Channel-Addresses. */
+	protected static final int MAX_CACHE_SIZE = 1_000;
+
+	private static final String REGEX_META_CHARACTERS = "\\^$.|?*+()[]{}";
+
+	private static record Match(OpenemsComponent component, int numberOfChannels, List<Channel<?>> channels) {
+	}
+
+	private static record Resolved(int version, List<Match> matches) {
+	}
+
+	private final Map<String, OpenemsComponent> components = new ConcurrentHashMap<>();
+	private final AtomicInteger version = new AtomicInteger();
+	private final Map<String, Pattern> patterns = new ConcurrentHashMap<>();
+	private final Map<ChannelAddress, Resolved> resolved = new ConcurrentHashMap<>();
+
+	/**
+	 * Adds a Component to the index.
+	 *
+	 * @param component the {@link OpenemsComponent}
+	 */
+	public void addComponent(OpenemsComponent component) {
+		var id = component.id();
+		if (id == null) {
+			return;
+		}
+		this.components.put(id, component);
+		this.version.incrementAndGet();
+	}
+
+	/**
+	 * Updates a Component in the index after its configuration was modified, i.e.
+	 * re-keys it if its Component-ID changed.
+	 *
+	 * @param component the {@link OpenemsComponent}
+	 */
+	public void updateComponent(OpenemsComponent component) {
+		var id = component.id();
+		this.components.entrySet()
+				.removeIf(entry -> entry.getValue() == component && !entry.getKey().equals(id));
+		this.addComponent(component);
+	}
+
+	/**
+	 * Removes a Component from the index.
+	 *
+	 * @param component the {@link OpenemsComponent}
+	 */
+	public void removeComponent(OpenemsComponent component) {
+		var id = component.id();
+		if (id == null || !this.components.remove(id, component)) {
+			// Component-ID might have changed since the Component was added
+			this.components.values().removeIf(c -> c == component);
+		}
+		this.version.incrementAndGet();
+	}
+
+	/**
+	 * Gets a Component by its Component-ID. Be aware that the Component might be
+	 * disabled.
+	 *
+	 * @param componentId the Component-ID
+	 * @return the {@link OpenemsComponent}; null if it is not in the index
+	 */
+	public OpenemsComponent getComponent(String componentId) {
+		return this.components.get(componentId);
+	}
+
+	/**
+	 * Gets all Channels of enabled Components that match the given
+	 * {@link ChannelAddress}; regular expressions are allowed.
+	 *
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @return a list of matching {@link Channel}s, sorted by Component-ID
+	 * @throws PatternSyntaxException on regular expression error
+	 */
+	public List<Channel<?>> getChannels(ChannelAddress channelAddress) throws PatternSyntaxException {
+		if (isPlain(channelAddress.getComponentId()) && isPlain(channelAddress.getChannelId())) {
+			var component = this.components.get(channelAddress.getComponentId());
+			if (component == null || !component.isEnabled()) {
+				return List.of();
+			}
+			// Untyped lookup by Channel-ID; returns null instead of throwing for unknown
+			// Channels
+			@SuppressWarnings("deprecation")
+			final var channel = component._channel(channelAddress.getChannelId());
+			return channel == null ? List.of() : List.of(channel);
+		}
+
+		var resolved = this.resolved.get(channelAddress);
+		if (resolved == null || !this.isValid(resolved)) {
+			resolved = this.resolve(channelAddress);
+			putBounded(this.resolved, channelAddress, resolved);
+		}
+
+		var result = new ArrayList<Channel<?>>();
+		for (var match : resolved.matches) {
+			if (match.component.isEnabled()) {
+				result.addAll(match.channels);
+			}
+		}
+		return result;
+	}
+
+	private boolean isValid(Resolved resolved) {
+		if (resolved.version != this.version.get()) {
+			return false;
+		}
+		for (var match : resolved.matches) {
+			if (match.component.channels().size() != match.numberOfChannels) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private Resolved resolve(ChannelAddress channelAddress) throws PatternSyntaxException {
+		var version = this.version.get();
+		var componentPattern = this.getPattern(channelAddress.getComponentId());
+		var channelPattern = this.getPattern(channelAddress.getChannelId());
+		var matches = new ArrayList<Match>();
+		for (var component : this.components.values()) {
+			if (!componentPattern.matcher(component.id()).matches()) {
+				continue;
+			}
+			var allChannels = component.channels();
+			var numberOfChannels = allChannels.size();
+			var channels = allChannels.stream() //
+					.filter(channel -> channelPattern.matcher(channel.channelId().id()).matches()) //
+					.toList();
+			// Keep Components without matching Channels to detect Channels added later
+			matches.add(new Match(component, numberOfChannels, channels));
+		}
+		matches.sort(Comparator.comparing(match -> match.component.id()));
+		return new Resolved(version, matches);
+	}
+
+	private Pattern getPattern(String regex) throws PatternSyntaxException {
+		var pattern = this.patterns.get(regex);
+		if (pattern == null) {
+			pattern = Pattern.compile(regex);
+			putBounded(this.patterns, regex, pattern);
+		}
+		return pattern;
+	}
+
+	private static <K, V> void putBounded(Map<K, V> map, K key, V value) {
+		if (map.size() >= MAX_CACHE_SIZE) {
+			// Simple protection against unbounded growth, e.g. by generated patterns
+			map.clear();
+		}
+		map.put(key, value);
+	}
+
+	private static boolean isPlain(String s) {
+		for (var i = 0; i < s.length(); i++) {
+			if (REGEX_META_CHARACTERS.indexOf(s.charAt(i)) != -1) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -10,6 +10,7 @@ import java.util.Dictionary;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.regex.PatternSyntaxException;
 
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.InvalidSyntaxException;
@@ -24,6 +25,8 @@ import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
+import org.osgi.service.component.annotations.ReferencePolicyOption;
 import org.osgi.service.component.runtime.ServiceComponentRuntime;
 import org.osgi.service.event.EventAdmin;
 import org.osgi.service.metatype.MetaTypeService;
@@ -46,8 +49,10 @@ import io.openems.common.jsonrpc.request.UpdateComponentConfigRequest;
 import io.openems.common.jsonrpc.request.UpdateComponentConfigRequest.Property;
 import io.openems.common.jsonrpc.response.GetEdgeConfigResponse;
 import io.openems.common.session.Role;
+import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.EdgeConfig;
 import io.openems.common.utils.JsonUtils;
+import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ClockProvider;
 import io.openems.edge.common.component.ComponentManager;
@@ -68,6 +73,7 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 		implements ComponentManager, OpenemsComponent, JsonApi, ConfigurationListener {
 
 	private final List<ComponentManagerWorker> workers = new ArrayList<>();
+	private final ChannelAddressIndex channelAddressIndex = new ChannelAddressIndex();
 	private final EdgeConfigWorker edgeConfigWorker;
 
 	protected BundleContext bundleContext;
@@ -87,6 +93,24 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	@Reference
 	protected ServiceComponentRuntime serviceComponentRuntime;
 
+	@Reference(//
+			policy = ReferencePolicy.DYNAMIC, //
+			policyOption = ReferencePolicyOption.GREEDY, //
+			cardinality = ReferenceCardinality.MULTIPLE, //
+			updated = "updatedComponent")
+	protected void addComponent(OpenemsComponent component) {
+		this.channelAddressIndex.addComponent(component);
+	}
+
+	protected void updatedComponent(OpenemsComponent component) {
+		// Service properties changed on @Modified; the Component-ID might have changed
+		this.channelAddressIndex.updateComponent(component);
+	}
+
+	protected void removeComponent(OpenemsComponent component) {
+		this.channelAddressIndex.removeComponent(component);
+	}
+
 	public ComponentManagerImpl() {
 		super(//
 				OpenemsComponent.ChannelId.values(), //
@@ -154,7 +178,11 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T extends OpenemsComponent> T getComponent(String componentId) throws OpenemsNamedException {
-		var component = this.getComponentViaService(componentId, true);
+		var component = this.channelAddressIndex.getComponent(componentId);
+		if (component != null && component.isEnabled()) {
+			return (T) component;
+		}
+		component = this.getComponentViaService(componentId, true);
 		if (component != null) {
 			return (T) component;
 		}
@@ -165,13 +193,22 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	@SuppressWarnings("unchecked")
 	public <T extends OpenemsComponent> T getPossiblyDisabledComponent(String componentId)
 			throws OpenemsNamedException {
-		var component = this.getComponentViaService(componentId);
+		var component = this.channelAddressIndex.getComponent(componentId);
+		if (component != null) {
+			return (T) component;
+		}
+		component = this.getComponentViaService(componentId);
 		if (component != null) {
 			return (T) component;
 		}
 		throw OpenemsError.EDGE_NO_COMPONENT_WITH_ID.exception(componentId);
 	}
 
+	@Override
+	public List<Channel<?>> getChannels(ChannelAddress channelAddress) throws PatternSyntaxException {
+		return this.channelAddressIndex.getChannels(channelAddress);
+	}
+
 	/**
 	 * Gets the components via OSGi service reference.
 	 *
@@ -34,6 +34,7 @@ import io.openems.common.OpenemsConstants;
 import io.openems.common.event.EventBuilder;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.types.EdgeConfig;
+import io.openems.common.types.EdgeConfigPatch;
 import io.openems.common.types.EdgeConfig.Component.Channel.ChannelDetail;
 import io.openems.common.types.EdgeConfig.Component.Channel.ChannelDetailOpenemsType;
 import io.openems.common.types.EdgeConfig.Component.Channel.ChannelDetailState;
@@ -61,6 +62,21 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 
 	private EdgeConfig.ActualEdgeConfig.Builder cache = null;
 
+	/**
+	 * Version of the last published {@link EdgeConfig}.
+	 *
+	 * <p>
+	 * Starts at the boot time in milliseconds, so that versions stay unique when
+	 * OpenEMS Edge is restarted.
+	 */
+	private long version = System.currentTimeMillis();
+
+	/**
+	 * The last published {@link EdgeConfig}; used to calculate
+	 * {@link EdgeConfigPatch}es.
+	 */
+	private EdgeConfig lastPublished = null;
+
 	public EdgeConfigWorker(ComponentManagerImpl parent) {
 		super(parent);
 	}
@@ -74,6 +90,11 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 	 * Gets the EdgeConfig object; updates the cache if necessary and publishes a
 	 * CONFIG_UPDATE event on update.
 	 *
+	 * <p>
+	 * Every published {@link EdgeConfig} gets a new version. The event is only
+	 * published if the {@link EdgeConfigPatch} to the previously published
+	 * {@link EdgeConfig} is not empty.
+	 *
 	 * @return the {@link EdgeConfig}
 	 */
 	public synchronized EdgeConfig getEdgeConfig() {
@@ -88,7 +109,7 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 				wasConfigUpdated |= this.updateCacheFromEvent(event);
 			}
 			// Update Cache Channels
-			this.updateChannels(this.cache);
+			wasConfigUpdated |= this.updateChannels(this.cache);
 
 		} else {
 
@@ -97,13 +118,35 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 			wasConfigUpdated = true;
 		}
 
-		var result = this.cache.buildEdgeConfig();
+		if (!wasConfigUpdated) {
+			return this.cache.buildEdgeConfig(this.version);
+		}
+
+		var result = this.cache.buildEdgeConfig(this.version + 1);
+		// Snapshot the JSON; Components in the cache are updated in place
+		result.toJson();
+
+		EdgeConfigPatch patch = null;
+		if (this.lastPublished != null) {
+			try {
+				patch = EdgeConfigPatch.diff(this.lastPublished, result);
+			} catch (OpenemsNamedException e) {
+				this.log.warn("Unable to calculate EdgeConfigPatch: " + e.getMessage());
+			}
+			if (patch != null && patch.isEmpty()) {
+				// Nothing changed for the outside world
+				return this.lastPublished;
+			}
+		}
 
-		if (wasConfigUpdated) {
-			EventBuilder.from(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CONFIG_UPDATE) //
-					.addArg(EdgeEventConstants.TOPIC_CONFIG_UPDATE_KEY, result) //
-					.send();
+		this.version++;
+		this.lastPublished = result;
+		var event = EventBuilder.from(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CONFIG_UPDATE) //
+				.addArg(EdgeEventConstants.TOPIC_CONFIG_UPDATE_KEY, result);
+		if (patch != null) {
+			event.addArg(EdgeEventConstants.TOPIC_CONFIG_UPDATE_PATCH_KEY, patch);
 		}
+		event.send();
 
 		return result;
 	}
@@ -13,6 +13,9 @@ import io.openems.edge.common.cycle.Cycle;
 	@AttributeDefinition(name = "Cycle-Time", description = "The duration of one global OpenEMS Cycle in [ms]")
 	int cycleTime() default Cycle.DEFAULT_CYCLE_TIME;
 
+	@AttributeDefinition(name = "Process-Image Threads", description = "Number of threads used to switch Channels to the next Process-Image; '0' for the number of available processors, '1' to disable parallel execution. Parallel execution requires that Channel callbacks only depend on Channels of their own Component")
+	int processImageThreads() default 1;
+
 	String webconsole_configurationFactory_nameHint() default "Core Cycle";
 
 }
\ No newline at end of file
@@ -0,0 +1,265 @@
+package io.openems.edge.core.cycle;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.cycle.DurationHistogram;
+
+/**
+ * Records the durations of the phases of a Cycle and of every single
+ * Controller.
+ *
+ * <p>
+ * Durations are collected in {@link DurationHistogram}s per time slot of
+ * {@value #SLOT_SECONDS} seconds; the last {@value #SLOTS} slots are kept, so
+ * profiles can be queried for any window up to 15 minutes.
+ */
+public class CycleProfiler {
+
+	public static final int SLOT_SECONDS = 60;
+	public static final int SLOTS = 15;
+
+	public static enum Type {
+		CYCLE, PHASE, CONTROLLER;
+	}
+
+	public static enum Phase {
+		BEFORE_PROCESS_IMAGE(Cycle.ChannelId.MEASURED_BEFORE_PROCESS_IMAGE_TIME), //
+		PROCESS_IMAGE(Cycle.ChannelId.MEASURED_PROCESS_IMAGE_TIME), //
+		SUM(Cycle.ChannelId.MEASURED_SUM_TIME), //
+		AFTER_PROCESS_IMAGE(Cycle.ChannelId.MEASURED_AFTER_PROCESS_IMAGE_TIME), //
+		BEFORE_CONTROLLERS(Cycle.ChannelId.MEASURED_BEFORE_CONTROLLERS_TIME), //
+		CONTROLLERS(Cycle.ChannelId.MEASURED_CONTROLLERS_TIME), //
+		AFTER_CONTROLLERS(Cycle.ChannelId.MEASURED_AFTER_CONTROLLERS_TIME), //
+		BEFORE_WRITE(Cycle.ChannelId.MEASURED_BEFORE_WRITE_TIME), //
+		EXECUTE_WRITE(Cycle.ChannelId.MEASURED_EXECUTE_WRITE_TIME), //
+		AFTER_WRITE(Cycle.ChannelId.MEASURED_AFTER_WRITE_TIME);
+
+		public final Cycle.ChannelId channelId;
+
+		private Phase(Cycle.ChannelId channelId) {
+			this.channelId = channelId;
+		}
+	}
+
+	/**
+	 * The aggregated profile of one contributor, i.e. the whole Cycle, a
+	 * {@link Phase} or a Controller.
+	 */
+	public static record Profile(Type type, String id, long count, long total, long p50, long p99, long max) {
+
+		private static Profile from(Type type, String id, DurationHistogram histogram) {
+			return new Profile(type, id, histogram.getCount(), histogram.getTotal(), //
+					histogram.getPercentile(0.5), histogram.getPercentile(0.99), histogram.getMax());
+		}
+	}
+
+	/**
+	 * A snapshot of all {@link Profile}s within a window.
+	 */
+	public static record Snapshot(int windowSeconds, long overruns, Profile cycle, List<Profile> contributors) {
+	}
+
+	private static class Contributor {
+
+		private final Type type;
+		private final String id;
+		private final DurationHistogram[] slots = new DurationHistogram[SLOTS];
+		private final long[] slotNumbers = new long[SLOTS];
+
+		private Contributor(Type type, String id) {
+			this.type = type;
+			this.id = id;
+		}
+
+		private DurationHistogram getSlot(long slotNumber) {
+			var index = (int) (slotNumber % SLOTS);
+			var slot = this.slots[index];
+			if (slot == null) {
+				slot = this.slots[index] = new DurationHistogram();
+				this.slotNumbers[index] = slotNumber;
+			} else if (this.slotNumbers[index] != slotNumber) {
+				slot.clear();
+				this.slotNumbers[index] = slotNumber;
+			}
+			return slot;
+		}
+
+		private DurationHistogram merge(long fromSlotNumber, long toSlotNumber) {
+			var result = new DurationHistogram();
+			for (var i = 0; i < SLOTS; i++) {
+				var slot = this.slots[i];
+				if (slot != null && this.slotNumbers[i] >= fromSlotNumber && this.slotNumbers[i] <= toSlotNumber) {
+					result.add(slot);
+				}
+			}
+			return result;
+		}
+	}
+
+	private final Supplier<Clock> clock;
+	private final Contributor cycle = new Contributor(Type.CYCLE, Cycle.SINGLETON_COMPONENT_ID);
+	private final Contributor[] phases = new Contributor[Phase.values().length];
+	private final Map<String, Contributor> controllers = new HashMap<>();
+	private final long[] overruns = new long[SLOTS];
+	private final long[] overrunSlotNumbers = new long[SLOTS];
+
+	private long slotNumber = -1;
+	private Profile lastFinishedCycleProfile = null;
+
+	public CycleProfiler(Clock clock) {
+		this(() -> clock);
+	}
+
+	/**
+	 * Creates a {@link CycleProfiler}.
+	 *
+	 * @param clock supplies the {@link Clock}; called on every record, e.g. to use
+	 *              the Clock of a Component that is bound later
+	 */
+	public CycleProfiler(Supplier<Clock> clock) {
+		this.clock = clock;
+		for (var phase : Phase.values()) {
+			this.phases[phase.ordinal()] = new Contributor(Type.PHASE, phase.name());
+		}
+	}
+
+	/**
+	 * Records the duration of a {@link Phase}.
+	 *
+	 * @param phase  the {@link Phase}
+	 * @param micros the duration in [us]
+	 */
+	public synchronized void recordPhase(Phase phase, long micros) {
+		var slotNumber = this.updateSlotNumber();
+		this.phases[phase.ordinal()].getSlot(slotNumber).record(micros);
+	}
+
+	/**
+	 * Records the duration of a Controller run.
+	 *
+	 * @param controllerId the Controller-ID
+	 * @param micros       the duration in [us]
+	 */
+	public synchronized void recordController(String controllerId, long micros) {
+		var slotNumber = this.updateSlotNumber();
+		var contributor = this.controllers.get(controllerId);
+		if (contributor == null) {
+			contributor = new Contributor(Type.CONTROLLER, controllerId);
+			this.controllers.put(controllerId, contributor);
+		}
+		contributor.getSlot(slotNumber).record(micros);
+	}
+
+	/**
+	 * Records the duration of an entire Cycle.
+	 *
+	 * @param micros    the duration in [us]
+	 * @param cycleTime the configured Cycle-Time in [ms]
+	 * @return true if the Cycle took longer than the configured Cycle-Time
+	 */
+	public synchronized boolean recordCycle(long micros, int cycleTime) {
+		var slotNumber = this.updateSlotNumber();
+		this.cycle.getSlot(slotNumber).record(micros);
+		var isOverrun = micros > TimeUnit.MILLISECONDS.toMicros(cycleTime);
+		if (isOverrun) {
+			var index = (int) (slotNumber % SLOTS);
+			if (this.overrunSlotNumbers[index] != slotNumber) {
+				this.overruns[index] = 0;
+				this.overrunSlotNumbers[index] = slotNumber;
+			}
+			this.overruns[index]++;
+		}
+		return isOverrun;
+	}
+
+	/**
+	 * Gets the {@link Profile} of the entire Cycle within the last finished slot
+	 * of {@value #SLOT_SECONDS} seconds.
+	 *
+	 * @return the {@link Profile}; null if no slot was finished yet
+	 */
+	public synchronized Profile getLastFinishedCycleProfile() {
+		return this.lastFinishedCycleProfile;
+	}
+
+	/**
+	 * Gets a {@link Snapshot} of the slowest contributors.
+	 *
+	 * @param windowSeconds the time window in [s]; rounded up to full slots and
+	 *                      limited to {@value #SLOTS} slots
+	 * @param limit         the maximum number of contributors, sorted by 99th
+	 *                      percentile descending
+	 * @return the {@link Snapshot}
+	 */
+	public synchronized Snapshot getSnapshot(int windowSeconds, int limit) {
+		var slots = (int) Math.max(1, Math.min(SLOTS, ((long) windowSeconds + SLOT_SECONDS - 1) / SLOT_SECONDS));
+		var toSlotNumber = this.updateSlotNumber();
+		var fromSlotNumber = toSlotNumber - slots + 1;
+
+		long overruns = 0;
+		for (var i = 0; i < SLOTS; i++) {
+			if (this.overrunSlotNumbers[i] >= fromSlotNumber && this.overrunSlotNumbers[i] <= toSlotNumber) {
+				overruns += this.overruns[i];
+			}
+		}
+
+		var cycle = Profile.from(Type.CYCLE, this.cycle.id, this.cycle.merge(fromSlotNumber, toSlotNumber));
+		var contributors = new ArrayList<Profile>();
+		for (var contributor : this.phases) {
+			this.addProfile(contributors, contributor, fromSlotNumber, toSlotNumber);
+		}
+		for (var contributor : this.controllers.values()) {
+			this.addProfile(contributors, contributor, fromSlotNumber, toSlotNumber);
+		}
+		contributors.sort(Comparator.comparingLong(Profile::p99) //
+				.thenComparingLong(Profile::max) //
+				.reversed());
+		return new Snapshot(slots * SLOT_SECONDS, overruns, cycle,
+				contributors.subList(0, Math.max(0, Math.min(limit, contributors.size()))));
+	}
+
+	private void addProfile(List<Profile> profiles, Contributor contributor, long fromSlotNumber,
+			long toSlotNumber) {
+		var histogram = contributor.merge(fromSlotNumber, toSlotNumber);
+		if (histogram.getCount() > 0) {
+			profiles.add(Profile.from(contributor.type, contributor.id, histogram));
+		}
+	}
+
+	/**
+	 * Calculates the current slot number. On change, the {@link Profile} of the
+	 * finished slot is stored and Controllers without values in the entire window
+	 * are removed.
+	 *
+	 * @return the current slot number
+	 */
+	private long updateSlotNumber() {
+		var slotNumber = this.clock.get().millis() / 1000 / SLOT_SECONDS;
+		if (slotNumber != this.slotNumber) {
+			if (this.slotNumber != -1) {
+				this.lastFinishedCycleProfile = Profile.from(Type.CYCLE, this.cycle.id,
+						this.cycle.merge(this.slotNumber, this.slotNumber));
+			}
+			this.slotNumber = slotNumber;
+			var oldestSlotNumber = slotNumber - SLOTS + 1;
+			this.controllers.values().removeIf(c -> {
+				for (var n : c.slotNumbers) {
+					if (n >= oldestSlotNumber) {
+						return false;
+					}
+				}
+				return true;
+			});
+		}
+		return slotNumber;
+	}
+
+}
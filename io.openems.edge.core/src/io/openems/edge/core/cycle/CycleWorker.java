@@ -11,9 +11,10 @@ import info.faljse.SDNotify.SDNotify;
 import io.openems.common.event.EventBuilder;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.worker.AbstractWorker;
+import io.openems.edge.common.cycle.Cycle;
 import io.openems.edge.common.event.EdgeEventConstants;
-import io.openems.edge.common.sum.Sum;
 import io.openems.edge.controller.api.Controller;
+import io.openems.edge.core.cycle.CycleProfiler.Phase;
 import io.openems.edge.scheduler.api.Scheduler;
 
 public class CycleWorker extends AbstractWorker {
@@ -34,6 +35,7 @@ public class CycleWorker extends AbstractWorker {
 	protected void forever() {
 		// Prepare Cycle-Time measurement
 		var stopwatch = Stopwatch.createStarted();
+		var start = System.nanoTime();
 
 		// Kick Operating System Watchdog
 		var socketName = System.getenv().get("NOTIFY_SOCKET");
@@ -48,20 +50,16 @@ public class CycleWorker extends AbstractWorker {
 			 * Trigger BEFORE_PROCESS_IMAGE event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
+			start = this.profile(Phase.BEFORE_PROCESS_IMAGE, start);
 
 			/*
 			 * Before Controllers start: switch to next process image for each channel
 			 */
-			this.parent.componentManager.getEnabledComponents().stream() //
-					.filter(c -> c.isEnabled() && !(c instanceof Sum)) //
-					.forEach(component -> {
-						component.channels().forEach(channel -> {
-							channel.nextProcessImage();
-						});
-					});
+			this.parent.processImage.switchProcessImage();
 			this.parent.channels().forEach(channel -> {
 				channel.nextProcessImage();
 			});
+			start = this.profile(Phase.PROCESS_IMAGE, start);
 
 			/*
 			 * Update the Channels in the Sum-Component.
@@ -70,16 +68,19 @@ public class CycleWorker extends AbstractWorker {
 			this.parent.sumComponent.channels().forEach(channel -> {
 				channel.nextProcessImage();
 			});
+			start = this.profile(Phase.SUM, start);
 
 			/*
 			 * Trigger AFTER_PROCESS_IMAGE event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
+			start = this.profile(Phase.AFTER_PROCESS_IMAGE, start);
 
 			/*
 			 * Trigger BEFORE_CONTROLLERS event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
+			start = this.profile(Phase.BEFORE_CONTROLLERS, start);
 
 			var hasDisabledController = false;
 
@@ -109,6 +110,7 @@ public class CycleWorker extends AbstractWorker {
 							continue;
 						}
 
+						var controllerStart = System.nanoTime();
 						try {
 							// Execute Controller logic
 							controller.run();
@@ -133,6 +135,8 @@ public class CycleWorker extends AbstractWorker {
 							// announce running failed
 							controller._setRunFailed(true);
 						}
+						this.parent.profiler.recordController(controller.id(),
+								TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - controllerStart));
 					}
 
 					// announce Scheduler Controller is missing
@@ -142,26 +146,31 @@ public class CycleWorker extends AbstractWorker {
 
 			// announce ignoring disabled Controllers.
 			this.parent._setIgnoreDisabledController(hasDisabledController);
+			start = this.profile(Phase.CONTROLLERS, start);
 
 			/*
 			 * Trigger AFTER_CONTROLLERS event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
+			start = this.profile(Phase.AFTER_CONTROLLERS, start);
 
 			/*
 			 * Trigger BEFORE_WRITE event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
+			start = this.profile(Phase.BEFORE_WRITE, start);
 
 			/*
 			 * Trigger EXECUTE_WRITE event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
+			start = this.profile(Phase.EXECUTE_WRITE, start);
 
 			/*
 			 * Trigger AFTER_WRITE event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+			this.profile(Phase.AFTER_WRITE, start);
 
 		} catch (Throwable t) {
 			this.parent.logWarn(this.log,
@@ -172,7 +181,35 @@ public class CycleWorker extends AbstractWorker {
 		}
 
 		// Measure actual Cycle-Time
-		this.parent._setMeasuredCycleTime(stopwatch.elapsed(TimeUnit.MILLISECONDS));
+		var cycleTime = stopwatch.elapsed(TimeUnit.MICROSECONDS);
+		this.parent._setMeasuredCycleTime(TimeUnit.MICROSECONDS.toMillis(cycleTime));
+		this.parent._setCycleTimeExceeded(this.parent.profiler.recordCycle(cycleTime, this.getCycleTime()));
+		var profile = this.parent.profiler.getLastFinishedCycleProfile();
+		if (profile != null) {
+			this.parent.channel(Cycle.ChannelId.MEASURED_CYCLE_TIME_P50)
+					.setNextValue(TimeUnit.MICROSECONDS.toMillis(profile.p50()));
+			this.parent.channel(Cycle.ChannelId.MEASURED_CYCLE_TIME_P99)
+					.setNextValue(TimeUnit.MICROSECONDS.toMillis(profile.p99()));
+			this.parent.channel(Cycle.ChannelId.MEASURED_CYCLE_TIME_MAX)
+					.setNextValue(TimeUnit.MICROSECONDS.toMillis(profile.max()));
+		}
+	}
+
+	/**
+	 * Records the duration of a {@link Phase} in the {@link CycleProfiler} and
+	 * sets the corresponding Channel.
+	 *
+	 * @param phase the {@link Phase}
+	 * @param start the start time of the {@link Phase} from
+	 *              {@link System#nanoTime()}
+	 * @return the end time of the {@link Phase}, i.e. the start time of the next
+	 */
+	private long profile(Phase phase, long start) {
+		var end = System.nanoTime();
+		var micros = TimeUnit.NANOSECONDS.toMicros(end - start);
+		this.parent.profiler.recordPhase(phase, micros);
+		this.parent.channel(phase.channelId).setNextValue(TimeUnit.MICROSECONDS.toMillis(micros));
+		return end;
 	}
 
 }
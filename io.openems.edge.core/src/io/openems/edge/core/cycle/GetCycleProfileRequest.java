@@ -0,0 +1,95 @@
+package io.openems.edge.core.cycle;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Wraps a JSON-RPC Request to query the slowest contributors to the Cycle-Time.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "method": "getCycleProfile",
+ *   "params": {
+ *     "window"?: number, // in [s], 1 to 900, defaults to 300
+ *     "limit"?: number // at least 1, defaults to 10
+ *   }
+ * }
+ * </pre>
+ */
+public class GetCycleProfileRequest extends JsonrpcRequest {
+
+	public static final String METHOD = "getCycleProfile";
+
+	public static final int DEFAULT_WINDOW = 300;
+	public static final int DEFAULT_LIMIT = 10;
+	public static final int MAX_WINDOW = CycleProfiler.SLOTS * CycleProfiler.SLOT_SECONDS;
+
+	/**
+	 * Create {@link GetCycleProfileRequest} from a template
+	 * {@link JsonrpcRequest}.
+	 *
+	 * @param r the template {@link JsonrpcRequest}
+	 * @return the {@link GetCycleProfileRequest}
+	 * @throws OpenemsNamedException on parse error
+	 */
+	public static GetCycleProfileRequest from(JsonrpcRequest r) throws OpenemsNamedException {
+		var p = r.getParams();
+		var window = JsonUtils.getAsOptionalInt(p, "window").orElse(DEFAULT_WINDOW);
+		var limit = JsonUtils.getAsOptionalInt(p, "limit").orElse(DEFAULT_LIMIT);
+		if (window <= 0 || window > MAX_WINDOW) {
+			throw new OpenemsException("Window is not in range [1:" + MAX_WINDOW + "]");
+		}
+		if (limit <= 0) {
+			throw new OpenemsException("Limit must be at least 1");
+		}
+		return new GetCycleProfileRequest(r, window, limit);
+	}
+
+	private final int window;
+	private final int limit;
+
+	public GetCycleProfileRequest(int window, int limit) {
+		super(METHOD);
+		this.window = window;
+		this.limit = limit;
+	}
+
+	private GetCycleProfileRequest(JsonrpcRequest request, int window, int limit) {
+		super(request, METHOD);
+		this.window = window;
+		this.limit = limit;
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return JsonUtils.buildJsonObject() //
+				.addProperty("window", this.window) //
+				.addProperty("limit", this.limit) //
+				.build();
+	}
+
+	/**
+	 * Gets the time window in [s].
+	 *
+	 * @return the window
+	 */
+	public int getWindow() {
+		return this.window;
+	}
+
+	/**
+	 * Gets the maximum number of contributors.
+	 *
+	 * @return the limit
+	 */
+	public int getLimit() {
+		return this.limit;
+	}
+
+}
@@ -0,0 +1,86 @@
+package io.openems.edge.core.cycle;
+
+import java.util.UUID;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.core.cycle.CycleProfiler.Profile;
+import io.openems.edge.core.cycle.CycleProfiler.Snapshot;
+
+/**
+ * Wraps a JSON-RPC Response to "getCycleProfile" Request.
+ *
+ * <p>
+ * Durations are in [us].
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "result": {
+ *     "window": number, // in [s]
+ *     "overruns": number, // number of Cycles longer than the Cycle-Time
+ *     "cycle": Profile,
+ *     "contributors": Profile[] // sorted by p99 descending
+ *   }
+ * }
+ *
+ * Profile: {
+ *   "type": "CYCLE" | "PHASE" | "CONTROLLER",
+ *   "id": string,
+ *   "count": number,
+ *   "total": number,
+ *   "p50": number,
+ *   "p99": number,
+ *   "max": number
+ * }
+ * </pre>
+ */
+public class GetCycleProfileResponse extends JsonrpcResponseSuccess {
+
+	private final Snapshot snapshot;
+
+	public GetCycleProfileResponse(UUID id, Snapshot snapshot) {
+		super(id);
+		this.snapshot = snapshot;
+	}
+
+	@Override
+	public JsonObject getResult() {
+		var contributors = new JsonArray();
+		for (var profile : this.snapshot.contributors()) {
+			contributors.add(toJson(profile));
+		}
+		return JsonUtils.buildJsonObject() //
+				.addProperty("window", this.snapshot.windowSeconds()) //
+				.addProperty("overruns", this.snapshot.overruns()) //
+				.add("cycle", toJson(this.snapshot.cycle())) //
+				.add("contributors", contributors) //
+				.build();
+	}
+
+	private static JsonObject toJson(Profile profile) {
+		return JsonUtils.buildJsonObject() //
+				.addProperty("type", profile.type().name()) //
+				.addProperty("id", profile.id()) //
+				.addProperty("count", profile.count()) //
+				.addProperty("total", profile.total()) //
+				.addProperty("p50", profile.p50()) //
+				.addProperty("p99", profile.p99()) //
+				.addProperty("max", profile.max()) //
+				.build();
+	}
+
+	/**
+	 * Gets the {@link Snapshot}.
+	 *
+	 * @return the {@link Snapshot}
+	 */
+	public Snapshot getSnapshot() {
+		return this.snapshot;
+	}
+
+}
@@ -0,0 +1,214 @@
+package io.openems.edge.core.cycle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Switches the Channels of all enabled Components to the next Process-Image.
+ *
+ * <p>
+ * Channels are kept in a pre-built array, grouped by their Component. The array
+ * is only rebuilt if Components were added or removed (see
+ * {@link #setDirty()}) or if a Component added or removed Channels at runtime.
+ *
+ * <p>
+ * If enabled via {@link #setThreads(int)}, groups are switched in parallel.
+ * Channels of one Component are always switched sequentially on the same
+ * thread, so onUpdate/onChange callbacks that depend on other Channels of the
+ * same Component - e.g. the 'State' Channel that collects all StateChannels -
+ * keep working as before. Callbacks must not depend on Channels of other
+ * Components: they are executed concurrently with the callbacks of those
+ * Components. Parallel execution is therefore disabled by default.
+ *
+ * <p>
+ * If a callback fails during parallel execution, all other Components are still
+ * switched; the remaining Channels of the failed Component are then switched
+ * sequentially on the calling thread, i.e. a repeated exception is thrown to
+ * the caller like in sequential execution.
+ */
+public class ProcessImage {
+
+	/**
+	 * Below this number of Channels the overhead of parallel execution is higher
+	 * than the gain.
+	 */
+	protected static final int MIN_CHANNELS_FOR_PARALLEL = 2_000;
+
+	private final Logger log = LoggerFactory.getLogger(ProcessImage.class);
+
+	private final Supplier<List<OpenemsComponent>> componentsSupplier;
+	private final Predicate<OpenemsComponent> filter;
+
+	private volatile boolean isDirty = true;
+	private OpenemsComponent[] components = new OpenemsComponent[0];
+	private Channel<?>[][] channels = new Channel<?>[0][];
+	/** Number of already switched Channels per Component in this Cycle. */
+	private int[] switched = new int[0];
+	private int numberOfChannels = 0;
+	private ForkJoinPool pool = null;
+
+	/**
+	 * Creates a {@link ProcessImage}.
+	 *
+	 * @param componentsSupplier supplies all enabled Components; called only on
+	 *                           rebuild
+	 * @param filter             only Components matching this filter are handled
+	 */
+	public ProcessImage(Supplier<List<OpenemsComponent>> componentsSupplier, Predicate<OpenemsComponent> filter) {
+		this.componentsSupplier = componentsSupplier;
+		this.filter = filter;
+	}
+
+	/**
+	 * Sets the number of threads.
+	 *
+	 * @param threads number of threads; '0' for the number of available
+	 *                processors; '1' to disable parallel execution
+	 */
+	public synchronized void setThreads(int threads) {
+		if (threads <= 0) {
+			threads = Runtime.getRuntime().availableProcessors();
+		}
+		if (this.pool != null && this.pool.getParallelism() == threads) {
+			return;
+		}
+		this.shutdownPool();
+		if (threads > 1) {
+			this.pool = new ForkJoinPool(threads, pool -> {
+				var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName("Core.Cycle:ProcessImage-" + thread.getPoolIndex());
+				return thread;
+			}, null, false);
+		}
+	}
+
+	/**
+	 * Marks the pre-built Channel array as outdated, e.g. because a Component was
+	 * added or removed.
+	 */
+	public void setDirty() {
+		this.isDirty = true;
+	}
+
+	/**
+	 * Stops the thread pool.
+	 */
+	public synchronized void deactivate() {
+		this.shutdownPool();
+	}
+
+	/**
+	 * Switches all Channels to the next Process-Image.
+	 */
+	public synchronized void switchProcessImage() {
+		if (this.isDirty || this.hasChangedChannels()) {
+			this.rebuild();
+		}
+
+		Arrays.fill(this.switched, 0);
+		var pool = this.pool;
+		if (pool != null && this.numberOfChannels >= MIN_CHANNELS_FOR_PARALLEL) {
+			this.switchParallel(pool);
+		}
+
+		// Sequential execution; or remaining Channels after a failed callback
+		for (var i = 0; i < this.channels.length; i++) {
+			this.switchComponent(i);
+		}
+	}
+
+	private void switchParallel(ForkJoinPool pool) {
+		var next = new AtomicInteger();
+		Runnable worker = () -> {
+			for (var i = next.getAndIncrement(); i < this.channels.length; i = next.getAndIncrement()) {
+				this.switchComponent(i);
+			}
+		};
+		var tasks = new ForkJoinTask<?>[pool.getParallelism()];
+		for (var i = 0; i < tasks.length; i++) {
+			tasks[i] = pool.submit(worker);
+		}
+		// Wait for all workers, so that no worker is still running on fallback
+		for (var task : tasks) {
+			try {
+				task.join();
+
+			} catch (RuntimeException e) {
+				// Other workers keep taking Components
+				this.log.warn("Error while switching Process-Image in parallel. Falling back to sequential. "
+						+ e.getClass().getSimpleName() + ": " + e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of Channels in the current pre-built array.
+	 *
+	 * @return number of Channels
+	 */
+	public synchronized int getNumberOfChannels() {
+		return this.numberOfChannels;
+	}
+
+	private void switchComponent(int index) {
+		var component = this.components[index];
+		if (!component.isEnabled()) {
+			return;
+		}
+		var channels = this.channels[index];
+		while (this.switched[index] < channels.length) {
+			channels[this.switched[index]++].nextProcessImage();
+		}
+	}
+
+	private boolean hasChangedChannels() {
+		for (var i = 0; i < this.components.length; i++) {
+			if (this.components[i].channels().size() != this.channels[i].length) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void rebuild() {
+		// Reset first: a Component added while rebuilding triggers another rebuild
+		this.isDirty = false;
+
+		var components = new ArrayList<OpenemsComponent>();
+		var channels = new ArrayList<Channel<?>[]>();
+		var numberOfChannels = 0;
+		for (var component : this.componentsSupplier.get()) {
+			if (!this.filter.test(component)) {
+				continue;
+			}
+			var componentChannels = component.channels().toArray(Channel<?>[]::new);
+			components.add(component);
+			channels.add(componentChannels);
+			numberOfChannels += componentChannels.length;
+		}
+		this.components = components.toArray(OpenemsComponent[]::new);
+		this.channels = channels.toArray(Channel<?>[][]::new);
+		this.switched = new int[this.channels.length];
+		this.numberOfChannels = numberOfChannels;
+	}
+
+	private void shutdownPool() {
+		if (this.pool != null) {
+			this.pool.shutdown();
+			this.pool = null;
+		}
+	}
+
+}
@@ -0,0 +1,142 @@
+package io.openems.edge.core.componentmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Test;
+
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.AbstractDummyOpenemsComponent;
+import io.openems.edge.common.test.DummyComponentContext;
+
+public class ChannelAddressIndexTest {
+
+	private static class DummyComponent extends AbstractDummyOpenemsComponent<DummyComponent>
+			implements OpenemsComponent {
+
+		public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+			DUMMY_CHANNEL(Doc.of(OpenemsType.INTEGER)), //
+			LATE_CHANNEL(Doc.of(OpenemsType.INTEGER)); //
+
+			private final Doc doc;
+
+			private ChannelId(Doc doc) {
+				this.doc = doc;
+			}
+
+			@Override
+			public Doc doc() {
+				return this.doc;
+			}
+		}
+
+		public DummyComponent(String id) {
+			super(id, //
+					OpenemsComponent.ChannelId.values(), //
+					new ChannelId[] { ChannelId.DUMMY_CHANNEL } //
+			);
+		}
+
+		private void addLateChannel() {
+			this.addChannel(ChannelId.LATE_CHANNEL);
+		}
+
+		private void setId(String id) {
+			super.modified(new DummyComponentContext(), id, "", true);
+		}
+
+		@Override
+		protected DummyComponent self() {
+			return this;
+		}
+	}
+
+	@Test
+	public void testGetChannels() {
+		var sut = new ChannelAddressIndex();
+		var foo0 = new DummyComponent("foo0");
+		var bar0 = new DummyComponent("bar0");
+		var foo1 = new DummyComponent("foo1");
+		sut.addComponent(foo0);
+		sut.addComponent(bar0);
+		sut.addComponent(foo1);
+
+		// Plain
+		var result = sut.getChannels(new ChannelAddress("foo0", "DummyChannel"));
+		assertEquals(1, result.size());
+		assertSame(foo0.channel("DummyChannel"), result.get(0));
+		assertTrue(sut.getChannels(new ChannelAddress("foo0", "Unknown")).isEmpty());
+		assertTrue(sut.getChannels(new ChannelAddress("unknown0", "DummyChannel")).isEmpty());
+
+		// Regular expression; sorted by Component-ID
+		result = sut.getChannels(new ChannelAddress(".*0", "Dummy.*"));
+		assertEquals(2, result.size());
+		assertSame(bar0.channel("DummyChannel"), result.get(0));
+		assertSame(foo0.channel("DummyChannel"), result.get(1));
+
+		// Cached result is updated on add/remove
+		sut.removeComponent(bar0);
+		result = sut.getChannels(new ChannelAddress(".*0", "Dummy.*"));
+		assertEquals(1, result.size());
+		assertSame(foo0.channel("DummyChannel"), result.get(0));
+
+		// Cached result is updated if Channels were added at runtime
+		assertTrue(sut.getChannels(new ChannelAddress("foo.*", "Late.*")).isEmpty());
+		foo1.addLateChannel();
+		result = sut.getChannels(new ChannelAddress("foo.*", "Late.*"));
+		assertEquals(1, result.size());
+		assertSame(foo1.channel("LateChannel"), result.get(0));
+	}
+
+	@Test(expected = PatternSyntaxException.class)
+	public void testInvalidPattern() {
+		var sut = new ChannelAddressIndex();
+		sut.addComponent(new DummyComponent("foo0"));
+		sut.getChannels(new ChannelAddress("*", ""));
+	}
+
+	@Test
+	public void testGetComponent() {
+		var sut = new ChannelAddressIndex();
+		var foo0 = new DummyComponent("foo0");
+		sut.addComponent(foo0);
+		assertSame(foo0, sut.getComponent("foo0"));
+
+		// Removing a different instance with the same ID keeps the Component
+		sut.removeComponent(new DummyComponent("foo0"));
+		assertSame(foo0, sut.getComponent("foo0"));
+
+		sut.removeComponent(foo0);
+		assertNull(sut.getComponent("foo0"));
+	}
+
+	@Test
+	public void testUpdateComponent() {
+		var sut = new ChannelAddressIndex();
+		var foo0 = new DummyComponent("foo0");
+		sut.addComponent(foo0);
+		assertEquals(1, sut.getChannels(new ChannelAddress("foo.*", "Dummy.*")).size());
+
+		// Component-ID changed via @Modified
+		foo0.setId("bar0");
+		sut.updateComponent(foo0);
+		assertNull(sut.getComponent("foo0"));
+		assertSame(foo0, sut.getComponent("bar0"));
+		assertTrue(sut.getChannels(new ChannelAddress("foo.*", "Dummy.*")).isEmpty());
+		assertEquals(1, sut.getChannels(new ChannelAddress("bar.*", "Dummy.*")).size());
+
+		// Removing after another change of the Component-ID
+		foo0.setId("baz0");
+		sut.removeComponent(foo0);
+		assertNull(sut.getComponent("bar0"));
+		assertNull(sut.getComponent("baz0"));
+	}
+
+}
@@ -0,0 +1,87 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcRequest;
+import io.openems.common.test.TimeLeapClock;
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.core.cycle.CycleProfiler.Phase;
+import io.openems.edge.core.cycle.CycleProfiler.Type;
+
+public class CycleProfilerTest {
+
+	@Test
+	public void testProfiler() {
+		var clock = new TimeLeapClock(Instant.ofEpochSecond(1_577_836_800) /* starts at 1. January 2020 00:00:00 */);
+		var sut = new CycleProfiler(clock);
+
+		for (var i = 0; i < 10; i++) {
+			sut.recordPhase(Phase.PROCESS_IMAGE, 20_000);
+			sut.recordPhase(Phase.EXECUTE_WRITE, 100_000);
+			sut.recordController("ctrl0", 1_000);
+			sut.recordController("ctrl1", 300_000);
+			assertFalse(sut.recordCycle(421_000, 1000));
+			clock.leap(1, ChronoUnit.SECONDS);
+		}
+		assertTrue(sut.recordCycle(1_200_000, 1000));
+		assertNull(sut.getLastFinishedCycleProfile());
+
+		var snapshot = sut.getSnapshot(300, 2);
+		assertEquals(300, snapshot.windowSeconds());
+		assertEquals(1, snapshot.overruns());
+		assertEquals(11, snapshot.cycle().count());
+		assertEquals(1_200_000, snapshot.cycle().max());
+		assertEquals(2, snapshot.contributors().size());
+		assertEquals(Type.CONTROLLER, snapshot.contributors().get(0).type());
+		assertEquals("ctrl1", snapshot.contributors().get(0).id());
+		assertEquals(Type.PHASE, snapshot.contributors().get(1).type());
+		assertEquals(Phase.EXECUTE_WRITE.name(), snapshot.contributors().get(1).id());
+
+		// Next slot
+		clock.leap(CycleProfiler.SLOT_SECONDS, ChronoUnit.SECONDS);
+		sut.recordCycle(500_000, 1000);
+		assertEquals(11, sut.getLastFinishedCycleProfile().count());
+		assertEquals(1, sut.getSnapshot(CycleProfiler.SLOT_SECONDS, 10).cycle().count());
+
+		// Outside of window
+		clock.leap(CycleProfiler.SLOTS * CycleProfiler.SLOT_SECONDS, ChronoUnit.SECONDS);
+		snapshot = sut.getSnapshot(Integer.MAX_VALUE, 10);
+		assertEquals(0, snapshot.cycle().count());
+		assertEquals(0, snapshot.overruns());
+		assertTrue(snapshot.contributors().isEmpty());
+		assertTrue(sut.getSnapshot(300, -1).contributors().isEmpty());
+	}
+
+	@Test
+	public void testRequest() throws OpenemsNamedException {
+		var request = GetCycleProfileRequest.from(new GenericJsonrpcRequest(GetCycleProfileRequest.METHOD, //
+				JsonUtils.buildJsonObject().build()));
+		assertEquals(GetCycleProfileRequest.DEFAULT_WINDOW, request.getWindow());
+		assertEquals(GetCycleProfileRequest.DEFAULT_LIMIT, request.getLimit());
+
+		assertInvalid(JsonUtils.buildJsonObject().addProperty("limit", -1).build());
+		assertInvalid(JsonUtils.buildJsonObject().addProperty("limit", 0).build());
+		assertInvalid(JsonUtils.buildJsonObject().addProperty("window", 0).build());
+		assertInvalid(JsonUtils.buildJsonObject() //
+				.addProperty("window", GetCycleProfileRequest.MAX_WINDOW + 1).build());
+	}
+
+	private static void assertInvalid(JsonObject params) {
+		assertThrows(OpenemsException.class, () -> GetCycleProfileRequest
+				.from(new GenericJsonrpcRequest(GetCycleProfileRequest.METHOD, params)));
+	}
+
+}
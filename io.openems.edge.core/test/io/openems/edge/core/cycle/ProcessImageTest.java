@@ -0,0 +1,107 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.sum.Sum;
+import io.openems.edge.meter.api.ElectricityMeter;
+import io.openems.edge.meter.test.DummyElectricityMeter;
+
+public class ProcessImageTest {
+
+	private static List<OpenemsComponent> createMeters(int count) {
+		var result = new ArrayList<OpenemsComponent>();
+		for (var i = 0; i < count; i++) {
+			result.add(new DummyElectricityMeter("meter" + i));
+		}
+		return result;
+	}
+
+	private static void testSwitch(int threads) {
+		var meters = createMeters(100);
+		var sut = new ProcessImage(() -> meters, c -> !(c instanceof Sum));
+		sut.setThreads(threads);
+
+		for (var cycle = 0; cycle < 3; cycle++) {
+			for (var i = 0; i < meters.size(); i++) {
+				((DummyElectricityMeter) meters.get(i)).withActivePower(cycle * 1000 + i);
+			}
+			sut.switchProcessImage();
+			for (var i = 0; i < meters.size(); i++) {
+				assertEquals(Integer.valueOf(cycle * 1000 + i),
+						((DummyElectricityMeter) meters.get(i)).getActivePower().get());
+			}
+		}
+		assertTrue(sut.getNumberOfChannels() >= ProcessImage.MIN_CHANNELS_FOR_PARALLEL);
+		sut.deactivate();
+	}
+
+	@Test
+	public void testSequential() {
+		testSwitch(1);
+	}
+
+	@Test
+	public void testParallel() {
+		testSwitch(4);
+	}
+
+	@Test
+	public void testParallelFallback() {
+		var meters = createMeters(100);
+		var failed = new AtomicBoolean();
+		var updates = new AtomicInteger();
+		for (var meter : meters) {
+			meter.channel(ElectricityMeter.ChannelId.REACTIVE_POWER).onUpdate(value -> updates.incrementAndGet());
+		}
+		meters.get(50).channel(ElectricityMeter.ChannelId.ACTIVE_POWER).onUpdate(value -> {
+			if (!failed.getAndSet(true)) {
+				throw new IllegalStateException("Callback failed");
+			}
+		});
+		var sut = new ProcessImage(() -> meters, c -> true);
+		sut.setThreads(4);
+
+		for (var i = 0; i < meters.size(); i++) {
+			meters.get(i).channel(ElectricityMeter.ChannelId.ACTIVE_POWER).setNextValue(i);
+			meters.get(i).channel(ElectricityMeter.ChannelId.REACTIVE_POWER).setNextValue(i);
+		}
+		sut.switchProcessImage();
+
+		// All Channels were switched exactly once
+		assertTrue(failed.get());
+		assertEquals(meters.size(), updates.get());
+		for (var i = 0; i < meters.size(); i++) {
+			var meter = (DummyElectricityMeter) meters.get(i);
+			assertEquals(Integer.valueOf(i), meter.getActivePower().get());
+			assertEquals(Integer.valueOf(i), meter.getReactivePower().get());
+		}
+		sut.deactivate();
+	}
+
+	@Test
+	public void testRebuild() {
+		var meters = createMeters(2);
+		var sut = new ProcessImage(() -> meters, c -> true);
+		sut.switchProcessImage();
+		var channelsPerMeter = sut.getNumberOfChannels() / 2;
+
+		// Not yet marked as dirty
+		meters.add(new DummyElectricityMeter("meter2"));
+		sut.switchProcessImage();
+		assertEquals(2 * channelsPerMeter, sut.getNumberOfChannels());
+
+		sut.setDirty();
+		sut.switchProcessImage();
+		assertEquals(3 * channelsPerMeter, sut.getNumberOfChannels());
+	}
+
+}
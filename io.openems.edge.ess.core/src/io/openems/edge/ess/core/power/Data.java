@@ -85,6 +85,10 @@ public class Data {
 		}
 	}
 
+	protected boolean isSymmetricMode() {
+		return this.symmetricMode;
+	}
+
 	private synchronized void updateInverters() {
 		this.inverters.clear();
 
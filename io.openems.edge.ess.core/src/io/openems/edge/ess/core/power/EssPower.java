@@ -46,6 +46,83 @@ public interface EssPower extends OpenemsComponent, EventHandler, Power {
 		 * </ul>
 		 */
 		SOLVE_STRATEGY(Doc.of(SolverStrategy.values())),
+		/**
+		 * The duration needed for trying {@link SolverStrategy#ALL_CONSTRAINTS},
+		 * summed over all Islands.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Unit: milliseconds
+		 * <li>Range: positive; null if the strategy was not tried
+		 * </ul>
+		 */
+		SOLVE_DURATION_ALL_CONSTRAINTS(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * The duration needed for trying
+		 * {@link SolverStrategy#OPTIMIZE_BY_MOVING_TOWARDS_TARGET}, summed over all
+		 * Islands.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Unit: milliseconds
+		 * <li>Range: positive; null if the strategy was not tried
+		 * </ul>
+		 */
+		SOLVE_DURATION_MOVING_TOWARDS_TARGET(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * The duration needed for trying
+		 * {@link SolverStrategy#OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER},
+		 * summed over all Islands.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Unit: milliseconds
+		 * <li>Range: positive; null if the strategy was not tried
+		 * </ul>
+		 */
+		SOLVE_DURATION_MAXIMIZING_IN_ORDER(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * The duration needed for trying
+		 * {@link SolverStrategy#OPTIMIZE_BY_KEEPING_ALL_EQUAL}, summed over all
+		 * Islands.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Unit: milliseconds
+		 * <li>Range: positive; null if the strategy was not tried
+		 * </ul>
+		 */
+		SOLVE_DURATION_KEEPING_ALL_EQUAL(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * The number of independent Islands, i.e. groups of ESS that do not share
+		 * Constraints and are solved in parallel.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		SOLVE_ISLANDS(Doc.of(OpenemsType.INTEGER)),
+		/**
+		 * The number of Islands that reused the solution of the last Cycle, because
+		 * their Constraints did not change.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		SOLVE_CACHED_ISLANDS(Doc.of(OpenemsType.INTEGER)),
 		/**
 		 * Whether the Power problem could be solved.
 		 *
@@ -134,6 +211,77 @@ public interface EssPower extends OpenemsComponent, EventHandler, Power {
 		this.getSolveStrategyChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for the duration of a {@link SolverStrategy}, e.g.
+	 * {@link ChannelId#SOLVE_DURATION_ALL_CONSTRAINTS}.
+	 *
+	 * @param strategy the {@link SolverStrategy}
+	 * @return the Channel; null for {@link SolverStrategy#NONE} and
+	 *         {@link SolverStrategy#UNDEFINED}
+	 */
+	public default IntegerReadChannel getSolveDurationChannel(SolverStrategy strategy) {
+		return switch (strategy) {
+		case ALL_CONSTRAINTS -> this.channel(ChannelId.SOLVE_DURATION_ALL_CONSTRAINTS);
+		case OPTIMIZE_BY_MOVING_TOWARDS_TARGET -> this.channel(ChannelId.SOLVE_DURATION_MOVING_TOWARDS_TARGET);
+		case OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER ->
+			this.channel(ChannelId.SOLVE_DURATION_MAXIMIZING_IN_ORDER);
+		case OPTIMIZE_BY_KEEPING_ALL_EQUAL -> this.channel(ChannelId.SOLVE_DURATION_KEEPING_ALL_EQUAL);
+		case NONE, UNDEFINED -> null;
+		};
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on the Channel for the duration of a
+	 * {@link SolverStrategy}.
+	 *
+	 * @param strategy the {@link SolverStrategy}
+	 * @param value    the next value
+	 */
+	public default void _setSolveDuration(SolverStrategy strategy, Integer value) {
+		var channel = this.getSolveDurationChannel(strategy);
+		if (channel != null) {
+			channel.setNextValue(value);
+		}
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#SOLVE_ISLANDS}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getSolveIslandsChannel() {
+		return this.channel(ChannelId.SOLVE_ISLANDS);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#SOLVE_ISLANDS}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSolveIslands(int value) {
+		this.getSolveIslandsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#SOLVE_CACHED_ISLANDS}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getSolveCachedIslandsChannel() {
+		return this.channel(ChannelId.SOLVE_CACHED_ISLANDS);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#SOLVE_CACHED_ISLANDS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSolveCachedIslands(int value) {
+		this.getSolveCachedIslandsChannel().setNextValue(value);
+	}
+
 	/**
 	 * Gets the Channel for {@link ChannelId#STATIC_CONSTRAINTS_FAILED}.
 	 *
@@ -81,6 +81,11 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 			this._setSolveDuration(duration);
 			this._setSolveStrategy(strategy);
 		});
+		this.solver.onStrategySolved(this::_setSolveDuration);
+		this.solver.onIslandsSolved((islands, cachedIslands) -> {
+			this._setSolveIslands(islands);
+			this._setSolveCachedIslands(cachedIslands);
+		});
 	}
 
 	@Activate
@@ -106,6 +111,7 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 	@Override
 	@Deactivate
 	protected void deactivate() {
+		this.solver.deactivate();
 		super.deactivate();
 	}
 
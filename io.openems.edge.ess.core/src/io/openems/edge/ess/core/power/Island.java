@@ -0,0 +1,232 @@
+package io.openems.edge.ess.core.power;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.api.ManagedSymmetricEss;
+import io.openems.edge.ess.core.power.data.TargetDirection;
+import io.openems.edge.ess.core.power.optimizers.Optimizers;
+import io.openems.edge.ess.power.api.Coefficients;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.Inverter;
+import io.openems.edge.ess.power.api.LinearCoefficient;
+import io.openems.edge.ess.power.api.SolverStrategy;
+
+/**
+ * An independent part of the Power problem, i.e. a set of ESS that does not
+ * share any {@link Constraint} with other ESS - e.g. one cluster of ESS.
+ *
+ * <p>
+ * Islands are solved independently of each other, each with its own
+ * {@link Coefficients}.
+ */
+class Island {
+
+	/**
+	 * Keeps solver state of one {@link Island} from cycle to cycle, as long as the
+	 * ESS of the {@link Island} do not change.
+	 */
+	static class State {
+
+		protected final Optimizers optimizers = new Optimizers();
+
+		private List<Object> key = null;
+		private SolveSolution solution = null;
+		private TargetDirection targetDirection = null;
+
+		/**
+		 * Gets the cached {@link SolveSolution} for the given key.
+		 *
+		 * @param key the key from {@link Island#createKey(SolverStrategy)}
+		 * @return the {@link SolveSolution}; null if there is no matching solution
+		 */
+		protected SolveSolution getSolution(List<Object> key) {
+			if (this.solution == null || !key.equals(this.key)) {
+				return null;
+			}
+			return this.solution;
+		}
+
+		protected TargetDirection getTargetDirection() {
+			return this.targetDirection;
+		}
+
+		protected void setSolution(List<Object> key, SolveSolution solution, TargetDirection targetDirection) {
+			this.key = key;
+			this.solution = solution;
+			this.targetDirection = targetDirection;
+		}
+	}
+
+	protected final Set<String> essIds;
+	protected final List<ManagedSymmetricEss> esss;
+	protected final List<Inverter> inverters;
+	protected final Coefficients coefficients;
+	protected final List<Constraint> constraints;
+
+	private Island(Set<String> essIds, List<ManagedSymmetricEss> esss, List<Inverter> inverters,
+			Coefficients coefficients, List<Constraint> constraints) {
+		this.essIds = essIds;
+		this.esss = esss;
+		this.inverters = inverters;
+		this.coefficients = coefficients;
+		this.constraints = constraints;
+	}
+
+	/**
+	 * Splits the Power problem into independent {@link Island}s.
+	 *
+	 * <p>
+	 * ESS are in the same {@link Island} if they are connected via enabled
+	 * {@link Constraint}s, e.g. the Constraints of a MetaEss connect the MetaEss
+	 * with all its ESS. If there is only one {@link Island}, it uses the original
+	 * {@link Coefficients} and {@link Constraint}s.
+	 *
+	 * @param symmetricMode Symmetric-Mode enabled?
+	 * @param coefficients  the {@link Coefficients}
+	 * @param esss          all {@link ManagedSymmetricEss}s
+	 * @param inverters     all {@link Inverter}s
+	 * @param constraints   the {@link Constraint}s for all {@link Inverter}s
+	 * @return a list of {@link Island}s
+	 * @throws OpenemsException on error
+	 */
+	public static List<Island> split(boolean symmetricMode, Coefficients coefficients,
+			List<ManagedSymmetricEss> esss, List<Inverter> inverters, List<Constraint> constraints)
+			throws OpenemsException {
+		// Union-Find of ESS-IDs
+		var parents = new HashMap<String, String>();
+		for (var ess : esss) {
+			parents.put(ess.id(), ess.id());
+		}
+		for (var constraint : constraints) {
+			if (constraint.getValue().isEmpty()) {
+				continue;
+			}
+			String first = null;
+			for (var co : constraint.getCoefficients()) {
+				var essId = co.getCoefficient().getEssId();
+				if (first == null) {
+					first = essId;
+				} else {
+					union(parents, first, essId);
+				}
+			}
+		}
+
+		// Group ESS by root
+		var groups = new LinkedHashMap<String, Set<String>>();
+		for (var ess : esss) {
+			groups.computeIfAbsent(find(parents, ess.id()), r -> new LinkedHashSet<>()).add(ess.id());
+		}
+		if (groups.size() < 2) {
+			var essIds = new LinkedHashSet<String>(parents.keySet());
+			return List.of(new Island(essIds, esss, inverters, coefficients, constraints));
+		}
+
+		var result = new ArrayList<Island>(groups.size());
+		for (var essIds : groups.values()) {
+			result.add(create(symmetricMode, essIds, esss, inverters, constraints));
+		}
+		return result;
+	}
+
+	/**
+	 * Creates an {@link Island} with its own {@link Coefficients}; maps the
+	 * {@link Constraint}s of its ESS to these {@link Coefficients}.
+	 */
+	private static Island create(boolean symmetricMode, Set<String> essIds, List<ManagedSymmetricEss> allEsss,
+			List<Inverter> allInverters, List<Constraint> allConstraints) throws OpenemsException {
+		var coefficients = new Coefficients();
+		coefficients.initialize(symmetricMode, essIds);
+
+		var esss = new ArrayList<ManagedSymmetricEss>();
+		for (var ess : allEsss) {
+			if (essIds.contains(ess.id())) {
+				esss.add(ess);
+			}
+		}
+		var inverters = new ArrayList<Inverter>();
+		for (var inverter : allInverters) {
+			if (essIds.contains(inverter.getEssId())) {
+				inverters.add(inverter);
+			}
+		}
+		var constraints = new ArrayList<Constraint>();
+		for (var constraint : allConstraints) {
+			var cos = constraint.getCoefficients();
+			if (constraint.getValue().isEmpty() || cos.length == 0
+					|| !essIds.contains(cos[0].getCoefficient().getEssId())) {
+				continue;
+			}
+			var islandCos = new LinearCoefficient[cos.length];
+			for (var i = 0; i < cos.length; i++) {
+				var c = cos[i].getCoefficient();
+				islandCos[i] = new LinearCoefficient(coefficients.of(c.getEssId(), c.getPhase(), c.getPwr()),
+						cos[i].getValue());
+			}
+			constraints.add(new Constraint(constraint.getDescription(), islandCos, constraint.getRelationship(),
+					constraint.getValue()));
+		}
+		return new Island(essIds, esss, inverters, coefficients, constraints);
+	}
+
+	/**
+	 * Creates a key that describes all inputs for solving this {@link Island}.
+	 * Two equal keys result in the same solution.
+	 *
+	 * @param strategy the {@link SolverStrategy}
+	 * @return the key
+	 */
+	public List<Object> createKey(SolverStrategy strategy) {
+		var result = new ArrayList<Object>();
+		result.add(strategy);
+		for (var inverter : this.inverters) {
+			result.add(inverter);
+			result.add(inverter.getWeight());
+			result.add(inverter.getLastActivePower());
+		}
+		for (var constraint : this.constraints) {
+			result.add(constraint.getRelationship());
+			result.add(constraint.getValue().orElse(null));
+			for (var co : constraint.getCoefficients()) {
+				result.add(co.getCoefficient().getIndex());
+				result.add(co.getValue());
+			}
+		}
+		return result;
+	}
+
+	private static String find(Map<String, String> parents, String essId) {
+		var root = parents.get(essId);
+		if (root == null) {
+			// Constraint for an unknown ESS
+			parents.put(essId, essId);
+			return essId;
+		}
+		while (!root.equals(parents.get(root))) {
+			root = parents.get(root);
+		}
+		// Path compression
+		while (!essId.equals(root)) {
+			var next = parents.get(essId);
+			parents.put(essId, root);
+			essId = next;
+		}
+		return root;
+	}
+
+	private static void union(Map<String, String> parents, String a, String b) {
+		var rootA = find(parents, a);
+		var rootB = find(parents, b);
+		if (!rootA.equals(rootB)) {
+			parents.put(rootB, rootA);
+		}
+	}
+
+}
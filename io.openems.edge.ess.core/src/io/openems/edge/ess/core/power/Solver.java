@@ -1,11 +1,18 @@
 package io.openems.edge.ess.core.power;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
 
 import org.apache.commons.math3.optim.PointValuePair;
 import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
@@ -13,12 +20,15 @@ import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
-import io.openems.common.function.ThrowingFunction;
+import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.edge.ess.api.ManagedAsymmetricEss;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
 import io.openems.edge.ess.api.MetaEss;
+import io.openems.edge.ess.core.power.data.ConstraintUtil;
 import io.openems.edge.ess.core.power.data.InverterPrecision;
 import io.openems.edge.ess.core.power.data.LogUtil;
 import io.openems.edge.ess.core.power.data.TargetDirection;
@@ -26,7 +36,6 @@ import io.openems.edge.ess.core.power.optimizers.AddConstraintsForNotStrictlyDef
 import io.openems.edge.ess.core.power.optimizers.KeepAllEqual;
 import io.openems.edge.ess.core.power.optimizers.KeepTargetDirectionAndMaximizeInOrder;
 import io.openems.edge.ess.core.power.optimizers.MoveTowardsTarget;
-import io.openems.edge.ess.core.power.optimizers.Optimizers;
 import io.openems.edge.ess.core.power.solver.ConstraintSolver;
 import io.openems.edge.ess.core.power.solver.PowerTuple;
 import io.openems.edge.ess.power.api.Constraint;
@@ -40,32 +49,24 @@ import io.openems.edge.ess.power.api.SolverStrategy;
 
 public class Solver {
 
+	private static final int MAX_THREADS = 4;
+
 	private final Logger log = LoggerFactory.getLogger(Solver.class);
 	private final Data data;
-	private final Optimizers optimizers = new Optimizers();
+	private final Map<Set<String>, Island.State> islandStates = new HashMap<>();
 
 	private boolean debugMode = EssPower.DEFAULT_DEBUG_MODE;
 	private OnSolved onSolvedCallback = (isSolved, duration, strategy) -> {
 	};
+	private BiConsumer<SolverStrategy, Integer> onStrategySolvedCallback = (strategy, duration) -> {
+	};
+	private BiConsumer<Integer, Integer> onIslandsSolvedCallback = (islands, cachedIslands) -> {
+	};
 
-	private final ThrowingFunction<List<Inverter>, PointValuePair, Exception> solveWithDisabledInverters;
+	private ExecutorService executor = null;
 
 	public Solver(Data data) {
 		this.data = data;
-
-		/**
-		 * Solves the problem, while setting all DisabledInverters to EQUALS zero.
-		 *
-		 * @param disabledInverters a list of disabled inverters
-		 * @return a solution
-		 * @throws NoFeasibleSolutionException if not solvable
-		 * @throws UnboundedSolutionException  if not solvable
-		 * @throws OpenemsException
-		 */
-		this.solveWithDisabledInverters = disabledInverters -> {
-			var constraints = this.data.getConstraintsWithoutDisabledInverters(disabledInverters);
-			return ConstraintSolver.solve(this.data.getCoefficients(), constraints);
-		};
 	}
 
 	/**
@@ -77,6 +78,37 @@ public class Solver {
 		this.onSolvedCallback = onSolvedCallback;
 	}
 
+	/**
+	 * Adds a callback that receives the duration per {@link SolverStrategy} in
+	 * milliseconds after solving; null if the strategy was not tried.
+	 *
+	 * @param onStrategySolvedCallback the Callback
+	 */
+	public void onStrategySolved(BiConsumer<SolverStrategy, Integer> onStrategySolvedCallback) {
+		this.onStrategySolvedCallback = onStrategySolvedCallback;
+	}
+
+	/**
+	 * Adds a callback that receives the number of independent {@link Island}s and
+	 * the number of {@link Island}s that reused the solution of the last Cycle
+	 * after solving.
+	 *
+	 * @param onIslandsSolvedCallback the Callback
+	 */
+	public void onIslandsSolved(BiConsumer<Integer, Integer> onIslandsSolvedCallback) {
+		this.onIslandsSolvedCallback = onIslandsSolvedCallback;
+	}
+
+	/**
+	 * Stops the threads for solving {@link Island}s in parallel.
+	 */
+	public synchronized void deactivate() {
+		if (this.executor != null) {
+			ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 0);
+			this.executor = null;
+		}
+	}
+
 	/**
 	 * Tests whether the Problem is solvable under the current Constraints.
 	 *
@@ -110,6 +142,11 @@ public class Solver {
 	 * Solve and optimize the equation system.
 	 *
 	 * <p>
+	 * The problem is split into independent {@link Island}s, e.g. separate
+	 * clusters of ESS, which are solved in parallel. If nothing changed for an
+	 * {@link Island} since the last Cycle, its last solution is reused.
+	 *
+	 * <p>
 	 * When finished, this method calls the applyPower() methods of
 	 * {@link ManagedSymmetricEss} or {@link ManagedAsymmetricEss}.
 	 *
@@ -126,65 +163,201 @@ public class Solver {
 		}
 		var allInverters = this.data.getInverters();
 
+		// Split into independent Islands
+		List<Island> islands;
+		try {
+			islands = Island.split(this.data.isSymmetricMode(), this.data.getCoefficients(), this.data.getEsss(),
+					allInverters, this.data.getConstraintsForAllInverters());
+		} catch (OpenemsException e) {
+			this.log.warn("Power-Solver: Solve failed: " + e.getMessage());
+			islands = List.of();
+		}
+		var states = new ArrayList<Island.State>(islands.size());
+		for (var island : islands) {
+			states.add(this.islandStates.computeIfAbsent(island.essIds, essIds -> new Island.State()));
+		}
+		this.islandStates.values().retainAll(states);
+
+		var solutions = this.solveIslands(islands, states, strategy);
+
+		// finish time measure (in milliseconds)
+		var duration = (int) (System.nanoTime() - startTime) / 1_000_000;
+
+		// Combine Island solutions
+		var isSolved = !solutions.isEmpty();
+		var solvedBy = SolverStrategy.NONE;
+		var maxInverters = -1;
+		var cachedIslands = 0;
+		var durations = new EnumMap<SolverStrategy, Long>(SolverStrategy.class);
+		Map<Inverter, PowerTuple> inverterSolutionMap = new HashMap<>();
+		for (var i = 0; i < solutions.size(); i++) {
+			var solution = solutions.get(i);
+			isSolved &= solution.solution().getPoints() != null;
+			if (islands.get(i).inverters.size() > maxInverters) {
+				// Announce the strategy of the largest Island
+				maxInverters = islands.get(i).inverters.size();
+				solvedBy = solution.solution().getSolvedBy();
+			}
+			if (solution.isCached()) {
+				cachedIslands++;
+			}
+			solution.durations().forEach((s, d) -> durations.merge(s, d, Long::sum));
+			inverterSolutionMap.putAll(solution.inverterSolutionMap());
+		}
+
+		// announce success/failure
+		this.onSolvedCallback.accept(isSolved, duration, isSolved ? solvedBy : SolverStrategy.NONE);
+		for (var s : SolverStrategy.values()) {
+			var d = durations.get(s);
+			this.onStrategySolvedCallback.accept(s, d == null ? null : (int) (d / 1_000_000));
+		}
+		this.onIslandsSolvedCallback.accept(islands.size(), cachedIslands);
+
+		// Apply final Solution to Inverters
+		if (solutions.isEmpty()) {
+			inverterSolutionMap = this.getZeroSolution(allInverters);
+		}
+		this.applySolution(inverterSolutionMap);
+	}
+
+	/**
+	 * The solution of one {@link Island}.
+	 *
+	 * @param solution            the {@link SolveSolution}
+	 * @param inverterSolutionMap the final solution per {@link Inverter}
+	 * @param isCached            true if the solution of the last Cycle was reused
+	 * @param durations           the duration per {@link SolverStrategy} in
+	 *                            nanoseconds
+	 */
+	private record IslandSolution(SolveSolution solution, Map<Inverter, PowerTuple> inverterSolutionMap,
+			boolean isCached, Map<SolverStrategy, Long> durations) {
+	}
+
+	/**
+	 * Solves the {@link Island}s; in parallel if there is more than one.
+	 *
+	 * @param islands  the {@link Island}s
+	 * @param states   the {@link Island.State} of each {@link Island}
+	 * @param strategy the {@link SolverStrategy} to follow
+	 * @return the solution of each {@link Island}
+	 */
+	private List<IslandSolution> solveIslands(List<Island> islands, List<Island.State> states,
+			SolverStrategy strategy) {
+		var result = new ArrayList<IslandSolution>(islands.size());
+		if (islands.size() < 2) {
+			for (var i = 0; i < islands.size(); i++) {
+				result.add(this.solveIsland(islands.get(i), states.get(i), strategy));
+			}
+			return result;
+		}
+
+		// Solve first Island in this thread; all others in parallel
+		var executor = this.getExecutor();
+		var futures = new ArrayList<Future<IslandSolution>>(islands.size() - 1);
+		for (var i = 1; i < islands.size(); i++) {
+			final var island = islands.get(i);
+			final var state = states.get(i);
+			futures.add(executor.submit(() -> this.solveIsland(island, state, strategy)));
+		}
+		result.add(this.solveIsland(islands.get(0), states.get(0), strategy));
+		for (var i = 0; i < futures.size(); i++) {
+			try {
+				result.add(futures.get(i).get());
+			} catch (InterruptedException | ExecutionException e) {
+				this.log.warn("Power-Solver: Solve failed: " + e.getMessage());
+				result.add(new IslandSolution(new SolveSolution(SolverStrategy.NONE, null),
+						this.getZeroSolution(islands.get(i + 1).inverters), false, Map.of()));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Solves and optimizes one {@link Island}.
+	 *
+	 * @param island   the {@link Island}
+	 * @param state    the {@link Island.State}
+	 * @param strategy the {@link SolverStrategy} to follow
+	 * @return the {@link IslandSolution}
+	 */
+	private IslandSolution solveIsland(Island island, Island.State state, SolverStrategy strategy) {
 		var solution = new SolveSolution(SolverStrategy.NONE, null);
+		var isCached = false;
+		var durations = new EnumMap<SolverStrategy, Long>(SolverStrategy.class);
 
-		List<Constraint> allConstraints = new ArrayList<>();
+		List<Constraint> allConstraints = new ArrayList<>(island.constraints);
 		TargetDirection targetDirection = null;
 		try {
-			// Check if the Problem is solvable at all.
-			allConstraints = this.data.getConstraintsForAllInverters();
-
-			// Add Strict constraints if required
-			AddConstraintsForNotStrictlyDefinedCoefficients.apply(allInverters, this.data.getCoefficients(),
-					allConstraints);
+			// Reuse the solution of the last Cycle if all inputs are unchanged
+			var key = island.createKey(strategy);
+			var cachedSolution = state.getSolution(key);
+			if (cachedSolution != null && (island.inverters.size() < 2
+					|| state.optimizers.reduceNumberOfUsedInverters.isSteady(state.getTargetDirection()))) {
+				solution = cachedSolution;
+				targetDirection = state.getTargetDirection();
+				isCached = true;
 
-			// Print log with currently active EQUALS != 0 Constraints
-			if (this.debugMode) {
-				this.log.info("Currently active EQUALS constraints");
-				for (Constraint c : allConstraints) {
-					if (c.getRelationship() == Relationship.EQUALS && c.getValue().orElse(0d) != 0d) {
-						this.log.info("- " + c.toString());
+			} else {
+				// Add Strict constraints if required
+				AddConstraintsForNotStrictlyDefinedCoefficients.apply(island.inverters, island.coefficients,
+						allConstraints);
+
+				// Print log with currently active EQUALS != 0 Constraints
+				if (this.debugMode) {
+					this.log.info("Currently active EQUALS constraints");
+					for (Constraint c : allConstraints) {
+						if (c.getRelationship() == Relationship.EQUALS && c.getValue().orElse(0d) != 0d) {
+							this.log.info("- " + c.toString());
+						}
 					}
 				}
-			}
 
-			// Evaluates whether it is a CHARGE or DISCHARGE problem.
-			targetDirection = TargetDirection.from(//
-					this.data.getInverters(), //
-					this.data.getCoefficients(), //
-					this.data.getConstraintsForAllInverters() //
-			);
-
-			// Gets the target-Inverters, i.e. the Inverters that are minimally required to
-			// solve the Problem.
-			var targetInverters = this.optimizers.reduceNumberOfUsedInverters.apply(allInverters, targetDirection,
-					this.solveWithDisabledInverters);
-
-			switch (strategy) {
-			case UNDEFINED:
-			case ALL_CONSTRAINTS:
-			case NONE:
-				solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints);
-				break;
-
-			case OPTIMIZE_BY_MOVING_TOWARDS_TARGET:
-				solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
-						SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET,
-						SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER);
-				break;
-
-			case OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER:
-				solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
-						SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
-						SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
-				break;
-
-			case OPTIMIZE_BY_KEEPING_ALL_EQUAL:
-				solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
-						SolverStrategy.OPTIMIZE_BY_KEEPING_ALL_EQUAL,
-						SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
-						SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
-				break;
+				// Evaluates whether it is a CHARGE or DISCHARGE problem.
+				targetDirection = TargetDirection.from(//
+						island.inverters, //
+						island.coefficients, //
+						new ArrayList<>(island.constraints) //
+				);
+
+				// Gets the target-Inverters, i.e. the Inverters that are minimally required to
+				// solve the Problem.
+				var targetInverters = state.optimizers.reduceNumberOfUsedInverters.apply(island.inverters,
+						targetDirection, disabledInverters -> {
+							// Solves the problem, while setting all DisabledInverters to EQUALS zero.
+							var constraints = ConstraintUtil
+									.createDisableConstraintsForInactiveInverters(island.coefficients, disabledInverters);
+							constraints.addAll(island.constraints);
+							return ConstraintSolver.solve(island.coefficients, constraints);
+						});
+
+				switch (strategy) {
+				case UNDEFINED:
+				case ALL_CONSTRAINTS:
+				case NONE:
+					solution = this.tryStrategies(island, durations, targetDirection, targetInverters,
+							allConstraints);
+					break;
+
+				case OPTIMIZE_BY_MOVING_TOWARDS_TARGET:
+					solution = this.tryStrategies(island, durations, targetDirection, targetInverters, allConstraints,
+							SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET,
+							SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER);
+					break;
+
+				case OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER:
+					solution = this.tryStrategies(island, durations, targetDirection, targetInverters, allConstraints,
+							SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
+							SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
+					break;
+
+				case OPTIMIZE_BY_KEEPING_ALL_EQUAL:
+					solution = this.tryStrategies(island, durations, targetDirection, targetInverters, allConstraints,
+							SolverStrategy.OPTIMIZE_BY_KEEPING_ALL_EQUAL,
+							SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
+							SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
+					break;
+				}
+				state.setSolution(key, solution, targetDirection);
 			}
 
 		} catch (NoFeasibleSolutionException | UnboundedSolutionException e) {
@@ -198,65 +371,66 @@ public class Solver {
 			this.log.warn("Power-Solver: Solve failed: " + e.getMessage());
 		}
 
-		// finish time measure (in milliseconds)
-		var duration = (int) (System.nanoTime() - startTime) / 1_000_000;
-
-		// announce success/failure
-		var isSolved = solution.getPoints() != null;
-		this.onSolvedCallback.accept(isSolved, duration, solution.getSolvedBy());
-
-		// Apply final Solution to Inverters
-		if (isSolved) {
-			Map<Inverter, PowerTuple> inverterSolutionMap;
+		// Apply Inverter Precisions
+		Map<Inverter, PowerTuple> inverterSolutionMap;
+		if (solution.getPoints() != null) {
 			try {
-				inverterSolutionMap = InverterPrecision.apply(this.data.getCoefficients(), allInverters,
-						this.data.getEsss(), solution.getPoints(), targetDirection);
+				inverterSolutionMap = InverterPrecision.apply(island.coefficients, island.inverters, island.esss,
+						solution.getPoints(), targetDirection);
 
 			} catch (OpenemsException e) {
 				this.log.warn("Power-Solver: Applying Inverter Precisions failed: " + e.getMessage());
-				inverterSolutionMap = this.getZeroSolution(allInverters);
+				inverterSolutionMap = this.getZeroSolution(island.inverters);
 			}
-			this.applySolution(inverterSolutionMap);
 		} else {
-			this.applySolution(this.getZeroSolution(allInverters));
+			inverterSolutionMap = this.getZeroSolution(island.inverters);
 		}
+		return new IslandSolution(solution, inverterSolutionMap, isCached, durations);
 	}
 
 	/**
 	 * Tries different solving strategies in order. 'ALL_CONSTRAINTS' is always
 	 * tried last if everything else failed. Returns as soon as a result is found.
 	 *
+	 * @param island          the {@link Island}
+	 * @param durations       collects the duration per {@link SolverStrategy}
 	 * @param targetDirection the target direction
-	 * @param allInverters    a list of all inverters
 	 * @param targetInverters a list of target inverters
 	 * @param allConstraints  a list of all Constraints
 	 * @param strategies      an array of SolverStrategies
 	 * @return a Solution
 	 * @throws OpenemsException on error
 	 */
-	private SolveSolution tryStrategies(TargetDirection targetDirection, List<Inverter> allInverters,
-			List<Inverter> targetInverters, List<Constraint> allConstraints, SolverStrategy... strategies)
-			throws OpenemsException {
+	private SolveSolution tryStrategies(Island island, Map<SolverStrategy, Long> durations,
+			TargetDirection targetDirection, List<Inverter> targetInverters, List<Constraint> allConstraints,
+			SolverStrategy... strategies) throws OpenemsException {
+		final var coefficients = island.coefficients;
+		final var allInverters = island.inverters;
 		PointValuePair solution = null;
 		for (SolverStrategy strategy : strategies) {
-			switch (strategy) {
-			case UNDEFINED:
-			case NONE:
-				break;
-			case ALL_CONSTRAINTS:
-				solution = ConstraintSolver.solve(this.data.getCoefficients(), allConstraints);
-				break;
-			case OPTIMIZE_BY_MOVING_TOWARDS_TARGET:
-				solution = MoveTowardsTarget.apply(this.data.getCoefficients(), targetDirection, allInverters,
-						targetInverters, allConstraints);
-				break;
-			case OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER:
-				solution = KeepTargetDirectionAndMaximizeInOrder.apply(this.data.getCoefficients(), allInverters,
-						targetInverters, allConstraints, targetDirection);
-				break;
-			case OPTIMIZE_BY_KEEPING_ALL_EQUAL:
-				solution = KeepAllEqual.apply(this.data.getCoefficients(), allInverters, allConstraints);
-				break;
+			final var startTime = System.nanoTime();
+			try {
+				switch (strategy) {
+				case UNDEFINED:
+				case NONE:
+					break;
+				case ALL_CONSTRAINTS:
+					solution = ConstraintSolver.solve(coefficients, allConstraints);
+					break;
+				case OPTIMIZE_BY_MOVING_TOWARDS_TARGET:
+					solution = MoveTowardsTarget.apply(coefficients, targetDirection, allInverters, targetInverters,
+							allConstraints);
+					break;
+				case OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER:
+					solution = KeepTargetDirectionAndMaximizeInOrder.apply(coefficients, allInverters,
+							targetInverters, allConstraints, targetDirection);
+					break;
+				case OPTIMIZE_BY_KEEPING_ALL_EQUAL:
+					solution = KeepAllEqual.apply(coefficients, allInverters, allConstraints);
+					break;
+				}
+			} finally {
+				durations.merge(strategy, System.nanoTime() - startTime, Long::sum);
 			}
 
 			if (solution != null) {
@@ -264,13 +438,27 @@ public class Solver {
 			}
 		}
 		// no strategy was successful -> try allConstraints
-		solution = ConstraintSolver.solve(this.data.getCoefficients(), allConstraints);
+		final var startTime = System.nanoTime();
+		try {
+			solution = ConstraintSolver.solve(coefficients, allConstraints);
+		} finally {
+			durations.merge(SolverStrategy.ALL_CONSTRAINTS, System.nanoTime() - startTime, Long::sum);
+		}
 		if (solution != null) {
 			return new SolveSolution(SolverStrategy.ALL_CONSTRAINTS, solution);
 		}
 		return new SolveSolution(SolverStrategy.NONE, null);
 	}
 
+	private synchronized ExecutorService getExecutor() {
+		if (this.executor == null) {
+			this.executor = Executors.newFixedThreadPool(
+					Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()),
+					new ThreadFactoryBuilder().setNameFormat("EssPower:Solver-%d").build());
+		}
+		return this.executor;
+	}
+
 	private Map<Inverter, PowerTuple> getZeroSolution(List<Inverter> allInverters) {
 		Map<Inverter, PowerTuple> result = new HashMap<>();
 		for (Inverter inv : allInverters) {
@@ -148,6 +148,17 @@ public class ReduceNumberOfUsedInverters {
 		return result;
 	}
 
+	/**
+	 * Is the internal state steady for the given {@link TargetDirection}, i.e.
+	 * would {@link #apply(List, TargetDirection, ThrowingFunction)} not change it?.
+	 *
+	 * @param targetDirection the target direction
+	 * @return true if the state is steady
+	 */
+	public boolean isSteady(TargetDirection targetDirection) {
+		return this.activeTargetDirection == targetDirection && this.targetDirectionChangedSince == 0;
+	}
+
 	private static List<Inverter> getDisabledInverters(List<Inverter> allInverters, int index) {
 		return allInverters.subList(index + 1, allInverters.size());
 	}
@@ -8,9 +8,12 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.test.AbstractComponentTest.TestCase;
 import io.openems.edge.common.test.ComponentTest;
 import io.openems.edge.common.test.DummyConfigurationAdmin;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.LinearCoefficient;
 import io.openems.edge.ess.power.api.Phase;
 import io.openems.edge.ess.power.api.Pwr;
 import io.openems.edge.ess.power.api.Relationship;
@@ -21,6 +24,11 @@ import io.openems.edge.ess.test.DummyMetaEss;
 
 public class PowerComponentTest {
 
+	private static final ChannelAddress SOLVE_ISLANDS = new ChannelAddress(EssPower.SINGLETON_COMPONENT_ID,
+			"SolveIslands");
+	private static final ChannelAddress SOLVE_CACHED_ISLANDS = new ChannelAddress(EssPower.SINGLETON_COMPONENT_ID,
+			"SolveCachedIslands");
+
 	private static AtomicInteger openCallbacks;
 
 	@Before
@@ -524,6 +532,76 @@ public class PowerComponentTest {
 		componentTest.next(new TestCase("#1"));
 	}
 
+	@Test
+	public void testIndependentEss() throws Exception {
+		EssPower powerComponent = new EssPowerImpl();
+		var ess0 = new DummyManagedSymmetricEss("ess0") //
+				.setPower(powerComponent) //
+				.withAllowedChargePower(-50000) //
+				.withAllowedDischargePower(50000) //
+				.withMaxApparentPower(12000) //
+				.withSoc(30);
+		var ess1 = new DummyManagedSymmetricEss("ess1") //
+				.setPower(powerComponent) //
+				.withAllowedChargePower(-50000) //
+				.withAllowedDischargePower(50000) //
+				.withMaxApparentPower(12000) //
+				.withSoc(60);
+
+		final var cm = new DummyConfigurationAdmin();
+		cm.getOrCreateEmptyConfiguration(EssPower.SINGLETON_SERVICE_PID);
+
+		final var componentTest = new ComponentTest(powerComponent) //
+				.addReference("cm", cm) //
+				.addReference("addEss", ess0) //
+				.addReference("addEss", ess1) //
+				.activate(MyConfig.create() //
+						.setStrategy(SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET) //
+						.setSymmetricMode(true) //
+						.setDebugMode(false) //
+						.setEnablePid(false) //
+						.build()); //
+
+		// #1 two Islands
+		expect("#1", ess0, 5000, 0);
+		expect("#1", ess1, -2000, 1000);
+		ess0.addPowerConstraint("#1", Phase.ALL, Pwr.ACTIVE, Relationship.EQUALS, 5000);
+		ess1.addPowerConstraint("#1", Phase.ALL, Pwr.ACTIVE, Relationship.EQUALS, -2000);
+		ess1.addPowerConstraint("#1", Phase.ALL, Pwr.REACTIVE, Relationship.EQUALS, 1000);
+		componentTest.next(new TestCase("#1") //
+				.output(SOLVE_ISLANDS, 2) //
+				.output(SOLVE_CACHED_ISLANDS, 0));
+
+		// #2 ess0 unchanged; inputs differ by last applied power
+		expect("#2", ess0, 5000, 0);
+		expect("#2", ess1, 3000, 0);
+		ess0.addPowerConstraint("#2", Phase.ALL, Pwr.ACTIVE, Relationship.EQUALS, 5000);
+		ess1.addPowerConstraint("#2", Phase.ALL, Pwr.ACTIVE, Relationship.EQUALS, 3000);
+		componentTest.next(new TestCase("#2") //
+				.output(SOLVE_ISLANDS, 2) //
+				.output(SOLVE_CACHED_ISLANDS, 0));
+
+		// #3 ess0 unchanged -> reuse solution
+		expect("#3", ess0, 5000, 0);
+		expect("#3", ess1, 2000, 0);
+		ess0.addPowerConstraint("#3", Phase.ALL, Pwr.ACTIVE, Relationship.EQUALS, 5000);
+		ess1.addPowerConstraint("#3", Phase.ALL, Pwr.ACTIVE, Relationship.EQUALS, 2000);
+		componentTest.next(new TestCase("#3") //
+				.output(SOLVE_ISLANDS, 2) //
+				.output(SOLVE_CACHED_ISLANDS, 1));
+
+		// #4 coupled by a common Constraint -> one Island
+		expect("#4", ess0, 4000, 0);
+		expect("#4", ess1, 2000, 0);
+		ess0.addPowerConstraint("#4", Phase.ALL, Pwr.ACTIVE, Relationship.EQUALS, 4000);
+		powerComponent.addConstraint(new Constraint("#4", new LinearCoefficient[] { //
+				new LinearCoefficient(powerComponent.getCoefficient(ess0, Phase.ALL, Pwr.ACTIVE), 1), //
+				new LinearCoefficient(powerComponent.getCoefficient(ess1, Phase.ALL, Pwr.ACTIVE), 1) //
+		}, Relationship.EQUALS, 6000));
+		componentTest.next(new TestCase("#4") //
+				.output(SOLVE_ISLANDS, 1));
+	}
+
 	private static void expect(String description, DummyManagedSymmetricEss ess, int p, int q) {
 		openCallbacks.incrementAndGet();
 		ess.withSymmetricApplyPowerCallback(record -> {
@@ -11,7 +11,7 @@ import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.influxdb.client.write.Point;
+import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.WriteParameters;
 import com.influxdb.exceptions.BadRequestException;
 
@@ -28,15 +28,17 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 	private final String name;
 	protected final InfluxConnector parent;
 	protected final WriteParameters writeParameters;
+	protected final WritePrecision precision;
 	private final Consumer<BadRequestException> onWriteError;
 
 	private final BlockingQueue<T> pointsQueue = new LinkedBlockingQueue<>(POINTS_QUEUE_SIZE);
 
 	public AbstractMergePointsWorker(InfluxConnector parent, String name, WriteParameters writeParameters,
-			Consumer<BadRequestException> onWriteError) {
+			WritePrecision precision, Consumer<BadRequestException> onWriteError) {
 		this.parent = parent;
 		this.name = name;
 		this.writeParameters = writeParameters;
+		this.precision = precision;
 		this.onWriteError = onWriteError;
 	}
 
@@ -61,7 +63,7 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 				return;
 			}
 			try {
-				this.parent.getInfluxConnection().writeApi.writePoints(this.writePoints(points), this.writeParameters);
+				this.parent.getInfluxConnection().writeApi.writeRecords(this.writeRecords(points), this.writeParameters);
 				this.parent.queryProxy.queryLimit.decrease();
 			} catch (Throwable t) {
 				this.parent.queryProxy.queryLimit.increase();
@@ -86,7 +88,14 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 		return points;
 	}
 
-	protected abstract List<Point> writePoints(List<T> points);
+	/**
+	 * Gets the records in Line Protocol of the given points; all in the
+	 * {@link WritePrecision} of this worker.
+	 * 
+	 * @param points the points
+	 * @return the records
+	 */
+	protected abstract List<String> writeRecords(List<T> points);
 
 	protected void onWriteError(Throwable t, List<T> points) {
 		this.log.warn("Unable to write to InfluxDB. " + t.getClass().getSimpleName() + ": " + t.getMessage());
@@ -3,19 +3,30 @@ package io.openems.shared.influxdb;
 import java.util.List;
 import java.util.function.Consumer;
 
+import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.Point;
 import com.influxdb.client.write.WriteParameters;
 import com.influxdb.exceptions.BadRequestException;
 
-public class ForceMergePointsWorker extends AbstractMergePointsWorker<Point> implements MergePointsWorker {
+public class ForceMergePointsWorker extends AbstractMergePointsWorker<String> implements MergePointsWorker {
 
 	public ForceMergePointsWorker(InfluxConnector parent, String name, WriteParameters writeParameters,
-			Consumer<BadRequestException> onWriteError) {
-		super(parent, name, writeParameters, onWriteError);
+			WritePrecision precision, Consumer<BadRequestException> onWriteError) {
+		super(parent, name, writeParameters, precision, onWriteError);
 	}
 
 	@Override
-	protected List<Point> writePoints(List<Point> points) {
+	public boolean offer(Point point) {
+		return this.offer(point.toLineProtocol(null, this.precision));
+	}
+
+	@Override
+	public boolean offer(LineProtocolEncoder encoder) {
+		return this.offer(encoder.toLineProtocol(this.precision));
+	}
+
+	@Override
+	protected List<String> writeRecords(List<String> points) {
 		return points;
 	}
 
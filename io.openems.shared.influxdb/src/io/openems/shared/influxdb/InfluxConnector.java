@@ -104,11 +104,19 @@ public class InfluxConnector {
 					this.rejectedExecutionCount.incrementAndGet();
 				});
 
+		final var defaultOptions = InfluxDBClientOptions.builder() //
+				.url(this.url.toString()) //
+				.org(this.org) //
+				.bucket(this.bucket) //
+				.build();
+
 		BiFunction<String, WriteParameters, MergePointsWorker> mergePointsWorkerFactory;
 		if (this.isSafeWrite()) {
-			mergePointsWorkerFactory = (name, params) -> new SafeMergePointsWorker(this, name, params, onWriteError);
+			mergePointsWorkerFactory = (name, params) -> new SafeMergePointsWorker(this, name, params,
+					params.precisionSafe(defaultOptions), onWriteError);
 		} else {
-			mergePointsWorkerFactory = (name, params) -> new ForceMergePointsWorker(this, name, params, onWriteError);
+			mergePointsWorkerFactory = (name, params) -> new ForceMergePointsWorker(this, name, params,
+					params.precisionSafe(defaultOptions), onWriteError);
 		}
 
 		// initialize default merge points worker
@@ -120,11 +128,6 @@ public class InfluxConnector {
 		defaultMergePointsWorker.activate();
 		this.mergePointsWorkerByWriteParameters.put(this.defaultWriteParameters, defaultMergePointsWorker);
 
-		final var defaultOptions = InfluxDBClientOptions.builder() //
-				.url(this.url.toString()) //
-				.org(this.org) //
-				.bucket(this.bucket) //
-				.build();
 		// initialize merge points worker for specific write parameters
 		for (var writeParameters : parameters) {
 			final var mergePointsWorker = mergePointsWorkerFactory.apply(writeParameters.bucketSafe(defaultOptions),
@@ -406,6 +409,40 @@ public class InfluxConnector {
 		mergePointsWorker.offer(point);
 	}
 
+	/**
+	 * Actually write the current record of a {@link LineProtocolEncoder} to
+	 * InfluxDB.
+	 *
+	 * @param encoder the {@link LineProtocolEncoder}
+	 */
+	public void write(LineProtocolEncoder encoder) {
+		this.write(encoder, this.defaultWriteParameters);
+	}
+
+	/**
+	 * Actually write the current record of a {@link LineProtocolEncoder} to
+	 * InfluxDB.
+	 * 
+	 * @param encoder         the {@link LineProtocolEncoder}
+	 * @param writeParameters the {@link WriteParameters} of the written record.
+	 *                        The {@link WriteParameters} had to be passed in the
+	 *                        constructor
+	 */
+	public void write(LineProtocolEncoder encoder, WriteParameters writeParameters) {
+		if (!encoder.hasFields()) {
+			return;
+		}
+		if (this.isReadOnly) {
+			return;
+		}
+		final var mergePointsWorker = this.mergePointsWorkerByWriteParameters.get(writeParameters);
+		if (mergePointsWorker == null) {
+			this.log.info("Unknown write parameters: " + writeParameters);
+			return;
+		}
+		mergePointsWorker.offer(encoder);
+	}
+
 	/**
 	 * Gets the edges which already have the available since field set. Mapped from
 	 * edgeId to timestamp of availableSince. The timestamp should be in epoch
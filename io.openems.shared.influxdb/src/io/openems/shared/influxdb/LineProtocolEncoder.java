@@ -0,0 +1,244 @@
+package io.openems.shared.influxdb;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.write.Point;
+
+/**
+ * Encodes records in InfluxDB Line Protocol directly into a reusable buffer.
+ *
+ * <p>
+ * This is a lightweight alternative to {@link Point} for writing many records
+ * of the same measurement: the measurement is escaped once, escaped field keys
+ * are cached and no intermediate field map is created. The output is identical
+ * to {@link Point#toLineProtocol()}.
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * var encoder = new LineProtocolEncoder("data");
+ * encoder.reset(timestamp, WritePrecision.MS) //
+ * 		.addTag("edge", "0") //
+ * 		.addField("_sum/EssSoc", 50L);
+ * influxConnector.write(encoder);
+ * </pre>
+ *
+ * <p>
+ * This class is not thread-safe.
+ */
+public class LineProtocolEncoder {
+
+	private static final int MAX_CACHED_KEYS = 100_000;
+	private static final ConcurrentHashMap<String, String> ESCAPED_KEYS = new ConcurrentHashMap<>();
+
+	private final String measurement;
+	private final StringBuilder line = new StringBuilder(256);
+
+	private long time;
+	private WritePrecision precision;
+	private int fields = 0;
+
+	public LineProtocolEncoder(String measurement) {
+		this.measurement = escape(measurement, false);
+	}
+
+	/**
+	 * Starts a new record; discards any previous content.
+	 *
+	 * @param time      the timestamp
+	 * @param precision the {@link WritePrecision} of the timestamp
+	 * @return myself
+	 */
+	public LineProtocolEncoder reset(long time, WritePrecision precision) {
+		this.line.setLength(0);
+		this.line.append(this.measurement);
+		this.time = time;
+		this.precision = precision;
+		this.fields = 0;
+		return this;
+	}
+
+	/**
+	 * Adds a Tag. Tags have to be added before any field.
+	 *
+	 * @param key   the tag key
+	 * @param value the tag value
+	 * @return myself
+	 * @throws IllegalStateException if a field was already added
+	 */
+	public LineProtocolEncoder addTag(String key, String value) throws IllegalStateException {
+		if (this.fields > 0) {
+			throw new IllegalStateException("Tag [" + key + "] must be added before fields");
+		}
+		this.line.append(',').append(escapeKey(key)).append('=').append(escape(value, true));
+		return this;
+	}
+
+	/**
+	 * Adds an integer field.
+	 *
+	 * @param field the field key
+	 * @param value the value
+	 * @return myself
+	 */
+	public LineProtocolEncoder addField(String field, long value) {
+		this.appendKey(field).append(value).append('i');
+		return this;
+	}
+
+	/**
+	 * Adds a float field. NaN and infinite values are ignored.
+	 *
+	 * @param field the field key
+	 * @param value the value
+	 * @return myself
+	 */
+	public LineProtocolEncoder addField(String field, double value) {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			return this;
+		}
+		var string = Double.toString(value);
+		var line = this.appendKey(field);
+		if (string.indexOf('E') < 0) {
+			line.append(string);
+			return this;
+		}
+		// Avoid scientific notation; same as Point
+		var plain = new BigDecimal(string).stripTrailingZeros().toPlainString();
+		line.append(plain);
+		if (plain.indexOf('.') < 0) {
+			line.append(".0");
+		}
+		return this;
+	}
+
+	/**
+	 * Adds a boolean field.
+	 *
+	 * @param field the field key
+	 * @param value the value
+	 * @return myself
+	 */
+	public LineProtocolEncoder addField(String field, boolean value) {
+		this.appendKey(field).append(value);
+		return this;
+	}
+
+	/**
+	 * Adds a field from a {@link Number}; {@link Double}, {@link Float} and
+	 * {@link BigDecimal} are written as float, everything else as integer.
+	 *
+	 * @param field the field key
+	 * @param value the value; null is ignored
+	 * @return myself
+	 */
+	public LineProtocolEncoder addField(String field, Number value) {
+		if (value == null) {
+			return this;
+		}
+		if (value instanceof Double || value instanceof Float || value instanceof BigDecimal) {
+			return this.addField(field, value.doubleValue());
+		}
+		return this.addField(field, value.longValue());
+	}
+
+	/**
+	 * Adds a string field.
+	 *
+	 * @param field the field key
+	 * @param value the value; null is ignored
+	 * @return myself
+	 */
+	public LineProtocolEncoder addField(String field, String value) {
+		if (value == null) {
+			return this;
+		}
+		var line = this.appendKey(field).append('"');
+		for (var i = 0; i < value.length(); i++) {
+			var c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				line.append('\\');
+			}
+			line.append(c);
+		}
+		line.append('"');
+		return this;
+	}
+
+	/**
+	 * Has at least one field been added since the last
+	 * {@link #reset(long, WritePrecision)}?.
+	 *
+	 * @return true if there are fields
+	 */
+	public boolean hasFields() {
+		return this.fields > 0;
+	}
+
+	/**
+	 * Gets the current record in Line Protocol.
+	 *
+	 * @param precision the {@link WritePrecision} of the target
+	 * @return the record; null if there are no fields
+	 */
+	public String toLineProtocol(WritePrecision precision) {
+		if (!this.hasFields()) {
+			return null;
+		}
+		var length = this.line.length();
+		this.line.append(' ').append(toTimeUnit(precision).convert(this.time, toTimeUnit(this.precision)));
+		var result = this.line.toString();
+		this.line.setLength(length);
+		return result;
+	}
+
+	private StringBuilder appendKey(String field) {
+		return this.line //
+				.append(this.fields++ == 0 ? ' ' : ',') //
+				.append(escapeKey(field)) //
+				.append('=');
+	}
+
+	private static String escapeKey(String key) {
+		var result = ESCAPED_KEYS.get(key);
+		if (result != null) {
+			return result;
+		}
+		result = escape(key, true);
+		if (ESCAPED_KEYS.size() < MAX_CACHED_KEYS) {
+			ESCAPED_KEYS.putIfAbsent(key, result);
+		}
+		return result;
+	}
+
+	private static String escape(String value, boolean escapeEquals) {
+		StringBuilder result = null;
+		for (var i = 0; i < value.length(); i++) {
+			var c = value.charAt(i);
+			if (c == ' ' || c == ',' || escapeEquals && c == '=') {
+				if (result == null) {
+					result = new StringBuilder(value.length() + 8).append(value, 0, i);
+				}
+				result.append('\\');
+			}
+			if (result != null) {
+				result.append(c);
+			}
+		}
+		return result == null ? value : result.toString();
+	}
+
+	private static TimeUnit toTimeUnit(WritePrecision precision) {
+		return switch (precision) {
+		case S -> TimeUnit.SECONDS;
+		case MS -> TimeUnit.MILLISECONDS;
+		case US -> TimeUnit.MICROSECONDS;
+		case NS -> TimeUnit.NANOSECONDS;
+		};
+	}
+
+}
@@ -24,6 +24,17 @@ public interface MergePointsWorker {
 	 */
 	public boolean offer(Point point);
 
+	/**
+	 * Inserts the current record of the {@link LineProtocolEncoder} into this
+	 * queue if it is possible to do so immediately without violating capacity
+	 * restrictions, returning true upon success and false if no space is currently
+	 * available.
+	 * 
+	 * @param encoder the {@link LineProtocolEncoder}
+	 * @return true if the record was added to this queue, else false
+	 */
+	public boolean offer(LineProtocolEncoder encoder);
+
 	/**
 	 * Simple debug log string.
 	 * 
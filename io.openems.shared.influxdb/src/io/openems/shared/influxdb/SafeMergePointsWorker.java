@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.Point;
 import com.influxdb.client.write.WriteParameters;
 import com.influxdb.exceptions.BadRequestException;
@@ -13,28 +14,33 @@ import io.openems.shared.influxdb.SafeMergePointsWorker.WritePoint;
 public class SafeMergePointsWorker extends AbstractMergePointsWorker<WritePoint> implements MergePointsWorker {
 
 	public SafeMergePointsWorker(InfluxConnector parent, String name, WriteParameters writeParameters,
-			Consumer<BadRequestException> onWriteError) {
-		super(parent, name, writeParameters, onWriteError);
+			WritePrecision precision, Consumer<BadRequestException> onWriteError) {
+		super(parent, name, writeParameters, precision, onWriteError);
 	}
 
 	public static class WritePoint {
-		public final Point point;
+		public final String record;
 		private int failedCountDown = 3;
 
-		public WritePoint(Point point) {
+		public WritePoint(String record) {
 			super();
-			this.point = point;
+			this.record = record;
 		}
 	}
 
 	@Override
 	public boolean offer(Point point) {
-		return this.offer(new WritePoint(point));
+		return this.offer(new WritePoint(point.toLineProtocol(null, this.precision)));
 	}
 
 	@Override
-	protected List<Point> writePoints(List<WritePoint> points) {
-		return points.stream().map(t -> t.point) //
+	public boolean offer(LineProtocolEncoder encoder) {
+		return this.offer(new WritePoint(encoder.toLineProtocol(this.precision)));
+	}
+
+	@Override
+	protected List<String> writeRecords(List<WritePoint> points) {
+		return points.stream().map(t -> t.record) //
 				.collect(Collectors.toList());
 	}
 
@@ -0,0 +1,130 @@
+package io.openems.shared.influxdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.write.Point;
+
+public class LineProtocolEncoderTest {
+
+	private static final long TIMESTAMP = 1_700_000_000_123L;
+
+	@Test
+	public void testSameAsPoint() {
+		var point = Point.measurement("da ta,x") //
+				.addTag("edge", "1 2=3") //
+				.time(TIMESTAMP, WritePrecision.MS) //
+				.addField("_sum/EssSoc", 50L) //
+				.addField("_sum/GridActivePower", 1.0) //
+				.addField("meter0/ActiveEnergy", 1.5e10) //
+				.addField("meter0/Small", 1e-7) //
+				.addField("meter0/Frequency", (Number) Float.valueOf(49.98f)) //
+				.addField("meter0/Count", (Number) Integer.valueOf(3)) //
+				.addField("io0/Relay1", true) //
+				.addField("_meta/Version", "x\"y\\z") //
+				.addField("k w=,", 2L);
+
+		var sut = new LineProtocolEncoder("da ta,x");
+		sut.reset(TIMESTAMP, WritePrecision.MS) //
+				.addTag("edge", "1 2=3") //
+				.addField("_meta/Version", "x\"y\\z") //
+				.addField("_sum/EssSoc", 50L) //
+				.addField("_sum/GridActivePower", 1.0) //
+				.addField("io0/Relay1", true) //
+				.addField("k w=,", 2L) //
+				.addField("meter0/Count", (Number) Integer.valueOf(3)) //
+				.addField("meter0/Frequency", (Number) Float.valueOf(49.98f)) //
+				.addField("meter0/NaN", Double.NaN) //
+				.addField("meter0/ActiveEnergy", 1.5e10) //
+				.addField("meter0/Small", 1e-7);
+
+		// Point sorts fields by key
+		var expected = point.toLineProtocol(null, WritePrecision.NS).split(" (?=[^ ]+$)");
+		var actual = sut.toLineProtocol(WritePrecision.NS).split(" (?=[^ ]+$)");
+		assertEquals(expected[1], actual[1]);
+		assertEquals(sortFields(expected[0]), sortFields(actual[0]));
+		assertEquals(point.toLineProtocol(null, WritePrecision.S).split(" (?=[^ ]+$)")[1],
+				sut.toLineProtocol(WritePrecision.S).split(" (?=[^ ]+$)")[1]);
+	}
+
+	@Test
+	public void testReset() {
+		var sut = new LineProtocolEncoder("data");
+		sut.reset(TIMESTAMP, WritePrecision.MS).addTag("edge", "0");
+		assertFalse(sut.hasFields());
+		assertNull(sut.toLineProtocol(WritePrecision.MS));
+
+		sut.addField("_sum/EssSoc", 50L);
+		assertEquals("data,edge=0 _sum/EssSoc=50i 1700000000123", sut.toLineProtocol(WritePrecision.MS));
+
+		sut.reset(TIMESTAMP + 1000, WritePrecision.MS).addTag("edge", "1").addField("_sum/EssSoc", 51L);
+		assertEquals("data,edge=1 _sum/EssSoc=51i 1700000001123", sut.toLineProtocol(WritePrecision.MS));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testTagAfterField() {
+		new LineProtocolEncoder("data").reset(TIMESTAMP, WritePrecision.MS) //
+				.addField("_sum/EssSoc", 50L) //
+				.addTag("edge", "0");
+	}
+
+	private static String sortFields(String line) {
+		var parts = line.split("(?<!\\\\) ", 2);
+		var fields = parts[1].split("(?<!\\\\),");
+		Arrays.sort(fields);
+		return parts[0] + " " + String.join(",", fields);
+	}
+
+	/**
+	 * Compares the throughput of building records via {@link Point} with the
+	 * {@link LineProtocolEncoder}.
+	 */
+	@Test
+	@Ignore
+	public void benchmark() {
+		final var points = 200_000;
+		final var fields = 100;
+		var keys = new String[fields];
+		for (var i = 0; i < fields; i++) {
+			keys[i] = "component" + i % 10 + "/Channel" + i;
+		}
+
+		for (var round = 0; round < 3; round++) {
+			var length = 0L;
+			var start = System.nanoTime();
+			for (var i = 0; i < points; i++) {
+				var point = Point.measurement("data") //
+						.addTag("edge", "0") //
+						.time(TIMESTAMP + i, WritePrecision.MS);
+				for (var j = 0; j < fields; j++) {
+					point.addField(keys[j], (long) i + j);
+				}
+				length += point.toLineProtocol(null, WritePrecision.NS).length();
+			}
+			var pointPath = points * 1_000_000_000L / (System.nanoTime() - start);
+
+			start = System.nanoTime();
+			var sut = new LineProtocolEncoder("data");
+			for (var i = 0; i < points; i++) {
+				sut.reset(TIMESTAMP + i, WritePrecision.MS) //
+						.addTag("edge", "0");
+				for (var j = 0; j < fields; j++) {
+					sut.addField(keys[j], (long) i + j);
+				}
+				length -= sut.toLineProtocol(WritePrecision.NS).length();
+			}
+			var encoderPath = points * 1_000_000_000L / (System.nanoTime() - start);
+
+			System.out.println(String.format("Point [%8d points/s] Encoder [%8d points/s] Check [%d]", //
+					pointPath, encoderPath, length));
+		}
+	}
+
+}
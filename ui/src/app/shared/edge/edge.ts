@@ -5,6 +5,7 @@ import { SumState } from 'src/app/index/shared/sumState';
 import { JsonrpcRequest, JsonrpcResponseSuccess } from '../jsonrpc/base';
 import { CurrentDataNotification } from '../jsonrpc/notification/currentDataNotification';
 import { EdgeConfigNotification } from '../jsonrpc/notification/edgeConfigNotification';
+import { EdgeConfigPatchNotification } from '../jsonrpc/notification/edgeConfigPatchNotification';
 import { SystemLogNotification } from '../jsonrpc/notification/systemLogNotification';
 import { CreateComponentConfigRequest } from '../jsonrpc/request/createComponentConfigRequest';
 import { DeleteComponentConfigRequest } from '../jsonrpc/request/deleteComponentConfigRequest';
@@ -211,6 +212,44 @@ export class Edge {
     this.config.next(new EdgeConfig(this, message.params));
   }
 
+  /**
+   * Handles a EdgeConfigPatchNotification. Applies the patch if it fits the
+   * current config; refreshes the complete config otherwise.
+   *
+   * @param websocket the Websocket
+   * @param message the EdgeConfigPatchNotification
+   */
+  public handleEdgeConfigPatchNotification(websocket: Websocket, message: EdgeConfigPatchNotification): void {
+    let config = this.config.value;
+    let patch = message.params;
+    if (config != null && config.version === patch.version) {
+      // already applied
+      return;
+    }
+    if (config == null || config.version !== patch.previousVersion) {
+      this.refreshConfig(websocket);
+      return;
+    }
+
+    let components: { [id: string]: EdgeConfig.Component } = { ...config.components };
+    for (let componentId of patch.removedComponents) {
+      delete components[componentId];
+    }
+    Object.assign(components, patch.components);
+
+    // EdgeConfig constructor re-initializes 'componentIds' of every Factory
+    let factories: { [id: string]: EdgeConfig.Factory } = {};
+    for (let factoryId in config.factories) {
+      factories[factoryId] = { ...config.factories[factoryId] } as EdgeConfig.Factory;
+    }
+    for (let factoryId of patch.removedFactories) {
+      delete factories[factoryId];
+    }
+    Object.assign(factories, patch.factories);
+
+    this.config.next(new EdgeConfig(this, { version: patch.version, components: components, factories: factories } as EdgeConfig));
+  }
+
   /**
    * Handles a CurrentDataNotification
    */
@@ -22,6 +22,7 @@ export class EdgeConfig {
 
     constructor(edge: Edge, source?: EdgeConfig) {
         if (source) {
+            this.version = source.version ?? 0;
             this.components = source.components;
             this.factories = source.factories;
         }
@@ -81,6 +82,12 @@ export class EdgeConfig {
         this.widgets = Widgets.parseWidgets(edge, this);
     }
 
+    /**
+     * Version of the EdgeConfig; used to apply EdgeConfigPatchNotifications.
+     * Zero if unknown.
+     */
+    public readonly version: number = 0;
+
     /**
      * Component-ID -> Component.
      */
@@ -0,0 +1,39 @@
+import { EdgeConfig } from '../../edge/edgeconfig';
+import { JsonrpcNotification } from "../base";
+
+/**
+ * Represents a JSON-RPC Notification for a change of the EdgeConfig.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "method": "edgeConfigPatch",
+ *   "params": {
+ *     "previousVersion": number,
+ *     "version": number,
+ *     "components": { [id: string]: EdgeConfig.Component },
+ *     "removedComponents": string[],
+ *     "factories": { [id: string]: EdgeConfig.Factory },
+ *     "removedFactories": string[]
+ *   }
+ * }
+ * </pre>
+ */
+export class EdgeConfigPatchNotification extends JsonrpcNotification {
+
+    public static readonly METHOD: string = "edgeConfigPatch";
+
+    public constructor(
+        public override readonly params: {
+            previousVersion: number,
+            version: number,
+            components: { [id: string]: EdgeConfig.Component },
+            removedComponents: string[],
+            factories: { [id: string]: EdgeConfig.Factory },
+            removedFactories: string[]
+        },
+    ) {
+        super(EdgeConfigPatchNotification.METHOD, params);
+    }
+
+}
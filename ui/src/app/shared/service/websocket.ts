@@ -9,6 +9,7 @@ import { environment } from "src/environments";
 import { JsonrpcMessage, JsonrpcNotification, JsonrpcRequest, JsonrpcResponse, JsonrpcResponseError, JsonrpcResponseSuccess } from '../jsonrpc/base';
 import { CurrentDataNotification } from '../jsonrpc/notification/currentDataNotification';
 import { EdgeConfigNotification } from '../jsonrpc/notification/edgeConfigNotification';
+import { EdgeConfigPatchNotification } from '../jsonrpc/notification/edgeConfigPatchNotification';
 import { EdgeRpcNotification } from '../jsonrpc/notification/edgeRpcNotification';
 import { SystemLogNotification } from '../jsonrpc/notification/systemLogNotification';
 import { AuthenticateWithPasswordRequest } from '../jsonrpc/request/authenticateWithPasswordRequest';
@@ -370,6 +371,11 @@ export class Websocket implements WebsocketInterface {
           edge.handleEdgeConfigNotification(message as EdgeConfigNotification);
           break;
 
+        case EdgeConfigPatchNotification.METHOD:
+          edge.isOnline = true; // Mark Edge as online
+          edge.handleEdgeConfigPatchNotification(this, message as EdgeConfigPatchNotification);
+          break;
+
         case CurrentDataNotification.METHOD:
           edge.handleCurrentDataNotification(message as CurrentDataNotification);
           break;